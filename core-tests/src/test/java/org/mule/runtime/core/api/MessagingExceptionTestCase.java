@@ -11,6 +11,8 @@ import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.Matchers.emptyArray;
 import static org.hamcrest.core.IsInstanceOf.instanceOf;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
@@ -72,6 +74,7 @@ public class MessagingExceptionTestCase extends AbstractMuleContextTestCase {
   private static final String value = "Hello world!";
 
   private boolean originalVerboseExceptions;
+  private boolean originalStacklessExceptions;
 
   private MessagingExceptionLocationProvider locationProvider = new MessagingExceptionLocationProvider();
 
@@ -92,6 +95,7 @@ public class MessagingExceptionTestCase extends AbstractMuleContextTestCase {
   @Before
   public void before() throws MuleException {
     originalVerboseExceptions = MuleException.verboseExceptions;
+    originalStacklessExceptions = MessagingException.stacklessExceptions;
 
     locationProvider.setMuleContext(mockContext);
 
@@ -106,6 +110,7 @@ public class MessagingExceptionTestCase extends AbstractMuleContextTestCase {
   @After
   public void after() {
     MuleException.verboseExceptions = originalVerboseExceptions;
+    MessagingException.stacklessExceptions = originalStacklessExceptions;
   }
 
   @Test
@@ -403,6 +408,53 @@ public class MessagingExceptionTestCase extends AbstractMuleContextTestCase {
     verify(transformationService, never()).transform(muleMessage, DataType.STRING);
   }
 
+  @Test
+  public void stacklessWithCause() {
+    MessagingException.stacklessExceptions = true;
+
+    IOException causeException = new IOException("");
+    AnnotatedProcessor failingComponent = mock(AnnotatedProcessor.class);
+    MessagingException exception =
+        new MessagingException(createStaticMessage(""), testEvent, causeException, failingComponent);
+
+    assertThat(exception.getStackTrace(), is(emptyArray()));
+    assertThat(exception.getCause(), is(sameInstance(causeException)));
+    assertThat(exception.getFailingComponent(), is(sameInstance(failingComponent)));
+  }
+
+  @Test
+  public void stacklessWithoutCause() {
+    MessagingException.stacklessExceptions = true;
+
+    AnnotatedProcessor failingComponent = mock(AnnotatedProcessor.class);
+    MessagingException exception = new MessagingException(createStaticMessage(""), testEvent, failingComponent);
+
+    assertThat(exception.getStackTrace(), not(emptyArray()));
+    assertThat(exception.getFailingComponent(), is(sameInstance(failingComponent)));
+  }
+
+  @Test
+  public void stacklessCopyKeepsFailingComponent() {
+    MessagingException.stacklessExceptions = true;
+
+    AnnotatedProcessor failingComponent = mock(AnnotatedProcessor.class);
+    MessagingException original =
+        new MessagingException(createStaticMessage(""), testEvent, new IOException(""), failingComponent);
+    MessagingException exception = new MessagingException(testEvent, original);
+
+    assertThat(exception.getStackTrace(), is(emptyArray()));
+    assertThat(exception.getFailingComponent(), is(sameInstance(failingComponent)));
+  }
+
+  @Test
+  public void notStacklessWithCause() {
+    MessagingException.stacklessExceptions = false;
+
+    MessagingException exception = new MessagingException(createStaticMessage(""), testEvent, new IOException(""));
+
+    assertThat(exception.getStackTrace(), not(emptyArray()));
+  }
+
   private static final class FailAnswer implements Answer<String> {
 
     private final String failMessage;
@@ -249,4 +249,31 @@ public class TransactionCoordinationTestCase extends AbstractMuleTestCase {
     verify(tx, times(1)).commit();
   }
 
+  @Test
+  public void testContinueTransaction() throws Exception {
+    assertThat(tc.getTransaction(), nullValue());
+    Transaction tx = mock(Transaction.class);
+
+    assertThat(tc.continueTransaction(tx, () -> tc.getTransaction()), is(tx));
+    assertThat(tc.getTransaction(), nullValue());
+  }
+
+  @Test
+  public void testContinueTransactionRestoresPreviousTransaction() throws Exception {
+    Transaction tx = mock(Transaction.class);
+    Transaction otherTx = mock(Transaction.class);
+    tc.bindTransaction(tx);
+
+    try {
+      tc.continueTransaction(otherTx, () -> {
+        throw new IllegalStateException();
+      });
+      fail();
+    } catch (IllegalStateException e) {
+      // expected
+    }
+    assertThat(tc.getTransaction(), is(tx));
+    tc.unbindTransaction(tx);
+  }
+
 }
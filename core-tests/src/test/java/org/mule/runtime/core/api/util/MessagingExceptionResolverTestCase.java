@@ -8,6 +8,8 @@ package org.mule.runtime.core.api.util;
 
 import static java.util.Collections.emptyMap;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
@@ -197,6 +199,37 @@ public class MessagingExceptionResolverTestCase extends AbstractMuleTestCase {
     assertExceptionMessage(resolved.getMessage(), "CONNECTION PROBLEM");
   }
 
+  @Test
+  public void resolveCause() {
+    MessagingException resolved = resolver.resolve(event, CONNECTION_EXCEPTION, context);
+    assertExceptionErrorType(resolved, CONNECTION);
+    assertExceptionMessage(resolved.getMessage(), "CONNECTION PROBLEM");
+    assertThat(resolved.getCause(), is(sameInstance(CONNECTION_EXCEPTION)));
+    assertThat(resolved.getFailingComponent(), is(sameInstance(processor)));
+  }
+
+  @Test
+  public void resolvedExceptionNotCreatedAgainWhenPropagated() {
+    MessagingException resolved = resolver.resolve(newMessagingException(CONNECTION_EXCEPTION, event, processor), context);
+    MessagingExceptionResolver outerResolver = new MessagingExceptionResolver(mock(Component.class));
+
+    MessagingException propagated = outerResolver.resolve(resolved, context);
+    assertThat(propagated, is(sameInstance(resolved)));
+    assertExceptionErrorType(propagated, CONNECTION);
+    assertThat(propagated.getFailingComponent(), is(sameInstance(processor)));
+  }
+
+  @Test
+  public void handledExceptionCreatedAgainWhenPropagated() {
+    MessagingException resolved = resolver.resolve(newMessagingException(CONNECTION_EXCEPTION, event, processor), context);
+    resolved.setHandled(true);
+    MessagingExceptionResolver outerResolver = new MessagingExceptionResolver(mock(Component.class));
+
+    MessagingException propagated = outerResolver.resolve(resolved, context);
+    assertThat(propagated, is(not(sameInstance(resolved))));
+    assertExceptionErrorType(propagated, CONNECTION);
+  }
+
   private void assertExceptionMessage(String result, String expected) {
     String expectedMessage = String.format("%s.", expected);
     assertThat(result, containsString(expectedMessage));
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.lifecycle;
+
+import static java.lang.Thread.currentThread;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptySet;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.CoreMatchers.hasItems;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.core.api.util.ClassUtils.withContextClassLoader;
+import static org.mule.runtime.core.internal.lifecycle.ParallelLifecycleExecutor.isAppliedOnBehalfOf;
+
+import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.api.lifecycle.LifecycleException;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+@SmallTest
+public class ParallelLifecycleExecutorTestCase extends AbstractMuleTestCase {
+
+  private final ParallelLifecycleExecutor executor = new ParallelLifecycleExecutor(4);
+  private final Object lockOwner = new Object();
+  private final List<Object> processed = new CopyOnWriteArrayList<>();
+
+  @Test
+  public void independentObjectsConcurrently() throws Exception {
+    CountDownLatch allStarted = new CountDownLatch(3);
+    Map<Object, Collection<?>> graph = new LinkedHashMap<>();
+    graph.put("a", emptySet());
+    graph.put("b", emptySet());
+    graph.put("c", emptySet());
+
+    Map<Object, Long> timings = executor.execute("initialise", graph, target -> {
+      allStarted.countDown();
+      // would time out if processed sequentially
+      try {
+        assertThat(allStarted.await(5, SECONDS), is(true));
+      } catch (InterruptedException e) {
+        throw new LifecycleException(e, target);
+      }
+      processed.add(target);
+    }, lockOwner);
+
+    assertThat(processed, hasItems("a", "b", "c"));
+    assertThat(timings.keySet(), hasItems("a", "b", "c"));
+  }
+
+  @Test
+  public void dependenciesFirst() throws Exception {
+    Map<Object, Collection<?>> graph = new LinkedHashMap<>();
+    graph.put("config", emptySet());
+    graph.put("otherConfig", emptySet());
+    graph.put("flow", asList("config", "otherConfig"));
+    graph.put("otherFlow", asList("flow"));
+
+    executor.execute("initialise", graph, target -> {
+      if (target.equals("flow")) {
+        assertThat(processed, hasItems("config", "otherConfig"));
+      } else if (target.equals("otherFlow")) {
+        assertThat(processed, hasItems("flow"));
+      }
+      processed.add(target);
+    }, lockOwner);
+
+    assertThat(processed.size(), is(4));
+  }
+
+  @Test
+  public void circularDependenciesInGivenOrder() throws Exception {
+    Map<Object, Collection<?>> graph = new LinkedHashMap<>();
+    graph.put("a", asList("b"));
+    graph.put("b", asList("a"));
+
+    executor.execute("initialise", graph, processed::add, lockOwner);
+
+    assertThat(processed, is(asList("a", "b")));
+  }
+
+  @Test
+  public void failureStopsDependents() throws Exception {
+    LifecycleException failure = new LifecycleException(createStaticMessage("Expected"), this);
+    Map<Object, Collection<?>> graph = new LinkedHashMap<>();
+    graph.put("config", emptySet());
+    graph.put("flow", asList("config"));
+
+    try {
+      executor.execute("initialise", graph, target -> {
+        if (target.equals("config")) {
+          throw failure;
+        }
+        processed.add(target);
+      }, lockOwner);
+      fail("Expected the failure to be rethrown");
+    } catch (LifecycleException e) {
+      assertThat(e, is(failure));
+    }
+
+    assertThat(processed, not(hasItems("flow")));
+  }
+
+  @Test
+  public void appliedOnBehalfOfLockOwner() throws Exception {
+    Map<Object, Collection<?>> graph = new LinkedHashMap<>();
+    graph.put("a", emptySet());
+
+    executor.execute("initialise", graph, target -> {
+      assertThat(isAppliedOnBehalfOf(lockOwner), is(true));
+      assertThat(isAppliedOnBehalfOf(new Object()), is(false));
+      processed.add(target);
+    }, lockOwner);
+
+    assertThat(processed.size(), is(1));
+    assertThat(isAppliedOnBehalfOf(lockOwner), is(false));
+  }
+
+  @Test
+  public void threadsKeptAcrossExecutions() throws Exception {
+    ParallelLifecycleExecutor singleThreadExecutor = new ParallelLifecycleExecutor(1);
+    Map<Object, Collection<?>> graph = new LinkedHashMap<>();
+    graph.put("a", emptySet());
+
+    singleThreadExecutor.execute("initialise", graph, target -> processed.add(currentThread()), lockOwner);
+    singleThreadExecutor.execute("initialise", graph, target -> processed.add(currentThread()), lockOwner);
+
+    assertThat(processed.size(), is(2));
+    assertThat(processed.get(1), is(sameInstance(processed.get(0))));
+  }
+
+  @Test
+  public void threadsReleasedOnShutdown() throws Exception {
+    ParallelLifecycleExecutor singleThreadExecutor = new ParallelLifecycleExecutor(1);
+    Map<Object, Collection<?>> graph = new LinkedHashMap<>();
+    graph.put("a", emptySet());
+
+    singleThreadExecutor.execute("initialise", graph, target -> processed.add(currentThread()), lockOwner);
+    singleThreadExecutor.shutdown();
+    singleThreadExecutor.execute("dispose", graph, target -> processed.add(currentThread()), lockOwner);
+
+    assertThat(processed.size(), is(2));
+    assertThat(processed.get(1), is(not(sameInstance(processed.get(0)))));
+  }
+
+  @Test
+  public void appliedWithContextClassLoaderOfInvoker() throws Exception {
+    ClassLoader invokerClassLoader = new URLClassLoader(new URL[0], getClass().getClassLoader());
+    Map<Object, Collection<?>> graph = new LinkedHashMap<>();
+    graph.put("a", emptySet());
+
+    withContextClassLoader(invokerClassLoader, () -> {
+      try {
+        executor.execute("initialise", graph, target -> processed.add(currentThread().getContextClassLoader()), lockOwner);
+      } catch (LifecycleException e) {
+        throw new MuleRuntimeException(e);
+      }
+    });
+
+    assertThat(processed, is(asList(invokerClassLoader)));
+  }
+}
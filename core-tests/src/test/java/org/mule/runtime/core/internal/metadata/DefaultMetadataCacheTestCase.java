@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.metadata;
+
+import static java.lang.System.currentTimeMillis;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.mule.runtime.core.internal.metadata.DefaultMetadataCache.CachedValue;
+import org.mule.tck.junit4.AbstractMuleContextTestCase;
+
+import java.io.Serializable;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DefaultMetadataCacheTestCase extends AbstractMuleContextTestCase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void boundedEntries() {
+    DefaultMetadataCache cache = new DefaultMetadataCache(2, 0);
+    cache.put("a", "1");
+    cache.put("b", "2");
+    cache.put("c", "3");
+
+    assertThat(cache.asMap(), is(aMapWithSize(2)));
+    assertThat(cache.asMap(), hasEntry("c", "3"));
+  }
+
+  @Test
+  public void expiredEntriesNotReturned() throws Exception {
+    DefaultMetadataCache cache = new DefaultMetadataCache(0, 60000);
+    cache.put("a", "1");
+    cache.restore(singletonMap((Serializable) "b", new CachedValue("2", currentTimeMillis() - 1)));
+
+    assertThat(cache.get("a"), is(Optional.of("1")));
+    assertThat(cache.get("b"), is(Optional.empty()));
+    assertThat(cache.computeIfAbsent("b", key -> "3"), is("3"));
+    assertThat(cache.get("b"), is(Optional.of("3")));
+  }
+
+  @Test
+  public void hitsAndMisses() throws Exception {
+    DefaultMetadataCache cache = new DefaultMetadataCache();
+    cache.get("a");
+    cache.computeIfAbsent("a", key -> "1");
+    cache.get("a");
+    cache.computeIfAbsent("a", key -> "2");
+
+    assertThat(cache.getMissCount(), is(2L));
+    assertThat(cache.getHitCount(), is(2L));
+  }
+
+  @Test
+  public void persistedForSameConfiguration() throws Exception {
+    MetadataCacheStore store =
+        new MetadataCacheStore(temporaryFolder.getRoot(), muleContext.getObjectSerializer().getInternalProtocol());
+    DefaultMetadataCache cache = new DefaultMetadataCache();
+    cache.put("a", "1");
+    store.store("config|id", "fingerprint", cache);
+
+    DefaultMetadataCache sameConfig = new DefaultMetadataCache();
+    store.restore("config|id", "fingerprint", sameConfig);
+    assertThat(sameConfig.get("a"), is(Optional.of("1")));
+
+    DefaultMetadataCache unknownConfig = new DefaultMetadataCache();
+    store.restore("config|id", null, unknownConfig);
+    assertThat(unknownConfig.asMap(), is(aMapWithSize(0)));
+
+    DefaultMetadataCache changedConfig = new DefaultMetadataCache();
+    store.restore("config|id", "otherFingerprint", changedConfig);
+    assertThat(changedConfig.asMap(), is(aMapWithSize(0)));
+
+    store.delete("config|id");
+    DefaultMetadataCache deleted = new DefaultMetadataCache();
+    store.restore("config|id", "fingerprint", deleted);
+    assertThat(deleted.asMap(), is(aMapWithSize(0)));
+  }
+
+  @Test
+  public void notPersistedForUnknownConfiguration() throws Exception {
+    MetadataCacheStore store =
+        new MetadataCacheStore(temporaryFolder.getRoot(), muleContext.getObjectSerializer().getInternalProtocol());
+    DefaultMetadataCache cache = new DefaultMetadataCache();
+    cache.put("a", "1");
+    store.store("config|id", "fingerprint", cache);
+    store.store("config|id", null, cache);
+
+    DefaultMetadataCache restored = new DefaultMetadataCache();
+    store.restore("config|id", "fingerprint", restored);
+    assertThat(restored.asMap(), is(aMapWithSize(0)));
+  }
+
+  @Test
+  public void fingerprintNotCalculatedWithoutPersistence() {
+    MuleMetadataService metadataService = new MuleMetadataService();
+    metadataService.getMetadataCache("config|id", () -> {
+      throw new IllegalStateException("The fingerprint should not be calculated");
+    });
+
+    assertThat(metadataService.getMetadataCaches(), is(aMapWithSize(1)));
+  }
+}
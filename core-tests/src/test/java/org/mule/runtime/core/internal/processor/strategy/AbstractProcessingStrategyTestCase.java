@@ -55,6 +55,8 @@ import org.mule.runtime.core.api.processor.Processor;
 import org.mule.runtime.core.api.processor.ReactiveProcessor.ProcessingType;
 import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
 import org.mule.runtime.core.api.source.MessageSource.BackPressureStrategy;
+import org.mule.runtime.core.api.transaction.Transaction;
+import org.mule.runtime.core.api.transaction.TransactionCoordination;
 import org.mule.runtime.core.api.util.concurrent.NamedThreadFactory;
 import org.mule.runtime.core.internal.construct.FlowBackPressureException;
 import org.mule.runtime.core.internal.context.MuleContextWithRegistries;
@@ -438,6 +440,38 @@ public abstract class AbstractProcessingStrategyTestCase extends AbstractMuleCon
   @Test
   public abstract void tx() throws Exception;
 
+  /**
+   * Processes an event through a flow with a blocking processor while the given transaction is bound to the current thread.
+   *
+   * @return the transactions that the blocking processor found bound to the thread it ran in
+   */
+  protected Set<Transaction> processFlowWithTransaction(Transaction transaction) throws Exception {
+    Set<Transaction> transactions = synchronizedSet(new HashSet<>());
+    flow = flowBuilder.get().processors(cpuLightProcessor, new ThreadTrackingProcessor() {
+
+      @Override
+      public CoreEvent process(CoreEvent event) throws MuleException {
+        transactions.add(TransactionCoordination.getInstance().getTransaction());
+        return super.process(event);
+      }
+
+      @Override
+      public ProcessingType getProcessingType() {
+        return BLOCKING;
+      }
+    }).build();
+    flow.initialise();
+    flow.start();
+
+    TransactionCoordination.getInstance().bindTransaction(transaction);
+    try {
+      processFlow(testEvent());
+    } finally {
+      TransactionCoordination.getInstance().unbindTransaction(transaction);
+    }
+    return transactions;
+  }
+
   protected void singleIORW(Callable<CoreEvent> eventSupplier) throws Exception {
     flow = flowBuilder.get().processors(ioRWProcessor).build();
 
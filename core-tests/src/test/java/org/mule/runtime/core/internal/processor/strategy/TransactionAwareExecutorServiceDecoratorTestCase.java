@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.processor.strategy;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.core.api.transaction.Transaction;
+import org.mule.runtime.core.api.transaction.TransactionCoordination;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+@SmallTest
+public class TransactionAwareExecutorServiceDecoratorTestCase extends AbstractMuleTestCase {
+
+  private final TransactionCoordination tc = TransactionCoordination.getInstance();
+  private final Scheduler scheduler = mock(Scheduler.class);
+  private final Transaction transaction = mock(Transaction.class);
+
+  @Before
+  public void before() throws Exception {
+    tc.bindTransaction(transaction);
+  }
+
+  @After
+  public void after() throws Exception {
+    tc.unbindTransaction(tc.getTransaction());
+  }
+
+  @Test
+  public void transactionRunsInCurrentThreadByDefault() {
+    Runnable task = mock(Runnable.class);
+
+    new TransactionAwareExecutorServiceDecorator(scheduler, false).execute(task);
+
+    verify(task).run();
+    verify(scheduler, never()).execute(any(Runnable.class));
+  }
+
+  @Test
+  public void xaTransactionRunsInCurrentThread() {
+    when(transaction.isXA()).thenReturn(true);
+    Runnable task = mock(Runnable.class);
+
+    new TransactionAwareExecutorServiceDecorator(scheduler, true).execute(task);
+
+    verify(task).run();
+    verify(scheduler, never()).execute(any(Runnable.class));
+  }
+
+  @Test
+  public void transactionContinuedInSchedulerThread() throws Exception {
+    AtomicReference<Transaction> schedulerThreadTransaction = new AtomicReference<>();
+    AtomicReference<Thread> schedulerThread = new AtomicReference<>();
+
+    new TransactionAwareExecutorServiceDecorator(scheduler, true).execute(() -> {
+      schedulerThread.set(Thread.currentThread());
+      schedulerThreadTransaction.set(tc.getTransaction());
+    });
+
+    ArgumentCaptor<Runnable> scheduledTask = ArgumentCaptor.forClass(Runnable.class);
+    verify(scheduler).execute(scheduledTask.capture());
+    Thread thread = new Thread(scheduledTask.getValue());
+    thread.start();
+    thread.join();
+
+    assertThat(schedulerThread.get(), is(not(sameInstance(Thread.currentThread()))));
+    assertThat(schedulerThreadTransaction.get(), is(sameInstance(transaction)));
+  }
+
+  @Test
+  public void noTransactionScheduledAsIs() {
+    tc.clear();
+    Runnable task = mock(Runnable.class);
+
+    new TransactionAwareExecutorServiceDecorator(scheduler, true).execute(task);
+
+    verify(scheduler).execute(task);
+    assertThat(tc.getTransaction(), is(nullValue()));
+  }
+}
@@ -10,6 +10,7 @@ import static java.lang.Integer.MAX_VALUE;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.startsWith;
 import static org.hamcrest.core.IsCollectionContaining.hasItem;
@@ -27,11 +28,14 @@ import org.mule.tck.testmodels.mule.TestTransaction;
 import io.qameta.allure.Description;
 import io.qameta.allure.Feature;
 import io.qameta.allure.Story;
+import org.junit.Test;
 
 @Feature(PROCESSING_STRATEGIES)
 @Story(DEFAULT)
 public class TransactionAwareProactorStreamProcessingStrategyTestCase extends ProactorStreamProcessingStrategyTestCase {
 
+  private boolean threadAgnosticTransactions = false;
+
   public TransactionAwareProactorStreamProcessingStrategyTestCase(AbstractProcessingStrategyTestCase.Mode mode) {
     super(mode);
   }
@@ -45,7 +49,8 @@ public class TransactionAwareProactorStreamProcessingStrategyTestCase extends Pr
                                                                 () -> cpuLight,
                                                                 () -> blocking,
                                                                 () -> cpuIntensive,
-                                                                MAX_VALUE);
+                                                                MAX_VALUE,
+                                                                threadAgnosticTransactions);
   }
 
   @Override
@@ -67,4 +72,26 @@ public class TransactionAwareProactorStreamProcessingStrategyTestCase extends Pr
     assertThat(threads, not(hasItem(startsWith(CUSTOM))));
   }
 
+  @Test
+  @Description("When transactions are thread agnostic, the processing of events with a non XA transaction is dispatched to "
+      + "other threads, which continue the transaction.")
+  public void threadAgnosticTx() throws Exception {
+    threadAgnosticTransactions = true;
+    TestTransaction transaction = new TestTransaction(muleContext);
+
+    assertThat(processFlowWithTransaction(transaction), contains(transaction));
+    assertThat(threads, hasItem(startsWith(IO)));
+  }
+
+  @Test
+  @Description("When transactions are thread agnostic, events with an XA transaction are still processed in the caller thread.")
+  public void threadAgnosticXaTx() throws Exception {
+    threadAgnosticTransactions = true;
+    TestTransaction transaction = new TestTransaction(muleContext, true);
+
+    assertThat(processFlowWithTransaction(transaction), contains(transaction));
+    assertThat(threads, hasSize(equalTo(1)));
+    assertThat(threads, not(hasItem(startsWith(IO))));
+  }
+
 }
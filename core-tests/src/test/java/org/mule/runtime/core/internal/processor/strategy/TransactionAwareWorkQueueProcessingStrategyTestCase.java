@@ -9,6 +9,7 @@ package org.mule.runtime.core.internal.processor.strategy;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.startsWith;
 import static org.hamcrest.core.IsCollectionContaining.hasItem;
@@ -32,13 +33,15 @@ import org.junit.Test;
 @DisplayName("Default processing strategy (used when no processing strategy is configured)")
 public class TransactionAwareWorkQueueProcessingStrategyTestCase extends WorkQueueProcessingStrategyTestCase {
 
+  private boolean threadAgnosticTransactions = false;
+
   public TransactionAwareWorkQueueProcessingStrategyTestCase(Mode mode) {
     super(mode);
   }
 
   @Override
   protected ProcessingStrategy createProcessingStrategy(MuleContext muleContext, String schedulersNamePrefix) {
-    return new TransactionAwareWorkQueueProcessingStrategy(() -> blocking);
+    return new TransactionAwareWorkQueueProcessingStrategy(() -> blocking, threadAgnosticTransactions);
   }
 
   @Test
@@ -61,4 +64,26 @@ public class TransactionAwareWorkQueueProcessingStrategyTestCase extends WorkQue
     assertThat(threads, not(hasItem(startsWith(CUSTOM))));
   }
 
+  @Test
+  @Description("When transactions are thread agnostic, the processing of events with a non XA transaction is dispatched to "
+      + "other threads, which continue the transaction.")
+  public void threadAgnosticTx() throws Exception {
+    threadAgnosticTransactions = true;
+    TestTransaction transaction = new TestTransaction(muleContext);
+
+    assertThat(processFlowWithTransaction(transaction), contains(transaction));
+    assertThat(threads, hasItem(startsWith(IO)));
+  }
+
+  @Test
+  @Description("When transactions are thread agnostic, events with an XA transaction are still processed in the caller thread.")
+  public void threadAgnosticXaTx() throws Exception {
+    threadAgnosticTransactions = true;
+    TestTransaction transaction = new TestTransaction(muleContext, true);
+
+    assertThat(processFlowWithTransaction(transaction), contains(transaction));
+    assertThat(threads, hasSize(equalTo(1)));
+    assertThat(threads, not(hasItem(startsWith(IO))));
+  }
+
 }
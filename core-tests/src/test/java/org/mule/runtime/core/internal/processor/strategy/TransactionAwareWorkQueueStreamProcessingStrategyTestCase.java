@@ -9,6 +9,7 @@ package org.mule.runtime.core.internal.processor.strategy;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.startsWith;
 import static org.hamcrest.core.IsCollectionContaining.hasItem;
@@ -26,11 +27,14 @@ import org.mule.tck.testmodels.mule.TestTransaction;
 import io.qameta.allure.Description;
 import io.qameta.allure.Feature;
 import io.qameta.allure.Story;
+import org.junit.Test;
 
 @Feature(PROCESSING_STRATEGIES)
 @Story(WORK_QUEUE)
 public class TransactionAwareWorkQueueStreamProcessingStrategyTestCase extends WorkQueueStreamProcessingStrategyTestCase {
 
+  private boolean threadAgnosticTransactions = false;
+
   public TransactionAwareWorkQueueStreamProcessingStrategyTestCase(Mode mode) {
     super(mode);
   }
@@ -42,7 +46,8 @@ public class TransactionAwareWorkQueueStreamProcessingStrategyTestCase extends W
                                                                  1,
                                                                  DEFAULT_WAIT_STRATEGY,
                                                                  () -> blocking,
-                                                                 4);
+                                                                 4,
+                                                                 threadAgnosticTransactions);
   }
 
   @Override
@@ -64,4 +69,26 @@ public class TransactionAwareWorkQueueStreamProcessingStrategyTestCase extends W
     assertThat(threads, not(hasItem(startsWith(CUSTOM))));
   }
 
+  @Test
+  @Description("When transactions are thread agnostic, the processing of events with a non XA transaction is dispatched to "
+      + "other threads, which continue the transaction.")
+  public void threadAgnosticTx() throws Exception {
+    threadAgnosticTransactions = true;
+    TestTransaction transaction = new TestTransaction(muleContext);
+
+    assertThat(processFlowWithTransaction(transaction), contains(transaction));
+    assertThat(threads, hasItem(startsWith(IO)));
+  }
+
+  @Test
+  @Description("When transactions are thread agnostic, events with an XA transaction are still processed in the caller thread.")
+  public void threadAgnosticXaTx() throws Exception {
+    threadAgnosticTransactions = true;
+    TestTransaction transaction = new TestTransaction(muleContext, true);
+
+    assertThat(processFlowWithTransaction(transaction), contains(transaction));
+    assertThat(threads, hasSize(equalTo(1)));
+    assertThat(threads, not(hasItem(startsWith(IO))));
+  }
+
 }
@@ -12,6 +12,7 @@ import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toList;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasSize;
@@ -380,6 +381,26 @@ public class ForeachTestCase extends AbstractReactiveProcessorTestCase {
     assertThat(((PrivilegedEvent) processedEvents.get(1)).getMessageAsString(muleContext), is("[3]:foo:zas"));
   }
 
+  @Test
+  public void parallel() throws Exception {
+    Foreach foreachMp = createForeach();
+    foreachMp.setMessageProcessors(getSimpleMessageProcessors(new TestMessageProcessor("zas")));
+    foreachMp.setMaxConcurrency(4);
+    initialiseIfNeeded(foreachMp, muleContext);
+
+    try {
+      CoreEvent input = eventBuilder(muleContext).message(of(asList("bar", "zip"))).build();
+      CoreEvent result = process(foreachMp, input);
+
+      assertThat(processedEvents.stream().map(event -> event.getMessage().getPayload().getValue()).collect(toList()),
+                 containsInAnyOrder("bar:foo:zas", "zip:foo:zas"));
+      assertThat(result.getMessage(), equalTo(input.getMessage()));
+      assertThat(result.getVariables().keySet(), hasSize(0));
+    } finally {
+      foreachMp.dispose();
+    }
+  }
+
   @Test
   public void variables() throws Exception {
     List<String> arrayList = new ArrayList<>();
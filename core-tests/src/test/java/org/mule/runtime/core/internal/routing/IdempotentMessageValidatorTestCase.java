@@ -10,18 +10,23 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.junit.rules.ExpectedException.none;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mule.runtime.api.el.BindingContextUtils.NULL_BINDING_CONTEXT;
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 import static org.mule.runtime.api.message.Message.of;
 
 import org.mule.runtime.api.artifact.Registry;
 import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.api.message.Message;
 import org.mule.runtime.api.metadata.TypedValue;
+import org.mule.runtime.api.store.ObjectStoreException;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.privileged.event.BaseEventContext;
 import org.mule.runtime.core.api.util.IOUtils;
@@ -202,6 +207,87 @@ public class IdempotentMessageValidatorTestCase extends AbstractMuleContextTestC
     assertNotNull(processedEvent);
   }
 
+  @Test
+  public void duplicateDetectedWithBloomFilter() throws Exception {
+    idempotent.setEnableBloomFilter(true);
+    idempotent.initialise();
+    idempotent.start();
+
+    try {
+      final BaseEventContext context = mock(BaseEventContext.class);
+      when(context.getCorrelationId()).thenReturn("1");
+      CoreEvent event = CoreEvent.builder(context).message(of("OK")).build();
+
+      // Accepted by the filter, the write to the store is deferred until a duplicate shows up
+      assertThat(idempotent.process(event), sameInstance(event));
+
+      expected.expect(ValidationException.class);
+      idempotent.process(CoreEvent.builder(context).message(of("OK")).build());
+    } finally {
+      idempotent.stop();
+      assertEquals(idempotent.getObjectStore().retrieve("1"), "1");
+    }
+  }
+
+  @Test
+  public void failedBatchRetriedWithBloomFilter() throws Exception {
+    FailingObjectStore store = new FailingObjectStore();
+    idempotent.setObjectStore(store);
+    idempotent.setEnableBloomFilter(true);
+    idempotent.initialise();
+    idempotent.start();
+
+    try {
+      store.failing = true;
+      // Accepted by the filter and kept pending until a full batch is written
+      for (int i = 1; i < 100; ++i) {
+        CoreEvent event = eventWithId(Integer.toString(i));
+        assertThat(idempotent.process(event), sameInstance(event));
+      }
+
+      // The batch could not be written, so the ID completing it is not accepted
+      try {
+        idempotent.process(eventWithId("100"));
+        fail("Expected the message to be rejected");
+      } catch (ValidationException e) {
+        // expected
+      }
+
+      // Once a write failed, new IDs are only accepted after being written along with the pending ones
+      store.failing = false;
+      CoreEvent event = eventWithId("101");
+      assertThat(idempotent.process(event), sameInstance(event));
+      for (int i = 1; i < 100; ++i) {
+        assertTrue(store.contains(Integer.toString(i)));
+      }
+      assertTrue(store.contains("101"));
+    } finally {
+      store.failing = false;
+      idempotent.stop();
+    }
+
+    assertFalse(store.contains("100"));
+  }
+
+  private CoreEvent eventWithId(String id) {
+    final BaseEventContext context = mock(BaseEventContext.class);
+    when(context.getCorrelationId()).thenReturn(id);
+    return CoreEvent.builder(context).message(of("OK")).build();
+  }
+
+  private static class FailingObjectStore extends InMemoryObjectStore<String> {
+
+    private volatile boolean failing = false;
+
+    @Override
+    protected void doStore(String id, String value) throws ObjectStoreException {
+      if (failing) {
+        throw new ObjectStoreException(createStaticMessage("Store not available"));
+      }
+      super.doStore(id, value);
+    }
+  }
+
   @Test
   public void multipleObjectStoreConfigurationShouldRaiseException() throws Exception {
     idempotent.setPrivateObjectStore(new InMemoryObjectStore<>());
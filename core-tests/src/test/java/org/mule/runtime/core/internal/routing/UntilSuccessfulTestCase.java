@@ -9,12 +9,19 @@ package org.mule.runtime.core.internal.routing;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
+import static java.util.concurrent.TimeUnit.HOURS;
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeThat;
 import static org.mockito.Mockito.mock;
 import static org.mule.runtime.api.component.location.ConfigurationComponentLocator.REGISTRY_KEY;
 import static org.mule.runtime.api.message.Message.of;
@@ -24,6 +31,7 @@ import static org.mule.tck.MuleTestUtils.createAndRegisterFlow;
 import static org.mule.tck.util.MuleContextUtils.eventBuilder;
 
 import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.processor.Processor;
 import org.mule.runtime.core.api.retry.policy.RetryPolicyExhaustedException;
@@ -31,6 +39,8 @@ import org.mule.runtime.core.api.transaction.Transaction;
 import org.mule.runtime.core.internal.exception.MessagingException;
 import org.mule.runtime.core.privileged.processor.InternalProcessor;
 import org.mule.tck.junit4.AbstractMuleContextTestCase;
+import org.mule.tck.probe.JUnitLambdaProbe;
+import org.mule.tck.probe.PollingProber;
 
 import org.junit.After;
 import org.junit.Rule;
@@ -39,10 +49,13 @@ import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameters;
+import reactor.core.publisher.Mono;
 
 import java.io.ByteArrayInputStream;
 import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 @RunWith(Parameterized.class)
 public class UntilSuccessfulTestCase extends AbstractMuleContextTestCase {
@@ -191,6 +204,123 @@ public class UntilSuccessfulTestCase extends AbstractMuleContextTestCase {
     assertEquals(60 * 1000, untilSuccessful.getMillisBetweenRetries());
   }
 
+  @Test
+  public void testRetryMetrics() throws Exception {
+    targetMessageProcessor.setNumberOfFailuresToSimulate(untilSuccessful.getMaxRetries());
+    untilSuccessful.setMuleContext(muleContext);
+    untilSuccessful.initialise();
+    untilSuccessful.start();
+
+    untilSuccessful.process(eventBuilder(muleContext).message(of("ERROR")).build());
+    assertEquals(tx ? 0 : untilSuccessful.getMaxRetries(), untilSuccessful.getRetryAttempts());
+    assertEquals(0, untilSuccessful.getRetriesExhausted());
+    assertEquals(0, untilSuccessful.getPendingRetries());
+  }
+
+  @Test
+  public void testExponentialBackoff() throws Exception {
+    untilSuccessful.setBackoffMultiplier(2);
+    untilSuccessful.initialise();
+
+    assertEquals(1000, untilSuccessful.getRetryDelay(0));
+    assertEquals(2000, untilSuccessful.getRetryDelay(1));
+    assertEquals(4000, untilSuccessful.getRetryDelay(2));
+  }
+
+  @Test
+  public void testJitteredBackoff() throws Exception {
+    untilSuccessful.setJitterFactor(0.5);
+    untilSuccessful.initialise();
+
+    for (int i = 0; i < 100; ++i) {
+      assertThat(untilSuccessful.getRetryDelay(0), both(greaterThanOrEqualTo(500L)).and(lessThanOrEqualTo(1500L)));
+    }
+  }
+
+  @Test
+  public void testBackoffCapped() throws Exception {
+    untilSuccessful.setBackoffMultiplier(10);
+    untilSuccessful.initialise();
+
+    assertEquals(HOURS.toMillis(1), untilSuccessful.getRetryDelay(5));
+    assertEquals(HOURS.toMillis(1), untilSuccessful.getRetryDelay(Integer.MAX_VALUE));
+  }
+
+  @Test
+  public void pendingRetryFailedOnStop() throws Exception {
+    assumeThat("retries within a transaction are done in the same thread", tx, is(false));
+
+    targetMessageProcessor.setNumberOfFailuresToSimulate(Integer.MAX_VALUE);
+    untilSuccessful.setMuleContext(muleContext);
+    untilSuccessful.initialise();
+    untilSuccessful.start();
+
+    Future<CoreEvent> result =
+        Mono.from(untilSuccessful.apply(Mono.just(eventBuilder(muleContext).message(of("ERROR")).build()))).toFuture();
+    new PollingProber().check(new JUnitLambdaProbe(() -> {
+      assertThat(untilSuccessful.getPendingRetries(), is(1));
+      return true;
+    }));
+
+    untilSuccessful.stop();
+    try {
+      result.get();
+      fail("Expected the pending retry to fail");
+    } catch (ExecutionException e) {
+      assertThat(e.getCause(), instanceOf(MessagingException.class));
+      assertThat(e.getCause().getCause(), instanceOf(RetryPolicyExhaustedException.class));
+    }
+    assertEquals(0, untilSuccessful.getPendingRetries());
+    assertEquals(1, targetMessageProcessor.getEventCount());
+  }
+
+  @Test
+  public void retriesAfterAnotherScopeStopped() throws Exception {
+    assumeThat("retries within a transaction are done in the same thread", tx, is(false));
+
+    ConfigurableMessageProcessor processor = targetMessageProcessor;
+    processor.setNumberOfFailuresToSimulate(1);
+    untilSuccessful.setMillisBetweenRetries(10);
+    untilSuccessful.setMuleContext(muleContext);
+    untilSuccessful.initialise();
+    untilSuccessful.start();
+
+    // Both scopes share the retry timer, which must keep running for the one still started
+    UntilSuccessful other = buildUntilSuccessful(10L);
+    other.setMuleContext(muleContext);
+    other.initialise();
+    other.start();
+    other.stop();
+    other.dispose();
+
+    CoreEvent result =
+        Mono.from(untilSuccessful.apply(Mono.just(eventBuilder(muleContext).message(of("TEST")).build()))).block();
+    assertThat(result, not(nullValue()));
+    assertEquals(2, processor.getEventCount());
+    untilSuccessful.stop();
+  }
+
+  @Test
+  public void backoffMultiplierLowerThanOne() throws Exception {
+    untilSuccessful.setBackoffMultiplier(0.5);
+    expected.expect(InitialisationException.class);
+    untilSuccessful.initialise();
+  }
+
+  @Test
+  public void jitterFactorGreaterThanOne() throws Exception {
+    untilSuccessful.setJitterFactor(1.5);
+    expected.expect(InitialisationException.class);
+    untilSuccessful.initialise();
+  }
+
+  @Test
+  public void negativeJitterFactor() throws Exception {
+    untilSuccessful.setJitterFactor(-0.1);
+    expected.expect(InitialisationException.class);
+    untilSuccessful.initialise();
+  }
+
   private void assertTargetEventReceived(CoreEvent request) throws MuleException {
     assertThat(targetMessageProcessor.getEventReceived(), not(nullValue()));
     assertLogicallyEqualEvents(request, targetMessageProcessor.getEventReceived());
@@ -144,29 +144,50 @@ public class EventCorrelatorTestCase extends AbstractMuleTestCase {
     eventCorrelator.start();
 
     try {
-      Prober prober = new PollingProber(1000, 50);
-      prober.check(new Probe() {
-
-        @Override
-        public boolean isSatisfied() {
-          try {
-            return !memoryObjectStore.contains(TEST_GROUP_ID, "prefix.eventGroups");
-          } catch (ObjectStoreException e) {
-            LOGGER.debug("Could not access object store.");
-            return false;
-          }
-        }
+      probeGroupExpired();
+    } finally {
+      eventCorrelator.stop();
+    }
+  }
 
-        @Override
-        public String describeFailure() {
-          return "Event group not expired.";
-        }
-      });
+  @Test
+  public void processesOwnExpiredGroupInSecondaryNode() throws Exception {
+    when(mockMuleContext.isPrimaryPollingInstance()).thenReturn(false);
+
+    EventCorrelator eventCorrelator = createEventCorrelator();
+    memoryObjectStore.remove(TEST_GROUP_ID, "prefix.eventGroups");
+
+    eventCorrelator.start();
+
+    try {
+      eventCorrelator.addEventGroup(mockEventGroup);
+      probeGroupExpired();
     } finally {
       eventCorrelator.stop();
     }
   }
 
+  private void probeGroupExpired() {
+    Prober prober = new PollingProber(1000, 50);
+    prober.check(new Probe() {
+
+      @Override
+      public boolean isSatisfied() {
+        try {
+          return !memoryObjectStore.contains(TEST_GROUP_ID, "prefix.eventGroups");
+        } catch (ObjectStoreException e) {
+          LOGGER.debug("Could not access object store.");
+          return false;
+        }
+      }
+
+      @Override
+      public String describeFailure() {
+        return "Event group not expired.";
+      }
+    });
+  }
+
   @Test
   public void avoidCreateMessageEventToGetExceptionListener() throws Exception {
     doExpiredGroupMonitoringTest(true);
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.routing.forkjoin;
+
+import static java.lang.System.currentTimeMillis;
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+import static org.apache.commons.io.IOUtils.toByteArray;
+import static org.mule.runtime.api.message.Message.of;
+import static org.mule.runtime.api.util.DataUnit.KB;
+import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_STREAMING_MANAGER;
+import static org.mule.runtime.core.internal.routing.ForkJoinStrategy.RoutingPair.of;
+import static org.mule.test.allure.AllureConstants.ForkJoinStrategiesFeature.ForkJoinStrategiesStory.COLLECT_ITERATOR;
+
+import org.mule.runtime.api.message.Message;
+import org.mule.runtime.api.streaming.bytes.CursorStreamProvider;
+import org.mule.runtime.api.streaming.object.CursorIterator;
+import org.mule.runtime.api.streaming.exception.StreamingBufferSizeExceededException;
+import org.mule.runtime.api.streaming.object.CursorIteratorProvider;
+import org.mule.runtime.api.util.DataUnit;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
+import org.mule.runtime.core.api.streaming.StreamingManager;
+import org.mule.runtime.core.internal.context.MuleContextWithRegistries;
+import org.mule.runtime.core.internal.routing.ForkJoinStrategy;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Story;
+import org.junit.Test;
+
+@Story(COLLECT_ITERATOR)
+public class CollectIteratorForkJoinStrategyTestCase extends AbstractForkJoinStrategyTestCase {
+
+  @Override
+  protected ForkJoinStrategy createStrategy(ProcessingStrategy processingStrategy, int concurrency, boolean delayErrors,
+                                            long timeout) {
+    return new CollectIteratorForkJoinStrategyFactory(getStreamingManager())
+        .createForkJoinStrategy(processingStrategy, concurrency, delayErrors, timeout, scheduler, timeoutErrorType);
+  }
+
+  private ForkJoinStrategy createStrategy(int completionCount) {
+    return new CollectIteratorForkJoinStrategyFactory(getStreamingManager(), completionCount)
+        .createForkJoinStrategy(processingStrategy, Integer.MAX_VALUE, true, Long.MAX_VALUE, scheduler, timeoutErrorType);
+  }
+
+  private ForkJoinStrategy createStrategy(int maxRouteResultSize, DataUnit bufferUnit) {
+    return new CollectIteratorForkJoinStrategyFactory(getStreamingManager(), Integer.MAX_VALUE, maxRouteResultSize, bufferUnit)
+        .createForkJoinStrategy(processingStrategy, Integer.MAX_VALUE, true, Long.MAX_VALUE, scheduler, timeoutErrorType);
+  }
+
+  private StreamingManager getStreamingManager() {
+    return ((MuleContextWithRegistries) muleContext).getRegistry().lookupObject(OBJECT_STREAMING_MANAGER);
+  }
+
+  @Test
+  @Description("This strategy waits for all routes to return and then collects results into an iterator provider.")
+  public void collectIterator() throws Throwable {
+    Message route1Result = of(1);
+    Message route2Result = of(2);
+    Message route3Result = of(3);
+
+    CoreEvent result = invokeStrategyBlocking(strategy, testEvent(), asList(createRoutingPair(route1Result),
+                                                                            createRoutingPair(route2Result),
+                                                                            createRoutingPair(route3Result)));
+
+    List<Message> resultList = getResultMessages(result);
+    assertThat(resultList, hasSize(3));
+    assertThat(resultList, hasItems(route1Result, route2Result, route3Result));
+  }
+
+  @Test
+  @Description("Routes returning a stream are buffered so that their result can be read more than once.")
+  public void streamResultBuffered() throws Throwable {
+    CoreEvent result = invokeStrategyBlocking(strategy, testEvent(),
+                                              asList(createRoutingPair(of(new ByteArrayInputStream("data".getBytes()))),
+                                                     createRoutingPair(of(2))));
+
+    List<Message> resultList = getResultMessages(result);
+    assertThat(resultList, hasSize(2));
+    assertThat(resultList.stream().anyMatch(message -> message.getPayload().getValue() instanceof CursorStreamProvider),
+               is(true));
+  }
+
+  @Test
+  @Description("When a maximum route result size is set, reading a streamed route result bigger than that fails.")
+  public void routeResultSizeLimited() throws Throwable {
+    CoreEvent result = invokeStrategyBlocking(createStrategy(1, KB), testEvent(),
+                                              asList(createRoutingPair(of(new ByteArrayInputStream(new byte[2048])))));
+
+    List<Message> resultList = getResultMessages(result);
+    assertThat(resultList, hasSize(1));
+    CursorStreamProvider provider = (CursorStreamProvider) resultList.get(0).getPayload().getValue();
+    expectedException.expect(StreamingBufferSizeExceededException.class);
+    try (InputStream cursor = provider.openCursor()) {
+      toByteArray(cursor);
+    }
+  }
+
+  @Test
+  @Description("When a completion count is set, the result is emitted once that many routes succeed, without waiting for the rest.")
+  public void firstSuccessful() throws Throwable {
+    Message fastResult = of(1);
+    long startTime = currentTimeMillis();
+
+    CoreEvent result = invokeStrategyBlocking(createStrategy(1), testEvent(),
+                                              asList(createRoutingPairWithSleep(of(2), 5000), createRoutingPair(fastResult)));
+
+    assertThat(currentTimeMillis() - startTime, lessThan(5000L));
+    assertThat(getResultMessages(result), contains(fastResult));
+  }
+
+  @Test
+  @Description("When a completion count is reached, errors of other routes are not propagated.")
+  public void quorumIgnoresErrors() throws Throwable {
+    Message route1Result = of(1);
+    Message route2Result = of(2);
+
+    CoreEvent result = invokeStrategyBlocking(createStrategy(2), testEvent(),
+                                              asList(createRoutingPair(route1Result),
+                                                     of(testEvent(), createFailingRoutingPair(new IllegalStateException())),
+                                                     createRoutingPair(route2Result)));
+
+    List<Message> resultList = getResultMessages(result);
+    assertThat(resultList, hasSize(2));
+    assertThat(resultList, hasItems(route1Result, route2Result));
+  }
+
+  private List<Message> getResultMessages(CoreEvent result) throws Exception {
+    assertThat(result.getMessage().getPayload().getValue(), instanceOf(CursorIteratorProvider.class));
+    List<Message> messages = new ArrayList<>();
+    try (CursorIterator<Message> cursor =
+        ((CursorIteratorProvider) result.getMessage().getPayload().getValue()).openCursor()) {
+      cursor.forEachRemaining(messages::add);
+    }
+    return messages;
+  }
+
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.routing.forkjoin;
+
+import static java.lang.Integer.MAX_VALUE;
+import static java.lang.Thread.sleep;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mule.runtime.api.message.Message.of;
+import static org.mule.runtime.core.api.event.CoreEvent.builder;
+import static org.mule.runtime.core.internal.routing.ForkJoinStrategy.RoutingPair.of;
+import static org.mule.test.allure.AllureConstants.ForkJoinStrategiesFeature.ForkJoinStrategiesStory.JOIN_LAST;
+
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.processor.Processor;
+import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
+import org.mule.runtime.core.internal.routing.ForkJoinStrategy;
+import org.mule.runtime.core.internal.routing.ForkJoinStrategy.RoutingPair;
+import org.mule.runtime.core.privileged.routing.CompositeRoutingException;
+import org.mule.runtime.core.privileged.routing.RoutingResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Story;
+import org.junit.Test;
+
+@Story(JOIN_LAST)
+public class JoinLastForkJoinStrategyTestCase extends AbstractForkJoinStrategyTestCase {
+
+  @Override
+  protected ForkJoinStrategy createStrategy(ProcessingStrategy processingStrategy, int concurrency, boolean delayErrors,
+                                            long timeout) {
+    return createStrategy(processingStrategy, concurrency, delayErrors, timeout, true);
+  }
+
+  private ForkJoinStrategy createStrategy(ProcessingStrategy processingStrategy, int concurrency, boolean delayErrors,
+                                          long timeout, boolean ordered) {
+    return new JoinLastForkJoinStrategyFactory(ordered).createForkJoinStrategy(processingStrategy, concurrency, delayErrors,
+                                                                               timeout, scheduler, timeoutErrorType);
+  }
+
+  @Override
+  @Test
+  @Description("When a route timeout occurs all routes are still executed and a CompositeRoutingException is thrown with details of the timeout error in RoutingResult. Results of successful routes are not retained.")
+  public void timeoutDelayed() throws Throwable {
+    strategy = createStrategy(processingStrategy, 1, true, 50);
+
+    Processor pair2Processor = createProcessorSpy(of(2));
+    RoutingPair pair2 = of(testEvent(), createChain(pair2Processor));
+
+    expectedException.expect(instanceOf(CompositeRoutingException.class));
+
+    invokeStrategyBlocking(strategy, testEvent(), asList(createRoutingPairWithSleep(of(1), 250), pair2),
+                           throwable -> {
+                             verify(pair2Processor, times(1)).process(any(CoreEvent.class));
+                             CompositeRoutingException compositeRoutingException = assertCompositeRoutingException(throwable, 1);
+                             RoutingResult routingResult = assertRoutingResult(compositeRoutingException, 0, 1);
+                             assertThat(routingResult.getFailures().get("0").getCause(),
+                                        instanceOf(TimeoutException.class));
+                           });
+  }
+
+  @Override
+  @Test
+  @Description("When an error occurs all routes are executed regardless and a CompositeRoutingException is thrown containing a RoutingResult with details of failures. Results of successful routes are not retained.")
+  public void errorDelayed() throws Throwable {
+    Processor processorSpy = createProcessorSpy(testEvent().getMessage());
+
+    RuntimeException exception1 = new IllegalStateException();
+    RoutingPair failingPair1 = of(testEvent(), createFailingRoutingPair(exception1));
+    RuntimeException exception2 = new UnsupportedOperationException();
+    RoutingPair failingPair2 = of(testEvent(), createFailingRoutingPair(exception2));
+    RoutingPair okPair = of(testEvent(), createChain(processorSpy));
+
+    expectedException.expect(instanceOf(CompositeRoutingException.class));
+
+    invokeStrategyBlocking(strategy, testEvent(), asList(failingPair1, okPair, failingPair2), throwable -> {
+      verify(processorSpy, times(1)).process(any(CoreEvent.class));
+      CompositeRoutingException compositeRoutingException = assertCompositeRoutingException(throwable, 2);
+      RoutingResult routingResult = assertRoutingResult(compositeRoutingException, 0, 2);
+      assertThat(routingResult.getFailures().get("0").getCause(), is(exception1));
+      assertThat(routingResult.getFailures().get("2").getCause(), is(exception2));
+    });
+  }
+
+  @Override
+  @Test
+  @Description("Variables are not merged, the result has the variables from the last route.")
+  public void flowVarsMerged() throws Throwable {
+    CoreEvent original = builder(this.<CoreEvent>newEvent()).addVariable("before", "beforeValue").build();
+
+    RoutingPair pair1 = of(original, createChain(event -> builder(event).addVariable("foo", "fooValue1").build()));
+    RoutingPair pair2 = of(original, createChain(event -> builder(event).addVariable("foo", "fooValue2").build()));
+
+    CoreEvent result = invokeStrategyBlocking(strategy, original, asList(pair1, pair2));
+
+    assertThat(result.getVariables().get("before").getValue(), equalTo("beforeValue"));
+    assertThat(result.getVariables().get("foo").getValue(), equalTo("fooValue2"));
+  }
+
+  @Test
+  @Description("When ordered, the result of the route for the last routing pair is emitted, even if other routes complete later.")
+  public void ordered() throws Throwable {
+    strategy = createStrategy(processingStrategy, 2, false, MAX_VALUE, true);
+
+    CoreEvent result =
+        invokeStrategyBlocking(strategy, testEvent(), asList(createRoutingPairWithSleep(of(1), 250), createRoutingPair(of(2))));
+
+    assertThat(result.getMessage().getPayload().getValue(), equalTo(2));
+  }
+
+  @Test
+  @Description("When not ordered, the result of the last route to complete is emitted.")
+  public void unordered() throws Throwable {
+    strategy = createStrategy(processingStrategy, 2, false, MAX_VALUE, false);
+
+    CoreEvent result =
+        invokeStrategyBlocking(strategy, testEvent(), asList(createRoutingPairWithSleep(of(1), 250), createRoutingPair(of(2))));
+
+    assertThat(result.getMessage().getPayload().getValue(), equalTo(1));
+  }
+
+  @Test
+  @Description("The result is built from the original event, so the group correlation of the route does not leak into the flow.")
+  public void resultBuiltFromOriginal() throws Throwable {
+    CoreEvent original = testEvent();
+
+    CoreEvent result = invokeStrategyBlocking(strategy, original, asList(createRoutingPair(of(1)), createRoutingPair(of(2))));
+
+    assertThat(result.getMessage().getPayload().getValue(), equalTo(2));
+    assertThat(result.getGroupCorrelation().isPresent(), is(false));
+    assertThat(result.getContext(), is(original.getContext()));
+  }
+
+  @Test
+  @Description("When there are no routing pairs the original event is emitted.")
+  public void noRoutingPairs() throws Throwable {
+    CoreEvent original = testEvent();
+
+    assertThat(invokeStrategyBlocking(strategy, original, emptyList()), is(original));
+  }
+
+  @Test
+  @Description("No more than maxConcurrency routes are executed at the same time.")
+  public void boundedConcurrency() throws Throwable {
+    final int maxConcurrency = 2;
+    strategy = createStrategy(processingStrategy, maxConcurrency, false, MAX_VALUE);
+
+    AtomicInteger active = new AtomicInteger();
+    AtomicInteger maxActive = new AtomicInteger();
+    List<RoutingPair> pairs = new ArrayList<>();
+    for (int i = 0; i < 10; ++i) {
+      pairs.add(of(testEvent(), createChain(event -> {
+        maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+        try {
+          sleep(20);
+        } catch (InterruptedException e) {
+          throw new RuntimeException(e);
+        } finally {
+          active.decrementAndGet();
+        }
+        return event;
+      })));
+    }
+
+    invokeStrategyBlocking(strategy, testEvent(), pairs);
+
+    assertThat(maxActive.get(), lessThanOrEqualTo(maxConcurrency));
+  }
+}
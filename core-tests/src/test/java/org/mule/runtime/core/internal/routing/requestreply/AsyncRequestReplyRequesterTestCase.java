@@ -6,17 +6,19 @@
  */
 package org.mule.runtime.core.internal.routing.requestreply;
 
+import static java.lang.Thread.currentThread;
 import static java.util.Collections.singletonMap;
 import static junit.framework.Assert.assertNull;
-import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.collection.IsEmptyCollection.empty;
 import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
-import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.ArgumentCaptor.forClass;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mule.runtime.api.component.location.ConfigurationComponentLocator.REGISTRY_KEY;
 import static org.mule.runtime.api.message.Message.of;
 import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_STORE_MANAGER;
@@ -33,7 +35,6 @@ import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.api.scheduler.Scheduler;
 import org.mule.runtime.api.store.SimpleMemoryObjectStore;
-import org.mule.runtime.api.util.concurrent.Latch;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.message.GroupCorrelation;
@@ -50,17 +51,19 @@ import org.mule.tck.probe.JUnitLambdaProbe;
 import org.mule.tck.probe.PollingProber;
 
 import org.junit.After;
-import org.junit.Ignore;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.slf4j.Logger;
 
 import java.beans.ExceptionListener;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import reactor.core.publisher.Flux;
 
 public class AsyncRequestReplyRequesterTestCase extends AbstractMuleContextTestCase implements ExceptionListener {
 
@@ -156,84 +159,129 @@ public class AsyncRequestReplyRequesterTestCase extends AbstractMuleContextTestC
   }
 
   @Test
-  @Ignore("See MULE-8830")
-  public void returnsNullWhenInterruptedWhileWaitingForReply() throws Exception {
-    final Latch fakeLatch = new Latch() {
+  public void testSingleEventTimeoutWithoutFailing() throws Exception {
+    asyncReplyMP = new TestAsyncRequestReplyRequester(muleContext);
+    asyncReplyMP.setTimeout(1);
+    asyncReplyMP.setFailOnTimeout(false);
+    asyncReplyMP.setReplySource(mock(MessageSource.class));
 
-      @Override
-      public void await() throws InterruptedException {
-        throw new InterruptedException();
-      }
-    };
+    assertNull(asyncReplyMP.process(testEvent()));
+    assertThat(asyncReplyMP.pendingReplies.entrySet(), empty());
+  }
 
-    asyncReplyMP = new TestAsyncRequestReplyRequester(muleContext) {
+  @Test
+  public void waitingForRepliesDoesNotHoldThreads() throws Exception {
+    asyncReplyMP = new TestAsyncRequestReplyRequester(muleContext);
+    MessageSource replySource = mock(MessageSource.class);
+    asyncReplyMP.setReplySource(replySource);
+    ArgumentCaptor<Processor> replyListener = forClass(Processor.class);
+    verify(replySource).setListener(replyListener.capture());
+
+    List<CoreEvent> requests = new ArrayList<>();
+    for (int i = 0; i < 3; ++i) {
+      requests.add(eventBuilder(muleContext).message(of(TEST_MESSAGE + i)).build());
+    }
+    List<CoreEvent> results = new CopyOnWriteArrayList<>();
+    Flux.from(asyncReplyMP.apply(Flux.fromIterable(requests))).subscribe(results::add);
 
-      @Override
-      protected Latch createEventLock() {
-        return fakeLatch;
-      }
-    };
+    // all the requests are in flight, subscribing didn't block waiting for the first reply
+    assertThat(asyncReplyMP.pendingReplies.size(), is(3));
 
-    final CountDownLatch processingLatch = new CountDownLatch(1);
+    for (CoreEvent request : requests) {
+      replyListener.getValue().process(request);
+    }
 
-    Processor target = mock(Processor.class);
-    asyncReplyMP.setListener(target);
+    new PollingProber().check(new JUnitLambdaProbe(() -> {
+      assertThat(results.size(), is(3));
+      return true;
+    }));
+    assertThat(asyncReplyMP.pendingReplies.entrySet(), empty());
+  }
 
-    MessageSource messageSource = mock(MessageSource.class);
-    asyncReplyMP.setReplySource(messageSource);
-    asyncReplyMP.setMuleContext(muleContext);
+  @Test
+  public void processingContinuesOutOfReplySourceThread() throws Exception {
+    asyncReplyMP = new TestAsyncRequestReplyRequester(muleContext);
+    MessageSource replySource = mock(MessageSource.class);
+    asyncReplyMP.setReplySource(replySource);
+    ArgumentCaptor<Processor> replyListener = forClass(Processor.class);
+    verify(replySource).setListener(replyListener.capture());
+
+    CoreEvent request = testEvent();
+    List<Thread> resultThreads = new CopyOnWriteArrayList<>();
+    Flux.from(asyncReplyMP.apply(Flux.just(request))).subscribe(result -> resultThreads.add(currentThread()));
+    replyListener.getValue().process(request);
+
+    new PollingProber().check(new JUnitLambdaProbe(() -> {
+      assertThat(resultThreads.size(), is(1));
+      return true;
+    }));
+    assertThat(resultThreads.get(0), is(not(currentThread())));
+  }
+
+  @Test
+  public void duplicateReplyDropped() throws Exception {
+    asyncReplyMP = new TestAsyncRequestReplyRequester(muleContext);
+    MessageSource replySource = mock(MessageSource.class);
+    asyncReplyMP.setReplySource(replySource);
+    ArgumentCaptor<Processor> replyListener = forClass(Processor.class);
+    verify(replySource).setListener(replyListener.capture());
+
+    CoreEvent request = testEvent();
+    List<CoreEvent> results = new CopyOnWriteArrayList<>();
+    Flux.from(asyncReplyMP.apply(Flux.just(request))).subscribe(results::add);
+    replyListener.getValue().process(request);
+    replyListener.getValue().process(request);
 
-    final boolean[] exceptionThrown = new boolean[1];
-    final Object[] responseEvent = new Object[1];
-
-    Thread thread = new Thread(() -> {
-      try {
-        responseEvent[0] = asyncReplyMP.process(testEvent());
-      } catch (MuleException e) {
-        exceptionThrown[0] = true;
-      } finally {
-        processingLatch.countDown();
-      }
-    });
-
-    thread.start();
-    assertTrue(processingLatch.await(RECEIVE_TIMEOUT, TimeUnit.MILLISECONDS));
-    assertFalse(exceptionThrown[0]);
-    assertNull(responseEvent[0]);
+    new PollingProber().check(new JUnitLambdaProbe(() -> {
+      assertThat(results.size(), is(1));
+      return true;
+    }));
+    assertThat(asyncReplyMP.store.allKeys(), empty());
+  }
+
+  @Test
+  public void pendingRepliesFailedOnStop() throws Exception {
+    asyncReplyMP = new TestAsyncRequestReplyRequester(muleContext);
+    asyncReplyMP.setReplySource(mock(MessageSource.class));
+
+    List<Throwable> errors = new CopyOnWriteArrayList<>();
+    Flux.from(asyncReplyMP.apply(Flux.just(testEvent()))).subscribe(result -> {
+    }, errors::add);
+    assertThat(asyncReplyMP.pendingReplies.size(), is(1));
+
+    asyncReplyMP.stop();
+
+    new PollingProber().check(new JUnitLambdaProbe(() -> {
+      assertThat(errors.size(), is(1));
+      return true;
+    }));
+    assertThat(errors.get(0), instanceOf(MuleException.class));
+    assertThat(asyncReplyMP.pendingReplies.entrySet(), empty());
   }
 
   @Test
-  @Ignore("See MULE-8830")
   public void testMultiple() throws Exception {
     asyncReplyMP = new TestAsyncRequestReplyRequester(muleContext);
     SensingNullMessageProcessor target = getSensingNullMessageProcessor();
     target.setWaitTime(50);
     AsyncDelegateMessageProcessor asyncMP = createAsyncMessageProcessor(target);
-    asyncMP.initialise();
+    asyncMP.start();
     asyncReplyMP.setListener(asyncMP);
     asyncReplyMP.setReplySource(target.getMessageSource());
+    asyncReplyMP.setMuleContext(muleContext);
 
-    final AtomicInteger count = new AtomicInteger();
-    for (int i = 0; i < 500; i++) {
-      scheduler.execute(() -> {
-        try {
-          CoreEvent resultEvent = asyncReplyMP.process(testEvent());
-
-          // Can't assert same because we copy event for async currently
-          assertEquals(((PrivilegedEvent) testEvent()).getMessageAsString(muleContext),
-                       ((PrivilegedEvent) resultEvent).getMessageAsString(muleContext));
-          count.incrementAndGet();
-          LOGGER.debug("Finished " + count.get());
-        } catch (Exception e) {
-          throw new RuntimeException(e);
-        }
-      });
+    List<CoreEvent> requests = new ArrayList<>();
+    for (int i = 0; i < 500; ++i) {
+      requests.add(eventBuilder(muleContext).message(of(TEST_MESSAGE + i)).build());
     }
+    List<CoreEvent> results = new CopyOnWriteArrayList<>();
+    Flux.from(asyncReplyMP.apply(Flux.fromIterable(requests))).subscribe(results::add);
 
-    new PollingProber().check(new JUnitLambdaProbe(() -> {
-      assertThat(count.get(), greaterThanOrEqualTo(500));
+    new PollingProber(30000, 100).check(new JUnitLambdaProbe(() -> {
+      assertThat(results.size(), is(500));
       return true;
     }));
+    assertThat(asyncReplyMP.pendingReplies.entrySet(), empty());
   }
 
   @Test
@@ -250,8 +298,7 @@ public class AsyncRequestReplyRequesterTestCase extends AbstractMuleContextTestC
 
       mp.process(event);
 
-      Map<String, PrivilegedEvent> responseEvents = mp.getResponseEvents();
-      assertThat(responseEvents.entrySet(), empty());
+      assertThat(mp.getPendingReplies().entrySet(), empty());
     } finally {
       mp.stop();
     }
@@ -290,7 +337,7 @@ public class AsyncRequestReplyRequesterTestCase extends AbstractMuleContextTestC
   }
 
   /**
-   * This class opens up the access to responseEvents map for testing
+   * This class opens up the access to pendingReplies map for testing
    */
   private static final class RelaxedAsyncReplyMP extends AbstractAsyncRequestReplyRequester {
 
@@ -301,8 +348,8 @@ public class AsyncRequestReplyRequesterTestCase extends AbstractMuleContextTestC
       start();
     }
 
-    public Map<String, PrivilegedEvent> getResponseEvents() {
-      return responseEvents;
+    public Map<String, ?> getPendingReplies() {
+      return pendingReplies;
     }
   }
 }
@@ -19,10 +19,12 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mule.runtime.api.config.PoolingProfile.DEFAULT_MAX_POOL_WAIT;
 import static org.mule.runtime.core.api.config.MuleProperties.MULE_STREAMING_MAX_MEMORY;
 import static org.mule.test.allure.AllureConstants.StreamingFeature.STREAMING;
 import org.mule.runtime.api.util.Reference;
 import org.mule.runtime.api.util.concurrent.Latch;
+import org.mule.runtime.core.internal.streaming.DefaultMemoryManager;
 import org.mule.runtime.core.internal.streaming.MemoryManager;
 import org.mule.tck.junit4.AbstractMuleTestCase;
 import org.mule.tck.size.SmallTest;
@@ -85,6 +87,119 @@ public class PoolingByteBufferManagerTestCase extends AbstractMuleTestCase {
     assertThat(buffer2, is(sameInstance(buffer2Reborn)));
   }
 
+  @Test
+  public void sizeClassSharesMemory() throws Exception {
+    ByteBuffer buffer = bufferManager.allocate(CAPACITY);
+    bufferManager.deallocate(buffer);
+
+    ByteBuffer otherBuffer = bufferManager.allocate(OTHER_CAPACITY);
+    assertThat(otherBuffer.capacity(), is(OTHER_CAPACITY));
+    assertThat(otherBuffer.array(), is(sameInstance(buffer.array())));
+    assertThat(bufferManager.getStreamingMemory(), is(128L));
+  }
+
+  @Test
+  public void reclaimIdleWhenMemoryExhausted() throws Exception {
+    MemoryManager memoryManager = mock(MemoryManager.class);
+    when(memoryManager.getMaxMemory()).thenReturn(64L);
+    bufferManager = new PoolingByteBufferManager(memoryManager, 10);
+
+    bufferManager.deallocate(bufferManager.allocate(32));
+    ByteBuffer buffer = bufferManager.allocate(16);
+
+    assertThat(buffer.capacity(), is(16));
+    assertThat(bufferManager.getStreamingMemory(), is(16L));
+    assertThat(bufferManager.getPoolStatistics().get(32).getDestroyed(), is(1L));
+  }
+
+  @Test
+  public void statistics() throws Exception {
+    ByteBuffer buffer = bufferManager.allocate(CAPACITY);
+    bufferManager.deallocate(buffer);
+    bufferManager.allocate(OTHER_CAPACITY);
+    bufferManager.allocate(OTHER_CAPACITY);
+
+    ByteBufferPoolStatistics statistics = bufferManager.getPoolStatistics().get(128);
+    assertThat(statistics.getAllocations(), is(3L));
+    assertThat(statistics.getReuses(), is(1L));
+    assertThat(statistics.getCreated(), is(2L));
+    assertThat(bufferManager.getPoolStatistics().size(), is(1));
+  }
+
+  @Test
+  public void direct() throws Exception {
+    bufferManager = new PoolingByteBufferManager(new DefaultMemoryManager(), DEFAULT_MAX_POOL_WAIT, true);
+
+    ByteBuffer buffer = bufferManager.allocate(CAPACITY);
+    assertThat(buffer.isDirect(), is(true));
+    assertThat(buffer.capacity(), is(CAPACITY));
+    bufferManager.deallocate(buffer);
+
+    assertThat(bufferManager.allocate(CAPACITY), is(sameInstance(buffer)));
+    bufferManager.deallocate(buffer);
+
+    ByteBuffer otherBuffer = bufferManager.allocate(OTHER_CAPACITY);
+    assertThat(otherBuffer.isDirect(), is(true));
+    assertThat(otherBuffer.capacity(), is(OTHER_CAPACITY));
+    assertThat(bufferManager.getStreamingMemory(), is(128L));
+  }
+
+  @Test
+  public void foreignBufferIgnored() throws Exception {
+    ByteBuffer foreign = ByteBuffer.allocate(128);
+    bufferManager.deallocate(foreign);
+
+    assertThat(bufferManager.allocate(128), is(not(sameInstance(foreign))));
+    assertThat(bufferManager.getStreamingMemory(), is(128L));
+  }
+
+  @Test
+  public void doubleDeallocationIgnored() throws Exception {
+    ByteBuffer buffer = bufferManager.allocate(CAPACITY);
+    bufferManager.deallocate(buffer);
+    bufferManager.deallocate(buffer);
+
+    ByteBuffer buffer1 = bufferManager.allocate(CAPACITY);
+    ByteBuffer buffer2 = bufferManager.allocate(CAPACITY);
+    assertThat(buffer1, is(not(sameInstance(buffer2))));
+  }
+
+  @Test
+  public void idleBuffersInMagazinesAccounted() throws Exception {
+    bufferManager.deallocate(bufferManager.allocate(CAPACITY));
+
+    assertThat(bufferManager.getStreamingMemory(), is(128L));
+    assertThat(bufferManager.getPoolStatistics().get(128).getIdle(), is(0));
+  }
+
+  @Test
+  public void reclaimIdleFromMagazinesOfOtherThreads() throws Exception {
+    MemoryManager memoryManager = mock(MemoryManager.class);
+    when(memoryManager.getMaxMemory()).thenReturn(256L);
+    bufferManager = new PoolingByteBufferManager(memoryManager, 10);
+
+    Thread thread = new Thread(() -> bufferManager.deallocate(bufferManager.allocate(32)));
+    thread.start();
+    thread.join();
+
+    assertThat(bufferManager.getStreamingMemory(), is(32L));
+    assertThat(bufferManager.allocate(128).capacity(), is(128));
+    assertThat(bufferManager.getStreamingMemory(), is(128L));
+    assertThat(bufferManager.getPoolStatistics().get(32).getDestroyed(), is(1L));
+  }
+
+  @Test
+  public void idleBuffersExpire() throws Exception {
+    bufferManager = new PoolingByteBufferManager(new DefaultMemoryManager(), DEFAULT_MAX_POOL_WAIT, false, 10);
+
+    bufferManager.deallocate(bufferManager.allocate(CAPACITY));
+    MILLISECONDS.sleep(50);
+    bufferManager.deallocate(bufferManager.allocate(16));
+
+    assertThat(bufferManager.getPoolStatistics().get(128).getDestroyed(), is(1L));
+    assertThat(bufferManager.getStreamingMemory(), is(16L));
+  }
+
   @Test
   public void capacity() throws Exception {
     assertCapacity(CAPACITY);
@@ -93,7 +208,8 @@ public class PoolingByteBufferManagerTestCase extends AbstractMuleTestCase {
 
   @Test
   public void limitTotalMemory() throws Exception {
-    final long maxMemory = 40L;
+    // Buffers are accounted by their size class, so use a capacity that is already a power of two
+    final long maxMemory = 64L;
     final int bufferCapacity = toIntExact(maxMemory / 4);
     final long waitTimeoutMillis = SECONDS.toMillis(2);
 
@@ -107,7 +223,7 @@ public class PoolingByteBufferManagerTestCase extends AbstractMuleTestCase {
 
   @Test
   public void limitTotalMemoryThroughSystemProperty() throws Exception {
-    final long maxMemory = 40;
+    final long maxMemory = 64;
     final int bufferCapacity = toIntExact(maxMemory / 4);
     final long waitTimeoutMillis = SECONDS.toMillis(2);
 
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.transformer;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.api.metadata.DataType.BYTE_ARRAY;
+import static org.mule.runtime.api.metadata.DataType.INPUT_STREAM;
+import static org.mule.runtime.api.metadata.DataType.STRING;
+
+import org.mule.runtime.api.metadata.DataType;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+@SmallTest
+public class TransformerResolutionIndexTestCase extends AbstractMuleTestCase {
+
+  private final TransformerResolutionIndex<Object> index = new TransformerResolutionIndex<>(2);
+  private final AtomicInteger resolutions = new AtomicInteger();
+
+  @Test
+  public void keepsResolved() {
+    Object resolved = index.resolve(STRING, BYTE_ARRAY, this::resolve);
+
+    assertThat(index.resolve(STRING, BYTE_ARRAY, this::resolve), is(sameInstance(resolved)));
+    assertThat(resolutions.get(), is(1));
+  }
+
+  @Test
+  public void keepsNotResolved() {
+    assertThat(index.resolve(STRING, BYTE_ARRAY, this::resolveNothing), is(nullValue()));
+    assertThat(index.resolve(STRING, BYTE_ARRAY, this::resolveNothing), is(nullValue()));
+    assertThat(resolutions.get(), is(1));
+    assertThat(index.size(), is(1));
+  }
+
+  @Test
+  public void keyedByEqualDataTypes() {
+    DataType source = DataType.builder().type(String.class).mediaType("text/plain").build();
+    DataType equalSource = DataType.builder().type(String.class).mediaType("text/plain").build();
+
+    Object resolved = index.resolve(source, BYTE_ARRAY, this::resolve);
+
+    assertThat(index.resolve(equalSource, BYTE_ARRAY, this::resolve), is(sameInstance(resolved)));
+    assertThat(resolutions.get(), is(1));
+  }
+
+  @Test
+  public void pairsAreOrdered() {
+    index.resolve(STRING, BYTE_ARRAY, this::resolve);
+    index.resolve(BYTE_ARRAY, STRING, this::resolve);
+
+    assertThat(resolutions.get(), is(2));
+  }
+
+  @Test
+  public void invalidate() {
+    Object resolved = index.resolve(STRING, BYTE_ARRAY, this::resolve);
+    index.invalidate();
+
+    assertThat(index.size(), is(0));
+    assertThat(index.resolve(STRING, BYTE_ARRAY, this::resolve), is(not(sameInstance(resolved))));
+    assertThat(resolutions.get(), is(2));
+  }
+
+  @Test
+  public void failuresNotKept() {
+    try {
+      index.resolve(STRING, BYTE_ARRAY, (source, result) -> {
+        throw new ResolverException(createStaticMessage("Failed"));
+      });
+    } catch (ResolverException e) {
+      // expected
+    }
+
+    assertThat(index.size(), is(0));
+    index.resolve(STRING, BYTE_ARRAY, this::resolve);
+    assertThat(resolutions.get(), is(1));
+  }
+
+  @Test
+  public void bounded() {
+    index.resolve(STRING, BYTE_ARRAY, this::resolve);
+    index.resolve(STRING, INPUT_STREAM, this::resolve);
+    index.resolve(BYTE_ARRAY, STRING, this::resolve);
+    index.resolve(BYTE_ARRAY, STRING, this::resolve);
+
+    assertThat(index.size(), is(2));
+    assertThat(resolutions.get(), is(4));
+  }
+
+  private Object resolve(DataType source, DataType result) {
+    resolutions.incrementAndGet();
+    return new Object();
+  }
+
+  private Object resolveNothing(DataType source, DataType result) {
+    resolutions.incrementAndGet();
+    return null;
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.transformer.compression;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.commons.io.IOUtils.toByteArray;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.Test;
+
+@SmallTest
+public class GZIPStreamsTestCase extends AbstractMuleTestCase {
+
+  private static final byte[] PAYLOAD = RandomStringUtils.randomAlphanumeric(100 * 1024).getBytes(UTF_8);
+
+  @Test
+  public void roundTrip() throws Exception {
+    assertThat(uncompress(compress(PAYLOAD)), is(PAYLOAD));
+  }
+
+  @Test
+  public void compressedReadableByJdk() throws Exception {
+    try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compress(PAYLOAD)))) {
+      assertThat(toByteArray(in), is(PAYLOAD));
+    }
+  }
+
+  @Test
+  public void uncompressFromJdkWithHeaderFields() throws Exception {
+    // The JDK stream writes no optional header fields, so add a file name and a header CRC by hand
+    byte[] jdkCompressed = jdkCompress(PAYLOAD);
+    ByteArrayOutputStream withFields = new ByteArrayOutputStream();
+    withFields.write(jdkCompressed, 0, 3);
+    withFields.write(8 | 2);
+    withFields.write(jdkCompressed, 4, 6);
+    withFields.write("payload.txt\0".getBytes(UTF_8));
+    CRC32 headerCrc = new CRC32();
+    headerCrc.update(withFields.toByteArray());
+    withFields.write((int) headerCrc.getValue() & 0xff);
+    withFields.write((int) (headerCrc.getValue() >> 8) & 0xff);
+    withFields.write(jdkCompressed, 10, jdkCompressed.length - 10);
+
+    assertThat(uncompress(withFields.toByteArray()), is(PAYLOAD));
+  }
+
+  @Test
+  public void uncompressConcatenatedMembers() throws Exception {
+    ByteArrayOutputStream concatenated = new ByteArrayOutputStream();
+    concatenated.write(compress(PAYLOAD));
+    concatenated.write(jdkCompress(PAYLOAD));
+
+    ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    expected.write(PAYLOAD);
+    expected.write(PAYLOAD);
+
+    assertThat(uncompress(concatenated.toByteArray()), is(expected.toByteArray()));
+  }
+
+  @Test(expected = ZipException.class)
+  public void corruptTrailer() throws Exception {
+    byte[] compressed = compress(PAYLOAD);
+    compressed[compressed.length - 5]++;
+    uncompress(compressed);
+  }
+
+  @Test(expected = ZipException.class)
+  public void notCompressed() throws Exception {
+    uncompress(PAYLOAD);
+  }
+
+  @Test
+  public void reuseAfterClose() throws Exception {
+    for (int i = 0; i < 50; ++i) {
+      byte[] payload = RandomStringUtils.randomAlphanumeric(i * 100).getBytes(UTF_8);
+      assertThat(uncompress(compress(payload)), is(payload));
+    }
+  }
+
+  @Test
+  public void closeTwice() throws Exception {
+    InputStream compressor = new GZIPCompressorInputStream(new ByteArrayInputStream(PAYLOAD));
+    compressor.close();
+    compressor.close();
+
+    InputStream decompressor = new GZIPDecompressorInputStream(new ByteArrayInputStream(jdkCompress(PAYLOAD)));
+    decompressor.close();
+    decompressor.close();
+  }
+
+  private byte[] compress(byte[] data) throws IOException {
+    try (InputStream in = new GZIPCompressorInputStream(new ByteArrayInputStream(data))) {
+      return toByteArray(in);
+    }
+  }
+
+  private byte[] uncompress(byte[] data) throws IOException {
+    try (InputStream in = new GZIPDecompressorInputStream(new ByteArrayInputStream(data))) {
+      return toByteArray(in);
+    }
+  }
+
+  private byte[] jdkCompress(byte[] data) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(data);
+    }
+    return out.toByteArray();
+  }
+}
@@ -19,6 +19,7 @@ import static org.mule.runtime.api.metadata.DataType.TEXT_STRING;
 import static org.mule.runtime.api.metadata.MediaType.APPLICATION_JAVA;
 import static org.mule.runtime.api.metadata.MediaType.APPLICATION_JSON;
 import static org.mule.runtime.core.api.util.IOUtils.toByteArray;
+import static org.mule.runtime.core.internal.metadata.DefaultDataTypeBuilder.dataTypeOf;
 import static org.mule.tck.junit4.matcher.DataTypeCompatibilityMatcher.assignableTo;
 import static org.mule.tck.probe.PollingProber.DEFAULT_POLLING_INTERVAL;
 
@@ -27,6 +28,7 @@ import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasSize;
@@ -360,6 +362,30 @@ public class DataTypeBuilderTestCase extends AbstractMuleTestCase {
     assertThat(builder1.build(), sameInstance(builder2.build()));
   }
 
+  @Test
+  public void internedInstancesWithMediaType() {
+    final DataType dataType = DataType.builder().type(String.class).mediaType(APPLICATION_JSON).charset(UTF_8).build();
+
+    assertThat(DataType.builder().type(String.class).mediaType(APPLICATION_JSON).charset(UTF_8).build(),
+               sameInstance(dataType));
+    assertThat(DataType.builder().type(String.class).mediaType(APPLICATION_JSON).charset(US_ASCII).build(),
+               is(not(sameInstance(dataType))));
+  }
+
+  @Test
+  public void dataTypeOfValue() {
+    assertThat(dataTypeOf(null), equalTo(DataType.fromObject(null)));
+    assertThat(dataTypeOf("test"), sameInstance(DataType.fromObject("test")));
+    assertThat(dataTypeOf(new ArrayList<>()), sameInstance(DataType.fromObject(new ArrayList<>())));
+    assertThat(dataTypeOf(new HashMap<>()), sameInstance(DataType.fromObject(new HashMap<>())));
+    assertThat(dataTypeOf(new ArrayList<>()), instanceOf(DefaultCollectionDataType.class));
+    assertThat(dataTypeOf(new HashMap<>()), instanceOf(DefaultMapDataType.class));
+
+    final Message muleMessageProxy = mock(Message.class);
+    assertThat(dataTypeOf(muleMessageProxy), equalTo(DataType.fromObject(muleMessageProxy)));
+    assertThat(dataTypeOf(muleMessageProxy).getType(), equalTo(Message.class));
+  }
+
   @Test
   public void cacheClean() throws InterruptedException, ClassNotFoundException {
     ClassLoader custom = new ClassLoader(this.getClass().getClassLoader()) {
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.util;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import org.junit.Test;
+
+@SmallTest
+public class AgingBloomFilterTestCase extends AbstractMuleTestCase {
+
+  private long currentNanoTime = MILLISECONDS.toNanos(1);
+
+  @Test
+  public void addReportsDefinitelyNew() {
+    AgingBloomFilter filter = new AgingBloomFilter(100, 0.01);
+
+    assertThat(filter.mightContain("id"), is(false));
+    assertThat(filter.add("id"), is(true));
+    assertThat(filter.add("id"), is(false));
+    assertThat(filter.mightContain("id"), is(true));
+  }
+
+  @Test
+  public void noFalseNegativesBeyondExpectedInsertions() {
+    AgingBloomFilter filter = new AgingBloomFilter(10, 0.01);
+
+    for (int i = 0; i < 1000; ++i) {
+      filter.add("id" + i);
+    }
+
+    for (int i = 0; i < 1000; ++i) {
+      assertThat(filter.mightContain("id" + i), is(true));
+    }
+  }
+
+  @Test
+  public void falsePositivesStayBoundedWhenGrowing() {
+    AgingBloomFilter filter = new AgingBloomFilter(100, 0.01);
+
+    for (int i = 0; i < 10000; ++i) {
+      filter.add("id" + i);
+    }
+
+    int falsePositives = 0;
+    for (int i = 0; i < 10000; ++i) {
+      if (filter.mightContain("other" + i)) {
+        falsePositives++;
+      }
+    }
+    assertThat(falsePositives, lessThan(200));
+  }
+
+  @Test
+  public void elementsKeptForMaxAge() {
+    AgingBloomFilter filter = createAgingFilter(100);
+
+    filter.add("id");
+    currentNanoTime += MILLISECONDS.toNanos(99);
+    assertThat(filter.mightContain("id"), is(true));
+  }
+
+  @Test
+  public void elementsForgottenAfterMaxAge() {
+    AgingBloomFilter filter = createAgingFilter(100);
+
+    filter.add("id");
+    for (int i = 0; i < 10; ++i) {
+      currentNanoTime += MILLISECONDS.toNanos(25);
+      filter.add("other" + i);
+    }
+
+    assertThat(filter.mightContain("id"), is(false));
+    assertThat(filter.mightContain("other9"), is(true));
+  }
+
+  private AgingBloomFilter createAgingFilter(long maxAgeMillis) {
+    return new AgingBloomFilter(100, 0.01, maxAgeMillis, MILLISECONDS) {
+
+      @Override
+      protected long getCurrentNanoTime() {
+        return currentNanoTime;
+      }
+    };
+  }
+}
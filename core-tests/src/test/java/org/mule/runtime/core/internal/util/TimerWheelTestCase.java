@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.util;
+
+import static java.util.concurrent.TimeUnit.DAYS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.mule.runtime.core.internal.util.TimerWheel.Timeout;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+@SmallTest
+public class TimerWheelTestCase extends AbstractMuleTestCase {
+
+  private long currentNanoTime = MILLISECONDS.toNanos(1);
+
+  private TimerWheel<String> wheel;
+  private final List<String> expired = new ArrayList<>();
+
+  @Before
+  public void before() {
+    wheel = new TimerWheel<String>(10, MILLISECONDS, 8) {
+
+      @Override
+      protected long getCurrentNanoTime() {
+        return currentNanoTime;
+      }
+    };
+  }
+
+  @Test
+  public void expiresAfterDelay() {
+    wheel.schedule("a", 50, MILLISECONDS);
+
+    elapse(40);
+    wheel.advance(expired::add);
+    assertThat(expired, is(empty()));
+
+    elapse(10);
+    wheel.advance(expired::add);
+    assertThat(expired, contains("a"));
+
+    elapse(100);
+    wheel.advance(expired::add);
+    assertThat(expired, contains("a"));
+  }
+
+  @Test
+  public void expiresAfterSeveralRounds() {
+    wheel.schedule("a", 200, MILLISECONDS);
+
+    for (int i = 0; i < 19; ++i) {
+      elapse(10);
+      wheel.advance(expired::add);
+    }
+    assertThat(expired, is(empty()));
+
+    elapse(10);
+    wheel.advance(expired::add);
+    assertThat(expired, contains("a"));
+  }
+
+  @Test
+  public void expiresWhenAdvancedLate() {
+    wheel.schedule("a", 30, MILLISECONDS);
+    wheel.schedule("b", 500, MILLISECONDS);
+
+    elapse(1000);
+    wheel.advance(expired::add);
+    assertThat(expired, containsInAnyOrder("a", "b"));
+  }
+
+  @Test
+  public void expiresNonPositiveDelayOnNextAdvance() {
+    elapse(30);
+    wheel.advance(expired::add);
+
+    wheel.schedule("a", -100, MILLISECONDS);
+    wheel.advance(expired::add);
+    assertThat(expired, contains("a"));
+  }
+
+  @Test
+  public void cancelled() {
+    Timeout<String> timeout = wheel.schedule("a", 20, MILLISECONDS);
+    wheel.schedule("b", 20, MILLISECONDS);
+
+    assertThat(timeout.cancel(), is(true));
+    assertThat(timeout.cancel(), is(false));
+
+    elapse(50);
+    wheel.advance(expired::add);
+    assertThat(expired, contains("b"));
+  }
+
+  @Test
+  public void hugeDelayNeverExpires() {
+    elapse(30);
+    wheel.schedule("a", Long.MAX_VALUE, DAYS);
+
+    elapse(1000);
+    wheel.advance(expired::add);
+    assertThat(expired, is(empty()));
+  }
+
+  @Test
+  public void allExpired() {
+    Timeout<String> timeout = wheel.schedule("a", 20, MILLISECONDS);
+    wheel.schedule("b", 500, MILLISECONDS);
+    wheel.schedule("c", 20, MILLISECONDS);
+    timeout.cancel();
+
+    wheel.expireAll(expired::add);
+    assertThat(expired, containsInAnyOrder("b", "c"));
+
+    elapse(1000);
+    wheel.advance(expired::add);
+    assertThat(expired, containsInAnyOrder("b", "c"));
+  }
+
+  private void elapse(long millis) {
+    currentNanoTime += MILLISECONDS.toNanos(millis);
+  }
+}
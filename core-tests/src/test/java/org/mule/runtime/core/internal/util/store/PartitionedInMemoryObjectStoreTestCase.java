@@ -6,15 +6,24 @@
  */
 package org.mule.runtime.core.internal.util.store;
 
+import static java.util.Arrays.asList;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasSize;
 import static org.junit.Assert.assertThat;
 import org.mule.runtime.api.store.ObjectStoreException;
 import org.mule.runtime.core.internal.store.PartitionedInMemoryObjectStore;
 import org.mule.tck.junit4.AbstractMuleTestCase;
 import org.mule.tck.size.SmallTest;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -88,5 +97,46 @@ public class PartitionedInMemoryObjectStoreTestCase extends AbstractMuleTestCase
     assertThat(store.retrieve(TEST_KEY3, TEST_PARTITION), equalTo(TEST_VALUE));
   }
 
+  @Test
+  public void storeAllSkipsExistingKeys() throws ObjectStoreException {
+    store.store(TEST_KEY1, "previousValue", TEST_PARTITION);
+
+    Map<String, String> entries = new LinkedHashMap<>();
+    entries.put(TEST_KEY1, TEST_VALUE);
+    entries.put(TEST_KEY2, TEST_VALUE);
+
+    Set<String> existing = store.storeAll(entries, TEST_PARTITION);
+
+    assertThat(existing, contains(TEST_KEY1));
+    assertThat(store.retrieve(TEST_KEY1, TEST_PARTITION), equalTo("previousValue"));
+    assertThat(store.retrieve(TEST_KEY2, TEST_PARTITION), equalTo(TEST_VALUE));
+  }
+
+  @Test
+  public void containsAndRetrieveAll() throws ObjectStoreException {
+    store.store(TEST_KEY1, TEST_VALUE, TEST_PARTITION);
+    store.store(TEST_KEY2, TEST_VALUE, TEST_PARTITION);
+
+    assertThat(store.containsAll(asList(TEST_KEY1, TEST_KEY2, TEST_KEY3), TEST_PARTITION),
+               containsInAnyOrder(TEST_KEY1, TEST_KEY2));
+
+    Map<String, String> values = store.retrieveAll(asList(TEST_KEY2, TEST_KEY3), TEST_PARTITION);
+    assertThat(values.size(), is(1));
+    assertThat(values, hasEntry(TEST_KEY2, TEST_VALUE));
+  }
+
+  @Test
+  public void removeAllUpdatesExpiryInfo() throws ObjectStoreException {
+    store.store(TEST_KEY1, TEST_VALUE, TEST_PARTITION);
+    store.store(TEST_KEY2, TEST_VALUE, TEST_PARTITION);
+    store.store(TEST_KEY3, TEST_VALUE, TEST_PARTITION);
+
+    Map<String, String> removed = store.removeAll(asList(TEST_KEY1, TEST_KEY2, "missingKey"), TEST_PARTITION);
+    assertThat(removed.keySet(), containsInAnyOrder(TEST_KEY1, TEST_KEY2));
+
+    store.expire(10, 1, TEST_PARTITION);
+    assertThat(store.allKeys(TEST_PARTITION), hasSize(1));
+    assertThat(store.retrieve(TEST_KEY3, TEST_PARTITION), equalTo(TEST_VALUE));
+  }
 
 }
@@ -7,6 +7,7 @@
 
 package org.mule.runtime.core.internal.util.store;
 
+import static java.util.Arrays.asList;
 import static junit.framework.Assert.assertFalse;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -32,6 +33,10 @@ import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
 import java.io.File;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 
 @SmallTest
 @RunWith(MockitoJUnitRunner.class)
@@ -107,6 +112,32 @@ public class PersistentObjectStorePartitionTestCase extends AbstractMuleTestCase
     assertFalse(partition.contains(KEY));
   }
 
+  @Test
+  public void bulkOperations() throws Exception {
+    partition.store("key1", "previous");
+
+    Map<String, Serializable> entries = new HashMap<>();
+    entries.put("key1", "value1");
+    entries.put("key2", "value2");
+    entries.put("key3", "value3");
+
+    Set<String> existing = partition.storeAll(entries);
+    assertEquals(1, existing.size());
+    assertTrue(existing.contains("key1"));
+    assertEquals("previous", partition.retrieve("key1"));
+
+    assertEquals(2, partition.containsAll(asList("key2", "key3", "key4")).size());
+    assertEquals("value2", partition.retrieveAll(asList("key2", "key4")).get("key2"));
+
+    Map<String, Serializable> removed = partition.removeAll(asList("key1", "key2", "key4"));
+    assertEquals(2, removed.size());
+    assertEquals("previous", removed.get("key1"));
+    assertFalse(partition.contains("key2"));
+    assertTrue(partition.contains("key3"));
+    // the partition descriptor plus the only remaining entry
+    assertEquals(2, objectStoreFolder.getRoot().listFiles().length);
+  }
+
   @Test
   public void clearBeforeLoading() throws Exception {
     partition.clear();
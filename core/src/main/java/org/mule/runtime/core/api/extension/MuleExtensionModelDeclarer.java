@@ -16,6 +16,7 @@ import static org.mule.runtime.api.meta.model.display.PathModel.Location.EMBEDDE
 import static org.mule.runtime.api.meta.model.display.PathModel.Type.FILE;
 import static org.mule.runtime.api.meta.model.error.ErrorModelBuilder.newError;
 import static org.mule.runtime.api.meta.model.parameter.ParameterRole.BEHAVIOUR;
+import static org.mule.runtime.api.meta.model.stereotype.StereotypeModelBuilder.newStereotype;
 import static org.mule.runtime.core.api.exception.Errors.ComponentIdentifiers.Handleable.ANY;
 import static org.mule.runtime.core.api.exception.Errors.ComponentIdentifiers.Handleable.CLIENT_SECURITY;
 import static org.mule.runtime.core.api.exception.Errors.ComponentIdentifiers.Handleable.COMPOSITE_ROUTING;
@@ -81,6 +82,7 @@ import org.mule.runtime.api.meta.model.display.LayoutModel;
 import org.mule.runtime.api.meta.model.display.PathModel;
 import org.mule.runtime.api.meta.model.error.ErrorModel;
 import org.mule.runtime.api.meta.model.parameter.ParameterRole;
+import org.mule.runtime.api.meta.model.stereotype.StereotypeModel;
 import org.mule.runtime.api.store.ObjectStore;
 import org.mule.runtime.core.api.source.scheduler.CronScheduler;
 import org.mule.runtime.core.api.source.scheduler.FixedFrequencyScheduler;
@@ -100,6 +102,8 @@ import com.google.gson.reflect.TypeToken;
  */
 class MuleExtensionModelDeclarer {
 
+  static final StereotypeModel FORK_JOIN_STRATEGY = newStereotype("FORK_JOIN_STRATEGY", CORE_PREFIX.toUpperCase()).build();
+
   final ErrorModel anyError = newError(ANY).build();
   final ErrorModel routingError = newError(ROUTING).withParent(anyError).build();
   final ErrorModel compositeRoutingError = newError(COMPOSITE_ROUTING).withParent(routingError).build();
@@ -222,6 +226,16 @@ class MuleExtensionModelDeclarer {
         .withExpressionSupport(NOT_SUPPORTED)
         .describedAs("Defines the prefix of the object store names. This will only be used for the internally built object store.");
 
+    validator.onDefaultParameterGroup()
+        .withOptionalParameter("enableBloomFilter")
+        .ofType(typeLoader.load(boolean.class))
+        .defaultingTo(false)
+        .withExpressionSupport(NOT_SUPPORTED)
+        .describedAs("Whether to check the IDs against an in-memory bloom filter before going to the object store. IDs which are "
+            + "definitely new are accepted right away and written to the object store in batches, and only possible duplicates "
+            + "are checked against it. Should not be enabled when the object store is shared with other validators or nodes. "
+            + "Default is false.");
+
     validator.onDefaultParameterGroup().withOptionalParameter("objectStore").withDsl(
                                                                                      ParameterDslConfiguration.builder()
                                                                                          .allowsInlineDefinition(true)
@@ -449,6 +463,23 @@ class MuleExtensionModelDeclarer {
         .withExpressionSupport(NOT_SUPPORTED)
         .describedAs("Property name used to store the number of message being iterated.");
 
+    forEach.onDefaultParameterGroup()
+        .withOptionalParameter("maxConcurrency")
+        .ofType(typeLoader.load(Integer.class))
+        .defaultingTo(1)
+        .withExpressionSupport(NOT_SUPPORTED)
+        .describedAs("The maximum amount of elements to process in parallel. Each element is processed starting from the event "
+            + "that arrived to foreach instead of the result of the previous element. Default is 1, which processes the elements "
+            + "sequentially.");
+
+    forEach.onDefaultParameterGroup()
+        .withOptionalParameter("ordered")
+        .ofType(typeLoader.load(boolean.class))
+        .defaultingTo(true)
+        .withExpressionSupport(NOT_SUPPORTED)
+        .describedAs("Whether the results of elements processed in parallel are handled in the order of the elements. Only applies "
+            + "when maxConcurrency is greater than 1. Default is true.");
+
   }
 
   private void declareUntilSuccessful(ExtensionDeclarer extensionDeclarer, ClassTypeLoader typeLoader) {
@@ -473,6 +504,30 @@ class MuleExtensionModelDeclarer {
         .describedAs("Specifies the minimum time interval between two process retries in milliseconds.\n" +
             " The actual time interval depends on the previous execution but should not exceed twice this number.\n" +
             " Default value is 60000 (one minute)");
+
+    untilSuccessful.onDefaultParameterGroup()
+        .withOptionalParameter("backoffMultiplier")
+        .ofType(typeLoader.load(Double.class))
+        .defaultingTo(1.0)
+        .withExpressionSupport(NOT_SUPPORTED)
+        .describedAs("Specifies the factor by which the time between retries is multiplied after each retry. Must not be lower "
+            + "than 1. Default value is 1, which keeps the time between retries constant.");
+
+    untilSuccessful.onDefaultParameterGroup()
+        .withOptionalParameter("jitterFactor")
+        .ofType(typeLoader.load(Double.class))
+        .defaultingTo(0.0)
+        .withExpressionSupport(NOT_SUPPORTED)
+        .describedAs("Specifies the fraction of the time between retries that is randomly added to or subtracted from it. Must be "
+            + "between 0 and 1. Default value is 0, which applies no randomization.");
+
+    untilSuccessful.onDefaultParameterGroup()
+        .withOptionalParameter("maxConcurrency")
+        .ofType(typeLoader.load(Integer.class))
+        .defaultingTo(256)
+        .withExpressionSupport(NOT_SUPPORTED)
+        .describedAs("Specifies the maximum number of events being routed or waiting for a retry at the same time. Once reached, "
+            + "no more events are accepted until one of them finishes. Default value is 256.");
   }
 
   private void declareChoice(ExtensionDeclarer extensionDeclarer, ClassTypeLoader typeLoader) {
@@ -537,6 +592,9 @@ class MuleExtensionModelDeclarer {
         .withErrorModel(compositeRoutingError);
 
     scatterGather.withRoute("route").withMinOccurs(2).withChain();
+    scatterGather.withOptionalComponent("forkJoinStrategy")
+        .withAllowedStereotypes(FORK_JOIN_STRATEGY)
+        .describedAs("Strategy that determines how multiple routes should be processed and how their results are aggregated.");
 
     scatterGather.onDefaultParameterGroup()
         .withOptionalParameter("timeout")
@@ -570,6 +628,36 @@ class MuleExtensionModelDeclarer {
 
     // TODO MULE-13316 Define error model (Routers should be able to define error type(s) thrown in ModelDeclarer but
     // ConstructModel doesn't support it.)
+
+    extensionDeclarer.withConstruct("collectList")
+        .withStereotype(FORK_JOIN_STRATEGY)
+        .describedAs("Waits for all the routes, and returns a list with the result messages in the order of the routes.");
+
+    ConstructDeclarer collectIterator = extensionDeclarer.withConstruct("collectIterator")
+        .withStereotype(FORK_JOIN_STRATEGY)
+        .describedAs("Collects the results of the routes as they complete, and returns a repeatable iterator over the result "
+            + "messages, in order of completion.");
+
+    collectIterator.onDefaultParameterGroup()
+        .withOptionalParameter("completionCount")
+        .ofType(typeLoader.load(Integer.class))
+        .defaultingTo(Integer.MAX_VALUE)
+        .withExpressionSupport(NOT_SUPPORTED)
+        .describedAs("The number of successful routes after which the outstanding routes are cancelled. Errors of the other "
+            + "routes are only raised if this number is not reached.");
+    collectIterator.onDefaultParameterGroup()
+        .withOptionalParameter("maxRouteResultSize")
+        .ofType(typeLoader.load(Integer.class))
+        .defaultingTo(0)
+        .withExpressionSupport(NOT_SUPPORTED)
+        .describedAs("The maximum amount of memory used to buffer a streamed route result. A value lower or equal to zero means "
+            + "that the default streaming buffer is used.");
+    collectIterator.onDefaultParameterGroup()
+        .withOptionalParameter("bufferUnit")
+        .ofType(BaseTypeBuilder.create(JAVA).stringType().enumOf("BYTE", "KB", "MB", "GB").build())
+        .defaultingTo("KB")
+        .withExpressionSupport(NOT_SUPPORTED)
+        .describedAs("The unit in which maxRouteResultSize is expressed.");
   }
 
   private void declareTry(ExtensionDeclarer extensionDeclarer, ClassTypeLoader typeLoader) {
@@ -15,6 +15,9 @@ import org.apache.commons.collections.ArrayStack;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
 public final class TransactionCoordination {
 
   protected static final Logger logger = LoggerFactory.getLogger(TransactionCoordination.class);
@@ -30,11 +33,7 @@ public final class TransactionCoordination {
   private final ThreadLocal<Transaction> suspendedTransaction = new ThreadLocal<>();
   private final ThreadLocal<ArrayStack> isolatedTransactions = new ThreadLocal<>();
 
-  /** Lock variable that is used to access {@link #txCounter}. */
-  private final Object txCounterLock = new Object();
-
-  /** The access to this field is guarded by {@link #txCounterLock}. */
-  private int txCounter = 0;
+  private final AtomicInteger txCounter = new AtomicInteger();
 
   /** Do not instanciate. */
   private TransactionCoordination() {
@@ -63,13 +62,7 @@ public final class TransactionCoordination {
   }
 
   private void logTransactionUnbound(final Transaction transaction) {
-    // We store the txCounter in a local variable to minimize locking
-    int txCounter = 0;
-    synchronized (txCounterLock) {
-      if (this.txCounter > 0) {
-        txCounter = --this.txCounter;
-      }
-    }
+    int txCounter = this.txCounter.updateAndGet(count -> count > 0 ? count - 1 : 0);
 
     if (logger.isDebugEnabled()) {
       logger.debug("Unbinding transaction (" + txCounter + ") " + transaction);
@@ -98,17 +91,40 @@ public final class TransactionCoordination {
   }
 
   private void logTransactionBound(final Transaction transaction) {
-    // We store the txCounter in a local variable to minimize locking
-    int txCounter;
-    synchronized (txCounterLock) {
-      txCounter = ++this.txCounter;
-    }
+    int txCounter = this.txCounter.incrementAndGet();
 
     if (logger.isDebugEnabled()) {
       logger.debug("Binding new transaction (" + txCounter + ") " + transaction);
     }
   }
 
+  /**
+   * Runs {@code task} in the current thread with {@code transaction} bound to it, as the continuation of processing that started
+   * in a different thread, restoring the transaction previously bound to the current thread afterwards.
+   * <p>
+   * Unlike {@link #bindTransaction(Transaction)}, this does not begin a new association for the transaction, so it does not
+   * count as a new transaction. Only one thread at a time is expected to make use of the transaction.
+   *
+   * @param transaction the transaction to bind during the execution of {@code task}
+   * @param task the task to run
+   * @return the result of {@code task}
+   * @throws Exception if {@code task} fails
+   * @since 4.2
+   */
+  public <T> T continueTransaction(Transaction transaction, Callable<T> task) throws Exception {
+    Transaction previousTx = transactions.get();
+    transactions.set(transaction);
+    try {
+      return task.call();
+    } finally {
+      if (previousTx == null) {
+        transactions.remove();
+      } else {
+        transactions.set(previousTx);
+      }
+    }
+  }
+
   public void resumeXaTransactionIfAvailable() {
     try {
       Transaction tx = suspendedTransaction.get();
@@ -6,16 +6,15 @@
  */
 package org.mule.runtime.core.api.util.compression;
 
-import static org.apache.commons.io.IOUtils.copy;
 import static org.mule.runtime.core.api.util.IOUtils.closeQuietly;
 
 import org.mule.runtime.core.internal.transformer.compression.GZIPCompressorInputStream;
+import org.mule.runtime.core.internal.transformer.compression.GZIPDecompressorInputStream;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
 
 import org.apache.commons.io.output.ByteArrayOutputStream;
 import org.slf4j.Logger;
@@ -54,8 +53,8 @@ public final class GZipCompression implements CompressionStrategy {
    * 
    * @param bytes An array of bytes to compress
    * @return a compressed byte array
-   * @throws java.io.IOException if it fails to write to a GZIPOutputStream
-   * @see java.util.zip.GZIPOutputStream
+   * @throws java.io.IOException if it fails to compress the data
+   * @see GZIPCompressorInputStream
    */
   public byte[] compressByteArray(byte[] bytes) throws IOException {
     // TODO add strict behaviour as option
@@ -71,31 +70,13 @@ public final class GZipCompression implements CompressionStrategy {
       logger.debug("Compressing message of size: " + bytes.length);
     }
 
-    ByteArrayOutputStream baos = null;
-    GZIPOutputStream gzos = null;
+    byte[] compressedByteArray = copyToByteArray(compressInputStream(new ByteArrayInputStream(bytes)));
 
-    try {
-      baos = new ByteArrayOutputStream(DEFAULT_BUFFER_SIZE);
-      gzos = new GZIPOutputStream(baos);
-
-      gzos.write(bytes, 0, bytes.length);
-      gzos.finish();
-      gzos.close();
-
-      byte[] compressedByteArray = baos.toByteArray();
-      baos.close();
-
-      if (logger.isDebugEnabled()) {
-        logger.debug("Compressed message to size: " + compressedByteArray.length);
-      }
-
-      return compressedByteArray;
-    } catch (IOException ioex) {
-      throw ioex;
-    } finally {
-      closeQuietly(gzos);
-      closeQuietly(baos);
+    if (logger.isDebugEnabled()) {
+      logger.debug("Compressed message to size: " + compressedByteArray.length);
     }
+
+    return compressedByteArray;
   }
 
   public InputStream compressInputStream(InputStream is) throws IOException {
@@ -107,8 +88,8 @@ public final class GZipCompression implements CompressionStrategy {
    * 
    * @param bytes An array of bytes to uncompress
    * @return an uncompressed byte array
-   * @throws java.io.IOException if it fails to read from a GZIPInputStream
-   * @see java.util.zip.GZIPInputStream
+   * @throws java.io.IOException if it fails to uncompress the data
+   * @see GZIPDecompressorInputStream
    */
   public byte[] uncompressByteArray(byte[] bytes) throws IOException {
     if (!isCompressed(bytes)) {
@@ -123,38 +104,28 @@ public final class GZipCompression implements CompressionStrategy {
       logger.debug("Uncompressing message of size: " + bytes.length);
     }
 
-    ByteArrayInputStream bais = null;
-    GZIPInputStream gzis = null;
-    ByteArrayOutputStream baos = null;
-
-    try {
-      bais = new ByteArrayInputStream(bytes);
-      gzis = new GZIPInputStream(bais);
-      baos = new ByteArrayOutputStream(DEFAULT_BUFFER_SIZE);
+    byte[] uncompressedByteArray = copyToByteArray(uncompressInputStream(new ByteArrayInputStream(bytes)));
 
-      copy(gzis, baos);
-      gzis.close();
-      bais.close();
+    if (logger.isDebugEnabled()) {
+      logger.debug("Uncompressed message to size: " + uncompressedByteArray.length);
+    }
 
-      byte[] uncompressedByteArray = baos.toByteArray();
-      baos.close();
+    return uncompressedByteArray;
+  }
 
-      if (logger.isDebugEnabled()) {
-        logger.debug("Uncompressed message to size: " + uncompressedByteArray.length);
-      }
+  public InputStream uncompressInputStream(InputStream is) throws IOException {
+    return new GZIPDecompressorInputStream(is);
+  }
 
-      return uncompressedByteArray;
-    } catch (IOException ioex) {
-      throw ioex;
+  private byte[] copyToByteArray(InputStream is) throws IOException {
+    try {
+      // This output stream grows by adding buffers instead of copying the already written data to a bigger one
+      ByteArrayOutputStream baos = new ByteArrayOutputStream(DEFAULT_BUFFER_SIZE);
+      baos.write(is);
+      return baos.toByteArray();
     } finally {
-      closeQuietly(gzis);
-      closeQuietly(bais);
-      closeQuietly(baos);
+      closeQuietly(is);
     }
   }
 
-  public InputStream uncompressInputStream(InputStream is) throws IOException {
-    return new GZIPInputStream(is);
-  }
-
 }
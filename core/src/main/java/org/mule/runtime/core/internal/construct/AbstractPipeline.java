@@ -230,13 +230,13 @@ public abstract class AbstractPipeline extends AbstractFlowConstruct implements
         } else {
           // If Event is not accepted and the back-pressure strategy is FAIL then respond to Source with an OVERLOAD error.
           FlowBackPressureException rejectedExecutionException = new FlowBackPressureException(getName());
-          return Mono.error(exceptionResolver.resolve(new MessagingException(builder(event)
+          return Mono.error(exceptionResolver.resolve(builder(event)
               .error(ErrorBuilder.builder().errorType(overloadErrorType)
                   .description(format("Flow '%s' Busy.", getName()))
                   .detailedDescription(format(BACK_PRESSURE_ERROR_MESSAGE, getName()))
                   .exception(rejectedExecutionException)
                   .build())
-              .build(), rejectedExecutionException, this), muleContext));
+              .build(), rejectedExecutionException, muleContext));
         }
       });
     }
@@ -43,6 +43,7 @@ import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNee
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.startIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
 import static org.mule.runtime.core.api.util.UUID.getClusterUUID;
+import static org.mule.runtime.core.internal.lifecycle.ParallelLifecycleExecutor.isAppliedOnBehalfOf;
 import static org.mule.runtime.core.internal.util.FunctionalUtils.safely;
 import static org.mule.runtime.core.internal.util.JdkVersionUtils.getSupportedJdks;
 import static org.slf4j.LoggerFactory.getLogger;
@@ -186,6 +187,8 @@ public class DefaultMuleContext implements MuleContextWithRegistries, Privileged
    */
   private MuleContextLifecycleManager lifecycleManager;
   private Object lifecycleStateLock = new Object();
+  // Taken instead of lifecycleStateLock by the threads applying lifecycle on behalf of the one that holds it
+  private final Object delegatedLifecycleStateLock = new Object();
 
   private ServerNotificationManager notificationManager;
 
@@ -503,6 +506,13 @@ public class DefaultMuleContext implements MuleContextWithRegistries, Privileged
 
   @Override
   public void withLifecycleLock(Runnable command) {
+    if (isAppliedOnBehalfOf(this)) {
+      synchronized (delegatedLifecycleStateLock) {
+        command.run();
+      }
+      return;
+    }
+
     synchronized (lifecycleStateLock) {
       command.run();
     }
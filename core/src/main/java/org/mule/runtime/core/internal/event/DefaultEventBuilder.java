@@ -19,6 +19,7 @@ import static org.mule.runtime.core.api.config.i18n.CoreMessages.cannotReadPaylo
 import static org.mule.runtime.core.api.config.i18n.CoreMessages.cannotReadPayloadAsString;
 import static org.mule.runtime.core.api.config.i18n.CoreMessages.objectIsNull;
 import static org.mule.runtime.core.api.util.SystemUtils.getDefaultEncoding;
+import static org.mule.runtime.core.internal.metadata.DefaultDataTypeBuilder.dataTypeOf;
 import static org.mule.runtime.core.internal.util.message.ItemSequenceInfoUtils.fromGroupCorrelation;
 import static org.mule.runtime.core.internal.util.message.ItemSequenceInfoUtils.toGroupCorrelation;
 
@@ -122,7 +123,7 @@ public class DefaultEventBuilder implements InternalEvent.Builder {
 
   @Override
   public DefaultEventBuilder addVariable(String key, Object value) {
-    flowVariables.put(key, new TypedValue<>(value, DataType.fromObject(value)));
+    flowVariables.put(key, new TypedValue<>(value, dataTypeOf(value)));
     this.modified = true;
     return this;
 
@@ -243,7 +244,7 @@ public class DefaultEventBuilder implements InternalEvent.Builder {
   private void copyFromTo(Map<String, ?> source, Map<String, TypedValue<?>> target) {
     target.clear();
     source.forEach((s, o) -> target
-        .put(s, o instanceof TypedValue ? (TypedValue<Object>) o : new TypedValue<>(o, DataType.fromObject(o))));
+        .put(s, o instanceof TypedValue ? (TypedValue<Object>) o : new TypedValue<>(o, dataTypeOf(o))));
     this.modified = true;
   }
 
@@ -88,8 +88,7 @@ public class ErrorHandler extends AbstractMuleObjectOwner<MessagingExceptionHand
         }
         throw new MuleRuntimeException(createStaticMessage(MUST_ACCEPT_ANY_EVENT_MESSAGE));
       } catch (Exception e) {
-        return error(new MessagingExceptionResolver(this).resolve(new MessagingException(event, e, this),
-                                                                  muleContext));
+        return error(new MessagingExceptionResolver(this).resolve(event, e, muleContext));
       }
     } else {
       // This should never occur since all exceptions at this point are ME
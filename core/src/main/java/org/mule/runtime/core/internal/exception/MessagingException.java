@@ -7,8 +7,10 @@
 
 package org.mule.runtime.core.internal.exception;
 
+import static java.lang.Boolean.getBoolean;
 import static java.lang.String.format;
 import static org.apache.commons.lang3.StringUtils.abbreviate;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 import static org.mule.runtime.core.internal.config.ExceptionHelper.traverseCauseHierarchy;
 
 import org.mule.runtime.api.component.Component;
@@ -38,6 +40,22 @@ public class MessagingException extends EventProcessingException {
   public static final String PAYLOAD_INFO_KEY = "Payload";
   public static final String PAYLOAD_TYPE_INFO_KEY = "Payload Type";
 
+  /**
+   * When enabled, {@link MessagingException}s that wrap a cause don't fill in their own stack trace, which only shows the
+   * runtime internals that processed the failing component. The failing component and the stack trace of the cause are kept.
+   *
+   * @since 4.2
+   */
+  public static final String STACKLESS_MESSAGING_EXCEPTIONS_PROPERTY = SYSTEM_PROPERTY_PREFIX + "messagingException.stackless";
+
+  /**
+   * Whether {@link MessagingException}s that wrap a cause are created without a stack trace. Initialized from
+   * {@link #STACKLESS_MESSAGING_EXCEPTIONS_PROPERTY}.
+   *
+   * @since 4.2
+   */
+  public static boolean stacklessExceptions = getBoolean(STACKLESS_MESSAGING_EXCEPTIONS_PROPERTY);
+
   /**
    * Serial version
    */
@@ -53,9 +71,11 @@ public class MessagingException extends EventProcessingException {
   private boolean handled;
   private boolean inErrorHandler;
   private transient Component failingComponent;
+  private transient boolean resolved;
 
   public MessagingException(I18nMessage message, CoreEvent event) {
     super(message, event);
+    fillInStackTraceWithoutCause(null);
     extractMuleMessage(event);
     storeErrorTypeInfo();
     setMessage(generateMessage(message, null));
@@ -63,6 +83,7 @@ public class MessagingException extends EventProcessingException {
 
   public MessagingException(I18nMessage message, CoreEvent event, Component failingComponent) {
     super(message, event);
+    fillInStackTraceWithoutCause(null);
     extractMuleMessage(event);
     this.failingComponent = failingComponent;
     storeErrorTypeInfo();
@@ -71,6 +92,7 @@ public class MessagingException extends EventProcessingException {
 
   public MessagingException(I18nMessage message, CoreEvent event, Throwable cause) {
     super(message, event, cause);
+    fillInStackTraceWithoutCause(cause);
     extractMuleMessage(event);
     storeErrorTypeInfo();
     setMessage(generateMessage(message, null));
@@ -78,6 +100,7 @@ public class MessagingException extends EventProcessingException {
 
   public MessagingException(I18nMessage message, CoreEvent event, Throwable cause, Component failingComponent) {
     super(message, event, cause);
+    fillInStackTraceWithoutCause(cause);
     extractMuleMessage(event);
     this.failingComponent = failingComponent;
     storeErrorTypeInfo();
@@ -86,6 +109,7 @@ public class MessagingException extends EventProcessingException {
 
   public MessagingException(CoreEvent event, Throwable cause) {
     super(event, cause);
+    fillInStackTraceWithoutCause(cause);
     extractMuleMessage(event);
     storeErrorTypeInfo();
     setMessage(generateMessage(getI18nMessage(), null));
@@ -93,6 +117,7 @@ public class MessagingException extends EventProcessingException {
 
   public MessagingException(CoreEvent event, MessagingException original) {
     super(original.getI18nMessage(), event, original.getCause());
+    fillInStackTraceWithoutCause(original.getCause());
     this.failingComponent = original.getFailingComponent();
     this.handled = original.handled();
     original.getInfo().forEach((key, value) -> addInfo(key, value));
@@ -103,12 +128,27 @@ public class MessagingException extends EventProcessingException {
 
   public MessagingException(CoreEvent event, Throwable cause, Component failingComponent) {
     super(event, cause);
+    fillInStackTraceWithoutCause(cause);
     extractMuleMessage(event);
     this.failingComponent = failingComponent;
     storeErrorTypeInfo();
     setMessage(generateMessage(getI18nMessage(), null));
   }
 
+  /**
+   * Without a cause, the stack trace of this exception is the only one pointing to where the error happened.
+   */
+  private void fillInStackTraceWithoutCause(Throwable cause) {
+    if (stacklessExceptions && cause == null) {
+      super.fillInStackTrace();
+    }
+  }
+
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    return stacklessExceptions ? this : super.fillInStackTrace();
+  }
+
   private void storeErrorTypeInfo() {
     if (event != null) {
       addInfo(INFO_ERROR_TYPE_KEY, getEvent().getError().map(e -> e.getErrorType().toString()).orElse(MISSING_DEFAULT_VALUE));
@@ -300,6 +340,25 @@ public class MessagingException extends EventProcessingException {
     return failingComponent;
   }
 
+  /**
+   * Sets whether this exception is the result of resolving the real cause of the error. Such exceptions are not created again
+   * while they are propagated, as long as their error is not changed.
+   *
+   * @param resolved whether this exception has been resolved
+   * @since 4.2
+   */
+  public void setResolved(boolean resolved) {
+    this.resolved = resolved;
+  }
+
+  /**
+   * @return whether this exception is the result of resolving the real cause of the error
+   * @since 4.2
+   */
+  public boolean isResolved() {
+    return resolved;
+  }
+
   protected void extractMuleMessage(CoreEvent event) {
     this.muleMessage = event == null ? null : event.getMessage();
   }
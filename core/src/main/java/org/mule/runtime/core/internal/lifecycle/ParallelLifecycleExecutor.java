@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.lifecycle;
+
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.lang.System.nanoTime;
+import static java.lang.Thread.currentThread;
+import static java.util.Comparator.comparing;
+import static java.util.concurrent.CompletableFuture.allOf;
+import static java.util.concurrent.CompletableFuture.runAsync;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.component.Component;
+import org.mule.runtime.api.lifecycle.LifecycleException;
+import org.mule.runtime.core.api.util.concurrent.NamedThreadFactory;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+
+/**
+ * Applies a lifecycle phase over a graph of objects, running the phase concurrently on objects that don't depend on each other.
+ * <p>
+ * The graph is given as the objects in an order in which applying the phase sequentially would be valid, each with the objects
+ * it depends on. An object is processed only after all of its dependencies that come before it in that order were processed
+ * successfully. Dependencies that come after it (only possible with circular dependencies) are ignored, same as in the
+ * sequential order.
+ * <p>
+ * Once the phase fails for an object, no further objects are processed and the first failure is rethrown after the running ones
+ * finish.
+ * <p>
+ * The phase is applied on a pool of at most {@code parallelism} threads, created by the first execution and kept by this
+ * executor across executions until {@link #shutdown()}. Idle threads are released after a while, so no threads are held once the
+ * lifecycle of the artifact settles even if not shut down. Those threads act on behalf of
+ * the thread that invoked {@link #execute(String, Map, LifecycleAction, Object)}, with its context class loader, and that thread
+ * is expected to hold the lifecycle lock of {@code lockOwner}. Use {@link #isAppliedOnBehalfOf(Object)} to avoid waiting on that
+ * lock from them.
+ *
+ * @since 4.2
+ */
+public final class ParallelLifecycleExecutor {
+
+  private static final Logger LOGGER = getLogger(ParallelLifecycleExecutor.class);
+
+  private static final ThreadLocal<Object> LOCK_OWNER = new ThreadLocal<>();
+
+  private static final long IDLE_THREADS_TIMEOUT_SECONDS = 10;
+
+  /**
+   * Applies the phase over one object.
+   */
+  @FunctionalInterface
+  public interface LifecycleAction {
+
+    void apply(Object target) throws LifecycleException;
+  }
+
+  private final int parallelism;
+  // @GuardedBy this
+  private ThreadPoolExecutor executor;
+
+  /**
+   * @param parallelism the maximum amount of objects on which to apply the phase at the same time.
+   */
+  public ParallelLifecycleExecutor(int parallelism) {
+    this.parallelism = parallelism;
+  }
+
+  private synchronized ThreadPoolExecutor getExecutor() {
+    if (executor == null) {
+      executor = new ThreadPoolExecutor(parallelism, parallelism, IDLE_THREADS_TIMEOUT_SECONDS, SECONDS,
+                                        new LinkedBlockingQueue<>(),
+                                        new NamedThreadFactory("lifecycle", ParallelLifecycleExecutor.class.getClassLoader()));
+      executor.allowCoreThreadTimeOut(true);
+    }
+    return executor;
+  }
+
+  /**
+   * Releases the threads of this executor once the phases being applied finish. A later execution creates them again.
+   */
+  public synchronized void shutdown() {
+    if (executor != null) {
+      executor.shutdown();
+      executor = null;
+    }
+  }
+
+  /**
+   * @param lockOwner the object whose lifecycle lock may be held
+   * @return whether the current thread is applying a phase on behalf of a thread that holds the lifecycle lock of
+   *         {@code lockOwner}.
+   */
+  public static boolean isAppliedOnBehalfOf(Object lockOwner) {
+    return LOCK_OWNER.get() == lockOwner;
+  }
+
+  /**
+   * Applies {@code action} over each object of the {@code graph}, honoring the dependencies between them.
+   *
+   * @param phaseName the name of the phase being applied, used for reporting
+   * @param graph the objects in a valid sequential order, each with its dependencies
+   * @param action applies the phase over one object
+   * @param lockOwner the object whose lifecycle lock is held by the invoking thread
+   * @return the time spent applying the phase over each object, in milliseconds, in the order the objects were processed.
+   * @throws LifecycleException the first failure when applying the phase.
+   */
+  public Map<Object, Long> execute(String phaseName, Map<Object, ? extends Collection<?>> graph, LifecycleAction action,
+                                   Object lockOwner)
+      throws LifecycleException {
+    if (graph.isEmpty()) {
+      return new LinkedHashMap<>();
+    }
+
+    final long startTime = nanoTime();
+    final int threads = min(parallelism, graph.size());
+    final ClassLoader contextClassLoader = currentThread().getContextClassLoader();
+
+    final Queue<Entry<Object, Long>> timings = new ConcurrentLinkedQueue<>();
+    final AtomicReference<Throwable> failure = new AtomicReference<>();
+    final Map<Object, CompletableFuture<Void>> processed = new HashMap<>();
+    final ThreadPoolExecutor executor = getExecutor();
+
+    for (Entry<Object, ? extends Collection<?>> node : graph.entrySet()) {
+      final Object target = node.getKey();
+      List<CompletableFuture<Void>> dependencies = new ArrayList<>();
+      for (Object dependency : node.getValue()) {
+        CompletableFuture<Void> dependencyProcessed = processed.get(dependency);
+        if (dependencyProcessed != null && dependency != target) {
+          dependencies.add(dependencyProcessed);
+        }
+      }
+
+      Runnable task = () -> apply(target, action, lockOwner, contextClassLoader, failure, timings);
+      processed.put(target, dependencies.isEmpty()
+          ? runAsync(task, executor)
+          : allOf(dependencies.toArray(new CompletableFuture[dependencies.size()])).thenRunAsync(task, executor));
+    }
+
+    try {
+      allOf(processed.values().toArray(new CompletableFuture[processed.size()])).get();
+    } catch (ExecutionException e) {
+      // the failure is kept by the task that failed
+    } catch (InterruptedException e) {
+      currentThread().interrupt();
+      failure.compareAndSet(null, e);
+    }
+
+    Map<Object, Long> report = new LinkedHashMap<>();
+    timings.forEach(timing -> report.put(timing.getKey(), timing.getValue()));
+    report(phaseName, graph.size(), threads, NANOSECONDS.toMillis(nanoTime() - startTime), report);
+
+    Throwable e = failure.get();
+    if (e instanceof LifecycleException) {
+      throw (LifecycleException) e;
+    } else if (e instanceof RuntimeException) {
+      throw (RuntimeException) e;
+    } else if (e instanceof Error) {
+      throw (Error) e;
+    } else if (e != null) {
+      throw new LifecycleException(e, lockOwner);
+    }
+
+    return report;
+  }
+
+  private void apply(Object target, LifecycleAction action, Object lockOwner, ClassLoader contextClassLoader,
+                     AtomicReference<Throwable> failure, Queue<Entry<Object, Long>> timings) {
+    if (failure.get() != null) {
+      throw new IllegalStateException("Lifecycle already failed");
+    }
+
+    final long startTime = nanoTime();
+    final Thread thread = currentThread();
+    final ClassLoader originalClassLoader = thread.getContextClassLoader();
+    thread.setContextClassLoader(contextClassLoader);
+    LOCK_OWNER.set(lockOwner);
+    try {
+      action.apply(target);
+    } catch (Throwable e) {
+      failure.compareAndSet(null, e);
+      throw new IllegalStateException(e);
+    } finally {
+      LOCK_OWNER.remove();
+      thread.setContextClassLoader(originalClassLoader);
+      timings.add(new SimpleImmutableEntry<>(target, NANOSECONDS.toMillis(nanoTime() - startTime)));
+    }
+  }
+
+  private void report(String phaseName, int objects, int threads, long elapsed, Map<Object, Long> timings) {
+    if (!LOGGER.isInfoEnabled()) {
+      return;
+    }
+
+    StringBuilder report = new StringBuilder(format("Applied phase '%s' over %d objects in %d ms using %d threads",
+                                                    phaseName, objects, elapsed, threads));
+    timings.entrySet().stream()
+        .sorted(comparing(Entry<Object, Long>::getValue).reversed())
+        .forEach(timing -> report.append(format("%n  %6d ms  %s", timing.getValue(), describe(timing.getKey()))));
+    LOGGER.info(report.toString());
+  }
+
+  private String describe(Object target) {
+    if (target instanceof Component && ((Component) target).getLocation() != null) {
+      return ((Component) target).getLocation().getLocation();
+    }
+    return target.toString();
+  }
+}
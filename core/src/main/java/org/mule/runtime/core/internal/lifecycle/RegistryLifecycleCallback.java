@@ -9,14 +9,18 @@ package org.mule.runtime.core.internal.lifecycle;
 import static java.lang.String.format;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.api.lifecycle.Disposable;
+import org.mule.runtime.api.lifecycle.Initialisable;
 import org.mule.runtime.api.lifecycle.LifecycleException;
 import org.mule.runtime.api.lifecycle.Stoppable;
 import org.mule.runtime.api.notification.NotificationDispatcher;
+import org.mule.runtime.core.api.config.Config;
+import org.mule.runtime.core.api.construct.FlowConstruct;
 import org.mule.runtime.core.api.lifecycle.LifecycleCallback;
 import org.mule.runtime.core.api.lifecycle.LifecycleObject;
 import org.mule.runtime.core.api.util.func.CheckedRunnable;
@@ -24,21 +28,38 @@ import org.mule.runtime.core.internal.context.MuleContextWithRegistries;
 import org.mule.runtime.core.internal.lifecycle.phases.ContainerManagedLifecyclePhase;
 import org.mule.runtime.core.internal.lifecycle.phases.LifecyclePhase;
 import org.mule.runtime.core.internal.registry.Registry;
+import org.mule.runtime.extension.api.runtime.config.ConfigurationProvider;
 
 import org.apache.commons.collections.CollectionUtils;
 import org.slf4j.Logger;
 
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * An implementation of {@link LifecycleCallback} for applying {@link Registry} lifecycles
+ * <p>
+ * When {@link #LIFECYCLE_PARALLELISM_PROPERTY} is greater than one, configurations and flows are initialised concurrently with
+ * a {@link ParallelLifecycleExecutor}, honoring the dependencies given by
+ * {@link #lookupDependencyGraphForLifecycle(LifecycleObject)}. That is only done when the dependencies between the objects are
+ * known, otherwise they are initialised sequentially. Objects of different {@link LifecycleObject types} are still processed one
+ * type after the other, and the other phases are always applied sequentially, since the order in which objects are started and
+ * stopped matters beyond their dependencies.
  *
  * @since 3.7.0
  */
 public class RegistryLifecycleCallback<T> implements LifecycleCallback<T>, HasLifecycleInterceptor {
 
+  /**
+   * The maximum amount of configurations or flows to initialise at the same time. Defaults to {@code 1}, applying the phases
+   * sequentially.
+   */
+  public static final String LIFECYCLE_PARALLELISM_PROPERTY = SYSTEM_PROPERTY_PREFIX + "lifecycle.parallelism";
+
   private static final Logger LOGGER = getLogger(RegistryLifecycleCallback.class);
 
   protected final RegistryLifecycleManager registryLifecycleManager;
@@ -77,13 +98,18 @@ public class RegistryLifecycleCallback<T> implements LifecycleCallback<T>, HasLi
     // overlapping interfaces can cause duplicates
     // TODO: each LifecycleManager should keep this set per executing phase
     // and clear it when the phase is fully applied
-    Set<Object> duplicates = new HashSet<>();
+    Set<Object> duplicates = ConcurrentHashMap.newKeySet();
 
     final NotificationDispatcher notificationFirer = ((MuleContextWithRegistries) registryLifecycleManager.muleContext)
         .getRegistry().lookupObject(NotificationDispatcher.class);
+    final ParallelLifecycleExecutor parallelExecutor = registryLifecycleManager.getParallelLifecycleExecutor();
     for (LifecycleObject lifecycleObject : phase.getOrderedLifecycleObjects()) {
       lifecycleObject.firePreNotification(notificationFirer);
 
+      if (parallelExecutor != null && isAppliedInParallel(phase) && isAppliedInParallel(lifecycleObject)) {
+        doApplyLifecycleInParallel(parallelExecutor, phase, duplicates, lifecycleObject);
+      }
+
       // TODO Collection -> List API refactoring
       Collection<?> targetsObj = lookupObjectsForLifecycle(lifecycleObject);
       doApplyLifecycle(phase, duplicates, lifecycleObject, targetsObj);
@@ -122,12 +148,36 @@ public class RegistryLifecycleCallback<T> implements LifecycleCallback<T>, HasLi
     }
   }
 
+  /**
+   * Applies the phase concurrently over the objects that don't depend on each other. The ones already processed are skipped, and
+   * those registered while applying the phase, or all of them if their dependencies are not known, are left for the sequential
+   * pass that follows.
+   */
+  private void doApplyLifecycleInParallel(ParallelLifecycleExecutor parallelExecutor, LifecyclePhase phase,
+                                          Set<Object> duplicates, LifecycleObject lifecycleObject)
+      throws LifecycleException {
+    Optional<Map<Object, ? extends Collection<?>>> dependencyGraph = lookupDependencyGraphForLifecycle(lifecycleObject);
+    if (!dependencyGraph.isPresent()) {
+      return;
+    }
+
+    Map<Object, Collection<?>> graph = new LinkedHashMap<>();
+    dependencyGraph.get().forEach((target, dependencies) -> {
+      if (target != null && !duplicates.contains(target)) {
+        graph.put(target, dependencies);
+      }
+    });
+
+    parallelExecutor.execute(phase.getName(), graph, target -> applyLifecycle(phase, duplicates, target),
+                             registryLifecycleManager.muleContext);
+  }
+
   private void applyLifecycle(LifecyclePhase phase, Set<Object> duplicates, Object target) throws LifecycleException {
     try {
-      if (interceptor.beforePhaseExecution(phase, target)) {
+      if (beforePhaseExecution(phase, target)) {
         phase.applyLifecycle(target);
         duplicates.add(target);
-        interceptor.afterPhaseExecution(phase, target, empty());
+        afterPhaseExecution(phase, target, empty());
       } else {
         if (LOGGER.isDebugEnabled()) {
           LOGGER.debug(format(
@@ -138,7 +188,7 @@ public class RegistryLifecycleCallback<T> implements LifecycleCallback<T>, HasLi
         }
       }
     } catch (Exception e) {
-      interceptor.afterPhaseExecution(phase, target, of(e));
+      afterPhaseExecution(phase, target, of(e));
       if (phase.getName().equals(Disposable.PHASE_NAME) || phase.getName().equals(Stoppable.PHASE_NAME)) {
         LOGGER.info(format("Failure executing phase %s over object %s, error message is: %s", phase.getName(), target,
                            e.getMessage()),
@@ -152,10 +202,49 @@ public class RegistryLifecycleCallback<T> implements LifecycleCallback<T>, HasLi
     }
   }
 
+  // Interceptors keep their state in plain maps, so calls from objects processed in parallel are serialized
+  private boolean beforePhaseExecution(LifecyclePhase phase, Object target) {
+    synchronized (interceptor) {
+      return interceptor.beforePhaseExecution(phase, target);
+    }
+  }
+
+  private void afterPhaseExecution(LifecyclePhase phase, Object target, Optional<Exception> exceptionThrownOptional) {
+    synchronized (interceptor) {
+      interceptor.afterPhaseExecution(phase, target, exceptionThrownOptional);
+    }
+  }
+
   protected Collection<?> lookupObjectsForLifecycle(LifecycleObject lo) {
     return registryLifecycleManager.getLifecycleObject().lookupObjectsForLifecycle(lo.getType());
   }
 
+  private boolean isAppliedInParallel(LifecyclePhase phase) {
+    return Initialisable.PHASE_NAME.equals(phase.getName());
+  }
+
+  /**
+   * @param lo the type of objects to look up
+   * @return whether the objects of the given type may have the phase applied concurrently.
+   */
+  protected boolean isAppliedInParallel(LifecycleObject lo) {
+    return ConfigurationProvider.class.equals(lo.getType()) || Config.class.equals(lo.getType())
+        || FlowConstruct.class.equals(lo.getType());
+  }
+
+  /**
+   * Looks up the objects of the given type along with the objects each one depends on.
+   * <p>
+   * By default the dependencies are not known, so the objects are processed sequentially.
+   *
+   * @param lo the type of objects to look up
+   * @return the objects in the order in which the phase would be applied sequentially, each with its dependencies, or
+   *         {@link Optional#empty() empty} if the dependencies between them are not known.
+   */
+  protected Optional<Map<Object, ? extends Collection<?>>> lookupDependencyGraphForLifecycle(LifecycleObject lo) {
+    return empty();
+  }
+
   @Override
   public void setLifecycleInterceptor(LifecycleInterceptor interceptor) {
     this.interceptor = interceptor;
@@ -6,8 +6,10 @@
  */
 package org.mule.runtime.core.internal.lifecycle;
 
+import static java.lang.Integer.getInteger;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
+import static org.mule.runtime.core.internal.lifecycle.RegistryLifecycleCallback.LIFECYCLE_PARALLELISM_PROPERTY;
 import org.mule.runtime.api.lifecycle.Disposable;
 import org.mule.runtime.api.lifecycle.Initialisable;
 import org.mule.runtime.api.lifecycle.LifecycleException;
@@ -39,6 +41,7 @@ public class RegistryLifecycleManager extends AbstractLifecycleManager<Registry>
   protected SortedMap<String, LifecycleCallback> callbacks = new TreeMap<>();
   protected MuleContext muleContext;
   private final LifecycleInterceptor lifecycleInterceptor;
+  private final ParallelLifecycleExecutor parallelLifecycleExecutor;
 
   public RegistryLifecycleManager(String id, Registry object, MuleContext muleContext,
                                   LifecycleInterceptor lifecycleInterceptor) {
@@ -46,6 +49,9 @@ public class RegistryLifecycleManager extends AbstractLifecycleManager<Registry>
     this.muleContext = muleContext;
     this.lifecycleInterceptor = lifecycleInterceptor;
 
+    int parallelism = getInteger(LIFECYCLE_PARALLELISM_PROPERTY, 1);
+    this.parallelLifecycleExecutor = parallelism > 1 ? new ParallelLifecycleExecutor(parallelism) : null;
+
     registerPhases(object);
   }
 
@@ -94,25 +100,40 @@ public class RegistryLifecycleManager extends AbstractLifecycleManager<Registry>
     phases.put(phaseName, phase);
   }
 
+  /**
+   * @return the executor shared by the callbacks of this manager to apply a phase concurrently, or {@code null} if phases are
+   *         applied sequentially.
+   */
+  ParallelLifecycleExecutor getParallelLifecycleExecutor() {
+    return parallelLifecycleExecutor;
+  }
+
   @Override
   public void fireLifecycle(String destinationPhase) throws LifecycleException {
     checkPhase(destinationPhase);
-    if (isDirectTransition(destinationPhase) || isLastPhaseExecutionFailed()) {
-      // transition to phase without going through other phases first
-      invokePhase(destinationPhase, object, callbacks.get(destinationPhase));
-    } else {
-      // Call all phases to including the destination phase
-      boolean start = false;
-      for (String phase : phaseNames) {
-        if (start) {
-          invokePhase(phase, object, callbacks.get(phase));
-          if (phase.equals(destinationPhase)) {
-            break;
+    try {
+      if (isDirectTransition(destinationPhase) || isLastPhaseExecutionFailed()) {
+        // transition to phase without going through other phases first
+        invokePhase(destinationPhase, object, callbacks.get(destinationPhase));
+      } else {
+        // Call all phases to including the destination phase
+        boolean start = false;
+        for (String phase : phaseNames) {
+          if (start) {
+            invokePhase(phase, object, callbacks.get(phase));
+            if (phase.equals(destinationPhase)) {
+              break;
+            }
+          }
+          if (phase.equals(getCurrentPhase())) {
+            start = true;
           }
         }
-        if (phase.equals(getCurrentPhase())) {
-          start = true;
-        }
+      }
+    } finally {
+      // no threads are kept between phases, which are far apart
+      if (parallelLifecycleExecutor != null) {
+        parallelLifecycleExecutor.shutdown();
       }
     }
   }
@@ -13,7 +13,6 @@ import static java.util.Collections.emptyMap;
 import static java.util.Collections.unmodifiableSet;
 import static java.util.Objects.requireNonNull;
 import static org.apache.commons.lang3.ObjectUtils.defaultIfNull;
-import static org.mule.runtime.api.metadata.DataType.OBJECT;
 import static org.mule.runtime.api.metadata.DataType.builder;
 import static org.mule.runtime.api.metadata.DataType.fromObject;
 import static org.mule.runtime.api.metadata.TypedValue.of;
@@ -28,6 +27,7 @@ import static org.mule.runtime.core.api.util.ObjectUtils.getLong;
 import static org.mule.runtime.core.api.util.ObjectUtils.getShort;
 import static org.mule.runtime.core.api.util.ObjectUtils.getString;
 import static org.mule.runtime.core.internal.context.DefaultMuleContext.currentMuleContext;
+import static org.mule.runtime.core.internal.metadata.DefaultDataTypeBuilder.dataTypeOf;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.message.Message;
 import org.mule.runtime.api.metadata.DataType;
@@ -240,7 +240,7 @@ public final class DefaultMessageBuilder
 
   @Override
   public InternalMessage.CollectionBuilder addInboundProperty(String key, Serializable value) {
-    inboundProperties.put(key, new TypedValue<>(value, value != null ? fromObject(value) : OBJECT));
+    inboundProperties.put(key, new TypedValue<>(value, dataTypeOf(value)));
     return this;
   }
 
@@ -259,7 +259,7 @@ public final class DefaultMessageBuilder
 
   @Override
   public InternalMessage.CollectionBuilder addOutboundProperty(String key, Serializable value) {
-    outboundProperties.put(key, new TypedValue<>(value, value != null ? fromObject(value) : OBJECT));
+    outboundProperties.put(key, new TypedValue<>(value, dataTypeOf(value)));
     return this;
   }
 
@@ -350,7 +350,7 @@ public final class DefaultMessageBuilder
 
   private DataType resolveDataType(Object value) {
     if (payload == null) {
-      return DataType.fromObject(value);
+      return dataTypeOf(value);
     } else {
       return DataType.builder(payload.getDataType()).fromObject(value).build();
     }
@@ -358,7 +358,7 @@ public final class DefaultMessageBuilder
 
   private DataType resolveAttributesDataType(Object value) {
     if (attributes == null) {
-      return DataType.fromObject(value);
+      return dataTypeOf(value);
     } else {
       return DataType.builder(attributes.getDataType()).fromObject(value).build();
     }
@@ -46,6 +46,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.activation.DataHandler;
 import javax.activation.DataSource;
@@ -59,8 +60,27 @@ public class DefaultDataTypeBuilder
     implements DataTypeBuilder, DataTypeBuilder.DataTypeCollectionTypeBuilder, DataTypeBuilder.DataTypeFunctionTypeBuilder,
     DataTypeBuilder.DataTypeMapTypeBuilder {
 
-  private static ConcurrentHashMap<String, ProxyIndicator> proxyClassCache = new ConcurrentHashMap<>();
-  private static ConcurrentHashMap<String, ProxyIndicator> cglibClassCache = new ConcurrentHashMap<>();
+  private static final ClassValue<Class<?>> proxiedTypes = new ClassValue<Class<?>>() {
+
+    @Override
+    protected Class<?> computeValue(Class<?> type) {
+      if (isProxyClass(type)) {
+        return type.getInterfaces()[0];
+      } else if (isCglibClass(type)) {
+        return type.getSuperclass().equals(Object.class) ? type.getInterfaces()[0] : type.getSuperclass();
+      } else {
+        return type;
+      }
+    }
+  };
+
+  private static final ClassValue<InternedDataTypes> internedDataTypes = new ClassValue<InternedDataTypes>() {
+
+    @Override
+    protected InternedDataTypes computeValue(Class<?> type) {
+      return new InternedDataTypes(type);
+    }
+  };
 
   private static LoadingCache<DefaultDataTypeBuilder, DataType> dataTypeCache =
       newBuilder().weakValues().build(new CacheLoader<DefaultDataTypeBuilder, DataType>() {
@@ -126,81 +146,95 @@ public class DefaultDataTypeBuilder
    * Special case where proxies are used for testing.
    */
   protected Class<?> handleProxy(Class<?> type) {
-    if (isProxyClass(type)) {
-      return type.getInterfaces()[0];
-    } else if (isCglibClass(type)) {
-      return type.getSuperclass().equals(Object.class) ? type.getInterfaces()[0] : type.getSuperclass();
-    } else {
-      return type;
-    }
+    return proxiedTypes.get(type);
   }
 
   /**
-   * Cache which classes are proxies. Very experimental
+   * Which classes are proxies is cached by {@link #handleProxy(Class)}.
    */
   protected static <T> boolean isProxyClass(Class<T> type) {
-    String typeName = type.getName();
-    ProxyIndicator indicator = proxyClassCache.get(typeName);
-    if (indicator != null) {
-      Class classInMap = indicator.getTargetClass();
-      if (classInMap == type) {
-        return indicator.isProxy();
-      } else if (classInMap != null) {
-        // We have duplicate class names from different active classloaders. Skip the
-        // optimization for this one
-        return Proxy.isProxyClass(type);
-      }
-    }
-    // Either there's no indicator in the map or there's one that is due to be replaced
-    boolean isProxy = Proxy.isProxyClass(type);
-    proxyClassCache.put(typeName, new ProxyIndicator(type, isProxy));
-    return isProxy;
+    return Proxy.isProxyClass(type);
   }
 
   /**
-   * Cache which classes are generated by CGLib. Very experimental
+   * Which classes are generated by CGLib is cached by {@link #handleProxy(Class)}.
    */
   protected static <T> boolean isCglibClass(Class<T> type) {
-    String typeName = type.getName();
-    ProxyIndicator indicator = cglibClassCache.get(typeName);
-    if (indicator != null) {
-      Class classInMap = indicator.getTargetClass();
-      if (classInMap == type) {
-        return indicator.isProxy();
-      } else if (classInMap != null) {
-        // We have duplicate class names from different active classloaders. Skip the
-        // optimization for this one
-        return type.getName().contains("CGLIB$$");
-      }
-    }
-    // Either there's no indicator in the map or there's one that is due to be replaced
     // Use the approach by name for 2 reasons:
     // * to avoid having a cglib dependency
     // * since many libs shade cglib, this accounts for those
-    boolean isProxy = type.getName().contains("CGLIB$$");
-    cglibClassCache.put(typeName, new ProxyIndicator(type, isProxy));
-    return isProxy;
+    return type.getName().contains("CGLIB$$");
   }
 
   /**
-   * map value
+   * Resolves the {@link DataType} of the given value the same way {@link DataType#fromObject(Object)} does, but without
+   * allocating a builder when the value's class already has an interned {@link DataType}.
+   *
+   * @param value the value to get the {@link DataType} for. May be {@code null}.
+   * @return the {@link DataType} of the given value.
    */
-  private static final class ProxyIndicator {
+  public static DataType dataTypeOf(Object value) {
+    if (value == null) {
+      return DataType.OBJECT;
+    }
+    if (value instanceof DataHandler || value instanceof DataSource) {
+      return DataType.fromObject(value);
+    }
 
-    private final WeakReference<Class> targetClassRef;
-    private final boolean isProxy;
+    DataType dataType = internedDataTypes.get(proxiedTypes.get(value.getClass())).get(MediaType.ANY);
+    return dataType != null ? dataType : DataType.fromObject(value);
+  }
 
-    ProxyIndicator(Class targetClass, boolean proxy) {
-      this.targetClassRef = new WeakReference<>(targetClass);
-      isProxy = proxy;
-    }
+  /**
+   * The {@link DataType}s for a class that only depend on the class and the media type, so they can be resolved without hashing
+   * a builder.
+   */
+  private static final class InternedDataTypes {
+
+    /*
+     * Media types may contain arbitrary parameters (i.e.: a multipart boundary), so after this many the builders cache is used.
+     */
+    private static final int MAX_MEDIA_TYPES = 16;
+
+    private final boolean internable;
+    private final Class<?> type;
+    private final boolean consumable;
+    private final DataType anyMediaType;
+    private final ConcurrentMap<MediaType, DataType> byMediaType;
+
+    InternedDataTypes(Class<?> type) {
+      this.internable = !ExpressionFunction.class.isAssignableFrom(type);
+      this.type = type;
+      this.consumable = isConsumable(type);
+      this.anyMediaType = internable ? create(MediaType.ANY) : null;
+      this.byMediaType = internable ? new ConcurrentHashMap<>(4) : null;
+    }
+
+    /**
+     * @return the interned {@link DataType} for the given media type, or {@code null} if it cannot be interned.
+     */
+    DataType get(MediaType mediaType) {
+      if (!internable) {
+        return null;
+      } else if (mediaType == MediaType.ANY) {
+        return anyMediaType;
+      }
 
-    public Class getTargetClass() {
-      return targetClassRef.get();
+      DataType dataType = byMediaType.get(mediaType);
+      if (dataType == null && byMediaType.size() < MAX_MEDIA_TYPES) {
+        dataType = byMediaType.computeIfAbsent(mediaType, this::create);
+      }
+      return dataType;
     }
 
-    public boolean isProxy() {
-      return isProxy;
+    private DataType create(MediaType mediaType) {
+      if (Collection.class.isAssignableFrom(type) || Iterator.class.isAssignableFrom(type)) {
+        return new DefaultCollectionDataType(type, DataType.OBJECT, mediaType, consumable);
+      } else if (Map.class.isAssignableFrom(type)) {
+        return new DefaultMapDataType(type, DataType.OBJECT, DataType.OBJECT, mediaType, consumable);
+      } else {
+        return new SimpleDataType(type, mediaType, consumable);
+      }
     }
   }
 
@@ -516,6 +550,12 @@ public class DefaultDataTypeBuilder
       return new DefaultFunctionDataType(type, returnType, parametersType != null ? parametersType : newArrayList(), mediaType,
                                          isConsumable(type));
     }
+    if (itemTypeBuilder == null && keyTypeBuilder == null && valueTypeBuilder == null) {
+      DataType interned = internedDataTypes.get(type).get(mediaType);
+      if (interned != null) {
+        return interned;
+      }
+    }
     return dataTypeCache.getUnchecked(this);
   }
 
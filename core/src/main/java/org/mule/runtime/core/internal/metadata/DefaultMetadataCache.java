@@ -6,32 +6,68 @@
  */
 package org.mule.runtime.core.internal.metadata;
 
+import static java.lang.Long.MAX_VALUE;
+import static java.lang.System.currentTimeMillis;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+
 import org.mule.runtime.api.connection.ConnectionException;
 import org.mule.runtime.api.metadata.MetadataCache;
 import org.mule.runtime.api.metadata.MetadataResolvingException;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
 
 import java.io.Serializable;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * Default immutable implementation of {@link MetadataCache}
+ * Default implementation of {@link MetadataCache}.
+ * <p>
+ * The amount of entries may be bounded, evicting the least recently used ones when exceeded, and entries may expire after a
+ * given time since they were put. Expiration is based on the wall clock so that it still holds for entries restored after a
+ * restart (see {@link #restore(Map)}).
  *
  * @since 4.0
  */
 public final class DefaultMetadataCache implements MetadataCache {
 
-  private final Map<Serializable, Serializable> cache = new ConcurrentHashMap<>();
+  private final Cache<Serializable, CachedValue> cache;
+  private final long entryTtl;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Creates a cache with no bounds.
+   */
+  public DefaultMetadataCache() {
+    this(0, 0);
+  }
+
+  /**
+   * @param maxEntries the maximum amount of entries to keep, or a non positive value for no limit.
+   * @param entryTtl the time in milliseconds after which a put entry expires, or a non positive value for no expiration.
+   */
+  public DefaultMetadataCache(long maxEntries, long entryTtl) {
+    CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder();
+    if (maxEntries > 0) {
+      cacheBuilder.maximumSize(maxEntries);
+    }
+    this.cache = cacheBuilder.build();
+    this.entryTtl = entryTtl;
+  }
 
   /**
    * {@inheritDoc}
    */
   @Override
   public void put(Serializable key, Serializable value) {
-    cache.put(key, value);
+    cache.put(key, new CachedValue(value, expirationFor(currentTimeMillis())));
   }
 
   /**
@@ -39,7 +75,8 @@ public final class DefaultMetadataCache implements MetadataCache {
    */
   @Override
   public void putAll(Map<? extends Serializable, ? extends Serializable> values) {
-    cache.putAll(values);
+    long expiresAt = expirationFor(currentTimeMillis());
+    values.forEach((key, value) -> cache.put(key, new CachedValue(value, expiresAt)));
   }
 
   /**
@@ -47,7 +84,14 @@ public final class DefaultMetadataCache implements MetadataCache {
    */
   @Override
   public <T extends Serializable> Optional<T> get(Serializable key) {
-    return Optional.ofNullable((T) cache.get(key));
+    Serializable value = lookup(key);
+    if (value == null) {
+      misses.increment();
+      return empty();
+    }
+
+    hits.increment();
+    return of((T) value);
   }
 
   /**
@@ -57,19 +101,108 @@ public final class DefaultMetadataCache implements MetadataCache {
   public <T extends Serializable> T computeIfAbsent(Serializable key, MetadataCacheValueResolver mappingFunction)
       throws MetadataResolvingException, ConnectionException {
 
-    Serializable value = cache.get(key);
-    if (value == null) {
-      value = mappingFunction.compute(key);
-      if (value != null) {
-        cache.putIfAbsent(key, value);
-      }
+    Serializable value = lookup(key);
+    if (value != null) {
+      hits.increment();
+      return (T) value;
+    }
+
+    misses.increment();
+    value = mappingFunction.compute(key);
+    if (value != null) {
+      long now = currentTimeMillis();
+      CachedValue computed = new CachedValue(value, expirationFor(now));
+      cache.asMap().compute(key, (k, current) -> current == null || current.isExpired(now) ? computed : current);
     }
 
     return (T) value;
   }
 
+  private Serializable lookup(Serializable key) {
+    CachedValue cached = cache.getIfPresent(key);
+    if (cached == null) {
+      return null;
+    }
+    if (cached.isExpired(currentTimeMillis())) {
+      cache.asMap().remove(key, cached);
+      return null;
+    }
+    return cached.value;
+  }
+
+  private long expirationFor(long now) {
+    return entryTtl > 0 ? now + entryTtl : MAX_VALUE;
+  }
+
   public Map<Serializable, Serializable> asMap() {
-    return ImmutableMap.copyOf(cache);
+    long now = currentTimeMillis();
+    ImmutableMap.Builder<Serializable, Serializable> map = ImmutableMap.builder();
+    cache.asMap().forEach((key, cached) -> {
+      if (!cached.isExpired(now)) {
+        map.put(key, cached.value);
+      }
+    });
+    return map.build();
+  }
+
+  /**
+   * @return how many lookups found a value in this cache.
+   */
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * @return how many lookups did not find a value in this cache.
+   */
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  /**
+   * @return the entries of this cache that have not expired, along with their expiration, so they can be later
+   *         {@link #restore(Map) restored}.
+   */
+  Map<Serializable, CachedValue> getEntries() {
+    long now = currentTimeMillis();
+    Map<Serializable, CachedValue> entries = new HashMap<>();
+    cache.asMap().forEach((key, cached) -> {
+      if (!cached.isExpired(now)) {
+        entries.put(key, cached);
+      }
+    });
+    return entries;
+  }
+
+  /**
+   * Adds the given entries, previously obtained through {@link #getEntries()}, keeping their original expiration.
+   */
+  void restore(Map<Serializable, CachedValue> entries) {
+    long now = currentTimeMillis();
+    entries.forEach((key, cached) -> {
+      if (!cached.isExpired(now)) {
+        cache.asMap().putIfAbsent(key, cached);
+      }
+    });
   }
 
+  /**
+   * A cached value along with the wall clock time when it expires.
+   */
+  static final class CachedValue implements Serializable {
+
+    private static final long serialVersionUID = 2917305452711408203L;
+
+    private final Serializable value;
+    private final long expiresAt;
+
+    CachedValue(Serializable value, long expiresAt) {
+      this.value = value;
+      this.expiresAt = expiresAt;
+    }
+
+    boolean isExpired(long now) {
+      return now >= expiresAt;
+    }
+  }
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.metadata;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static org.apache.commons.io.FileUtils.deleteQuietly;
+import static org.apache.commons.io.FileUtils.forceMkdir;
+import static org.apache.commons.io.FileUtils.readFileToByteArray;
+import static org.apache.commons.io.FileUtils.writeByteArrayToFile;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.serialization.SerializationProtocol;
+import org.mule.runtime.core.internal.metadata.DefaultMetadataCache.CachedValue;
+
+import java.io.File;
+import java.io.Serializable;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+
+/**
+ * Persists the contents of {@link DefaultMetadataCache}s in a directory, one file per cache id, so they can be restored after a
+ * restart.
+ * <p>
+ * Each file also holds the fingerprint of the configuration the cache was populated for, so that the contents are not restored
+ * if the configuration changed since.
+ *
+ * @since 4.2
+ */
+final class MetadataCacheStore {
+
+  private static final Logger LOGGER = getLogger(MetadataCacheStore.class);
+
+  private static final String CACHE_FILE_EXTENSION = ".cache";
+
+  private final File directory;
+  private final SerializationProtocol serializationProtocol;
+
+  MetadataCacheStore(File directory, SerializationProtocol serializationProtocol) {
+    this.directory = directory;
+    this.serializationProtocol = serializationProtocol;
+  }
+
+  /**
+   * Restores into {@code cache} the entries stored for the given id, if any and if they were stored for the same configuration.
+   * Nothing is restored if the configuration is unknown, since it may have changed.
+   *
+   * @param id the id of the cache
+   * @param fingerprint the fingerprint of the current configuration of the cache, or {@code null} if unknown.
+   * @param cache the cache to restore the entries into
+   */
+  void restore(String id, String fingerprint, DefaultMetadataCache cache) {
+    File cacheFile = cacheFile(id);
+    if (fingerprint == null || !cacheFile.exists()) {
+      return;
+    }
+
+    read(id, cacheFile)
+        .filter(stored -> fingerprint.equals(stored.fingerprint))
+        .ifPresent(stored -> cache.restore(stored.entries));
+  }
+
+  private Optional<StoredMetadataCache> read(String id, File cacheFile) {
+    try {
+      return of(serializationProtocol.deserialize(readFileToByteArray(cacheFile)));
+    } catch (Exception e) {
+      LOGGER.warn(format("Could not restore the metadata cache '%s', discarding it", id), e);
+      deleteQuietly(cacheFile);
+      return empty();
+    }
+  }
+
+  /**
+   * Stores the non expired entries of {@code cache}, replacing what was previously stored for the given id. If the
+   * configuration is unknown, what was previously stored is removed instead, since it would not be restored.
+   *
+   * @param id the id of the cache
+   * @param fingerprint the fingerprint of the current configuration of the cache, or {@code null} if unknown.
+   * @param cache the cache to store the entries from
+   */
+  void store(String id, String fingerprint, DefaultMetadataCache cache) {
+    Map<Serializable, CachedValue> entries = cache.getEntries();
+    File cacheFile = cacheFile(id);
+    if (fingerprint == null || entries.isEmpty()) {
+      deleteQuietly(cacheFile);
+      return;
+    }
+
+    try {
+      forceMkdir(directory);
+      writeByteArrayToFile(cacheFile, serializationProtocol.serialize(new StoredMetadataCache(fingerprint, entries)));
+    } catch (Exception e) {
+      LOGGER.warn(format("Could not store the metadata cache '%s', it will have to be populated again", id), e);
+      deleteQuietly(cacheFile);
+    }
+  }
+
+  /**
+   * Removes what was stored for the given id.
+   */
+  void delete(String id) {
+    deleteQuietly(cacheFile(id));
+  }
+
+  private File cacheFile(String id) {
+    requireNonNull(id);
+    try {
+      return new File(directory, URLEncoder.encode(id, UTF_8.name()) + CACHE_FILE_EXTENSION);
+    } catch (UnsupportedEncodingException e) {
+      // UTF-8 is always supported
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static final class StoredMetadataCache implements Serializable {
+
+    private static final long serialVersionUID = -3412286460585573066L;
+
+    private final String fingerprint;
+    private final Map<Serializable, CachedValue> entries;
+
+    StoredMetadataCache(String fingerprint, Map<Serializable, CachedValue> entries) {
+      this.fingerprint = fingerprint;
+      this.entries = entries;
+    }
+  }
+}
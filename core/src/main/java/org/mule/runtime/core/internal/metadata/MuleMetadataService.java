@@ -6,18 +6,22 @@
  */
 package org.mule.runtime.core.internal.metadata;
 
-import static com.google.common.collect.ImmutableMap.copyOf;
+import static java.lang.Boolean.getBoolean;
+import static java.lang.Long.getLong;
 import static java.lang.String.format;
+import static java.util.Collections.unmodifiableMap;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 import static org.mule.runtime.api.metadata.resolving.FailureCode.COMPONENT_NOT_FOUND;
 import static org.mule.runtime.api.metadata.resolving.FailureCode.NO_DYNAMIC_METADATA_AVAILABLE;
 import static org.mule.runtime.api.metadata.resolving.MetadataFailure.Builder.newFailure;
 import static org.mule.runtime.api.metadata.resolving.MetadataResult.failure;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 import static org.mule.runtime.core.internal.config.ConfigurationInstanceNotification.CONFIGURATION_STOPPED;
 
 import org.mule.runtime.api.component.location.ConfigurationComponentLocator;
 import org.mule.runtime.api.component.location.Location;
 import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.api.lifecycle.Disposable;
 import org.mule.runtime.api.lifecycle.Initialisable;
 import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.api.meta.model.ComponentModel;
@@ -39,12 +43,14 @@ import org.mule.runtime.core.internal.config.ConfigurationInstanceNotification;
 import org.mule.runtime.api.notification.CustomNotificationListener;
 import org.mule.runtime.api.notification.NotificationListenerRegistry;
 
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 
+import java.io.File;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
 
 import javax.inject.Inject;
 
@@ -52,10 +58,32 @@ import javax.inject.Inject;
  * Default implementation of the {@link MetadataService}, which provides access to the Metadata of any Component in the
  * application, using it's {@link Location}. Requires the injection of the {@link MuleContext}, to be able to lookup the component
  * inside the Mule App flows using the given {@link Location}
+ * <p>
+ * The {@link MetadataCache}s provided to the resolvers are bounded by {@link #METADATA_CACHE_MAX_ENTRIES_PROPERTY} and
+ * {@link #METADATA_CACHE_ENTRY_TTL_PROPERTY}. If {@link #METADATA_CACHE_PERSISTENT_PROPERTY} is set, their contents are stored
+ * in the application's working directory when their configuration stops, and restored when the same configuration asks for its
+ * cache again, even after a restart.
  *
  * @since 4.0
  */
-public class MuleMetadataService implements MetadataService, Initialisable {
+public class MuleMetadataService implements MetadataService, Initialisable, Disposable {
+
+  /**
+   * The maximum amount of entries of each {@link MetadataCache}. Defaults to 10000, a non positive value means no limit.
+   */
+  public static final String METADATA_CACHE_MAX_ENTRIES_PROPERTY = SYSTEM_PROPERTY_PREFIX + "metadata.cache.maxEntries";
+
+  /**
+   * The time in milliseconds after which a {@link MetadataCache} entry expires. Defaults to 0, meaning no expiration.
+   */
+  public static final String METADATA_CACHE_ENTRY_TTL_PROPERTY = SYSTEM_PROPERTY_PREFIX + "metadata.cache.entryTtl";
+
+  /**
+   * Whether the contents of the {@link MetadataCache}s are persisted so that they survive restarts. Defaults to false.
+   */
+  public static final String METADATA_CACHE_PERSISTENT_PROPERTY = SYSTEM_PROPERTY_PREFIX + "metadata.cache.persistent";
+
+  private static final String METADATA_CACHE_FOLDER = "metadata-cache";
 
   private static final String COMPONENT_NOT_METADATA_PROVIDER =
       "Component [%s] is not a MetadataProvider or MetadataEntityProvider, no information available";
@@ -71,17 +99,15 @@ public class MuleMetadataService implements MetadataService, Initialisable {
   @Inject
   private ConfigurationComponentLocator componentLocator;
 
-  private final LoadingCache<String, MetadataCache> caches;
+  @Inject
+  private MuleContext muleContext;
 
-  public MuleMetadataService() {
-    caches = CacheBuilder.newBuilder().build(new CacheLoader<String, MetadataCache>() {
+  private final Cache<String, DefaultMetadataCache> caches = CacheBuilder.newBuilder().build();
+  private final Map<String, String> cacheFingerprints = new ConcurrentHashMap<>();
 
-      @Override
-      public MetadataCache load(String id) throws Exception {
-        return new DefaultMetadataCache();
-      }
-    });
-  }
+  private final long maxEntries = getLong(METADATA_CACHE_MAX_ENTRIES_PROPERTY, 10000);
+  private final long entryTtl = getLong(METADATA_CACHE_ENTRY_TTL_PROPERTY, 0);
+  private MetadataCacheStore cacheStore;
 
   /**
    * Initialize this instance by registering a {@link CustomNotificationListener}
@@ -90,11 +116,16 @@ public class MuleMetadataService implements MetadataService, Initialisable {
    */
   @Override
   public void initialise() throws InitialisationException {
+    if (getBoolean(METADATA_CACHE_PERSISTENT_PROPERTY)) {
+      cacheStore = new MetadataCacheStore(new File(muleContext.getConfiguration().getWorkingDirectory(), METADATA_CACHE_FOLDER),
+                                          muleContext.getObjectSerializer().getInternalProtocol());
+    }
+
     notificationRegistrer.registerListener((CustomNotificationListener<ConfigurationInstanceNotification>) notification -> {
       try {
         if (notification.getAction().getActionId() == CONFIGURATION_STOPPED) {
           String name = ((ConfigurationInstanceNotification) notification).getConfigurationInstance().getName();
-          disposeCache(name);
+          releaseCache(name);
         }
       } catch (Exception e) {
         throw new RuntimeException("Error while looking for the MetadataManager in the registry", e);
@@ -165,22 +196,73 @@ public class MuleMetadataService implements MetadataService, Initialisable {
 
   /**
    * {@inheritDoc}
+   * <p>
+   * Persisted contents of the cache, if any, are removed as well.
    */
   @Override
   public void disposeCache(String id) {
     caches.invalidate(id);
+    cacheFingerprints.remove(id);
+    if (cacheStore != null) {
+      cacheStore.delete(id);
+    }
+  }
+
+  /**
+   * Removes the cache with the given id from memory, persisting its contents first if persistence is enabled.
+   */
+  private void releaseCache(String id) {
+    DefaultMetadataCache cache = caches.getIfPresent(id);
+    if (cache == null) {
+      return;
+    }
+
+    if (cacheStore != null) {
+      cacheStore.store(id, cacheFingerprints.get(id), cache);
+    }
+    caches.invalidate(id);
+    cacheFingerprints.remove(id);
+  }
+
+  @Override
+  public void dispose() {
+    caches.asMap().keySet().forEach(this::releaseCache);
   }
 
   public MetadataCache getMetadataCache(String id) {
+    return getMetadataCache(id, () -> null);
+  }
+
+  /**
+   * Provides the cache with the given id, creating it if necessary.
+   *
+   * @param id the id of the cache, which is also used to {@link #disposeCache(String) dispose} it.
+   * @param configFingerprint supplies a value that changes when the configuration the cache is used for changes. It is only
+   *        called when persistence is enabled and the cache is created, and persisted contents are only restored if they were
+   *        stored for the same fingerprint. The supplied value may be {@code null} if unknown, in which case persisted contents
+   *        are neither restored nor stored.
+   * @return the cache with the given id.
+   */
+  public MetadataCache getMetadataCache(String id, Supplier<String> configFingerprint) {
     try {
-      return caches.get(id);
+      return caches.get(id, () -> {
+        DefaultMetadataCache cache = new DefaultMetadataCache(maxEntries, entryTtl);
+        if (cacheStore != null) {
+          String fingerprint = configFingerprint.get();
+          if (fingerprint != null) {
+            cacheFingerprints.put(id, fingerprint);
+          }
+          cacheStore.restore(id, fingerprint, cache);
+        }
+        return cache;
+      });
     } catch (ExecutionException e) {
       throw new MuleRuntimeException(createStaticMessage("Could not get the cache with id:" + id), e);
     }
   }
 
   public Map<String, ? extends MetadataCache> getMetadataCaches() {
-    return copyOf(caches.asMap());
+    return unmodifiableMap(caches.asMap());
   }
 
   private <T> MetadataResult<T> exceptionHandledMetadataFetch(MetadataDelegate<T> producer, String failureMessage) {
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.processor.strategy;
+
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.core.api.transaction.Transaction;
+import org.mule.runtime.core.api.transaction.TransactionCoordination;
+import org.mule.runtime.core.internal.util.rx.ConditionalExecutorServiceDecorator;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
+/**
+ * {@link ConditionalExecutorServiceDecorator} for the transaction aware processing strategies.
+ * <p>
+ * By default, tasks are run in the current thread while a transaction is active. When {@link #THREAD_AGNOSTIC_TRANSACTIONS} is
+ * enabled, tasks for non XA transactions are dispatched to the delegate scheduler instead, and the transaction is carried over to
+ * the thread that runs them. XA transactions are always associated to a thread by the transaction manager, so those are still
+ * processed in the current thread.
+ *
+ * @since 4.2
+ */
+final class TransactionAwareExecutorServiceDecorator extends ConditionalExecutorServiceDecorator {
+
+  static final String THREAD_AGNOSTIC_TRANSACTIONS = SYSTEM_PROPERTY_PREFIX + "transaction.threadAgnostic";
+
+  private final boolean threadAgnosticTransactions;
+
+  TransactionAwareExecutorServiceDecorator(Scheduler scheduler, boolean threadAgnosticTransactions) {
+    super(scheduler, currentScheduler -> isTransactionBoundToCurrentThread(threadAgnosticTransactions));
+    this.threadAgnosticTransactions = threadAgnosticTransactions;
+  }
+
+  /**
+   * @param threadAgnosticTransactions whether non XA transactions may be continued in other threads
+   * @return whether a transaction is active that has to be processed in the current thread
+   */
+  static boolean isTransactionBoundToCurrentThread(boolean threadAgnosticTransactions) {
+    Transaction transaction = TransactionCoordination.getInstance().getTransaction();
+    return transaction != null && (!threadAgnosticTransactions || transaction.isXA());
+  }
+
+  @Override
+  public <T> Future<T> submit(Callable<T> task) {
+    return super.submit(continueTransaction(task));
+  }
+
+  @Override
+  public <T> Future<T> submit(Runnable task, T result) {
+    return super.submit(continueTransaction(task), result);
+  }
+
+  @Override
+  public Future<?> submit(Runnable task) {
+    return super.submit(continueTransaction(task));
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    super.execute(continueTransaction(command));
+  }
+
+  private <T> Callable<T> continueTransaction(Callable<T> task) {
+    final Transaction transaction = getTransactionToContinue();
+    if (transaction == null) {
+      return task;
+    }
+    return () -> TransactionCoordination.getInstance().continueTransaction(transaction, task);
+  }
+
+  private Runnable continueTransaction(Runnable task) {
+    final Transaction transaction = getTransactionToContinue();
+    if (transaction == null) {
+      return task;
+    }
+    return () -> {
+      try {
+        TransactionCoordination.getInstance().continueTransaction(transaction, () -> {
+          task.run();
+          return null;
+        });
+      } catch (RuntimeException e) {
+        throw e;
+      } catch (Exception e) {
+        // Runnables don't throw checked exceptions
+        throw new IllegalStateException(e);
+      }
+    };
+  }
+
+  private Transaction getTransactionToContinue() {
+    if (!threadAgnosticTransactions) {
+      return null;
+    }
+    Transaction transaction = TransactionCoordination.getInstance().getTransaction();
+    return transaction != null && !transaction.isXA() ? transaction : null;
+  }
+}
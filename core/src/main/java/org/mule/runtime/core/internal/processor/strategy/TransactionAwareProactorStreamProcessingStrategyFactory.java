@@ -6,11 +6,15 @@
  */
 package org.mule.runtime.core.internal.processor.strategy;
 
+import static java.lang.Boolean.getBoolean;
 import static org.mule.runtime.core.api.processor.ReactiveProcessor.ProcessingType.BLOCKING;
 import static org.mule.runtime.core.api.processor.ReactiveProcessor.ProcessingType.CPU_INTENSIVE;
 import static org.mule.runtime.core.api.processor.ReactiveProcessor.ProcessingType.CPU_LITE;
-import static org.mule.runtime.core.api.transaction.TransactionCoordination.isTransactionActive;
 import static org.mule.runtime.core.internal.processor.strategy.BlockingProcessingStrategyFactory.BLOCKING_PROCESSING_STRATEGY_INSTANCE;
+import static org.mule.runtime.core.internal.processor.strategy.TransactionAwareExecutorServiceDecorator.THREAD_AGNOSTIC_TRANSACTIONS;
+import static org.mule.runtime.core.internal.processor.strategy.TransactionAwareExecutorServiceDecorator.isTransactionBoundToCurrentThread;
+import static reactor.core.publisher.Flux.from;
+import static reactor.core.scheduler.Schedulers.fromExecutorService;
 
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
@@ -24,11 +28,11 @@ import org.mule.runtime.core.api.processor.ReactiveProcessor;
 import org.mule.runtime.core.api.processor.Sink;
 import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
 import org.mule.runtime.core.internal.processor.strategy.ProactorStreamProcessingStrategyFactory.ProactorStreamProcessingStrategy;
-import org.mule.runtime.core.internal.util.rx.ConditionalExecutorServiceDecorator;
 
 /**
  * Creates default processing strategy with same behavior as {@link ProactorStreamProcessingStrategyFactory} apart from the fact
- * it will process synchronously without error when a transaction is active.
+ * it will process synchronously without error when a transaction is active, unless it is a non XA transaction and
+ * {@link TransactionAwareExecutorServiceDecorator#THREAD_AGNOSTIC_TRANSACTIONS} is enabled.
  *
  * @since 4.0
  */
@@ -52,7 +56,8 @@ public class TransactionAwareProactorStreamProcessingStrategyFactory extends Rea
                                                                     .cpuIntensiveScheduler(muleContext.getSchedulerBaseConfig()
                                                                         .withName(schedulersNamePrefix + "."
                                                                             + CPU_INTENSIVE.name())),
-                                                                getMaxConcurrency());
+                                                                getMaxConcurrency(),
+                                                                getBoolean(THREAD_AGNOSTIC_TRANSACTIONS));
   }
 
   @Override
@@ -62,6 +67,8 @@ public class TransactionAwareProactorStreamProcessingStrategyFactory extends Rea
 
   static class TransactionAwareProactorStreamProcessingStrategy extends ProactorStreamProcessingStrategy {
 
+    private final boolean threadAgnosticTransactions;
+
     TransactionAwareProactorStreamProcessingStrategy(Supplier<Scheduler> ringBufferSchedulerSupplier,
                                                      int bufferSize,
                                                      int subscriberCount,
@@ -69,18 +76,24 @@ public class TransactionAwareProactorStreamProcessingStrategyFactory extends Rea
                                                      Supplier<Scheduler> cpuLightSchedulerSupplier,
                                                      Supplier<Scheduler> blockingSchedulerSupplier,
                                                      Supplier<Scheduler> cpuIntensiveSchedulerSupplier,
-                                                     int maxConcurrency)
+                                                     int maxConcurrency,
+                                                     boolean threadAgnosticTransactions)
 
     {
       super(ringBufferSchedulerSupplier, bufferSize, subscriberCount, waitStrategy, cpuLightSchedulerSupplier,
             blockingSchedulerSupplier, cpuIntensiveSchedulerSupplier, CORES, maxConcurrency);
+      this.threadAgnosticTransactions = threadAgnosticTransactions;
     }
 
     @Override
     public Sink createSink(FlowConstruct flowConstruct, ReactiveProcessor pipeline) {
       Sink proactorSink = super.createSink(flowConstruct, pipeline);
       Sink syncSink = BLOCKING_PROCESSING_STRATEGY_INSTANCE.createSink(flowConstruct, pipeline);
-      return new TransactionalDelegateSink(syncSink, proactorSink);
+      // The ring buffer threads would not see the transaction, so the event is dispatched through the decorated scheduler
+      Sink threadAgnosticSink = new StreamPerEventSink(publisher -> from(publisher)
+          .publishOn(fromExecutorService(decorateScheduler(getCpuLightScheduler()))).transform(pipeline), event -> {
+          });
+      return new TransactionalDelegateSink(syncSink, threadAgnosticSink, proactorSink, threadAgnosticTransactions);
     }
 
     @Override
@@ -92,17 +105,21 @@ public class TransactionAwareProactorStreamProcessingStrategyFactory extends Rea
 
     @Override
     protected ExecutorService decorateScheduler(Scheduler scheduler) {
-      return new ConditionalExecutorServiceDecorator(scheduler, currentScheduler -> isTransactionActive());
+      return new TransactionAwareExecutorServiceDecorator(scheduler, threadAgnosticTransactions);
     }
 
     @Override
     public ReactiveProcessor onPipeline(ReactiveProcessor pipeline) {
-      return isTransactionActive() ? BLOCKING_PROCESSING_STRATEGY_INSTANCE.onPipeline(pipeline) : super.onPipeline(pipeline);
+      return isTransactionBoundToCurrentThread(threadAgnosticTransactions)
+          ? BLOCKING_PROCESSING_STRATEGY_INSTANCE.onPipeline(pipeline)
+          : super.onPipeline(pipeline);
     }
 
     @Override
     public ReactiveProcessor onProcessor(ReactiveProcessor processor) {
-      return isTransactionActive() ? BLOCKING_PROCESSING_STRATEGY_INSTANCE.onProcessor(processor) : super.onProcessor(processor);
+      return isTransactionBoundToCurrentThread(threadAgnosticTransactions)
+          ? BLOCKING_PROCESSING_STRATEGY_INSTANCE.onProcessor(processor)
+          : super.onProcessor(processor);
     }
 
   }
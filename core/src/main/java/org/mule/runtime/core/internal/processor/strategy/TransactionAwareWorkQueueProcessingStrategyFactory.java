@@ -6,11 +6,13 @@
  */
 package org.mule.runtime.core.internal.processor.strategy;
 
+import static java.lang.Boolean.getBoolean;
 import static java.lang.Integer.MAX_VALUE;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
 import static org.mule.runtime.core.api.processor.ReactiveProcessor.ProcessingType.BLOCKING;
-import static org.mule.runtime.core.api.transaction.TransactionCoordination.isTransactionActive;
 import static org.mule.runtime.core.internal.processor.strategy.BlockingProcessingStrategyFactory.BLOCKING_PROCESSING_STRATEGY_INSTANCE;
+import static org.mule.runtime.core.internal.processor.strategy.TransactionAwareExecutorServiceDecorator.THREAD_AGNOSTIC_TRANSACTIONS;
+import static org.mule.runtime.core.internal.processor.strategy.TransactionAwareExecutorServiceDecorator.isTransactionBoundToCurrentThread;
 
 import org.mule.runtime.api.scheduler.Scheduler;
 import org.mule.runtime.core.api.MuleContext;
@@ -20,7 +22,6 @@ import org.mule.runtime.core.api.processor.ReactiveProcessor;
 import org.mule.runtime.core.api.processor.Sink;
 import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
 import org.mule.runtime.api.scheduler.SchedulerConfig;
-import org.mule.runtime.core.internal.util.rx.ConditionalExecutorServiceDecorator;
 
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
@@ -28,7 +29,8 @@ import java.util.function.Supplier;
 
 /**
  * Creates default processing strategy with same behavior as {@link WorkQueueProcessingStrategyFactory} apart from the fact it
- * will process synchronously without error when a transaction is active.
+ * will process synchronously without error when a transaction is active, unless it is a non XA transaction and
+ * {@link TransactionAwareExecutorServiceDecorator#THREAD_AGNOSTIC_TRANSACTIONS} is enabled.
  */
 public class TransactionAwareWorkQueueProcessingStrategyFactory extends WorkQueueProcessingStrategyFactory
     implements TransactionAwareProcessingStrategyFactory {
@@ -41,7 +43,7 @@ public class TransactionAwareWorkQueueProcessingStrategyFactory extends WorkQueu
     }
     SchedulerConfig finalSchedulerConfig = schedulerConfig;
     return new TransactionAwareWorkQueueProcessingStrategy(() -> muleContext.getSchedulerService()
-        .ioScheduler(finalSchedulerConfig));
+        .ioScheduler(finalSchedulerConfig), getBoolean(THREAD_AGNOSTIC_TRANSACTIONS));
   }
 
   @Override
@@ -51,15 +53,20 @@ public class TransactionAwareWorkQueueProcessingStrategyFactory extends WorkQueu
 
   static class TransactionAwareWorkQueueProcessingStrategy extends WorkQueueProcessingStrategy {
 
-    protected TransactionAwareWorkQueueProcessingStrategy(Supplier<Scheduler> ioSchedulerSupplier) {
+    private final boolean threadAgnosticTransactions;
+
+    protected TransactionAwareWorkQueueProcessingStrategy(Supplier<Scheduler> ioSchedulerSupplier,
+                                                          boolean threadAgnosticTransactions) {
       super(ioSchedulerSupplier);
+      this.threadAgnosticTransactions = threadAgnosticTransactions;
     }
 
     @Override
     public Sink createSink(FlowConstruct flowConstruct, ReactiveProcessor pipeline) {
       Sink workQueueSink = super.createSink(flowConstruct, pipeline);
       Sink syncSink = BLOCKING_PROCESSING_STRATEGY_INSTANCE.createSink(flowConstruct, pipeline);
-      return new TransactionalDelegateSink(syncSink, workQueueSink);
+      // Each event is dispatched through the decorated scheduler, which carries the transaction over
+      return new TransactionalDelegateSink(syncSink, workQueueSink, workQueueSink, threadAgnosticTransactions);
     }
 
     @Override
@@ -71,17 +78,21 @@ public class TransactionAwareWorkQueueProcessingStrategyFactory extends WorkQueu
 
     @Override
     protected ExecutorService decorateScheduler(Scheduler scheduler) {
-      return new ConditionalExecutorServiceDecorator(scheduler, currentScheduler -> isTransactionActive());
+      return new TransactionAwareExecutorServiceDecorator(scheduler, threadAgnosticTransactions);
     }
 
     @Override
     public ReactiveProcessor onPipeline(ReactiveProcessor pipeline) {
-      return isTransactionActive() ? BLOCKING_PROCESSING_STRATEGY_INSTANCE.onPipeline(pipeline) : super.onPipeline(pipeline);
+      return isTransactionBoundToCurrentThread(threadAgnosticTransactions)
+          ? BLOCKING_PROCESSING_STRATEGY_INSTANCE.onPipeline(pipeline)
+          : super.onPipeline(pipeline);
     }
 
     @Override
     public ReactiveProcessor onProcessor(ReactiveProcessor processor) {
-      return isTransactionActive() ? BLOCKING_PROCESSING_STRATEGY_INSTANCE.onProcessor(processor) : super.onProcessor(processor);
+      return isTransactionBoundToCurrentThread(threadAgnosticTransactions)
+          ? BLOCKING_PROCESSING_STRATEGY_INSTANCE.onProcessor(processor)
+          : super.onProcessor(processor);
     }
 
   }
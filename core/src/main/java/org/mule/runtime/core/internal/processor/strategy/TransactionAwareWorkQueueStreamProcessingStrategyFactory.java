@@ -6,9 +6,13 @@
  */
 package org.mule.runtime.core.internal.processor.strategy;
 
+import static java.lang.Boolean.getBoolean;
 import static org.mule.runtime.core.api.processor.ReactiveProcessor.ProcessingType.BLOCKING;
-import static org.mule.runtime.core.api.transaction.TransactionCoordination.isTransactionActive;
 import static org.mule.runtime.core.internal.processor.strategy.BlockingProcessingStrategyFactory.BLOCKING_PROCESSING_STRATEGY_INSTANCE;
+import static org.mule.runtime.core.internal.processor.strategy.TransactionAwareExecutorServiceDecorator.THREAD_AGNOSTIC_TRANSACTIONS;
+import static org.mule.runtime.core.internal.processor.strategy.TransactionAwareExecutorServiceDecorator.isTransactionBoundToCurrentThread;
+import static reactor.core.publisher.Flux.from;
+import static reactor.core.scheduler.Schedulers.fromExecutorService;
 
 import org.mule.runtime.api.scheduler.Scheduler;
 import org.mule.runtime.core.api.MuleContext;
@@ -18,7 +22,6 @@ import org.mule.runtime.core.api.processor.ReactiveProcessor;
 import org.mule.runtime.core.api.processor.Sink;
 import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
 import org.mule.runtime.api.scheduler.SchedulerService;
-import org.mule.runtime.core.internal.util.rx.ConditionalExecutorServiceDecorator;
 
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
@@ -46,7 +49,8 @@ public class TransactionAwareWorkQueueStreamProcessingStrategyFactory extends Wo
                                                                  () -> muleContext.getSchedulerService()
                                                                      .ioScheduler(muleContext.getSchedulerBaseConfig()
                                                                          .withName(schedulersNamePrefix + "." + BLOCKING.name())),
-                                                                 getMaxConcurrency());
+                                                                 getMaxConcurrency(),
+                                                                 getBoolean(THREAD_AGNOSTIC_TRANSACTIONS));
   }
 
   @Override
@@ -56,19 +60,27 @@ public class TransactionAwareWorkQueueStreamProcessingStrategyFactory extends Wo
 
   static class TransactionAwareWorkQueueStreamProcessingStrategy extends WorkQueueStreamProcessingStrategy {
 
+    private final boolean threadAgnosticTransactions;
+
     protected TransactionAwareWorkQueueStreamProcessingStrategy(Supplier<Scheduler> ringBufferSchedulerSupplier, int bufferSize,
                                                                 int subscribers,
                                                                 String waitStrategy,
                                                                 Supplier<Scheduler> blockingSchedulerSupplier,
-                                                                int maxConcurrency) {
+                                                                int maxConcurrency,
+                                                                boolean threadAgnosticTransactions) {
       super(ringBufferSchedulerSupplier, bufferSize, subscribers, waitStrategy, blockingSchedulerSupplier, maxConcurrency);
+      this.threadAgnosticTransactions = threadAgnosticTransactions;
     }
 
     @Override
     public Sink createSink(FlowConstruct flowConstruct, ReactiveProcessor pipeline) {
       Sink workQueueSink = super.createSink(flowConstruct, pipeline);
       Sink syncSink = BLOCKING_PROCESSING_STRATEGY_INSTANCE.createSink(flowConstruct, pipeline);
-      return new TransactionalDelegateSink(syncSink, workQueueSink);
+      // The ring buffer threads would not see the transaction, so the event is dispatched through the decorated scheduler
+      Sink threadAgnosticSink = new StreamPerEventSink(publisher -> from(publisher)
+          .publishOn(fromExecutorService(decorateScheduler(getBlockingScheduler()))).transform(pipeline), event -> {
+          });
+      return new TransactionalDelegateSink(syncSink, threadAgnosticSink, workQueueSink, threadAgnosticTransactions);
     }
 
     @Override
@@ -80,17 +92,21 @@ public class TransactionAwareWorkQueueStreamProcessingStrategyFactory extends Wo
 
     @Override
     protected ExecutorService decorateScheduler(Scheduler scheduler) {
-      return new ConditionalExecutorServiceDecorator(scheduler, currentScheduler -> isTransactionActive());
+      return new TransactionAwareExecutorServiceDecorator(scheduler, threadAgnosticTransactions);
     }
 
     @Override
     public ReactiveProcessor onPipeline(ReactiveProcessor pipeline) {
-      return isTransactionActive() ? BLOCKING_PROCESSING_STRATEGY_INSTANCE.onPipeline(pipeline) : super.onPipeline(pipeline);
+      return isTransactionBoundToCurrentThread(threadAgnosticTransactions)
+          ? BLOCKING_PROCESSING_STRATEGY_INSTANCE.onPipeline(pipeline)
+          : super.onPipeline(pipeline);
     }
 
     @Override
     public ReactiveProcessor onProcessor(ReactiveProcessor processor) {
-      return isTransactionActive() ? BLOCKING_PROCESSING_STRATEGY_INSTANCE.onProcessor(processor) : super.onProcessor(processor);
+      return isTransactionBoundToCurrentThread(threadAgnosticTransactions)
+          ? BLOCKING_PROCESSING_STRATEGY_INSTANCE.onProcessor(processor)
+          : super.onProcessor(processor);
     }
 
   }
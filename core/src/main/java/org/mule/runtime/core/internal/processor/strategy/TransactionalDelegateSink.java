@@ -8,6 +8,7 @@ package org.mule.runtime.core.internal.processor.strategy;
 
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
 import static org.mule.runtime.core.api.transaction.TransactionCoordination.isTransactionActive;
+import static org.mule.runtime.core.internal.processor.strategy.TransactionAwareExecutorServiceDecorator.isTransactionBoundToCurrentThread;
 import static org.slf4j.helpers.NOPLogger.NOP_LOGGER;
 
 import org.mule.runtime.api.lifecycle.Disposable;
@@ -15,39 +16,57 @@ import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.processor.Sink;
 
 /**
- * Delegate {@link Sink} that uses one of two {@link Sink}'s depending on if a transaction is in context or not.
+ * Delegate {@link Sink} that uses one of three {@link Sink}'s depending on if a transaction is in context or not, and whether
+ * that transaction can be continued in other threads.
  */
 final class TransactionalDelegateSink implements Sink, Disposable {
 
   private final Sink transactionalSink;
+  private final Sink threadAgnosticTransactionalSink;
   private final Sink sink;
+  private final boolean threadAgnosticTransactions;
 
-  public TransactionalDelegateSink(Sink transactionalSink, Sink sink) {
+  /**
+   * @param transactionalSink               the sink to use when a transaction bound to the current thread is active
+   * @param threadAgnosticTransactionalSink the sink to use when a transaction that can be continued in other threads is active.
+   *                                        It must carry the transaction over to the threads the event is dispatched to.
+   * @param sink                            the sink to use when no transaction is active
+   * @param threadAgnosticTransactions      whether non XA transactions can be continued in other threads
+   */
+  public TransactionalDelegateSink(Sink transactionalSink, Sink threadAgnosticTransactionalSink, Sink sink,
+                                   boolean threadAgnosticTransactions) {
     this.transactionalSink = transactionalSink;
+    this.threadAgnosticTransactionalSink = threadAgnosticTransactionalSink;
     this.sink = sink;
+    this.threadAgnosticTransactions = threadAgnosticTransactions;
   }
 
   @Override
   public void accept(CoreEvent event) {
-    if (isTransactionActive()) {
-      transactionalSink.accept(event);
-    } else {
-      sink.accept(event);
-    }
+    selectSink().accept(event);
   }
 
   @Override
   public boolean emit(CoreEvent event) {
-    if (isTransactionActive()) {
-      return transactionalSink.emit(event);
+    return selectSink().emit(event);
+  }
+
+  private Sink selectSink() {
+    if (isTransactionBoundToCurrentThread(threadAgnosticTransactions)) {
+      return transactionalSink;
+    } else if (isTransactionActive()) {
+      return threadAgnosticTransactionalSink;
     } else {
-      return sink.emit(event);
+      return sink;
     }
   }
 
   @Override
   public void dispose() {
     disposeIfNeeded(transactionalSink, NOP_LOGGER);
+    if (threadAgnosticTransactionalSink != sink) {
+      disposeIfNeeded(threadAgnosticTransactionalSink, NOP_LOGGER);
+    }
     disposeIfNeeded(sink, NOP_LOGGER);
   }
 }
@@ -100,6 +100,10 @@ public class WorkQueueStreamProcessingStrategyFactory extends AbstractStreamProc
       this.blockingScheduler = blockingSchedulerSupplier.get();
     }
 
+    protected Scheduler getBlockingScheduler() {
+      return blockingScheduler;
+    }
+
     @Override
     public void stop() throws MuleException {
       sinkList.stream().filter(sink -> sink instanceof Disposable).forEach(sink -> ((Disposable) sink).dispose());
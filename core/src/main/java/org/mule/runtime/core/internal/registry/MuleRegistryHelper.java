@@ -6,6 +6,8 @@
  */
 package org.mule.runtime.core.internal.registry;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
 import static org.mule.runtime.api.metadata.DataType.builder;
 import static org.mule.runtime.api.metadata.MediaType.ANY;
 import static org.mule.runtime.core.internal.registry.TransformerResolver.RegistryAction.ADDED;
@@ -23,6 +25,7 @@ import org.mule.runtime.core.api.transformer.Converter;
 import org.mule.runtime.core.api.transformer.Transformer;
 import org.mule.runtime.core.api.transformer.TransformerException;
 import org.mule.runtime.core.internal.transformer.ResolverException;
+import org.mule.runtime.core.internal.transformer.TransformerResolutionIndex;
 import org.mule.runtime.core.privileged.registry.RegistrationException;
 
 import com.google.common.collect.ImmutableList;
@@ -35,11 +38,7 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -59,21 +58,16 @@ public class MuleRegistryHelper implements MuleRegistry, RegistryProvider {
   /**
    * We cache transformer searches so that we only search once
    */
-  protected ConcurrentHashMap/* <String, Transformer> */ exactTransformerCache =
-      new ConcurrentHashMap/* <String, Transformer> */(8);
-  protected ConcurrentHashMap/* Map<String, List<Transformer>> */ transformerListCache =
-      new ConcurrentHashMap/* <String, List<Transformer>> */(8);
+  protected TransformerResolutionIndex<Transformer> exactTransformerIndex = new TransformerResolutionIndex<>();
+  protected TransformerResolutionIndex<List<Transformer>> transformerListIndex = new TransformerResolutionIndex<>();
 
   private MuleContext muleContext;
 
-  private final ReadWriteLock transformerResolversLock = new ReentrantReadWriteLock();
-
   /**
-   * Transformer transformerResolvers are registered on context start, then they are not unregistered.
+   * Transformer transformerResolvers are registered on context start, then they are not unregistered. The list is replaced
+   * on each registration, so it can be iterated without locking.
    */
-  private List<TransformerResolver> transformerResolvers = new ArrayList<>();
-
-  private final ReadWriteLock transformersLock = new ReentrantReadWriteLock();
+  private volatile List<TransformerResolver> transformerResolvers = emptyList();
 
   private Map<Object, Object> postProcessedObjects = new HashMap<>();
 
@@ -103,8 +97,8 @@ public class MuleRegistryHelper implements MuleRegistry, RegistryProvider {
    */
   @Override
   public void dispose() {
-    transformerListCache.clear();
-    exactTransformerCache.clear();
+    transformerListIndex.invalidate();
+    exactTransformerIndex.invalidate();
     registry.dispose();
   }
 
@@ -140,45 +134,25 @@ public class MuleRegistryHelper implements MuleRegistry, RegistryProvider {
     //and only find transformers with a targetType the same as or a super class of the expected one.
     //The same could be done for the source but since if the source expected by the transformer is more generic that
     //the provided, it will be found.
-    result = builder(result).mediaType(ANY).charset((Charset) null).build();
-
-    final String dataTypePairHash = getDataTypeSourceResultPairHash(source, result);
-    Transformer cachedTransformer = (Transformer) exactTransformerCache.get(dataTypePairHash);
-    if (cachedTransformer != null) {
-      return cachedTransformer;
-    }
-
-    Transformer trans = resolveTransformer(source, result);
+    result = anyMediaType(result);
 
-    if (trans != null) {
-      Transformer concurrentlyAddedTransformer = (Transformer) exactTransformerCache.putIfAbsent(dataTypePairHash, trans);
-      if (concurrentlyAddedTransformer != null) {
-        return concurrentlyAddedTransformer;
-      } else {
-        return trans;
-      }
-    } else {
+    Transformer trans = exactTransformerIndex.resolve(source, result, this::resolveTransformer);
+    if (trans == null) {
       throw new TransformerException(CoreMessages.noTransformerFoundForMessage(source, result));
     }
+    return trans;
   }
 
   protected Transformer resolveTransformer(DataType source, DataType result) throws TransformerException {
-    Lock readLock = transformerResolversLock.readLock();
-    readLock.lock();
-
-    try {
-      for (TransformerResolver resolver : transformerResolvers) {
-        try {
-          Transformer trans = resolver.resolve(source, result);
-          if (trans != null) {
-            return trans;
-          }
-        } catch (ResolverException e) {
-          throw new TransformerException(CoreMessages.noTransformerFoundForMessage(source, result), e);
+    for (TransformerResolver resolver : transformerResolvers) {
+      try {
+        Transformer trans = resolver.resolve(source, result);
+        if (trans != null) {
+          return trans;
         }
+      } catch (ResolverException e) {
+        throw new TransformerException(CoreMessages.noTransformerFoundForMessage(source, result), e);
       }
-    } finally {
-      readLock.unlock();
     }
 
     return null;
@@ -193,41 +167,31 @@ public class MuleRegistryHelper implements MuleRegistry, RegistryProvider {
     //and only find transformers with a targetType the same as or a super class of the expected one.
     //The same could be done for the source but since if the source expected by the transformer is more generic that
     //the provided, it will be found.
-    result = builder(result).mediaType(ANY).charset((Charset) null).build();
-
-    final String dataTypePairHash = getDataTypeSourceResultPairHash(source, result);
-
-    List<Transformer> results = (List<Transformer>) transformerListCache.get(dataTypePairHash);
-    if (results != null) {
-      return results;
-    }
+    result = anyMediaType(result);
 
-    results = new ArrayList<>(2);
+    return transformerListIndex.resolve(source, result, this::findTransformers);
+  }
 
-    Lock readLock = transformersLock.readLock();
-    readLock.lock();
-    try {
-      for (Transformer transformer : transformers) {
-        // The transformer must have the DiscoveryTransformer interface if we are
-        // going to find it here
-        if (!(transformer instanceof Converter)) {
-          continue;
-        }
-        if (result.isCompatibleWith(transformer.getReturnDataType()) && transformer.isSourceDataTypeSupported(source)) {
-          results.add(transformer);
-        }
+  private List<Transformer> findTransformers(DataType source, DataType result) {
+    List<Transformer> results = new ArrayList<>(2);
+    for (Transformer transformer : transformers) {
+      // The transformer must have the DiscoveryTransformer interface if we are
+      // going to find it here
+      if (!(transformer instanceof Converter)) {
+        continue;
+      }
+      if (result.isCompatibleWith(transformer.getReturnDataType()) && transformer.isSourceDataTypeSupported(source)) {
+        results.add(transformer);
       }
-    } finally {
-      readLock.unlock();
     }
+    return results;
+  }
 
-    List<Transformer> concurrentlyAddedTransformers =
-        (List<Transformer>) transformerListCache.putIfAbsent(dataTypePairHash, results);
-    if (concurrentlyAddedTransformers != null) {
-      return concurrentlyAddedTransformers;
-    } else {
-      return results;
+  private DataType anyMediaType(DataType dataType) {
+    if (ANY.equals(dataType.getMediaType())) {
+      return dataType;
     }
+    return builder(dataType).mediaType(ANY).charset((Charset) null).build();
   }
 
   /**
@@ -261,31 +225,19 @@ public class MuleRegistryHelper implements MuleRegistry, RegistryProvider {
 
   public void notifyTransformerResolvers(Transformer t, TransformerResolver.RegistryAction action) {
     if (t instanceof Converter) {
-      Lock transformerResolversReadLock = transformerResolversLock.readLock();
-      transformerResolversReadLock.lock();
-      try {
-
-        for (TransformerResolver resolver : transformerResolvers) {
-          resolver.transformerChange(t, action);
-        }
-      } finally {
-        transformerResolversReadLock.unlock();
+      // The transformers are updated before invalidating anything, so that no lookup against the previous ones is kept
+      if (action == ADDED) {
+        transformers.add(t);
+      } else {
+        transformers.remove(t);
       }
 
-      transformerListCache.clear();
-      exactTransformerCache.clear();
-
-      Lock transformersWriteLock = transformersLock.writeLock();
-      transformersWriteLock.lock();
-      try {
-        if (action == ADDED) {
-          transformers.add(t);
-        } else {
-          transformers.remove(t);
-        }
-      } finally {
-        transformersWriteLock.unlock();
+      for (TransformerResolver resolver : transformerResolvers) {
+        resolver.transformerChange(t, action);
       }
+
+      transformerListIndex.invalidate();
+      exactTransformerIndex.invalidate();
     }
   }
 
@@ -461,15 +413,13 @@ public class MuleRegistryHelper implements MuleRegistry, RegistryProvider {
     postObjectRegistrationActions(value);
   }
 
-  public void registerTransformerResolver(TransformerResolver value) {
-    Lock lock = transformerResolversLock.writeLock();
-    lock.lock();
-    try {
-      transformerResolvers.add(value);
-      Collections.sort(transformerResolvers, new TransformerResolverComparator());
-    } finally {
-      lock.unlock();
-    }
+  public synchronized void registerTransformerResolver(TransformerResolver value) {
+    List<TransformerResolver> resolvers = new ArrayList<>(transformerResolvers);
+    resolvers.add(value);
+    Collections.sort(resolvers, new TransformerResolverComparator());
+    transformerResolvers = unmodifiableList(resolvers);
+
+    exactTransformerIndex.invalidate();
   }
 
   /**
@@ -533,10 +483,6 @@ public class MuleRegistryHelper implements MuleRegistry, RegistryProvider {
     return false;
   }
 
-  private String getDataTypeSourceResultPairHash(DataType source, DataType result) {
-    return source.getClass().getName() + source.hashCode() + ":" + result.getClass().getName() + result.hashCode();
-  }
-
   private class TransformerResolverComparator implements Comparator<TransformerResolver> {
 
     @Override
@@ -20,6 +20,7 @@ import org.mule.runtime.core.api.transformer.Converter;
 import org.mule.runtime.core.api.transformer.Transformer;
 import org.mule.runtime.core.internal.context.MuleContextWithRegistries;
 import org.mule.runtime.core.internal.transformer.ResolverException;
+import org.mule.runtime.core.internal.transformer.TransformerResolutionIndex;
 import org.mule.runtime.core.internal.transformer.graph.GraphTransformerResolver;
 import org.mule.runtime.core.internal.transformer.simple.ObjectToByteArray;
 import org.mule.runtime.core.internal.transformer.simple.ObjectToString;
@@ -33,8 +34,6 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Will discover transformers based on type information only. It looks for transformers that support the source and result types
@@ -53,7 +52,7 @@ public class TypeBasedTransformerResolver implements TransformerResolver, MuleCo
 
   private MuleContext muleContext;
 
-  protected Map<String, Transformer> exactTransformerCache = new ConcurrentHashMap/* <String, Transformer> */(8);
+  protected TransformerResolutionIndex<Transformer> resolutionIndex = new TransformerResolutionIndex<>();
 
   protected TransformerResolver graphTransformerResolver = new GraphTransformerResolver();
 
@@ -78,11 +77,10 @@ public class TypeBasedTransformerResolver implements TransformerResolver, MuleCo
   }
 
   public Transformer resolve(DataType source, DataType result) throws ResolverException {
-    Transformer transformer = exactTransformerCache.get(source.toString() + result.toString());
-    if (transformer != null) {
-      return transformer;
-    }
+    return resolutionIndex.resolve(source, result, this::resolveTransformer);
+  }
 
+  private Transformer resolveTransformer(DataType source, DataType result) throws ResolverException {
     MuleRegistry registry = ((MuleContextWithRegistries) muleContext).getRegistry();
     List<Transformer> trans = registry.lookupTransformers(source, result);
 
@@ -93,7 +91,7 @@ public class TypeBasedTransformerResolver implements TransformerResolver, MuleCo
       trans.add(compositeTransformer);
     }
 
-    transformer = getNearestTransformerMatch(trans, source.getType(), result.getType());
+    Transformer transformer = getNearestTransformerMatch(trans, source.getType(), result.getType());
     // If an exact mach is not found, we have a 'second pass' transformer that can be used to converting to String or
     // byte[]
     Transformer secondPass;
@@ -121,9 +119,6 @@ public class TypeBasedTransformerResolver implements TransformerResolver, MuleCo
       }
     }
 
-    if (transformer != null) {
-      exactTransformerCache.put(source.toString() + result.toString(), transformer);
-    }
     return transformer;
   }
 
@@ -170,14 +165,14 @@ public class TypeBasedTransformerResolver implements TransformerResolver, MuleCo
 
   @Override
   public void dispose() {
-    exactTransformerCache.clear();
+    resolutionIndex.invalidate();
   }
 
   @Override
   public void transformerChange(Transformer transformer, RegistryAction registryAction) {
     if (transformer instanceof Converter) {
       graphTransformerResolver.transformerChange(transformer, registryAction);
-      exactTransformerCache.clear();
+      resolutionIndex.invalidate();
     }
   }
 }
@@ -57,6 +57,11 @@ public class EventGroup implements Comparable<EventGroup>, Serializable, Deseria
   transient private MuleContext muleContext;
   private int arrivalOrderCounter = 0;
 
+  // The amount of events in the store, tracked as they're added to avoid listing the whole partition on each size() call.
+  // Not serialized, since a deserialized copy may be outdated.
+  private transient boolean eventsCountKnown = false;
+  private transient int eventsCount;
+
   public static final String DEFAULT_STORE_PREFIX = "DEFAULT_STORE";
 
   public EventGroup(Object groupId, MuleContext muleContext) {
@@ -163,10 +168,11 @@ public class EventGroup implements Comparable<EventGroup>, Serializable, Deseria
   @SuppressWarnings("unchecked")
   public Iterator<CoreEvent> iterator(boolean sortByArrival) throws ObjectStoreException {
     synchronized (this) {
-      if (eventsObjectStore.allKeys(eventsPartitionKey).isEmpty()) {
+      PrivilegedEvent[] events = this.toArray(sortByArrival);
+      if (events.length == 0) {
         return IteratorUtils.emptyIterator();
       } else {
-        return IteratorUtils.arrayIterator(this.toArray(sortByArrival));
+        return IteratorUtils.arrayIterator(events);
       }
     }
   }
@@ -190,10 +196,10 @@ public class EventGroup implements Comparable<EventGroup>, Serializable, Deseria
    */
   public PrivilegedEvent[] toArray(boolean sortByArrival) throws ObjectStoreException {
     synchronized (this) {
-      if (eventsObjectStore.allKeys(eventsPartitionKey).isEmpty()) {
+      List<String> keys = eventsObjectStore.allKeys(eventsPartitionKey);
+      if (keys.isEmpty()) {
         return EMPTY_EVENTS_ARRAY;
       }
-      List<String> keys = eventsObjectStore.allKeys(eventsPartitionKey);
       PrivilegedEvent[] eventArray = new PrivilegedEvent[keys.size()];
       for (int i = 0; i < keys.size(); i++) {
         eventArray[i] = (PrivilegedEvent) eventsObjectStore.retrieve(keys.get(i), eventsPartitionKey);
@@ -218,6 +224,9 @@ public class EventGroup implements Comparable<EventGroup>, Serializable, Deseria
       // when an event is split up, the same event IDs are used.
       String key = getEventKey(event);
       eventsObjectStore.store(key, event, eventsPartitionKey);
+      if (eventsCountKnown) {
+        eventsCount++;
+      }
     }
   }
 
@@ -247,7 +256,11 @@ public class EventGroup implements Comparable<EventGroup>, Serializable, Deseria
   public int size() {
     synchronized (this) {
       try {
-        return eventsObjectStore.allKeys(eventsPartitionKey).size();
+        if (!eventsCountKnown) {
+          eventsCount = eventsObjectStore.allKeys(eventsPartitionKey).size();
+          eventsCountKnown = true;
+        }
+        return eventsCount;
       } catch (ObjectStoreException e) {
         // TODO Check if this is ok.
         return -1;
@@ -273,6 +286,8 @@ public class EventGroup implements Comparable<EventGroup>, Serializable, Deseria
     synchronized (this) {
       eventsObjectStore.clear(eventsPartitionKey);
       eventsObjectStore.disposePartition(eventsPartitionKey);
+      eventsCount = 0;
+      eventsCountKnown = true;
     }
   }
 
@@ -356,7 +371,12 @@ public class EventGroup implements Comparable<EventGroup>, Serializable, Deseria
   }
 
   public void initEventsStore(PartitionableObjectStore<CoreEvent> events) throws ObjectStoreException {
-    this.eventsObjectStore = events;
+    synchronized (this) {
+      if (eventsObjectStore != events) {
+        eventsCountKnown = false;
+      }
+      this.eventsObjectStore = events;
+    }
     events.open(eventsPartitionKey);
   }
 
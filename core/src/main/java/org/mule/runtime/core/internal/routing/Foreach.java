@@ -9,7 +9,10 @@ package org.mule.runtime.core.internal.routing;
 import static java.util.Collections.singletonList;
 import static java.util.Optional.ofNullable;
 import static org.mule.runtime.api.metadata.DataType.fromObject;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
 import static org.mule.runtime.core.api.event.CoreEvent.builder;
+import static org.mule.runtime.core.api.exception.Errors.ComponentIdentifiers.Handleable.TIMEOUT;
+import static org.mule.runtime.core.internal.processor.strategy.DirectProcessingStrategyFactory.DIRECT_PROCESSING_STRATEGY_INSTANCE;
 import static org.mule.runtime.core.internal.routing.ExpressionSplittingStrategy.DEFAULT_SPLIT_EXPRESSION;
 import static org.mule.runtime.core.privileged.processor.MessageProcessors.getProcessingStrategy;
 import static org.mule.runtime.core.privileged.processor.MessageProcessors.newChain;
@@ -32,6 +35,8 @@ import org.mule.runtime.core.api.processor.AbstractMessageProcessorOwner;
 import org.mule.runtime.core.api.processor.Processor;
 import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
 import org.mule.runtime.core.internal.exception.MessagingException;
+import org.mule.runtime.core.internal.routing.ForkJoinStrategy.RoutingPair;
+import org.mule.runtime.core.internal.routing.forkjoin.JoinLastForkJoinStrategyFactory;
 import org.mule.runtime.core.internal.routing.outbound.EventBuilderConfigurer;
 import org.mule.runtime.core.internal.routing.outbound.EventBuilderConfigurerIterator;
 import org.mule.runtime.core.internal.routing.outbound.EventBuilderConfigurerList;
@@ -61,6 +66,11 @@ import reactor.core.publisher.Flux;
  * <p>
  * Defining a groupSize greater than one, allows iterating over collections of elements of the specified size.
  * <p>
+ * Defining a maxConcurrency greater than one processes up to that many elements in parallel, each one starting from the event
+ * that arrived to foreach rather than from the result of the previous element. Elements are only taken from the collection as
+ * others complete, so that large or streamed collections are not loaded in memory. The variables of the result are those of the
+ * last element, or those of the last element to complete if not ordered.
+ * <p>
  * The {@link CoreEvent} sent to the next message processor is the same that arrived to foreach.
  */
 public class Foreach extends AbstractMessageProcessorOwner implements Initialisable, Scope {
@@ -77,6 +87,9 @@ public class Foreach extends AbstractMessageProcessorOwner implements Initialisa
   private String rootMessageVariableName = DEFAULT_ROOT_MESSAGE_VARIABLE;
   private String counterVariableName = DEFAULT_COUNTER_VARIABLE;
   private MessageProcessorChain nestedChain;
+  private int maxConcurrency = 1;
+  private boolean ordered = true;
+  private ForkJoinStrategy forkJoinStrategy;
 
   @Override
   public CoreEvent process(CoreEvent event) throws MuleException {
@@ -106,7 +119,7 @@ public class Foreach extends AbstractMessageProcessorOwner implements Initialisa
           final CoreEvent requestEvent =
               builder(originalEvent).addVariable(rootMessageVariableName, originalEvent.getMessage()).build();
 
-          return splitAndProcess(requestEvent)
+          return (maxConcurrency > 1 ? splitAndProcessInParallel(requestEvent) : splitAndProcess(requestEvent))
               .map(result -> {
                 final Builder responseBuilder = builder(result).message(originalEvent.getMessage());
                 restoreVariables(previousCounterVar, previousRootMessageVar, responseBuilder);
@@ -136,9 +149,7 @@ public class Foreach extends AbstractMessageProcessorOwner implements Initialisa
     }
   }
 
-  private Flux<CoreEvent> splitAndProcess(CoreEvent request) {
-    AtomicInteger count = new AtomicInteger();
-    final AtomicReference<CoreEvent> currentEvent = new AtomicReference<>(request);
+  private Flux<TypedValue<?>> split(CoreEvent request) {
     return fromIterable(
                         // Split into sequence of TypedValue
                         () -> splitRequest(request))
@@ -149,40 +160,64 @@ public class Foreach extends AbstractMessageProcessorOwner implements Initialisa
                             // TypedValue<List<TypedValue<T>>>.
                             .transform(p -> batchSize > 1
                                 ? from(p).buffer(batchSize).map(list -> new TypedValue<>(list, fromObject(list)))
-                                : p)
-                            // For each TypedValue part process the nested chain using the event from the previous part.
-                            .concatMap(typedValue -> {
-                              Builder partEventBuilder = builder(currentEvent.get());
-                              if (typedValue.getValue() instanceof EventBuilderConfigurer) {
-                                // Support EventBuilderConfigurer currently used by Batch Module
-                                ((EventBuilderConfigurer) typedValue.getValue()).configure(partEventBuilder);
-                              } else if (typedValue.getValue() instanceof Message) {
-                                // If value is a Message then use it directly conserving attributes and properties.
-                                partEventBuilder.message((Message) typedValue.getValue());
-                              } else {
-                                // Otherwise create a new message
-                                partEventBuilder.message(Message.builder().payload(typedValue).build());
-                              }
-                              return from(processWithChildContext(partEventBuilder
-                                  .addVariable(counterVariableName, count.incrementAndGet()).build(), nestedChain,
-                                                                  ofNullable(getLocation())))
-                                                                      .doOnNext(result -> currentEvent
-                                                                          .set(CoreEvent.builder(result).build()));
-                            })
-                            // This can potentially be improved but simplest way currently to determine if split results in empty
-                            // iterator is to check atomic count
-                            .switchIfEmpty(defer(() -> {
-                              if (count.get() == 0) {
-                                logger
-                                    .warn("Split expression returned no results. If this is not expected please check your expression");
-                                return just(request);
-                              } else {
-                                return empty();
-                              }
-                            }))
-                            .takeLast(1)
-                            .map(s -> CoreEvent.builder(currentEvent.get()).message(request.getMessage()).build())
-                            .errorStrategyStop();
+                                : p);
+  }
+
+  private CoreEvent createPartEvent(CoreEvent baseEvent, TypedValue<?> typedValue, int counter) {
+    Builder partEventBuilder = builder(baseEvent);
+    if (typedValue.getValue() instanceof EventBuilderConfigurer) {
+      // Support EventBuilderConfigurer currently used by Batch Module
+      ((EventBuilderConfigurer) typedValue.getValue()).configure(partEventBuilder);
+    } else if (typedValue.getValue() instanceof Message) {
+      // If value is a Message then use it directly conserving attributes and properties.
+      partEventBuilder.message((Message) typedValue.getValue());
+    } else {
+      // Otherwise create a new message
+      partEventBuilder.message(Message.builder().payload(typedValue).build());
+    }
+    return partEventBuilder.addVariable(counterVariableName, counter).build();
+  }
+
+  private Flux<CoreEvent> splitAndProcess(CoreEvent request) {
+    AtomicInteger count = new AtomicInteger();
+    final AtomicReference<CoreEvent> currentEvent = new AtomicReference<>(request);
+    return split(request)
+        // For each TypedValue part process the nested chain using the event from the previous part.
+        .concatMap(typedValue -> from(processWithChildContext(createPartEvent(currentEvent.get(), typedValue,
+                                                                              count.incrementAndGet()),
+                                                              nestedChain, ofNullable(getLocation())))
+                                                                  .doOnNext(result -> currentEvent
+                                                                      .set(CoreEvent.builder(result).build())))
+        // This can potentially be improved but simplest way currently to determine if split results in empty
+        // iterator is to check atomic count
+        .switchIfEmpty(defer(() -> {
+          if (count.get() == 0) {
+            logger
+                .warn("Split expression returned no results. If this is not expected please check your expression");
+            return just(request);
+          } else {
+            return empty();
+          }
+        }))
+        .takeLast(1)
+        .map(s -> CoreEvent.builder(currentEvent.get()).message(request.getMessage()).build())
+        .errorStrategyStop();
+  }
+
+  private Flux<CoreEvent> splitAndProcessInParallel(CoreEvent request) {
+    AtomicInteger count = new AtomicInteger();
+    // Every part is processed using the incoming event, so that parts don't depend on each other.
+    Flux<RoutingPair> routingPairs = split(request)
+        .map(typedValue -> RoutingPair.of(createPartEvent(request, typedValue, count.incrementAndGet()), nestedChain));
+
+    return from(forkJoinStrategy.forkJoin(request, routingPairs))
+        .doOnNext(result -> {
+          if (count.get() == 0) {
+            logger.warn("Split expression returned no results. If this is not expected please check your expression");
+          }
+        })
+        .map(result -> CoreEvent.builder(result).message(request.getMessage()).build())
+        .errorStrategyStop();
   }
 
   private Iterator<TypedValue<?>> splitRequest(CoreEvent request) {
@@ -213,6 +248,13 @@ public class Foreach extends AbstractMessageProcessorOwner implements Initialisa
     Optional<ProcessingStrategy> processingStrategy = getProcessingStrategy(locator, getRootContainerLocation());
     nestedChain = newChain(processingStrategy, messageProcessors);
     splittingStrategy = new ExpressionSplittingStrategy(muleContext.getExpressionManager(), expression);
+    if (maxConcurrency > 1) {
+      // iterations never time out, so no timeout scheduler is needed
+      forkJoinStrategy = new JoinLastForkJoinStrategyFactory(ordered)
+          .createForkJoinStrategy(processingStrategy.orElse(DIRECT_PROCESSING_STRATEGY_INSTANCE), maxConcurrency, false,
+                                  Long.MAX_VALUE, null,
+                                  muleContext.getErrorTypeRepository().getErrorType(TIMEOUT).get());
+    }
     super.initialise();
   }
 
@@ -224,6 +266,27 @@ public class Foreach extends AbstractMessageProcessorOwner implements Initialisa
     this.batchSize = batchSize;
   }
 
+  /**
+   * Set the maximum amount of elements to be processed in parallel. Elements are processed sequentially by default.
+   *
+   * @param maxConcurrency the maximum amount of elements to be processed in parallel.
+   * @throws IllegalArgumentException if the value is zero or less.
+   */
+  public void setMaxConcurrency(int maxConcurrency) {
+    checkArgument(maxConcurrency > 0, "Maximum concurrency must be one or more.");
+    this.maxConcurrency = maxConcurrency;
+  }
+
+  /**
+   * Set whether the results of elements processed in parallel are handled in the order of the elements. Only applies when
+   * {@code maxConcurrency} is greater than one. Defaults to {@code true}.
+   *
+   * @param ordered whether the results are handled in the order of the elements.
+   */
+  public void setOrdered(boolean ordered) {
+    this.ordered = ordered;
+  }
+
   public void setRootMessageVariableName(String rootMessageVariableName) {
     this.rootMessageVariableName = rootMessageVariableName;
   }
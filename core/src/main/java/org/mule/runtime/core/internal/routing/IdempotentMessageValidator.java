@@ -6,7 +6,9 @@
  */
 package org.mule.runtime.core.internal.routing;
 
+import static java.lang.Math.max;
 import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.MINUTES;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.mule.runtime.api.el.BindingContextUtils.CORRELATION_ID;
@@ -20,12 +22,14 @@ import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.startIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
+import static org.mule.runtime.core.internal.store.BulkObjectStoreUtils.storeAll;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import org.mule.runtime.api.component.AbstractComponent;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.api.lifecycle.Lifecycle;
+import org.mule.runtime.api.scheduler.Scheduler;
 import org.mule.runtime.api.store.ObjectAlreadyExistsException;
 import org.mule.runtime.api.store.ObjectStore;
 import org.mule.runtime.api.store.ObjectStoreException;
@@ -38,6 +42,13 @@ import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.processor.Processor;
 import org.mule.runtime.core.internal.context.MuleContextWithRegistries;
 import org.mule.runtime.core.internal.exception.MessagingException;
+import org.mule.runtime.core.internal.util.AgingBloomFilter;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
 
 import org.slf4j.Logger;
 
@@ -49,12 +60,28 @@ import org.slf4j.Logger;
  * <p>
  * <b>EIP Reference:</b> <a href="http://www.eaipatterns.com/IdempotentReceiver.html">
  * http://www.eaipatterns.com/IdempotentReceiver.html</a>
+ * <p>
+ * When {@link #setEnableBloomFilter(boolean) enableBloomFilter} is set, the IDs are first checked against an
+ * {@link AgingBloomFilter} built from the keys in the store when started. IDs which are definitely new are accepted right
+ * away and written to the store in batches, while possible duplicates are checked against the store synchronously. Since the
+ * filter only knows about the IDs processed by this validator, this mode should not be used with stores which are also
+ * written by other validators or nodes. If a batch cannot be written, it is kept to be retried with the next one, and from then
+ * on each new ID is only accepted once it and the pending ones are written, so that no IDs are accepted while the store is not
+ * writable.
  */
 public class IdempotentMessageValidator extends AbstractComponent
     implements Processor, MuleContextAware, Lifecycle {
 
   private static final Logger LOGGER = getLogger(IdempotentMessageValidator.class);
 
+  private static final long DEFAULT_ENTRY_TTL = MINUTES.toMillis(5);
+  private static final long DEFAULT_EXPIRATION_INTERVAL = SECONDS.toMillis(6);
+
+  private static final int BLOOM_FILTER_EXPECTED_ENTRIES = 10000;
+  private static final double BLOOM_FILTER_FALSE_POSITIVE_PROBABILITY = 0.01;
+  private static final int WRITE_BATCH_SIZE = 100;
+  private static final long WRITE_BATCH_INTERVAL = 1000;
+
   protected MuleContext muleContext;
 
   protected volatile ObjectStore<String> store;
@@ -64,6 +91,17 @@ public class IdempotentMessageValidator extends AbstractComponent
   protected String idExpression = format("%s%s%s", DEFAULT_EXPRESSION_PREFIX, CORRELATION_ID, DEFAULT_EXPRESSION_POSTFIX);
   protected String valueExpression = format("%s%s%s", DEFAULT_EXPRESSION_PREFIX, CORRELATION_ID, DEFAULT_EXPRESSION_POSTFIX);
 
+  protected boolean enableBloomFilter = false;
+  // the settings of the store, if created by this validator
+  private ObjectStoreSettings storeSettings;
+  private volatile AgingBloomFilter idsFilter;
+  private Map<String, String> pendingWrites = new LinkedHashMap<>();
+  private final Object pendingWritesLock = new Object();
+  private final Object writeLock = new Object();
+  private Scheduler writeScheduler;
+  private ScheduledFuture<?> writeTask;
+  private volatile boolean storeWritable = true;
+
   @Override
   public void setMuleContext(MuleContext context) {
     this.muleContext = context;
@@ -98,10 +136,51 @@ public class IdempotentMessageValidator extends AbstractComponent
   @Override
   public void start() throws MuleException {
     startIfNeeded(store);
+
+    if (enableBloomFilter) {
+      startBloomFilter();
+    }
+  }
+
+  private void startBloomFilter() throws ObjectStoreException {
+    // IDs written by previous runs of a persistent store must be known by the filter.
+    List<String> storedIds = store.allKeys();
+
+    // The filter must keep each ID for at least as long as the store does, accounting for the delay of the batched write.
+    // The TTL of a store not created by this validator is unknown, so the filter never forgets in that case.
+    long maxAge = storeSettings != null && storeSettings.getEntryTTL().isPresent()
+        ? storeSettings.getEntryTTL().get() + storeSettings.getExpirationInterval() + WRITE_BATCH_INTERVAL
+        : 0;
+    // A bounded store may keep more IDs than the default expects, in which case the filter must be sized after it.
+    int expectedEntries = max(max(BLOOM_FILTER_EXPECTED_ENTRIES, storedIds.size()), getStoreMaxEntries());
+    AgingBloomFilter filter = new AgingBloomFilter(expectedEntries, BLOOM_FILTER_FALSE_POSITIVE_PROBABILITY, maxAge,
+                                                   MILLISECONDS);
+    storedIds.forEach(filter::add);
+
+    writeScheduler = muleContext.getSchedulerService().ioScheduler();
+    writeTask = writeScheduler.scheduleWithFixedDelay(this::writePendingQuietly, WRITE_BATCH_INTERVAL, WRITE_BATCH_INTERVAL,
+                                                      MILLISECONDS);
+    idsFilter = filter;
+  }
+
+  /**
+   * @return the maximum amount of entries kept by the store, or a non positive value if unbounded or unknown.
+   */
+  private int getStoreMaxEntries() {
+    // The settings of a store not created by this validator are not known. A bigger store only makes the filter report more
+    // possible duplicates, which are then checked against the store.
+    return storeSettings != null ? storeSettings.getMaxEntries().orElse(0) : 0;
   }
 
   @Override
   public void stop() throws MuleException {
+    if (idsFilter != null) {
+      idsFilter = null;
+      writeTask.cancel(false);
+      writeScheduler.stop();
+      writePendingQuietly();
+    }
+
     stopIfNeeded(store);
   }
 
@@ -112,11 +191,12 @@ public class IdempotentMessageValidator extends AbstractComponent
 
   protected ObjectStore<String> createMessageIdStore() throws InitialisationException {
     ObjectStoreManager objectStoreManager = ((MuleContextWithRegistries) muleContext).getRegistry().get(OBJECT_STORE_MANAGER);
-    return objectStoreManager.createObjectStore(storePrefix, ObjectStoreSettings.builder()
+    storeSettings = ObjectStoreSettings.builder()
         .persistent(false)
-        .entryTtl(MINUTES.toMillis(5))
-        .expirationInterval(SECONDS.toMillis(6))
-        .build());
+        .entryTtl(DEFAULT_ENTRY_TTL)
+        .expirationInterval(DEFAULT_EXPIRATION_INTERVAL)
+        .build();
+    return objectStoreManager.createObjectStore(storePrefix, storeSettings);
   }
 
   protected String getValueForEvent(CoreEvent event) throws MessagingException {
@@ -144,6 +224,11 @@ public class IdempotentMessageValidator extends AbstractComponent
   }
 
   private boolean accept(CoreEvent event) {
+    final AgingBloomFilter filter = idsFilter;
+    if (event != null && filter != null) {
+      return acceptWithFilter(event, filter);
+    }
+
     if (event != null && isNewMessage(event)) {
       try {
         String id = getIdForEvent(event);
@@ -169,6 +254,99 @@ public class IdempotentMessageValidator extends AbstractComponent
     }
   }
 
+  private boolean acceptWithFilter(CoreEvent event, AgingBloomFilter filter) {
+    try {
+      String id = getIdForEvent(event);
+      String value = getValueForEvent(event);
+      if (filter.add(id)) {
+        return addPendingWrite(id, value);
+      }
+
+      try {
+        // Possible duplicate. Make sure every previously accepted ID is in the store before checking against it.
+        writePending();
+        store.store(id, value);
+        return true;
+      } catch (ObjectAlreadyExistsException ex) {
+        return false;
+      } catch (ObjectStoreNotAvailableException e) {
+        LOGGER.error("ObjectStore not available: " + e.getMessage());
+        return false;
+      } catch (ObjectStoreException e) {
+        LOGGER.warn("ObjectStore exception: " + e.getMessage());
+        return false;
+      }
+    } catch (MuleException e) {
+      LOGGER.warn("Could not retrieve Id or Value for event: " + e.getMessage());
+      return false;
+    }
+  }
+
+  private boolean addPendingWrite(String id, String value) {
+    boolean batchComplete;
+    synchronized (pendingWritesLock) {
+      pendingWrites.put(id, value);
+      // Once a write failed, the ID is not accepted until it is written
+      batchComplete = pendingWrites.size() >= WRITE_BATCH_SIZE || !storeWritable;
+    }
+
+    if (batchComplete) {
+      try {
+        writePending();
+      } catch (ObjectStoreException e) {
+        // The IDs already accepted are kept to be retried, but this one is rejected so that no IDs are accepted while the store
+        // is not writable. A redelivery of it is checked against the store, since the filter already has it.
+        synchronized (pendingWritesLock) {
+          pendingWrites.remove(id);
+        }
+        LOGGER.warn("ObjectStore exception writing batch of processed IDs: " + e.getMessage());
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void writePending() throws ObjectStoreException {
+    // Holding this lock until the batch is written guarantees that a pending ID is never invisible to both the
+    // filter's callers and the store.
+    synchronized (writeLock) {
+      Map<String, String> batch;
+      synchronized (pendingWritesLock) {
+        if (pendingWrites.isEmpty()) {
+          return;
+        }
+        batch = pendingWrites;
+        pendingWrites = new LinkedHashMap<>();
+      }
+
+      Set<String> existing;
+      try {
+        existing = storeAll(store, batch);
+      } catch (ObjectStoreException e) {
+        // Put the batch back ahead of the IDs accepted meanwhile, so it is retried with the next write.
+        synchronized (pendingWritesLock) {
+          batch.putAll(pendingWrites);
+          pendingWrites = batch;
+        }
+        storeWritable = false;
+        throw e;
+      }
+      storeWritable = true;
+
+      if (!existing.isEmpty() && LOGGER.isDebugEnabled()) {
+        LOGGER.debug("IDs {} accepted by the bloom filter were already present in the store", existing);
+      }
+    }
+  }
+
+  private void writePendingQuietly() {
+    try {
+      writePending();
+    } catch (ObjectStoreException e) {
+      LOGGER.warn("ObjectStore exception writing batch of processed IDs: " + e.getMessage());
+    }
+  }
+
   @Override
   public final CoreEvent process(CoreEvent event) throws MuleException {
     if (accept(event)) {
@@ -210,4 +388,12 @@ public class IdempotentMessageValidator extends AbstractComponent
   public void setPrivateObjectStore(ObjectStore<String> privateStore) {
     this.privateStore = privateStore;
   }
+
+  public boolean isEnableBloomFilter() {
+    return enableBloomFilter;
+  }
+
+  public void setEnableBloomFilter(boolean enableBloomFilter) {
+    this.enableBloomFilter = enableBloomFilter;
+  }
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.routing;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.internal.util.TimerWheel;
+import org.mule.runtime.core.internal.util.TimerWheel.Timeout;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tracks the delays between the attempts of every {@link UntilSuccessful} scope of an artifact in a single {@link TimerWheel},
+ * advanced by a single thread.
+ * <p>
+ * Each scope {@link #acquire(MuleContext) acquires} it when started and {@link #release() releases} it when stopped. The thread
+ * is started along with the first scope and stopped along with the last one.
+ *
+ * @since 4.2
+ */
+final class RetryTimer {
+
+  private static final long RETRY_TICK = 10;
+  private static final int RETRY_WHEEL_SIZE = 512;
+
+  // @GuardedBy TIMERS
+  private static final Map<MuleContext, RetryTimer> TIMERS = new HashMap<>();
+
+  private final MuleContext muleContext;
+  private final TimerWheel<Runnable> delays = new TimerWheel<>(RETRY_TICK, MILLISECONDS, RETRY_WHEEL_SIZE);
+  private final Scheduler scheduler;
+  // @GuardedBy TIMERS
+  private int users = 0;
+
+  private RetryTimer(MuleContext muleContext) {
+    this.muleContext = muleContext;
+    scheduler = muleContext.getSchedulerService()
+        .customScheduler(muleContext.getSchedulerBaseConfig()
+            .withName("until-successful.retries")
+            .withMaxConcurrentTasks(1)
+            .withShutdownTimeout(0, MILLISECONDS));
+    scheduler.scheduleWithFixedDelay(() -> delays.advance(Runnable::run), 0, RETRY_TICK, MILLISECONDS);
+  }
+
+  /**
+   * @param muleContext the context of the artifact the scope belongs to
+   * @return the timer shared by the scopes of the given artifact, creating it if no scope uses it.
+   */
+  static RetryTimer acquire(MuleContext muleContext) {
+    synchronized (TIMERS) {
+      RetryTimer timer = TIMERS.computeIfAbsent(muleContext, RetryTimer::new);
+      ++timer.users;
+      return timer;
+    }
+  }
+
+  /**
+   * Stops this timer if no other scope uses it. The retries the releasing scope scheduled are not run afterwards, so it must
+   * cancel them.
+   */
+  void release() {
+    synchronized (TIMERS) {
+      if (--users == 0) {
+        TIMERS.remove(muleContext);
+        scheduler.stop();
+      }
+    }
+  }
+
+  /**
+   * Runs the given {@code retry} in the thread of this timer once {@code delayMillis} have elapsed.
+   *
+   * @return a {@link Timeout} which can be used to cancel it
+   */
+  Timeout<Runnable> schedule(Runnable retry, long delayMillis) {
+    return delays.schedule(retry, delayMillis, MILLISECONDS);
+  }
+}
@@ -6,9 +6,17 @@
  */
 package org.mule.runtime.core.internal.routing;
 
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Math.pow;
+import static java.lang.Math.round;
 import static java.util.Collections.singletonList;
 import static java.util.Optional.ofNullable;
+import static java.util.concurrent.TimeUnit.HOURS;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.core.api.retry.policy.SimpleRetryPolicyTemplate.RETRY_COUNT_FOREVER;
+import static org.mule.runtime.core.api.rx.Exceptions.unwrap;
+import static org.mule.runtime.core.api.transaction.TransactionCoordination.isTransactionActive;
 import static org.mule.runtime.core.api.util.ExceptionUtils.getMessagingExceptionCause;
 import static org.mule.runtime.core.internal.component.ComponentUtils.getFromAnnotatedObject;
 import static org.mule.runtime.core.internal.processor.strategy.DirectProcessingStrategyFactory.DIRECT_PROCESSING_STRATEGY_INSTANCE;
@@ -17,6 +25,10 @@ import static org.mule.runtime.core.privileged.processor.MessageProcessors.newCh
 import static org.mule.runtime.core.privileged.processor.MessageProcessors.processToApply;
 import static org.mule.runtime.core.privileged.processor.MessageProcessors.processWithChildContext;
 import static reactor.core.publisher.Flux.from;
+import static reactor.core.publisher.Mono.defer;
+import static reactor.core.publisher.Mono.error;
+import static reactor.util.concurrent.Queues.SMALL_BUFFER_SIZE;
+
 import org.mule.runtime.api.component.location.ConfigurationComponentLocator;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.lifecycle.InitialisationException;
@@ -30,10 +42,16 @@ import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
 import org.mule.runtime.core.api.retry.policy.RetryPolicyExhaustedException;
 import org.mule.runtime.core.api.retry.policy.SimpleRetryPolicyTemplate;
 import org.mule.runtime.core.internal.exception.MessagingException;
+import org.mule.runtime.core.internal.util.TimerWheel.Timeout;
 import org.mule.runtime.core.privileged.processor.Scope;
 import org.mule.runtime.core.privileged.processor.chain.MessageProcessorChain;
 
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -41,10 +59,15 @@ import javax.inject.Inject;
 
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
 
 /**
  * UntilSuccessful attempts to route a message to the message processor it contains. Routing is considered successful if no
  * exception has been raised and, optionally, if the response matches an expression.
+ * <p>
+ * The delays between attempts are tracked by a {@link RetryTimer} shared by all the scopes of the artifact, and each retry is
+ * then dispatched to a {@code cpuLight} thread. No thread is held while an event waits for its next attempt, except when a
+ * transaction is active, in which case the retries are done in the same thread as before.
  */
 public class UntilSuccessful extends AbstractMuleObjectOwner implements Scope {
 
@@ -52,25 +75,52 @@ public class UntilSuccessful extends AbstractMuleObjectOwner implements Scope {
       "'until-successful' retries exhausted. Last exception message was: %s";
   private static final long DEFAULT_MILLIS_BETWEEN_RETRIES = 60 * 1000;
   private static final int DEFAULT_RETRIES = 5;
+  private static final long MAX_BACKOFF_MILLIS = HOURS.toMillis(1);
 
   @Inject
   private ConfigurationComponentLocator componentLocator;
 
   private int maxRetries = DEFAULT_RETRIES;
   private Long millisBetweenRetries = DEFAULT_MILLIS_BETWEEN_RETRIES;
+  private double backoffMultiplier = 1;
+  private double jitterFactor = 0;
+  private int maxConcurrency = SMALL_BUFFER_SIZE;
   private MessageProcessorChain nestedChain;
   private Predicate<CoreEvent> shouldRetry;
   private SimpleRetryPolicyTemplate policyTemplate;
   private Scheduler timer;
+  private RetryTimer retryTimer;
   private ProcessingStrategy processingStrategy;
+  private ReactiveProcessor nestedRoute;
+  private ReactiveProcessor route;
   private List<Processor> processors;
 
+  private final ConcurrentMap<MonoSink<Void>, Timeout<Runnable>> pendingRetries = new ConcurrentHashMap<>();
+  private final AtomicLong retryAttempts = new AtomicLong();
+  private final AtomicLong retriesExhausted = new AtomicLong();
+  private volatile boolean acceptingRetries = false;
+
   @Override
   public void initialise() throws InitialisationException {
     if (processors == null) {
       throw new InitialisationException(createStaticMessage("One message processor must be configured within 'until-successful'."),
                                         this);
     }
+    if (backoffMultiplier < 1) {
+      throw new InitialisationException(createStaticMessage("'backoffMultiplier' must not be lower than 1, but was %s.",
+                                                            backoffMultiplier),
+                                        this);
+    }
+    if (jitterFactor < 0 || jitterFactor > 1) {
+      throw new InitialisationException(createStaticMessage("'jitterFactor' must be between 0 and 1, but was %s.",
+                                                            jitterFactor),
+                                        this);
+    }
+    if (maxConcurrency < 1) {
+      throw new InitialisationException(createStaticMessage("'maxConcurrency' must be greater than 0, but was %s.",
+                                                            maxConcurrency),
+                                        this);
+    }
     this.nestedChain = newChain(getProcessingStrategy(locator, getRootContainerLocation()), processors);
     super.initialise();
     timer = muleContext.getSchedulerService().cpuLightScheduler();
@@ -83,12 +133,36 @@ public class UntilSuccessful extends AbstractMuleObjectOwner implements Scope {
     } else {
       processingStrategy = DIRECT_PROCESSING_STRATEGY_INSTANCE;
     }
+    nestedRoute = p -> Mono.from(p).transform(nestedChain);
+    // No transaction is bound to the current thread here, so this is the pipeline used for events outside of a transaction
+    route = processingStrategy.onPipeline(nestedRoute);
+  }
+
+  @Override
+  public void start() throws MuleException {
+    super.start();
+    retryTimer = RetryTimer.acquire(muleContext);
+    acceptingRetries = true;
+  }
+
+  @Override
+  public void stop() throws MuleException {
+    acceptingRetries = false;
+    // The events waiting for a retry are failed instead of being left hanging
+    pendingRetries.forEach(this::rejectRetry);
+    if (retryTimer != null) {
+      retryTimer.release();
+      retryTimer = null;
+    }
+    super.stop();
   }
 
   @Override
   public void dispose() {
     super.dispose();
-    timer.stop();
+    if (timer != null) {
+      timer.stop();
+    }
   }
 
   @Override
@@ -99,11 +173,82 @@ public class UntilSuccessful extends AbstractMuleObjectOwner implements Scope {
   @Override
   public Publisher<CoreEvent> apply(Publisher<CoreEvent> publisher) {
     return from(publisher)
-        .flatMap(event -> Mono.from(processWithChildContext(event,
-                                                            scheduleRoute(p -> Mono.from(p).transform(nestedChain)),
-                                                            ofNullable(getLocation())))
-            .transform(p -> policyTemplate.applyPolicy(p, getRetryPredicate(), e -> {
-            }, getThrowableFunction(event))));
+        .flatMap(event -> {
+          if (isTransactionActive()) {
+            // The processing strategy decides how to run the route depending on the transaction bound to the current thread
+            return Mono
+                .from(processWithChildContext(event, processingStrategy.onPipeline(nestedRoute), ofNullable(getLocation())))
+                .transform(p -> policyTemplate.applyPolicy(p, getRetryPredicate(), e -> {
+                }, getThrowableFunction(event)));
+          } else {
+            return attempt(event, 0);
+          }
+        }, maxConcurrency);
+  }
+
+  private Mono<CoreEvent> attempt(CoreEvent event, int retries) {
+    return Mono.from(processWithChildContext(event, route, ofNullable(getLocation())))
+        .onErrorResume(e -> {
+          if (!getRetryPredicate().test(e)) {
+            return error(getThrowableFunction(event).apply(unwrap(e)));
+          }
+          if (maxRetries != RETRY_COUNT_FOREVER && retries >= maxRetries) {
+            retriesExhausted.incrementAndGet();
+            return error(getThrowableFunction(event).apply(unwrap(e)));
+          }
+          return Mono.<Void>create(sink -> scheduleRetry(sink, retries))
+              .onErrorMap(rejected -> getThrowableFunction(event).apply(unwrap(e)))
+              .then(defer(() -> attempt(event, retries + 1)));
+        });
+  }
+
+  private void scheduleRetry(MonoSink<Void> sink, int retries) {
+    RetryTimer currentTimer = retryTimer;
+    if (!acceptingRetries || currentTimer == null) {
+      sink.error(new RejectedExecutionException("'until-successful' was stopped while waiting for a retry"));
+      return;
+    }
+    Timeout<Runnable> timeout = currentTimer.schedule(() -> dispatchRetry(sink), getRetryDelay(retries));
+    pendingRetries.put(sink, timeout);
+    sink.onDispose(() -> {
+      timeout.cancel();
+      pendingRetries.remove(sink);
+    });
+
+    if (!acceptingRetries) {
+      // Stopped concurrently, the retry may have been scheduled after the pending ones were rejected
+      rejectRetry(sink, timeout);
+    }
+  }
+
+  private void rejectRetry(MonoSink<Void> sink, Timeout<Runnable> timeout) {
+    // Retries already dispatched are left to finish
+    if (timeout.cancel()) {
+      sink.error(new RejectedExecutionException("'until-successful' was stopped while waiting for a retry"));
+    }
+  }
+
+  private void dispatchRetry(MonoSink<Void> sink) {
+    retryAttempts.incrementAndGet();
+    try {
+      timer.execute(sink::success);
+    } catch (RejectedExecutionException e) {
+      sink.error(e);
+    }
+  }
+
+  /**
+   * @param retries the number of retries already done for the event
+   * @return the milliseconds to wait before the next attempt. Growing the delay with the {@link #getBackoffMultiplier()} never
+   *         exceeds one hour, or the {@link #getMillisBetweenRetries()} if greater, before applying the jitter.
+   */
+  long getRetryDelay(int retries) {
+    // Bounded so that large multipliers or amounts of retries neither overflow nor wait for ever
+    double delay = min(millisBetweenRetries * pow(backoffMultiplier, retries), max(millisBetweenRetries, MAX_BACKOFF_MILLIS));
+    if (jitterFactor > 0) {
+      delay += delay * jitterFactor * ThreadLocalRandom.current().nextDouble(-1, 1);
+    }
+    return max(0, round(delay));
   }
 
   private Predicate<Throwable> getRetryPredicate() {
@@ -121,10 +266,6 @@ public class UntilSuccessful extends AbstractMuleObjectOwner implements Scope {
     };
   }
 
-  private ReactiveProcessor scheduleRoute(ReactiveProcessor route) {
-    return publisher -> from(publisher).transform(processingStrategy.onPipeline(route));
-  }
-
   /**
    * @return the number of retries to process the route when failing. Default value is 5.
    */
@@ -154,6 +295,71 @@ public class UntilSuccessful extends AbstractMuleObjectOwner implements Scope {
     this.millisBetweenRetries = millisBetweenRetries;
   }
 
+  /**
+   * @return the factor by which the time between retries is multiplied after each retry. Default value is 1.
+   */
+  public double getBackoffMultiplier() {
+    return backoffMultiplier;
+  }
+
+  /**
+   * @param backoffMultiplier the factor by which the time between retries is multiplied after each retry. Default value is 1.
+   */
+  public void setBackoffMultiplier(double backoffMultiplier) {
+    this.backoffMultiplier = backoffMultiplier;
+  }
+
+  /**
+   * @return the fraction of the time between retries that is randomly added or subtracted to it. Default value is 0.
+   */
+  public double getJitterFactor() {
+    return jitterFactor;
+  }
+
+  /**
+   * @param jitterFactor the fraction of the time between retries that is randomly added or subtracted to it. Default value is 0.
+   */
+  public void setJitterFactor(double jitterFactor) {
+    this.jitterFactor = jitterFactor;
+  }
+
+  /**
+   * @return the maximum number of events being routed or waiting for a retry at the same time. Once reached, no more events
+   *         are requested from upstream until one of them finishes. Default value is 256.
+   */
+  public int getMaxConcurrency() {
+    return maxConcurrency;
+  }
+
+  /**
+   * @param maxConcurrency the maximum number of events being routed or waiting for a retry at the same time. Default value is
+   *        256.
+   */
+  public void setMaxConcurrency(int maxConcurrency) {
+    this.maxConcurrency = maxConcurrency;
+  }
+
+  /**
+   * @return the number of retries done since this scope was created.
+   */
+  public long getRetryAttempts() {
+    return retryAttempts.get();
+  }
+
+  /**
+   * @return the number of events for which retries were exhausted since this scope was created.
+   */
+  public long getRetriesExhausted() {
+    return retriesExhausted.get();
+  }
+
+  /**
+   * @return the number of events currently waiting for their next attempt.
+   */
+  public int getPendingRetries() {
+    return pendingRetries.size();
+  }
+
   /**
    * Configure the nested {@link Processor}'s that error handling and transactional behaviour should be applied to.
    *
@@ -41,6 +41,8 @@ import org.mule.runtime.core.api.util.StringMessageUtils;
 import org.mule.runtime.core.internal.context.MuleContextWithRegistries;
 import org.mule.runtime.core.internal.exception.MessagingException;
 import org.mule.runtime.core.internal.routing.EventGroup;
+import org.mule.runtime.core.internal.util.TimerWheel;
+import org.mule.runtime.core.internal.util.TimerWheel.Timeout;
 import org.mule.runtime.core.privileged.registry.RegistrationException;
 import org.mule.runtime.core.privileged.routing.RoutingException;
 import org.mule.runtime.core.privileged.store.DeserializationPostInitialisable;
@@ -53,6 +55,8 @@ import org.slf4j.LoggerFactory;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class EventCorrelator implements Startable, Stoppable {
 
@@ -65,9 +69,13 @@ public class EventCorrelator implements Startable, Stoppable {
 
   private static final long DELAY_TIME = 10;
 
-  protected final Object groupsLock = new Object();
+  private static final int GROUP_LOCK_STRIPES = 64;
+  private static final int EXPIRATION_WHEEL_SIZE = 512;
+  private static final long EXPIRATION_RECONCILIATION_INTERVAL = MINUTES.toMillis(1);
+
+  // Groups are only evaluated one thread at a time, but unrelated groups don't contend for the same lock
+  private final Object[] groupLocks = new Object[GROUP_LOCK_STRIPES];
 
-  // @GuardedBy groupsLock
   protected ObjectStore<Long> processedGroups = null;
 
   private long timeout = -1; // undefined
@@ -91,6 +99,13 @@ public class EventCorrelator implements Startable, Stoppable {
 
   private Scheduler scheduler;
   private ExpiringGroupMonitoringRunnable expiringGroupRunnable;
+
+  /**
+   * Tracks the timeout of each group known to this correlator, so that the monitor doesn't need to go through every stored
+   * group each time it runs.
+   */
+  private volatile TimerWheel<String> groupExpirations;
+  private final ConcurrentMap<String, Timeout<String>> scheduledGroupExpirations = new ConcurrentHashMap<>();
   private final String name;
 
   private final FlowConstruct flowConstruct;
@@ -118,6 +133,14 @@ public class EventCorrelator implements Startable, Stoppable {
     this.correlatorStore = correlatorStore;
     this.storePrefix = storePrefix;
     this.processedGroups = processedGroups;
+
+    for (int i = 0; i < groupLocks.length; ++i) {
+      groupLocks[i] = new Object();
+    }
+  }
+
+  protected Object getGroupLock(Object groupId) {
+    return groupLocks[(groupId.hashCode() & Integer.MAX_VALUE) % groupLocks.length];
   }
 
   public void forceGroupExpiry(String groupId) throws MuleException {
@@ -186,7 +209,7 @@ public class EventCorrelator implements Startable, Stoppable {
       }
 
       // ensure that only one thread at a time evaluates this EventGroup
-      synchronized (groupsLock) {
+      synchronized (getGroupLock(groupId)) {
         if (logger.isDebugEnabled()) {
           logger.debug("Adding event to aggregator group: " + groupId);
         }
@@ -250,6 +273,7 @@ public class EventCorrelator implements Startable, Stoppable {
   protected EventGroup addEventGroup(EventGroup group) throws ObjectStoreException {
     try {
       correlatorStore.store((String) group.getGroupId(), group, getEventGroupsPartitionKey());
+      scheduleGroupExpiry(group);
       return group;
     } catch (ObjectAlreadyExistsException e) {
       return getEventGroup((String) group.getGroupId());
@@ -258,23 +282,33 @@ public class EventCorrelator implements Startable, Stoppable {
 
   protected void removeEventGroup(EventGroup group) throws ObjectStoreException {
     final Object groupId = group.getGroupId();
-    synchronized (groupsLock) {
+    synchronized (getGroupLock(groupId)) {
       if (!isGroupAlreadyProcessed(groupId)) {
         correlatorStore.remove((String) groupId, getEventGroupsPartitionKey());
         addProcessedGroup(groupId);
       }
     }
+
+    Timeout<String> expiration = scheduledGroupExpirations.remove(groupId);
+    if (expiration != null) {
+      expiration.cancel();
+    }
   }
 
   protected void addProcessedGroup(Object id) throws ObjectStoreException {
-    synchronized (groupsLock) {
-      processedGroups.store((String) id, currentTimeMillis());
-    }
+    processedGroups.store((String) id, currentTimeMillis());
   }
 
   protected boolean isGroupAlreadyProcessed(Object id) throws ObjectStoreException {
-    synchronized (groupsLock) {
-      return processedGroups.contains((String) id);
+    return processedGroups.contains((String) id);
+  }
+
+  private void scheduleGroupExpiry(EventGroup group) {
+    final TimerWheel<String> expirations = groupExpirations;
+    if (expirations != null) {
+      final long delay = group.getCreated() + getTimeout() - currentTimeMillis();
+      scheduledGroupExpirations.computeIfAbsent((String) group.getGroupId(),
+                                                id -> expirations.schedule(id, delay, MILLISECONDS));
     }
   }
 
@@ -352,6 +386,7 @@ public class EventCorrelator implements Startable, Stoppable {
   public void start() throws MuleException {
     logger.info("Starting event correlator: " + name);
     if (timeout != 0) {
+      groupExpirations = new TimerWheel<>(DELAY_TIME, MILLISECONDS, EXPIRATION_WHEEL_SIZE);
       scheduler = muleContext.getSchedulerService().customScheduler(muleContext.getSchedulerBaseConfig().withName(name)
           .withMaxConcurrentTasks(1).withShutdownTimeout(0, MILLISECONDS));
       expiringGroupRunnable = new ExpiringGroupMonitoringRunnable();
@@ -369,11 +404,14 @@ public class EventCorrelator implements Startable, Stoppable {
       expiringGroupRunnable.dispose();
       expiringGroupRunnable = null;
     }
+    groupExpirations = null;
+    scheduledGroupExpirations.clear();
   }
 
   private final class ExpiringGroupMonitoringRunnable implements Runnable, Expirable, Disposable {
 
     private ExpiryMonitor expiryMonitor;
+    private long lastReconciliation = 0;
 
     public ExpiringGroupMonitoringRunnable() {
       this.expiryMonitor = new ExpiryMonitor(name, MINUTES.toMillis(1), muleContext, true);
@@ -401,24 +439,41 @@ public class EventCorrelator implements Startable, Stoppable {
     @Override
     public void run() {
 
-      //// TODO(pablo.kraan): is not good to have threads doing nothing in all the nodes but the primary. Need to
-      //// start the thread on the primary node only, and then use a notification schema to start a new thread
-      //// in a different node when the primary goes down.
-      if (!muleContext.isPrimaryPollingInstance()) {
+      final TimerWheel<String> expirations = groupExpirations;
+      if (expirations == null) {
         return;
       }
 
-      List<EventGroup> expired = new ArrayList<>(1);
-      try {
-        for (String o : (List<String>) correlatorStore.allKeys(getEventGroupsPartitionKey())) {
-          EventGroup group = getEventGroup(o);
-          // group may have been removed by another thread right after eventGroups.allKeys()
-          if (group != null && group.getCreated() + getTimeout() < currentTimeMillis()) {
-            expired.add(group);
+      if (muleContext.isPrimaryPollingInstance()
+          && lastReconciliation + EXPIRATION_RECONCILIATION_INTERVAL <= currentTimeMillis()) {
+        // groups are expired by the node that created them, only take over the ones it should have expired already
+        scheduleUntrackedGroups(lastReconciliation != 0);
+        lastReconciliation = currentTimeMillis();
+      }
+
+      List<String> expiredIds = new ArrayList<>(1);
+      expirations.advance(expiredIds::add);
+      if (expiredIds.isEmpty()) {
+        return;
+      }
+
+      List<EventGroup> expired = new ArrayList<>(expiredIds.size());
+      for (String groupId : expiredIds) {
+        scheduledGroupExpirations.remove(groupId);
+        try {
+          EventGroup group = getEventGroup(groupId);
+          // group may have been removed by another thread after its timeout fired
+          if (group != null) {
+            if (group.getCreated() + getTimeout() < currentTimeMillis()) {
+              expired.add(group);
+            } else {
+              // the wheel may fire up to a tick early
+              scheduleGroupExpiry(group);
+            }
           }
+        } catch (ObjectStoreException e) {
+          logger.warn("expiry failed dues to ObjectStoreException " + e);
         }
-      } catch (ObjectStoreException e) {
-        logger.warn("expiry failed dues to ObjectStoreException " + e);
       }
       for (final EventGroup group : expired) {
         try {
@@ -431,6 +486,29 @@ public class EventCorrelator implements Startable, Stoppable {
       }
     }
 
+    /**
+     * Groups may have been created before this correlator started, or by other nodes of the cluster that went away before
+     * expiring them.
+     *
+     * @param onlyOverdue whether to only schedule the groups that should have been expired by the node that created them
+     */
+    private void scheduleUntrackedGroups(boolean onlyOverdue) {
+      final long overdueCreation = currentTimeMillis() - getTimeout() - EXPIRATION_RECONCILIATION_INTERVAL;
+      try {
+        for (String o : (List<String>) correlatorStore.allKeys(getEventGroupsPartitionKey())) {
+          if (!scheduledGroupExpirations.containsKey(o)) {
+            EventGroup group = getEventGroup(o);
+            // group may have been removed by another thread right after eventGroups.allKeys()
+            if (group != null && (!onlyOverdue || group.getCreated() < overdueCreation)) {
+              scheduleGroupExpiry(group);
+            }
+          }
+        }
+      } catch (ObjectStoreException e) {
+        logger.warn("expiry failed dues to ObjectStoreException " + e);
+      }
+    }
+
     @Override
     public void dispose() {
       if (expiryMonitor != null) {
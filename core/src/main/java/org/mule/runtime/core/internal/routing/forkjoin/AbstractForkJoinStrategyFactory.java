@@ -102,21 +102,35 @@ public abstract class AbstractForkJoinStrategyFactory implements ForkJoinStrateg
   protected abstract Function<List<CoreEvent>, CoreEvent> createResultEvent(CoreEvent original,
                                                                             CoreEvent.Builder resultBuilder);
 
-  private Function<RoutingPair, RoutingPair> addSequence(AtomicInteger count) {
+  /**
+   * @param count the counter used to assign the sequence of each {@link RoutingPair}
+   * @return a function that sets the group correlation sequence of the event of each {@link RoutingPair}
+   */
+  protected Function<RoutingPair, RoutingPair> addSequence(AtomicInteger count) {
     return pair -> of(builder(pair.getEvent()).groupCorrelation(Optional.of(GroupCorrelation.of(count.getAndIncrement())))
         .build(), pair.getRoute());
   }
 
-  private Function<RoutingPair, Publisher<? extends CoreEvent>> processRoutePair(ProcessingStrategy processingStrategy,
-                                                                                 int maxConcurrency,
-                                                                                 boolean delayErrors, long timeout,
-                                                                                 reactor.core.scheduler.Scheduler timeoutScheduler,
-                                                                                 ErrorType timeoutErrorType) {
+  /**
+   * Creates the function that processes each {@link RoutingPair} in a child context, applying the processing strategy when
+   * {@code maxConcurrency} allows parallel execution, and the timeout if one is set.
+   *
+   * @return a function that processes a {@link RoutingPair} and emits its result event. When errors are delayed, a failed route
+   *         emits its error event instead of an error signal.
+   */
+  protected Function<RoutingPair, Publisher<? extends CoreEvent>> processRoutePair(ProcessingStrategy processingStrategy,
+                                                                                   int maxConcurrency,
+                                                                                   boolean delayErrors, long timeout,
+                                                                                   reactor.core.scheduler.Scheduler timeoutScheduler,
+                                                                                   ErrorType timeoutErrorType) {
 
     return pair -> {
-      ReactiveProcessor route = publisher -> from(publisher)
-          .transform(pair.getRoute())
-          .timeout(ofMillis(timeout), onTimeout(processingStrategy, delayErrors, timeoutErrorType, pair), timeoutScheduler);
+      ReactiveProcessor route = publisher -> timeout == Long.MAX_VALUE
+          // avoid scheduling a timeout task for each route that will never fire
+          ? from(publisher).transform(pair.getRoute())
+          : from(publisher)
+              .transform(pair.getRoute())
+              .timeout(ofMillis(timeout), onTimeout(processingStrategy, delayErrors, timeoutErrorType, pair), timeoutScheduler);
       return from(processWithChildContext(pair.getEvent(),
                                           applyProcessingStrategy(processingStrategy, route, maxConcurrency), empty()))
                                               .onErrorResume(MessagingException.class,
@@ -151,7 +165,7 @@ public abstract class AbstractForkJoinStrategyFactory implements ForkJoinStrateg
         .build();
   }
 
-  private CompositeRoutingException createCompositeRoutingException(List<CoreEvent> results) {
+  protected CompositeRoutingException createCompositeRoutingException(List<CoreEvent> results) {
     Map<String, Message> successMap = new LinkedHashMap<>();
     Map<String, Error> errorMap = new LinkedHashMap<>();
 
@@ -166,7 +180,7 @@ public abstract class AbstractForkJoinStrategyFactory implements ForkJoinStrateg
     return new CompositeRoutingException(new RoutingResult(successMap, errorMap));
   }
 
-  private Consumer<List<CoreEvent>> mergeVariables(CoreEvent original, CoreEvent.Builder result) {
+  protected Consumer<List<CoreEvent>> mergeVariables(CoreEvent original, CoreEvent.Builder result) {
     return list -> {
       Map<String, TypedValue> routeVars = new HashMap<>();
       list.forEach(event -> event.getVariables().forEach((key, value) -> {
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.runtime.core.internal.routing.forkjoin;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.stream.Collectors.toList;
+import static org.mule.runtime.api.message.Message.of;
+import static org.mule.runtime.api.util.DataUnit.BYTE;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+import static org.mule.runtime.core.api.event.CoreEvent.builder;
+import static org.mule.runtime.extension.api.ExtensionConstants.DEFAULT_BYTE_STREAMING_BUFFER_DATA_UNIT;
+import static org.mule.runtime.extension.api.ExtensionConstants.DEFAULT_BYTE_STREAMING_BUFFER_INCREMENT_SIZE;
+import static org.mule.runtime.extension.api.ExtensionConstants.DEFAULT_BYTE_STREAMING_BUFFER_SIZE;
+import static reactor.core.Exceptions.propagate;
+import static reactor.core.publisher.Flux.from;
+import static reactor.core.scheduler.Schedulers.fromExecutorService;
+
+import org.mule.runtime.api.message.ErrorType;
+import org.mule.runtime.api.message.Message;
+import org.mule.runtime.api.metadata.DataType;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.api.streaming.bytes.CursorStreamProvider;
+import org.mule.runtime.api.streaming.object.CursorIteratorProvider;
+import org.mule.runtime.api.util.DataSize;
+import org.mule.runtime.api.util.DataUnit;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
+import org.mule.runtime.core.api.streaming.StreamingManager;
+import org.mule.runtime.core.api.streaming.bytes.CursorStreamProviderFactory;
+import org.mule.runtime.core.api.streaming.bytes.InMemoryCursorStreamConfig;
+import org.mule.runtime.core.internal.routing.ForkJoinStrategy;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * {@link ForkJoinStrategy} that:
+ * <ul>
+ * <li>Performs parallel execution of route pairs subject to {@code maxConcurrency}.
+ * <li>Merges variables using a last-wins strategy.
+ * <li>Collects results as routes complete, so that a slow route does not hold the results of the routes that follow it.
+ * <li>Buffers {@link InputStream} route results into the streaming buffer. Optionally, the buffer of each route result is
+ * limited to a maximum size, past which reading the result fails with a {@code STREAM_MAXIMUM_SIZE_EXCEEDED} error.
+ * <li>Emits a result {@link CoreEvent} with a {@link CursorIteratorProvider} payload over the result
+ * {@link org.mule.runtime.api.message.Message}'s, in order of completion.
+ * <li>Optionally completes once a number of routes have been successful, cancelling the outstanding ones. Errors of other
+ * routes are only propagated, as a composite exception, if that number is not reached.
+ * </ul>
+ *
+ * @since 4.2
+ */
+public class CollectIteratorForkJoinStrategyFactory extends AbstractForkJoinStrategyFactory {
+
+  private final StreamingManager streamingManager;
+  private final int completionCount;
+  private final DataSize maxRouteResultSize;
+
+  /**
+   * Creates a factory for strategies that wait for the completion of all the routes.
+   *
+   * @param streamingManager the {@link StreamingManager} used to create the result and route result cursor providers
+   */
+  public CollectIteratorForkJoinStrategyFactory(StreamingManager streamingManager) {
+    this(streamingManager, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Creates a factory for strategies that complete once {@code completionCount} routes have been successful.
+   *
+   * @param streamingManager the {@link StreamingManager} used to create the result and route result cursor providers
+   * @param completionCount the number of successful routes after which the outstanding ones are cancelled. For instance, use 1
+   *        to keep only the first successful result, or a majority of the routes for a quorum.
+   * @throws IllegalArgumentException if the value is zero or less.
+   */
+  public CollectIteratorForkJoinStrategyFactory(StreamingManager streamingManager, int completionCount) {
+    this(streamingManager, completionCount, 0, DEFAULT_BYTE_STREAMING_BUFFER_DATA_UNIT);
+  }
+
+  /**
+   * Creates a factory for strategies that complete once {@code completionCount} routes have been successful, and that limit the
+   * buffer of each streamed route result to {@code maxRouteResultSize}.
+   *
+   * @param streamingManager the {@link StreamingManager} used to create the result and route result cursor providers
+   * @param completionCount the number of successful routes after which the outstanding ones are cancelled.
+   * @param maxRouteResultSize the maximum size of the buffer of each streamed route result. Zero or less means the default
+   *        streaming buffer is used.
+   * @param bufferUnit the unit in which {@code maxRouteResultSize} is expressed
+   * @throws IllegalArgumentException if {@code completionCount} is zero or less.
+   */
+  public CollectIteratorForkJoinStrategyFactory(StreamingManager streamingManager, int completionCount, int maxRouteResultSize,
+                                                DataUnit bufferUnit) {
+    checkArgument(completionCount > 0, "Completion count must be one or more.");
+    this.streamingManager = streamingManager;
+    this.completionCount = completionCount;
+    this.maxRouteResultSize = maxRouteResultSize > 0 ? new DataSize(maxRouteResultSize, bufferUnit) : null;
+  }
+
+  @Override
+  public ForkJoinStrategy createForkJoinStrategy(ProcessingStrategy processingStrategy, int maxConcurrency, boolean delayErrors,
+                                                 long timeout, Scheduler timeoutScheduler, ErrorType timeoutErrorType) {
+    reactor.core.scheduler.Scheduler reactorTimeoutScheduler = fromExecutorService(timeoutScheduler);
+    return (original, routingPairs) -> {
+      final AtomicInteger count = new AtomicInteger();
+      final AtomicInteger successful = new AtomicInteger();
+      final CoreEvent.Builder resultBuilder = builder(original);
+      return from(routingPairs)
+          .map(addSequence(count))
+          .flatMap(processRoutePair(processingStrategy, maxConcurrency, delayErrors, timeout, reactorTimeoutScheduler,
+                                    timeoutErrorType),
+                   maxConcurrency)
+          .map(this::bufferStreamPayload)
+          // cancelling the upstream cancels the routes that are still being processed
+          .takeUntil(event -> !event.getError().isPresent() && successful.incrementAndGet() >= completionCount)
+          .collectList()
+          .map(list -> {
+            if (successful.get() >= completionCount) {
+              return list.stream().filter(event -> !event.getError().isPresent()).collect(toList());
+            }
+            if (list.stream().anyMatch(event -> event.getError().isPresent())) {
+              throw propagate(createCompositeRoutingException(list));
+            }
+            return list;
+          })
+          .doOnNext(mergeVariables(original, resultBuilder))
+          .map(createResultEvent(original, resultBuilder));
+    };
+  }
+
+  private CoreEvent bufferStreamPayload(CoreEvent event) {
+    Object payload = event.getMessage().getPayload().getValue();
+    if (!(payload instanceof InputStream) || event.getError().isPresent()) {
+      return event;
+    }
+    Object cursorProvider = getRouteResultCursorProviderFactory().of(event, (InputStream) payload);
+    if (!(cursorProvider instanceof CursorStreamProvider)) {
+      return event;
+    }
+    return builder(event)
+        .message(Message.builder(event.getMessage()).value(cursorProvider).build())
+        .build();
+  }
+
+  private CursorStreamProviderFactory getRouteResultCursorProviderFactory() {
+    if (maxRouteResultSize == null) {
+      return streamingManager.forBytes().getDefaultCursorProviderFactory();
+    }
+    final int maxBytes = maxRouteResultSize.toBytes();
+    final int initialBytes = max(1, min(new DataSize(DEFAULT_BYTE_STREAMING_BUFFER_SIZE, DEFAULT_BYTE_STREAMING_BUFFER_DATA_UNIT)
+        .toBytes(), maxBytes / 2));
+    final int incrementBytes = min(new DataSize(DEFAULT_BYTE_STREAMING_BUFFER_INCREMENT_SIZE,
+                                                DEFAULT_BYTE_STREAMING_BUFFER_DATA_UNIT).toBytes(),
+                                   maxBytes - initialBytes);
+    return streamingManager.forBytes()
+        .getInMemoryCursorProviderFactory(new InMemoryCursorStreamConfig(new DataSize(initialBytes, BYTE),
+                                                                         new DataSize(incrementBytes, BYTE),
+                                                                         maxRouteResultSize));
+  }
+
+  @Override
+  protected Function<List<CoreEvent>, CoreEvent> createResultEvent(CoreEvent original,
+                                                                   CoreEvent.Builder resultBuilder) {
+    return list -> resultBuilder
+        .message(of(streamingManager.forObjects().getDefaultCursorProviderFactory()
+            .of(original, list.stream().map(CoreEvent::getMessage).iterator())))
+        .build();
+  }
+
+  @Override
+  public DataType getResultDataType() {
+    return DataType.fromType(CursorIteratorProvider.class);
+  }
+}
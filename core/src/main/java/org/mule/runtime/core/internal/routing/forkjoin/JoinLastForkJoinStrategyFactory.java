@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.routing.forkjoin;
+
+import static java.util.Collections.singletonList;
+import static org.mule.runtime.api.metadata.DataType.OBJECT;
+import static org.mule.runtime.core.api.event.CoreEvent.builder;
+import static reactor.core.Exceptions.propagate;
+import static reactor.core.publisher.Flux.from;
+import static reactor.core.scheduler.Schedulers.fromExecutorService;
+
+import org.mule.runtime.api.message.ErrorType;
+import org.mule.runtime.api.metadata.DataType;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
+import org.mule.runtime.core.internal.routing.ForkJoinStrategy;
+import org.mule.runtime.core.internal.routing.ForkJoinStrategy.RoutingPair;
+
+import org.reactivestreams.Publisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * {@link ForkJoinStrategy} that:
+ * <ul>
+ * <li>Performs parallel execution of route pairs subject to {@code maxConcurrency}, only requesting more route pairs as routes
+ * complete.
+ * <li>Does not retain the results of the routes, so that a large or streamed amount of route pairs can be processed with flat
+ * memory usage.
+ * <li>Emits the result event of the last route. If ordered, this is the route for the last route pair, otherwise it is the last
+ * route to complete.
+ * <li>If errors are delayed, processes all routes and propagates a composite exception with the errors there were, otherwise
+ * propagates the first error.
+ * </ul>
+ *
+ * @since 4.2
+ */
+public class JoinLastForkJoinStrategyFactory extends AbstractForkJoinStrategyFactory {
+
+  private final boolean ordered;
+
+  /**
+   * @param ordered whether the routes results have to be handled in the order of their route pairs.
+   */
+  public JoinLastForkJoinStrategyFactory(boolean ordered) {
+    this.ordered = ordered;
+  }
+
+  @Override
+  public ForkJoinStrategy createForkJoinStrategy(ProcessingStrategy processingStrategy, int maxConcurrency, boolean delayErrors,
+                                                 long timeout, Scheduler timeoutScheduler, ErrorType timeoutErrorType) {
+    // the timeout scheduler is only used by routes when a timeout is set
+    reactor.core.scheduler.Scheduler reactorTimeoutScheduler =
+        timeout == Long.MAX_VALUE ? null : fromExecutorService(timeoutScheduler);
+    return (original, routingPairs) -> {
+      final AtomicInteger count = new AtomicInteger();
+      final List<CoreEvent> errors = new ArrayList<>();
+      final Function<RoutingPair, Publisher<? extends CoreEvent>> processRoutePair =
+          processRoutePair(processingStrategy, maxConcurrency, delayErrors, timeout, reactorTimeoutScheduler, timeoutErrorType);
+
+      return from(routingPairs)
+          .map(addSequence(count))
+          .transform(pairs -> ordered
+              ? pairs.flatMapSequential(processRoutePair, maxConcurrency)
+              : pairs.flatMap(processRoutePair, maxConcurrency))
+          // results are emitted serially, so no need to synchronize
+          .filter(event -> {
+            if (event.getError().isPresent()) {
+              errors.add(event);
+              return false;
+            } else {
+              return true;
+            }
+          })
+          .last(original)
+          .doOnNext(last -> {
+            if (!errors.isEmpty()) {
+              throw propagate(createCompositeRoutingException(errors));
+            }
+          })
+          // with no routing pairs there is no result to build from
+          .map(last -> last == original ? original
+              : createResultEvent(original, builder(original)).apply(singletonList(last)));
+    };
+  }
+
+  /**
+   * Results are not collected, so the returned function is only applied to a list with the last result. The result event is
+   * built from the {@code original} one, with the message and the variables of the last result, so that the group correlation
+   * of the route does not leak into the rest of the flow.
+   */
+  @Override
+  protected Function<List<CoreEvent>, CoreEvent> createResultEvent(CoreEvent original, CoreEvent.Builder resultBuilder) {
+    return list -> {
+      mergeVariables(original, resultBuilder).accept(list);
+      return resultBuilder.message(list.get(list.size() - 1).getMessage()).build();
+    };
+  }
+
+  @Override
+  public DataType getResultDataType() {
+    return OBJECT;
+  }
+}
@@ -7,15 +7,23 @@
 package org.mule.runtime.core.internal.routing.requestreply;
 
 import static java.lang.String.format;
+import static java.lang.System.currentTimeMillis;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 import static org.mule.runtime.api.notification.RoutingNotification.ASYNC_REPLY_TIMEOUT;
 import static org.mule.runtime.api.notification.RoutingNotification.MISSED_ASYNC_REPLY;
 import static org.mule.runtime.core.api.config.MuleProperties.MULE_SESSION_PROPERTY;
 import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_STORE_MANAGER;
 import static org.mule.runtime.core.api.config.i18n.CoreMessages.responseTimedOutWaitingForId;
 import static org.mule.runtime.core.api.processor.ReactiveProcessor.ProcessingType.BLOCKING;
+import static org.mule.runtime.core.api.rx.Exceptions.rxExceptionToMuleException;
 import static org.mule.runtime.core.internal.context.DefaultMuleContext.currentMuleContext;
 import static org.mule.runtime.core.privileged.event.PrivilegedEvent.setCurrentEvent;
+import static reactor.core.publisher.Flux.from;
+import static reactor.core.publisher.Mono.error;
+import static reactor.core.publisher.Mono.fromFuture;
+import static reactor.core.publisher.Mono.just;
+import static reactor.core.scheduler.Schedulers.fromExecutorService;
 
 import org.mule.runtime.api.component.AbstractComponent;
 import org.mule.runtime.api.exception.DefaultMuleException;
@@ -28,19 +36,20 @@ import org.mule.runtime.api.lifecycle.Stoppable;
 import org.mule.runtime.api.notification.NotificationDispatcher;
 import org.mule.runtime.api.notification.RoutingNotification;
 import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.api.scheduler.SchedulerService;
 import org.mule.runtime.api.store.ObjectStore;
 import org.mule.runtime.api.store.ObjectStoreException;
 import org.mule.runtime.api.store.ObjectStoreManager;
 import org.mule.runtime.api.store.ObjectStoreSettings;
-import org.mule.runtime.api.util.concurrent.Latch;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.processor.Processor;
 import org.mule.runtime.core.api.source.MessageSource;
 import org.mule.runtime.core.api.util.ObjectUtils;
 import org.mule.runtime.core.internal.context.MuleContextWithRegistries;
-import org.mule.runtime.core.internal.message.InternalEvent;
 import org.mule.runtime.core.internal.message.InternalMessage;
 import org.mule.runtime.core.internal.registry.MuleRegistry;
+import org.mule.runtime.core.internal.util.TimerWheel;
+import org.mule.runtime.core.internal.util.TimerWheel.Timeout;
 import org.mule.runtime.core.privileged.event.PrivilegedEvent;
 import org.mule.runtime.core.privileged.processor.AbstractInterceptingMessageProcessorBase;
 import org.mule.runtime.core.privileged.registry.RegistrationException;
@@ -48,21 +57,39 @@ import org.mule.runtime.core.privileged.routing.ResponseTimeoutException;
 import org.mule.runtime.core.privileged.store.DeserializationPostInitialisable;
 
 import org.apache.commons.collections.buffer.BoundedFifoBuffer;
+import org.reactivestreams.Publisher;
 
 import java.io.Serializable;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
+import reactor.core.publisher.Mono;
+
+/**
+ * Sends a request and waits for its reply to be received by the configured reply {@link MessageSource}, matching them by
+ * correlation id.
+ * <p>
+ * No thread is held while waiting: each in-flight request has a {@link CompletableFuture} which is completed by the thread that
+ * receives its reply, or failed when its timeout, tracked in a {@link TimerWheel}, expires or when this requester is stopped.
+ * Processing of the request then continues in a {@link SchedulerService#cpuLightScheduler() cpu light} thread, so the thread of
+ * the reply source is released right away.
+ */
 public abstract class AbstractAsyncRequestReplyRequester extends AbstractInterceptingMessageProcessorBase
     implements RequestReplyRequesterMessageProcessor, Initialisable, Startable, Stoppable, Disposable {
 
   private static final int MAX_PROCESSED_GROUPS = 50000;
   private static final long UNCLAIMED_TIME_TO_LIVE = 60000;
   private static final long UNCLAIMED_INTERVAL = 60000;
+  private static final long UNCLAIMED_SCAN_INTERVAL = 100;
   private static final String NAME_TEMPLATE = "%s.%s.%s.asyncReplies";
 
+  private static final long TIMEOUT_TICK = 10;
+  private static final int TIMEOUT_WHEEL_SIZE = 512;
+  // A reply arriving right after the timeout is still accepted during this period
+  private static final long TIMEOUT_GRACE_PERIOD = 1000;
+
   protected String name;
 
   protected volatile long timeout = -1;
@@ -70,12 +97,14 @@ public abstract class AbstractAsyncRequestReplyRequester extends AbstractInterce
   protected MessageSource replyMessageSource;
   private final Processor internalAsyncReplyMessageProcessor = new InternalAsyncReplyMessageProcessor();
   private Scheduler scheduler;
+  private Scheduler replyScheduler;
   private NotificationDispatcher notificationFirer;
-  private AsyncReplyMonitoringRunnable replyRunnable;
-  protected final Map<String, RequestReplyLatch> locks = new ConcurrentHashMap<>();
   private String storePrefix = "";
 
-  protected final ConcurrentMap<String, PrivilegedEvent> responseEvents = new ConcurrentHashMap<>();
+  final ConcurrentMap<String, PendingReply> pendingReplies = new ConcurrentHashMap<>();
+  private final TimerWheel<PendingReply> replyTimeouts = new TimerWheel<>(TIMEOUT_TICK, MILLISECONDS, TIMEOUT_WHEEL_SIZE);
+  private volatile boolean unclaimedReplies = false;
+
   private final Object processedLock = new Object();
   // @GuardedBy processedLock
   private final BoundedFifoBuffer processed = new BoundedFifoBuffer(MAX_PROCESSED_GROUPS);
@@ -86,44 +115,56 @@ public abstract class AbstractAsyncRequestReplyRequester extends AbstractInterce
   public CoreEvent process(CoreEvent event) throws MuleException {
     if (replyMessageSource == null) {
       return processNext(event);
-    } else {
-      addLock(event);
-
-      sendAsyncRequest(event);
-
-      PrivilegedEvent resultEvent = receiveAsyncReply(event);
+    }
 
-      if (resultEvent != null) {
-        // If result has MULE_SESSION property then merge session properties returned with existing
-        // session properties. See MULE-5852
-        if (((InternalMessage) resultEvent.getMessage()).getInboundProperty(MULE_SESSION_PROPERTY) != null) {
-          ((PrivilegedEvent) event).getSession().merge(resultEvent.getSession());
-        }
-        resultEvent = PrivilegedEvent.builder(event).message(resultEvent.getMessage()).build();
-        setCurrentEvent(resultEvent);
-      }
-      return resultEvent;
+    try {
+      return sendAndReceive(event).block();
+    } catch (Throwable e) {
+      throw rxExceptionToMuleException(e);
     }
   }
 
-  private void addLock(CoreEvent event) {
-    String correlationId = getAsyncReplyCorrelationId(event);
-    locks.put(correlationId, new RequestReplyLatch(event.getGroupCorrelation().map(gc -> gc.getGroupSize().orElse(-1)).orElse(-1),
-                                                   event.getGroupCorrelation().map(gc -> gc.getSequence()).orElse(-1)));
+  @Override
+  public Publisher<CoreEvent> apply(Publisher<CoreEvent> publisher) {
+    return from(publisher).flatMap(event -> replyMessageSource == null
+        ? just(event).transform(applyNext())
+        : sendAndReceive(event));
   }
 
-  private Latch getLatch(String correlationId) {
-    RequestReplyLatch requestReplyLatch = locks.get(correlationId);
-    return requestReplyLatch.latch;
+  private Mono<CoreEvent> sendAndReceive(CoreEvent event) {
+    PendingReply pendingReply = addPendingReply(event);
+
+    try {
+      sendAsyncRequest(event);
+    } catch (MuleException e) {
+      pendingReply.cancel();
+      return error(e);
+    }
+
+    if (logger.isDebugEnabled()) {
+      logger.debug("Waiting for async reply message with id: " + pendingReply.correlationId);
+    }
+    return fromFuture(pendingReply.reply)
+        .publishOn(fromExecutorService(replyScheduler))
+        .map(reply -> {
+          // If result has MULE_SESSION property then merge session properties returned with existing
+          // session properties. See MULE-5852
+          if (((InternalMessage) reply.getMessage()).getInboundProperty(MULE_SESSION_PROPERTY) != null) {
+            ((PrivilegedEvent) event).getSession().merge(reply.getSession());
+          }
+          PrivilegedEvent resultEvent = PrivilegedEvent.builder(event).message(reply.getMessage()).build();
+          setCurrentEvent(resultEvent);
+          return resultEvent;
+        });
   }
 
-  /**
-   * Creates the lock used to synchronize a given event
-   *
-   * @return a new Latch instance
-   */
-  protected Latch createEventLock() {
-    return new Latch();
+  private PendingReply addPendingReply(CoreEvent event) {
+    PendingReply pendingReply = new PendingReply(getAsyncReplyCorrelationId(event), event);
+    pendingReplies.put(pendingReply.correlationId, pendingReply);
+    if (timeout > 0) {
+      pendingReply.timeout = replyTimeouts.schedule(pendingReply, timeout + TIMEOUT_GRACE_PERIOD, MILLISECONDS);
+    }
+    return pendingReply;
   }
 
   public void setTimeout(long timeout) {
@@ -161,18 +202,25 @@ public abstract class AbstractAsyncRequestReplyRequester extends AbstractInterce
 
   @Override
   public void start() throws MuleException {
+    replyScheduler = muleContext.getSchedulerService().cpuLightScheduler();
     scheduler = muleContext.getSchedulerService().customScheduler(muleContext.getSchedulerBaseConfig().withName(name)
         .withMaxConcurrentTasks(1)
         .withShutdownTimeout(0, MILLISECONDS));
-    replyRunnable = new AsyncReplyMonitoringRunnable();
-    scheduler.scheduleWithFixedDelay(replyRunnable, 0, 100, MILLISECONDS);
+    scheduler.scheduleWithFixedDelay(new AsyncReplyMonitoringRunnable(), 0, TIMEOUT_TICK, MILLISECONDS);
   }
 
   @Override
   public void stop() throws MuleException {
+    // Once stopped, replies are no longer received nor timeouts tracked, so nobody would finish the pending requests
+    for (PendingReply pendingReply : pendingReplies.values()) {
+      pendingReply.abort();
+    }
     if (scheduler != null) {
       scheduler.stop();
     }
+    if (replyScheduler != null) {
+      replyScheduler.stop();
+    }
   }
 
   @Override
@@ -205,66 +253,6 @@ public abstract class AbstractAsyncRequestReplyRequester extends AbstractInterce
     processNext(event);
   }
 
-  private PrivilegedEvent receiveAsyncReply(CoreEvent event) throws MuleException {
-    String asyncReplyCorrelationId = getAsyncReplyCorrelationId(event);
-    System.out.println("receiveAsyncReply: " + asyncReplyCorrelationId);
-    Latch asyncReplyLatch = getLatch(asyncReplyCorrelationId);
-    // flag for catching the interrupted status of the Thread waiting for a
-    // result
-    boolean interruptedWhileWaiting = false;
-    boolean resultAvailable = false;
-    PrivilegedEvent result;
-
-    try {
-      if (logger.isDebugEnabled()) {
-        logger.debug("Waiting for async reply message with id: " + asyncReplyCorrelationId);
-      }
-      // how long should we wait for the lock?
-      if (timeout <= 0) {
-        asyncReplyLatch.await();
-        resultAvailable = true;
-      } else {
-        resultAvailable = asyncReplyLatch.await(timeout, MILLISECONDS);
-      }
-      if (!resultAvailable) {
-        asyncReplyLatch.await(1000, MILLISECONDS);
-        resultAvailable = asyncReplyLatch.getCount() == 0;
-      }
-    } catch (InterruptedException e) {
-      interruptedWhileWaiting = true;
-    } finally {
-      locks.remove(asyncReplyCorrelationId);
-      result = responseEvents.remove(asyncReplyCorrelationId);
-      if (interruptedWhileWaiting) {
-        Thread.currentThread().interrupt();
-        return null;
-      }
-    }
-
-    if (resultAvailable) {
-      if (result == null) {
-        // this should never happen, just using it as a safe guard for now
-        throw new IllegalStateException("Response MuleEvent is null");
-      }
-      // Copy event because the async-reply message was received by a different
-      // receiver thread (or the senders dispatcher thread in case of vm
-      // with queueEvents="false") and the current thread may need to mutate
-      // the even. See MULE-4370
-      setCurrentEvent(result);
-      return result;
-    } else {
-      addProcessed(new ProcessedEvents(asyncReplyCorrelationId, EndReason.FINISHED_BY_TIMEOUT));
-
-      if (failOnTimeout) {
-        notificationFirer.dispatch(new RoutingNotification(event.getMessage(), null, ASYNC_REPLY_TIMEOUT));
-
-        throw new ResponseTimeoutException(responseTimedOutWaitingForId((int) timeout, asyncReplyCorrelationId), null);
-      } else {
-        return null;
-      }
-    }
-  }
-
   private void addProcessed(Object id) {
     synchronized (processedLock) {
       if (processed.isFull()) {
@@ -280,14 +268,51 @@ public abstract class AbstractAsyncRequestReplyRequester extends AbstractInterce
     }
   }
 
+  private boolean isFinishedByReply(String correlationId) {
+    return isAlreadyProcessed(new ProcessedEvents(correlationId));
+  }
+
+  private boolean isFinishedByTimeout(String correlationId) {
+    return isAlreadyProcessed(new ProcessedEvents(correlationId, EndReason.FINISHED_BY_TIMEOUT));
+  }
+
+  private void fireMissedReplyNotification(String correlationId, CoreEvent event) {
+    if (logger.isDebugEnabled()) {
+      logger.debug("An event was received for an event group that has already been processed, "
+          + "this is because the async-reply timed out. GroupCorrelation Id is: "
+          + correlationId + ". Dropping event");
+    }
+    // Fire a notification to say we received this message
+    notificationFirer.dispatch(new RoutingNotification(event.getMessage(), event.getContext().getOriginatingLocation()
+        .getComponentIdentifier().getIdentifier().getNamespace(), MISSED_ASYNC_REPLY));
+  }
+
   class InternalAsyncReplyMessageProcessor extends AbstractComponent implements Processor {
 
     @Override
     public CoreEvent process(CoreEvent event) throws MuleException {
       String messageId = getAsyncReplyCorrelationId(event);
 
-      RequestReplyLatch requestReplyLatch = locks.get(messageId);
-      if (requestReplyLatch != null && requestReplyLatch.isSequenceEvent() && store.contains(messageId)) {
+      PendingReply pendingReply = pendingReplies.get(messageId);
+      if (pendingReply != null && pendingReply.complete((PrivilegedEvent) event)) {
+        return null;
+      }
+
+      if (isFinishedByReply(messageId) || (pendingReply != null && !pendingReply.isSequenceEvent())) {
+        if (logger.isDebugEnabled()) {
+          logger.debug("A reply was received for a request that already got its reply. GroupCorrelation Id is: " + messageId
+              + ". Dropping event");
+        }
+        return null;
+      }
+
+      if (isFinishedByTimeout(messageId)) {
+        fireMissedReplyNotification(messageId, event);
+        return null;
+      }
+
+      // Nobody is waiting for this reply yet, keep it until a request claims it or it expires from the store
+      if (store.contains(messageId)) {
         MultipleRequestReplierEvent multipleEvent = (MultipleRequestReplierEvent) store.retrieve(messageId);
         multipleEvent.addEvent((PrivilegedEvent) event);
       } else {
@@ -295,7 +320,7 @@ public abstract class AbstractAsyncRequestReplyRequester extends AbstractInterce
         multipleEvent.addEvent((PrivilegedEvent) event);
         store.store(messageId, multipleEvent);
       }
-      replyRunnable.run();
+      unclaimedReplies = true;
       return null;
     }
   }
@@ -307,8 +332,20 @@ public abstract class AbstractAsyncRequestReplyRequester extends AbstractInterce
 
   private class AsyncReplyMonitoringRunnable implements Runnable {
 
+    private long lastUnclaimedScan = 0;
+
     @Override
     public void run() {
+      replyTimeouts.advance(PendingReply::expire);
+
+      if (unclaimedReplies && lastUnclaimedScan + UNCLAIMED_SCAN_INTERVAL <= currentTimeMillis()) {
+        lastUnclaimedScan = currentTimeMillis();
+        unclaimedReplies = false;
+        deliverUnclaimedReplies();
+      }
+    }
+
+    private void deliverUnclaimedReplies() {
       try {
         List<Serializable> ids = store.allKeys();
         logger.debug("Found " + ids.size() + " objects in store");
@@ -318,46 +355,21 @@ public abstract class AbstractAsyncRequestReplyRequester extends AbstractInterce
             String correlationId = (String) id;
             MultipleRequestReplierEvent multipleEvent = (MultipleRequestReplierEvent) store.retrieve(correlationId);
 
-            if (isAlreadyProcessed(new ProcessedEvents(correlationId, EndReason.FINISHED_BY_TIMEOUT))) {
+            if (isFinishedByTimeout(correlationId)) {
               deleteEvent = true;
-              CoreEvent event = multipleEvent.getEvent();
-              if (logger.isDebugEnabled()) {
-                logger.debug("An event was received for an event group that has already been processed, "
-                    + "this is because the async-reply timed out. GroupCorrelation Id is: "
-                    + correlationId + ". Dropping event");
-              }
-              // Fire a notification to say we received this message
-              notificationFirer.dispatch(new RoutingNotification(event.getMessage(), event.getContext().getOriginatingLocation()
-                  .getComponentIdentifier().getIdentifier().getNamespace(), MISSED_ASYNC_REPLY));
+              fireMissedReplyNotification(correlationId, multipleEvent.getEvent());
             } else {
-              RequestReplyLatch requestReplyLatch = locks.get(correlationId);
-              if (requestReplyLatch != null) {
-                PrivilegedEvent event = retrieveEvent(correlationId);
-
-                CoreEvent previousResult = responseEvents.putIfAbsent(correlationId, event);
-                if (previousResult != null) {
-                  // this would indicate that we need a better way to prevent
-                  // continued aggregation for a group that is currently being
-                  // processed. Can this actually happen?
-                  throw new IllegalStateException("Detected duplicate result message with id: " + correlationId);
-                }
-                if (requestReplyLatch.isSequenceEvent()) {
-                  if (requestReplyLatch.isLastEvent()) {
-                    addProcessed(new ProcessedEvents(correlationId));
-                    deleteEvent = true;
-                  }
-                } else {
-                  addProcessed(new ProcessedEvents(correlationId));
-                  deleteEvent = true;
-                }
-
-                requestReplyLatch.countDown();
+              PendingReply pendingReply = pendingReplies.get(correlationId);
+              if (pendingReply != null && pendingReply.complete(retrieveEvent(correlationId))) {
                 multipleEvent.removeEvent();
+                deleteEvent = multipleEvent.isEmpty() || !pendingReply.isSequenceEvent() || pendingReply.isLastEvent();
               }
             }
 
             if (deleteEvent) {
               store.remove(correlationId);
+            } else {
+              unclaimedReplies = true;
             }
           } catch (Exception ex) {
             logger.debug("Error processing async replies", ex);
@@ -387,31 +399,93 @@ public abstract class AbstractAsyncRequestReplyRequester extends AbstractInterce
 
   @Override
   public ProcessingType getProcessingType() {
+    // Sending the request may block, waiting for the reply doesn't
     return BLOCKING;
   }
 
-  private class RequestReplyLatch {
+  /**
+   * A request waiting for its reply. Only the first of completing, expiring or cancelling it takes effect.
+   */
+  final class PendingReply {
 
+    private final String correlationId;
+    private final CoreEvent request;
     private final int groupSize;
     private final int correlationSequence;
-    private final Latch latch = createEventLock();
-
-    RequestReplyLatch(int groupSize, int correlationSequence) {
-      this.groupSize = groupSize;
-      this.correlationSequence = correlationSequence;
+    private final CompletableFuture<PrivilegedEvent> reply = new CompletableFuture<>();
+    private volatile Timeout<PendingReply> timeout;
+
+    private PendingReply(String correlationId, CoreEvent request) {
+      this.correlationId = correlationId;
+      this.request = request;
+      this.groupSize = request.getGroupCorrelation().map(gc -> gc.getGroupSize().orElse(-1)).orElse(-1);
+      this.correlationSequence = request.getGroupCorrelation().map(gc -> gc.getSequence()).orElse(-1);
     }
 
     private boolean isSequenceEvent() {
       return groupSize != -1;
     }
 
-    private void countDown() {
-      latch.countDown();
-    }
-
     private boolean isLastEvent() {
       return groupSize == correlationSequence;
     }
+
+    private boolean complete(PrivilegedEvent replyEvent) {
+      if (!reply.complete(replyEvent)) {
+        return false;
+      }
+
+      finish();
+      if (!isSequenceEvent() || isLastEvent()) {
+        addProcessed(new ProcessedEvents(correlationId));
+      }
+      return true;
+    }
+
+    private void expire() {
+      if (reply.isDone()) {
+        return;
+      }
+
+      if (failOnTimeout) {
+        ResponseTimeoutException timeoutException =
+            new ResponseTimeoutException(responseTimedOutWaitingForId((int) AbstractAsyncRequestReplyRequester.this.timeout,
+                                                                      correlationId),
+                                         null);
+        if (!reply.completeExceptionally(timeoutException)) {
+          return;
+        }
+      } else if (!reply.complete(null)) {
+        return;
+      }
+
+      finish();
+      addProcessed(new ProcessedEvents(correlationId, EndReason.FINISHED_BY_TIMEOUT));
+      if (failOnTimeout) {
+        notificationFirer.dispatch(new RoutingNotification(request.getMessage(), null, ASYNC_REPLY_TIMEOUT));
+      }
+    }
+
+    private void cancel() {
+      if (reply.cancel(false)) {
+        finish();
+      }
+    }
+
+    private void abort() {
+      String message = format("Request-reply was stopped while waiting for the reply with correlation id '%s'", correlationId);
+      if (reply.completeExceptionally(new DefaultMuleException(createStaticMessage(message)))) {
+        finish();
+      }
+    }
+
+    private void finish() {
+      pendingReplies.remove(correlationId, this);
+      Timeout<PendingReply> scheduledTimeout = timeout;
+      if (scheduledTimeout != null) {
+        scheduledTimeout.cancel();
+      }
+    }
   }
 
   private class ProcessedEvents {
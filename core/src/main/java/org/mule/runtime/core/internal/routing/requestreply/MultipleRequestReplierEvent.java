@@ -30,4 +30,8 @@ public class MultipleRequestReplierEvent implements Serializable {
   protected synchronized PrivilegedEvent getEvent() {
     return muleEvents.get(0);
   }
+
+  protected synchronized boolean isEmpty() {
+    return muleEvents.isEmpty();
+  }
 }
@@ -11,14 +11,14 @@ import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 import org.mule.runtime.api.store.AbstractObjectStoreSupport;
 import org.mule.runtime.api.store.ObjectDoesNotExistException;
 import org.mule.runtime.api.store.ObjectStoreException;
-import org.mule.runtime.api.store.PartitionableObjectStore;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
 public abstract class AbstractPartitionableObjectStore<T extends Serializable> extends AbstractObjectStoreSupport<T>
-    implements PartitionableObjectStore<T> {
+    implements PartitionableBulkObjectStore<T> {
 
   @Override
   public void open() throws ObjectStoreException {
@@ -104,6 +104,12 @@ public abstract class AbstractPartitionableObjectStore<T extends Serializable> e
     }
   }
 
+  protected void validateKeysAndPartitionName(Collection<String> keys, String partitionName) throws ObjectStoreException {
+    for (String key : keys) {
+      validateKeyAndPartitionName(key, partitionName);
+    }
+  }
+
   protected void validatePresentKeyInPartition(String key, String partitionName) throws ObjectStoreException {
     validateKeyAndPartitionName(key, partitionName);
 
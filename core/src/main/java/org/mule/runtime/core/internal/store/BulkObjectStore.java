@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.store;
+
+import org.mule.runtime.api.store.ObjectAlreadyExistsException;
+import org.mule.runtime.api.store.ObjectStore;
+import org.mule.runtime.api.store.ObjectStoreException;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An {@link ObjectStore} which can operate on many keys at once.
+ * <p>
+ * Each operation has a default implementation which simply invokes its single key counterpart for each of the given keys.
+ * Implementations should override them when they're able to amortize locking or I/O across all the keys.
+ * <p>
+ * Components which may receive stores that don't implement this interface should use the methods in
+ * {@link BulkObjectStoreUtils}, which fallback to the single key operations when needed.
+ *
+ * @param <T> the generic type of the stored values
+ * @since 4.2
+ */
+public interface BulkObjectStore<T extends Serializable> extends ObjectStore<T> {
+
+  /**
+   * Stores all the given {@code entries}. Unlike {@link #store(String, Serializable)}, keys which are already present don't
+   * cause an {@link ObjectAlreadyExistsException} to be thrown. Those entries are skipped and their keys returned instead.
+   *
+   * @param entries the entries to store
+   * @return the keys which were not stored because they were already present
+   * @throws ObjectStoreException if the entries could not be stored
+   */
+  default Set<String> storeAll(Map<String, T> entries) throws ObjectStoreException {
+    return BulkObjectStoreUtils.storeEach(this, entries);
+  }
+
+  /**
+   * Tests which of the given {@code keys} are present in the store.
+   *
+   * @param keys the keys to test
+   * @return the subset of the given {@code keys} which are present in the store
+   * @throws ObjectStoreException if the store could not be accessed
+   */
+  default Set<String> containsAll(Collection<String> keys) throws ObjectStoreException {
+    return BulkObjectStoreUtils.containsEach(this, keys);
+  }
+
+  /**
+   * Retrieves the values associated to the given {@code keys}. Keys which are not present are ignored.
+   *
+   * @param keys the keys to retrieve
+   * @return a {@link Map} with the present keys and their values
+   * @throws ObjectStoreException if the store could not be accessed
+   */
+  default Map<String, T> retrieveAll(Collection<String> keys) throws ObjectStoreException {
+    return BulkObjectStoreUtils.retrieveEach(this, keys);
+  }
+
+  /**
+   * Removes the given {@code keys}. Keys which are not present are ignored.
+   *
+   * @param keys the keys to remove
+   * @return a {@link Map} with the removed keys and their values
+   * @throws ObjectStoreException if the store could not be accessed
+   */
+  default Map<String, T> removeAll(Collection<String> keys) throws ObjectStoreException {
+    return BulkObjectStoreUtils.removeEach(this, keys);
+  }
+}
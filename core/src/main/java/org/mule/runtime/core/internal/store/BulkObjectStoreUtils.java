@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.store;
+
+import org.mule.runtime.api.store.ObjectAlreadyExistsException;
+import org.mule.runtime.api.store.ObjectDoesNotExistException;
+import org.mule.runtime.api.store.ObjectStore;
+import org.mule.runtime.api.store.ObjectStoreException;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Utilities to perform the operations of {@link BulkObjectStore} on any {@link ObjectStore}.
+ * <p>
+ * If the store is a {@link BulkObjectStore}, the operation is delegated to it. Otherwise, the single key operations of the
+ * store are invoked for each key.
+ *
+ * @since 4.2
+ */
+public final class BulkObjectStoreUtils {
+
+  private BulkObjectStoreUtils() {}
+
+  /**
+   * @see BulkObjectStore#storeAll(Map)
+   */
+  public static <T extends Serializable> Set<String> storeAll(ObjectStore<T> store, Map<String, T> entries)
+      throws ObjectStoreException {
+    if (store instanceof BulkObjectStore) {
+      return ((BulkObjectStore<T>) store).storeAll(entries);
+    }
+
+    return storeEach(store, entries);
+  }
+
+  /**
+   * @see BulkObjectStore#containsAll(Collection)
+   */
+  public static <T extends Serializable> Set<String> containsAll(ObjectStore<T> store, Collection<String> keys)
+      throws ObjectStoreException {
+    if (store instanceof BulkObjectStore) {
+      return ((BulkObjectStore<T>) store).containsAll(keys);
+    }
+
+    return containsEach(store, keys);
+  }
+
+  /**
+   * @see BulkObjectStore#retrieveAll(Collection)
+   */
+  public static <T extends Serializable> Map<String, T> retrieveAll(ObjectStore<T> store, Collection<String> keys)
+      throws ObjectStoreException {
+    if (store instanceof BulkObjectStore) {
+      return ((BulkObjectStore<T>) store).retrieveAll(keys);
+    }
+
+    return retrieveEach(store, keys);
+  }
+
+  /**
+   * @see BulkObjectStore#removeAll(Collection)
+   */
+  public static <T extends Serializable> Map<String, T> removeAll(ObjectStore<T> store, Collection<String> keys)
+      throws ObjectStoreException {
+    if (store instanceof BulkObjectStore) {
+      return ((BulkObjectStore<T>) store).removeAll(keys);
+    }
+
+    return removeEach(store, keys);
+  }
+
+  static <T extends Serializable> Set<String> storeEach(ObjectStore<T> store, Map<String, T> entries)
+      throws ObjectStoreException {
+    Set<String> existing = new HashSet<>();
+    for (Map.Entry<String, T> entry : entries.entrySet()) {
+      try {
+        store.store(entry.getKey(), entry.getValue());
+      } catch (ObjectAlreadyExistsException e) {
+        existing.add(entry.getKey());
+      }
+    }
+
+    return existing;
+  }
+
+  static <T extends Serializable> Set<String> containsEach(ObjectStore<T> store, Collection<String> keys)
+      throws ObjectStoreException {
+    Set<String> present = new HashSet<>();
+    for (String key : keys) {
+      if (store.contains(key)) {
+        present.add(key);
+      }
+    }
+
+    return present;
+  }
+
+  static <T extends Serializable> Map<String, T> retrieveEach(ObjectStore<T> store, Collection<String> keys)
+      throws ObjectStoreException {
+    Map<String, T> values = new LinkedHashMap<>();
+    for (String key : keys) {
+      try {
+        values.put(key, store.retrieve(key));
+      } catch (ObjectDoesNotExistException e) {
+        // not present, skip it
+      }
+    }
+
+    return values;
+  }
+
+  static <T extends Serializable> Map<String, T> removeEach(ObjectStore<T> store, Collection<String> keys)
+      throws ObjectStoreException {
+    Map<String, T> values = new LinkedHashMap<>();
+    for (String key : keys) {
+      try {
+        values.put(key, store.remove(key));
+      } catch (ObjectDoesNotExistException e) {
+        // not present, skip it
+      }
+    }
+
+    return values;
+  }
+}
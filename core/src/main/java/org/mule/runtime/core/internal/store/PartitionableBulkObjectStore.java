@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.store;
+
+import org.mule.runtime.api.store.ObjectAlreadyExistsException;
+import org.mule.runtime.api.store.ObjectDoesNotExistException;
+import org.mule.runtime.api.store.ObjectStoreException;
+import org.mule.runtime.api.store.PartitionableObjectStore;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link PartitionableObjectStore} which can operate on many keys of a partition at once.
+ * <p>
+ * As with {@link BulkObjectStore}, the default implementations just iterate the keys. The non partitioned operations act on
+ * the {@link #DEFAULT_PARTITION_NAME default partition}.
+ *
+ * @param <T> the generic type of the stored values
+ * @since 4.2
+ */
+public interface PartitionableBulkObjectStore<T extends Serializable> extends PartitionableObjectStore<T>, BulkObjectStore<T> {
+
+  /**
+   * Same as {@link #storeAll(Map)} but on the given {@code partitionName}
+   */
+  default Set<String> storeAll(Map<String, T> entries, String partitionName) throws ObjectStoreException {
+    Set<String> existing = new HashSet<>();
+    for (Map.Entry<String, T> entry : entries.entrySet()) {
+      try {
+        store(entry.getKey(), entry.getValue(), partitionName);
+      } catch (ObjectAlreadyExistsException e) {
+        existing.add(entry.getKey());
+      }
+    }
+
+    return existing;
+  }
+
+  /**
+   * Same as {@link #containsAll(Collection)} but on the given {@code partitionName}
+   */
+  default Set<String> containsAll(Collection<String> keys, String partitionName) throws ObjectStoreException {
+    Set<String> present = new HashSet<>();
+    for (String key : keys) {
+      if (contains(key, partitionName)) {
+        present.add(key);
+      }
+    }
+
+    return present;
+  }
+
+  /**
+   * Same as {@link #retrieveAll(Collection)} but on the given {@code partitionName}
+   */
+  default Map<String, T> retrieveAll(Collection<String> keys, String partitionName) throws ObjectStoreException {
+    Map<String, T> values = new LinkedHashMap<>();
+    for (String key : keys) {
+      try {
+        values.put(key, retrieve(key, partitionName));
+      } catch (ObjectDoesNotExistException e) {
+        // not present, skip it
+      }
+    }
+
+    return values;
+  }
+
+  /**
+   * Same as {@link #removeAll(Collection)} but on the given {@code partitionName}
+   */
+  default Map<String, T> removeAll(Collection<String> keys, String partitionName) throws ObjectStoreException {
+    Map<String, T> values = new LinkedHashMap<>();
+    for (String key : keys) {
+      try {
+        values.put(key, remove(key, partitionName));
+      } catch (ObjectDoesNotExistException e) {
+        // not present, skip it
+      }
+    }
+
+    return values;
+  }
+
+  @Override
+  default Set<String> storeAll(Map<String, T> entries) throws ObjectStoreException {
+    return storeAll(entries, DEFAULT_PARTITION_NAME);
+  }
+
+  @Override
+  default Set<String> containsAll(Collection<String> keys) throws ObjectStoreException {
+    return containsAll(keys, DEFAULT_PARTITION_NAME);
+  }
+
+  @Override
+  default Map<String, T> retrieveAll(Collection<String> keys) throws ObjectStoreException {
+    return retrieveAll(keys, DEFAULT_PARTITION_NAME);
+  }
+
+  @Override
+  default Map<String, T> removeAll(Collection<String> keys) throws ObjectStoreException {
+    return removeAll(keys, DEFAULT_PARTITION_NAME);
+  }
+}
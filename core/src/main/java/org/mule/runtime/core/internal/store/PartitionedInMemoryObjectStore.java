@@ -16,10 +16,13 @@ import org.mule.runtime.core.api.component.InternalComponent;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
@@ -86,6 +89,81 @@ public class PartitionedInMemoryObjectStore<T extends Serializable> extends Abst
     return removedValue;
   }
 
+  @Override
+  public Set<String> storeAll(Map<String, T> entries, String partitionName) throws ObjectStoreException {
+    validateKeysAndPartitionName(entries.keySet(), partitionName);
+
+    final long now = getCurrentNanoTime();
+    ConcurrentMap<String, T> partition = getPartition(partitionName);
+    List<ExpiryEntry> expiryEntries = new ArrayList<>(entries.size());
+    Set<String> existing = new HashSet<>();
+
+    for (Map.Entry<String, T> entry : entries.entrySet()) {
+      if (partition.putIfAbsent(entry.getKey(), entry.getValue()) == null) {
+        expiryEntries.add(new ExpiryEntry(now, entry.getKey()));
+      } else {
+        existing.add(entry.getKey());
+      }
+    }
+
+    getExpiryInfoPartition(partitionName).addAll(expiryEntries);
+    return existing;
+  }
+
+  @Override
+  public Set<String> containsAll(Collection<String> keys, String partitionName) throws ObjectStoreException {
+    validateKeysAndPartitionName(keys, partitionName);
+
+    Set<String> present = new HashSet<>();
+    ConcurrentMap<String, T> partition = partitions.get(partitionName);
+    if (partition != null) {
+      for (String key : keys) {
+        if (partition.containsKey(key)) {
+          present.add(key);
+        }
+      }
+    }
+
+    return present;
+  }
+
+  @Override
+  public Map<String, T> retrieveAll(Collection<String> keys, String partitionName) throws ObjectStoreException {
+    validateKeysAndPartitionName(keys, partitionName);
+
+    Map<String, T> values = new LinkedHashMap<>();
+    ConcurrentMap<String, T> partition = getPartition(partitionName);
+    for (String key : keys) {
+      T value = partition.get(key);
+      if (value != null) {
+        values.put(key, value);
+      }
+    }
+
+    return values;
+  }
+
+  @Override
+  public Map<String, T> removeAll(Collection<String> keys, String partitionName) throws ObjectStoreException {
+    validateKeysAndPartitionName(keys, partitionName);
+
+    Map<String, T> removedValues = new LinkedHashMap<>();
+    ConcurrentMap<String, T> partition = getPartition(partitionName);
+    for (String key : keys) {
+      T removedValue = partition.remove(key);
+      if (removedValue != null) {
+        removedValues.put(key, removedValue);
+      }
+    }
+
+    // a single pass over the expiry queue for all the removed keys, rather than one per key
+    if (!removedValues.isEmpty()) {
+      getExpiryInfoPartition(partitionName).removeIf(entry -> removedValues.containsKey(entry.getKey()));
+    }
+
+    return removedValues;
+  }
+
   @Override
   public List<String> allKeys(String partitionName) throws ObjectStoreException {
     return new ArrayList<>(getPartition(partitionName).keySet());
@@ -23,9 +23,11 @@ import java.io.File;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.slf4j.Logger;
 
@@ -112,6 +114,30 @@ public class PartitionedPersistentObjectStore<T extends Serializable> extends Ab
     return getPartitionObjectStore(partitionName).remove(key.toString());
   }
 
+  @Override
+  public Set<String> storeAll(Map<String, T> entries, String partitionName) throws ObjectStoreException {
+    validateKeysAndPartitionName(entries.keySet(), partitionName);
+    return getPartitionObjectStore(partitionName).storeAll(entries);
+  }
+
+  @Override
+  public Set<String> containsAll(Collection<String> keys, String partitionName) throws ObjectStoreException {
+    validateKeysAndPartitionName(keys, partitionName);
+    return getPartitionObjectStore(partitionName).containsAll(keys);
+  }
+
+  @Override
+  public Map<String, T> retrieveAll(Collection<String> keys, String partitionName) throws ObjectStoreException {
+    validateKeysAndPartitionName(keys, partitionName);
+    return getPartitionObjectStore(partitionName).retrieveAll(keys);
+  }
+
+  @Override
+  public Map<String, T> removeAll(Collection<String> keys, String partitionName) throws ObjectStoreException {
+    validateKeysAndPartitionName(keys, partitionName);
+    return getPartitionObjectStore(partitionName).removeAll(keys);
+  }
+
   @Override
   public List<String> allKeys(String partitionName) throws ObjectStoreException {
     return getPartitionObjectStore(partitionName).allKeys();
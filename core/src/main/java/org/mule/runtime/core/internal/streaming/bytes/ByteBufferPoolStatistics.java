@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.streaming.bytes;
+
+import static java.lang.String.format;
+
+/**
+ * Snapshot of the usage of the buffers of one size class of a {@link PoolingByteBufferManager}.
+ *
+ * @since 4.2
+ */
+public final class ByteBufferPoolStatistics {
+
+  private final int sizeClass;
+  private final long allocations;
+  private final long reuses;
+  private final long created;
+  private final long destroyed;
+  private final int idle;
+
+  ByteBufferPoolStatistics(int sizeClass, long allocations, long reuses, long created, long destroyed, int idle) {
+    this.sizeClass = sizeClass;
+    this.allocations = allocations;
+    this.reuses = reuses;
+    this.created = created;
+    this.destroyed = destroyed;
+    this.idle = idle;
+  }
+
+  /**
+   * @return the capacity of the memory backing the buffers of this size class.
+   */
+  public int getSizeClass() {
+    return sizeClass;
+  }
+
+  /**
+   * @return how many buffers of this size class were allocated.
+   */
+  public long getAllocations() {
+    return allocations;
+  }
+
+  /**
+   * @return how many of the {@link #getAllocations() allocations} reused a pooled buffer.
+   */
+  public long getReuses() {
+    return reuses;
+  }
+
+  /**
+   * @return how many buffers of this size class were created.
+   */
+  public long getCreated() {
+    return created;
+  }
+
+  /**
+   * @return how many buffers of this size class were discarded, releasing their memory.
+   */
+  public long getDestroyed() {
+    return destroyed;
+  }
+
+  /**
+   * @return how many buffers of this size class are idle in the shared pool. Buffers kept by each thread are not included.
+   */
+  public int getIdle() {
+    return idle;
+  }
+
+  @Override
+  public String toString() {
+    return format("ByteBufferPoolStatistics[sizeClass=%d, allocations=%d, reuses=%d, created=%d, destroyed=%d, idle=%d]",
+                  sizeClass, allocations, reuses, created, destroyed, idle);
+  }
+}
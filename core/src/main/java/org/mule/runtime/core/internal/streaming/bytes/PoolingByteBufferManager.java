@@ -6,56 +6,74 @@
  */
 package org.mule.runtime.core.internal.streaming.bytes;
 
+import static java.lang.Integer.numberOfLeadingZeros;
+import static java.lang.Integer.numberOfTrailingZeros;
 import static java.lang.Math.round;
 import static java.lang.String.format;
 import static java.lang.System.getProperty;
+import static java.lang.System.nanoTime;
+import static java.lang.Thread.currentThread;
+import static java.lang.ThreadLocal.withInitial;
+import static java.util.Collections.unmodifiableMap;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.mule.runtime.api.config.PoolingProfile.DEFAULT_MAX_POOL_WAIT;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 import static org.mule.runtime.core.api.config.MuleProperties.MULE_STREAMING_MAX_MEMORY;
-import static org.mule.runtime.core.internal.util.ConcurrencyUtils.withLock;
 import static org.slf4j.LoggerFactory.getLogger;
 import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.api.lifecycle.Disposable;
 import org.mule.runtime.core.api.streaming.bytes.ByteBufferManager;
-import org.mule.runtime.core.api.util.func.CheckedRunnable;
 import org.mule.runtime.core.internal.streaming.DefaultMemoryManager;
 import org.mule.runtime.core.internal.streaming.MemoryManager;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
-import com.google.common.cache.RemovalListener;
+import com.google.common.collect.MapMaker;
 
+import java.lang.ref.WeakReference;
 import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
-import org.apache.commons.pool2.BasePooledObjectFactory;
-import org.apache.commons.pool2.KeyedObjectPool;
-import org.apache.commons.pool2.ObjectPool;
-import org.apache.commons.pool2.PooledObject;
-import org.apache.commons.pool2.impl.DefaultPooledObject;
-import org.apache.commons.pool2.impl.GenericObjectPool;
-import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.slf4j.Logger;
 
 /**
  * {@link ByteBufferManager} implementation which pools instances for better performance.
  * <p>
- * Buffers are kept in separate pools depending on their capacity.
+ * Requested capacities are rounded up to a power of two size class, so that buffers of slightly different capacities share
+ * the same pool. Returned buffers still have exactly the requested capacity, being views over the memory of the size class.
  * <p>
- * Idle buffers and capacity pools are automatically expired.
+ * Each thread keeps a small magazine of idle buffers for the smaller size classes, so that most allocations and deallocations
+ * don't contend with other threads. Magazines overflow into a shared depot per size class, which keeps a bounded amount of idle
+ * buffers. Idle buffers, either in magazines or in depots, are discarded once they have been idle for 10 seconds. That is checked
+ * when buffers are deallocated, so it only happens while this manager is in use.
  * <p>
  * Unlike traditional pools which are exhausted in terms of number of instances, we don't care about
- * the number of buffers pooled but in the amount of memory they retain. This pool will be exhausted
- * when a certain threshold of retained memory is reached. When exhausted, invokations to
- * {@link #allocate(int)} will block until more memory becomes available (by invoking {@link #deallocate(ByteBuffer)}).
- * If {@link #allocate(int)} is blocked by more than {@link #waitTimeoutMillis} milliseconds, then a
- * {@link MaxStreamingMemoryExceededException} is thrown.
+ * the number of buffers pooled but in the amount of memory they retain, including the idle ones. This pool will be exhausted
+ * when a certain threshold of retained memory is reached. When that happens, idle buffers in the magazines of every thread and
+ * in the depots are discarded to make room, and invocations to {@link #allocate(int)} will block until more memory becomes
+ * available (by invoking {@link #deallocate(ByteBuffer)}). If {@link #allocate(int)} is blocked by more than
+ * {@link #waitTimeoutMillis} milliseconds, then a {@link MaxStreamingMemoryExceededException} is thrown. Magazines are bypassed
+ * once half of that threshold is retained, so that memory held by each thread doesn't starve the others.
+ * <p>
+ * Only the buffers handed out by this manager are taken back, once. Other buffers passed to {@link #deallocate(ByteBuffer)} are
+ * ignored. Each pooled memory remembers the buffer it was last handed out over, so that the buffers handed out by this manager
+ * only need to be registered when the pooled memory is created, or handed out with a different capacity.
+ * <p>
+ * Buffers may optionally be allocated {@link ByteBuffer#allocateDirect(int) directly}, for components that hand them to NIO
+ * channels. Those buffers have no accessible backing array.
  *
  * @since 4.0
  */
@@ -63,34 +81,43 @@ public class PoolingByteBufferManager implements ByteBufferManager, Disposable {
 
   private static final Logger LOGGER = getLogger(PoolingByteBufferManager.class);
   private static final int MAX_IDLE = Runtime.getRuntime().availableProcessors();
+  private static final long DEFAULT_IDLE_TIMEOUT_MILLIS = SECONDS.toMillis(10);
+
+  private static final int SIZE_CLASSES = 31;
+  private static final int MAX_POOLED_CAPACITY = 1 << (SIZE_CLASSES - 1);
+
+  private static final int MAGAZINE_CAPACITY = 4;
+  private static final int MAGAZINE_SIZE_CLASSES = numberOfTrailingZeros(64 * 1024) + 1;
+
+  /**
+   * Marks the buffers too big to be pooled which were handed out by this manager.
+   */
+  private static final PooledMemory UNPOOLED = new PooledMemory(null, null);
 
   private final AtomicLong streamingMemory = new AtomicLong(0);
   private final long maxStreamingMemory;
   private final long waitTimeoutMillis;
+  private final boolean direct;
+
+  private final long idleTimeoutNanos;
+  private final long expiryIntervalNanos;
+  private final AtomicLong lastExpiry = new AtomicLong(nanoTime());
+
+  private final SizeClass[] sizeClasses = new SizeClass[SIZE_CLASSES];
+  private volatile ThreadLocal<Magazine[]> magazines = newMagazines();
+  private final Queue<Magazine> allMagazines = new ConcurrentLinkedQueue<>();
 
   /**
-   * Using a cache of pools instead of a {@link KeyedObjectPool} because performance tests indicates that this
-   * option is slightly faster, plus it gives us the ability to expire unfrequent capacity buffers without the use
-   * of a reaper thread (those performance test did not include such a reaper, so it's very possible that this is more
-   * than just slightly faster)
+   * The pooled memory behind each buffer handed out by this manager. Keys are compared by identity. Only updated when memory is
+   * created or discarded, or handed out with a different capacity than the previous time.
    */
-  private final LoadingCache<Integer, BufferPool> pools = CacheBuilder.newBuilder()
-      .expireAfterAccess(10, SECONDS)
-      .removalListener((RemovalListener<Integer, BufferPool>) notification -> {
-        try {
-          notification.getValue().close();
-        } catch (Exception e) {
-          if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug("Found exception trying to dispose buffer pool for capacity " + notification.getKey(), e);
-          }
-        }
-      }).build(new CacheLoader<Integer, BufferPool>() {
+  private final ConcurrentMap<ByteBuffer, PooledMemory> owners = new MapMaker().weakKeys().makeMap();
 
-        @Override
-        public BufferPool load(Integer capacity) throws Exception {
-          return new BufferPool(capacity);
-        }
-      });
+  private final Lock lock = new ReentrantLock();
+  private final Condition memoryAvailable = lock.newCondition();
+  private final AtomicInteger waiters = new AtomicInteger(0);
+
+  private volatile boolean disposed = false;
 
   /**
    * Creates a new instance which allows the pool to grow up to 50% of the runtime's max memory and has a wait
@@ -108,8 +135,31 @@ public class PoolingByteBufferManager implements ByteBufferManager, Disposable {
    * @param waitTimeoutMillis how long to wait when the pool is exhausted
    */
   public PoolingByteBufferManager(MemoryManager memoryManager, long waitTimeoutMillis) {
+    this(memoryManager, waitTimeoutMillis, false);
+  }
+
+  /**
+   * Creates a new instance which allows the pool to grow up to 50% of calling {@link MemoryManager#getMaxMemory()}
+   * on the given {@code memoryManager}, and has {@code waitTimeoutMillis} as wait timeout.
+   *
+   * @param memoryManager     a {@link MemoryManager} used to determine the runtime's max memory
+   * @param waitTimeoutMillis how long to wait when the pool is exhausted
+   * @param direct            whether to allocate direct buffers instead of heap ones
+   * @since 4.2
+   */
+  public PoolingByteBufferManager(MemoryManager memoryManager, long waitTimeoutMillis, boolean direct) {
+    this(memoryManager, waitTimeoutMillis, direct, DEFAULT_IDLE_TIMEOUT_MILLIS);
+  }
+
+  PoolingByteBufferManager(MemoryManager memoryManager, long waitTimeoutMillis, boolean direct, long idleTimeoutMillis) {
     maxStreamingMemory = calculateMaxStreamingMemory(memoryManager);
     this.waitTimeoutMillis = waitTimeoutMillis;
+    this.direct = direct;
+    idleTimeoutNanos = MILLISECONDS.toNanos(idleTimeoutMillis);
+    expiryIntervalNanos = idleTimeoutNanos / 10;
+    for (int i = 0; i < SIZE_CLASSES; ++i) {
+      sizeClasses[i] = new SizeClass(i);
+    }
   }
 
   private long calculateMaxStreamingMemory(MemoryManager memoryManager) {
@@ -132,8 +182,23 @@ public class PoolingByteBufferManager implements ByteBufferManager, Disposable {
    */
   @Override
   public ByteBuffer allocate(int capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("Buffer capacity cannot be negative: " + capacity);
+    }
+
     try {
-      return pools.getUnchecked(capacity).take();
+      if (capacity > MAX_POOLED_CAPACITY) {
+        reserve(capacity, null);
+        ByteBuffer buffer = newBuffer(capacity);
+        owners.put(buffer, UNPOOLED);
+        return buffer;
+      }
+
+      SizeClass sizeClass = sizeClasses[sizeClassIndex(capacity)];
+      sizeClass.allocations.increment();
+      PooledMemory memory = take(sizeClass);
+      memory.inUse.set(true);
+      return viewOf(memory, capacity);
     } catch (Exception e) {
       throw new MuleRuntimeException(createStaticMessage("Could not allocate byte buffer. " + e.getMessage()), e);
     }
@@ -144,120 +209,427 @@ public class PoolingByteBufferManager implements ByteBufferManager, Disposable {
    */
   @Override
   public void deallocate(ByteBuffer byteBuffer) {
-    int capacity = byteBuffer.capacity();
-    BufferPool pool = pools.getIfPresent(capacity);
-    if (pool != null) {
-      try {
-        pool.returnBuffer(byteBuffer);
-      } catch (Exception e) {
-        throw new MuleRuntimeException(createStaticMessage("Could not deallocate buffer of capacity " + capacity), e);
+    PooledMemory memory = owners.get(byteBuffer);
+    if (memory == null) {
+      // Not allocated by this manager
+      return;
+    }
+
+    if (memory == UNPOOLED) {
+      if (owners.remove(byteBuffer) != null) {
+        release(byteBuffer.capacity());
+      }
+    } else if (memory.inUse.compareAndSet(true, false)) {
+      memory.idleView = byteBuffer;
+      give(memory);
+    }
+  }
+
+  /**
+   * @return the amount of memory currently retained by the buffers of this manager, either in use or idle.
+   * @since 4.2
+   */
+  public long getStreamingMemory() {
+    return streamingMemory.get();
+  }
+
+  /**
+   * @return the statistics of each size class that was used so far, keyed by the size class.
+   * @since 4.2
+   */
+  public Map<Integer, ByteBufferPoolStatistics> getPoolStatistics() {
+    Map<Integer, ByteBufferPoolStatistics> statistics = new LinkedHashMap<>();
+    for (SizeClass sizeClass : sizeClasses) {
+      long allocations = sizeClass.allocations.sum();
+      if (allocations > 0) {
+        statistics.put(sizeClass.size, new ByteBufferPoolStatistics(sizeClass.size, allocations, sizeClass.reuses.sum(),
+                                                                    sizeClass.created.sum(), sizeClass.destroyed.sum(),
+                                                                    sizeClass.idleCount.get()));
       }
     }
+    return unmodifiableMap(statistics);
   }
 
   @Override
   public void dispose() {
+    disposed = true;
+    magazines = newMagazines();
     try {
-      pools.invalidateAll();
+      reclaimIdle();
+      allMagazines.clear();
     } catch (Exception e) {
       if (LOGGER.isWarnEnabled()) {
         LOGGER.warn("Error disposing pool of byte buffers", e);
       }
+    } finally {
+      signalAll();
     }
   }
 
-  private class BufferPool {
-
-    private final int bufferCapacity;
-    private final ObjectPool<ByteBuffer> pool;
-    private final Lock lock = new ReentrantLock();
-    private final Condition poolNotFull = lock.newCondition();
-
-    private BufferPool(int bufferCapacity) {
-      this.bufferCapacity = bufferCapacity;
-      GenericObjectPoolConfig config = new GenericObjectPoolConfig();
-      config.setMaxIdle(MAX_IDLE);
-      config.setMaxTotal(-1);
-      config.setBlockWhenExhausted(false);
-      config.setTimeBetweenEvictionRunsMillis(SECONDS.toMillis(30));
-      config.setTestOnBorrow(false);
-      config.setTestOnReturn(false);
-      config.setTestWhileIdle(false);
-      config.setTestOnCreate(false);
-      config.setJmxEnabled(false);
-
-      pool = new GenericObjectPool<>(new BasePooledObjectFactory<ByteBuffer>() {
-
-        @Override
-        public ByteBuffer create() throws Exception {
-          if (streamingMemory.addAndGet(bufferCapacity) <= maxStreamingMemory) {
-            return ByteBuffer.allocate(bufferCapacity);
-          }
-
-          streamingMemory.addAndGet(-bufferCapacity);
-          throw new MaxStreamingMemoryExceededException(createStaticMessage(format(
-                                                                                   "Max streaming memory limit of %d bytes was exceeded",
-                                                                                   maxStreamingMemory)));
+  private PooledMemory take(SizeClass sizeClass) throws InterruptedException {
+    PooledMemory memory = popFromMagazine(sizeClass);
+    if (memory == null) {
+      memory = sizeClass.pollIdle();
+      if (memory == null) {
+        memory = reserve(sizeClass.size, sizeClass);
+        if (memory == null) {
+          sizeClass.created.increment();
+          return new PooledMemory(sizeClass, newBuffer(sizeClass.size));
         }
+      }
+    }
 
-        @Override
-        public PooledObject<ByteBuffer> wrap(ByteBuffer obj) {
-          return new DefaultPooledObject<>(obj);
-        }
+    sizeClass.reuses.increment();
+    return memory;
+  }
 
-        @Override
-        public void activateObject(PooledObject<ByteBuffer> p) throws Exception {
-          p.getObject().clear();
-        }
+  private void give(PooledMemory memory) {
+    long now = nanoTime();
+    expireIdle(now);
+
+    memory.idleSince = now;
+    // When someone is waiting for memory, release this one instead so that any size class may use it
+    if (!disposed && waiters.get() == 0) {
+      if (streamingMemory.get() < maxStreamingMemory / 2 && pushToMagazine(memory)) {
+        return;
+      }
+      if (memory.sizeClass.offerIdle(memory)) {
+        return;
+      }
+    }
+
+    destroy(memory);
+  }
+
+  /**
+   * Reserves {@code size} bytes of streaming memory, discarding idle buffers or waiting for buffers to be deallocated if the
+   * limit was reached.
+   *
+   * @param size      the amount of memory to reserve
+   * @param sizeClass the size class the memory is reserved for, if any
+   * @return {@code null} if the memory was reserved, or idle memory of {@code sizeClass} that became available while waiting.
+   */
+  private PooledMemory reserve(int size, SizeClass sizeClass) throws InterruptedException {
+    long deadline = 0;
+    while (true) {
+      if (streamingMemory.addAndGet(size) <= maxStreamingMemory) {
+        return null;
+      }
+      streamingMemory.addAndGet(-size);
+
+      if (reclaimIdle() > 0) {
+        continue;
+      }
 
-        @Override
-        public void destroyObject(PooledObject<ByteBuffer> p) throws Exception {
-          if (streamingMemory.addAndGet(-bufferCapacity) < maxStreamingMemory) {
-            signalPoolNotFull();
+      if (deadline == 0) {
+        deadline = nanoTime() + MILLISECONDS.toNanos(waitTimeoutMillis);
+      }
+
+      lock.lock();
+      waiters.incrementAndGet();
+      try {
+        while (streamingMemory.get() + size > maxStreamingMemory && (sizeClass == null || sizeClass.idleCount.get() == 0)) {
+          long remaining = deadline - nanoTime();
+          if (remaining <= 0 || !memoryAvailable.await(remaining, NANOSECONDS)) {
+            String message = format("Max streaming memory limit of %d bytes was exceeded", maxStreamingMemory);
+            throw new MaxStreamingMemoryExceededException(createStaticMessage(message));
           }
         }
-      }, config);
-    }
-
-    private ByteBuffer take() throws Exception {
-      ByteBuffer buffer = null;
-      do {
-        try {
-          buffer = pool.borrowObject();
-        } catch (MaxStreamingMemoryExceededException e) {
-          signal(() -> {
-            while (streamingMemory.get() >= maxStreamingMemory) {
-              if (!poolNotFull.await(waitTimeoutMillis, MILLISECONDS)) {
-                throw e;
-              }
-            }
-          });
+      } finally {
+        waiters.decrementAndGet();
+        lock.unlock();
+      }
+
+      if (sizeClass != null) {
+        PooledMemory idle = sizeClass.pollIdle();
+        if (idle != null) {
+          return idle;
         }
-      } while (buffer == null);
+      }
+    }
+  }
+
+  private void release(int size) {
+    streamingMemory.addAndGet(-size);
+    signalWaiters();
+  }
 
-      return buffer;
+  /**
+   * Discards the given idle memory, releasing it.
+   *
+   * @return the amount of memory released
+   */
+  private int destroy(PooledMemory memory) {
+    ByteBuffer view = memory.lastView();
+    if (view != null) {
+      owners.remove(view);
     }
+    memory.sizeClass.destroyed.increment();
+    release(memory.sizeClass.size);
+    return memory.sizeClass.size;
+  }
 
-    private void returnBuffer(ByteBuffer buffer) throws Exception {
-      pool.returnObject(buffer);
-      signalPoolNotFull();
+  /**
+   * Discards the buffers idle in the depots and in the magazines of every thread, releasing their memory.
+   *
+   * @return the amount of memory released
+   */
+  private long reclaimIdle() {
+    long reclaimed = 0;
+    for (SizeClass sizeClass : sizeClasses) {
+      PooledMemory memory;
+      while ((memory = sizeClass.pollIdle()) != null) {
+        reclaimed += destroy(memory);
+      }
     }
+    for (Magazine magazine : allMagazines) {
+      reclaimed += magazine.discardAll();
+    }
+    return reclaimed;
+  }
 
-    private void signalPoolNotFull() {
-      signal(poolNotFull::signal);
+  /**
+   * Discards the buffers that have been idle for longer than the idle timeout, at most once per expiry interval. Also forgets
+   * the magazines of threads that are gone.
+   */
+  private void expireIdle(long now) {
+    long last = lastExpiry.get();
+    if (now - last < expiryIntervalNanos || !lastExpiry.compareAndSet(last, now)) {
+      return;
     }
 
-    private void close() {
-      streamingMemory.addAndGet(-bufferCapacity * (pool.getNumActive() + pool.getNumIdle()));
-      try {
-        pool.close();
-      } finally {
-        signal(poolNotFull::signalAll);
+    for (SizeClass sizeClass : sizeClasses) {
+      for (PooledMemory memory : sizeClass.idle) {
+        if (now - memory.idleSince >= idleTimeoutNanos && sizeClass.removeIdle(memory)) {
+          destroy(memory);
+        }
+      }
+    }
+
+    Iterator<Magazine> iterator = allMagazines.iterator();
+    while (iterator.hasNext()) {
+      Magazine magazine = iterator.next();
+      if (magazine.isAbandoned()) {
+        iterator.remove();
+        magazine.discardAll();
+      } else {
+        magazine.discardIdleSince(now, idleTimeoutNanos);
+      }
+    }
+  }
+
+  private void signalWaiters() {
+    if (waiters.get() > 0) {
+      signalAll();
+    }
+  }
+
+  private void signalAll() {
+    lock.lock();
+    try {
+      memoryAvailable.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private ByteBuffer newBuffer(int size) {
+    return direct ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
+  }
+
+  /**
+   * @return a buffer of exactly {@code capacity} over the given pooled memory, reusing the last one when possible.
+   */
+  private ByteBuffer viewOf(PooledMemory memory, int capacity) {
+    ByteBuffer view = memory.lastView();
+    memory.idleView = null;
+    if (view != null) {
+      if (view.capacity() == capacity) {
+        view.clear();
+        return view;
+      }
+      owners.remove(view);
+    }
+
+    ByteBuffer duplicate = memory.memory.duplicate();
+    duplicate.clear();
+    duplicate.limit(capacity);
+    view = duplicate.slice();
+    memory.view = new WeakReference<>(view);
+    owners.put(view, memory);
+    return view;
+  }
+
+  private static ThreadLocal<Magazine[]> newMagazines() {
+    return withInitial(() -> new Magazine[MAGAZINE_SIZE_CLASSES]);
+  }
+
+  private PooledMemory popFromMagazine(SizeClass sizeClass) {
+    if (sizeClass.index >= MAGAZINE_SIZE_CLASSES || disposed) {
+      return null;
+    }
+    Magazine magazine = magazines.get()[sizeClass.index];
+    return magazine != null ? magazine.pop() : null;
+  }
+
+  private boolean pushToMagazine(PooledMemory memory) {
+    int index = memory.sizeClass.index;
+    if (index >= MAGAZINE_SIZE_CLASSES) {
+      return false;
+    }
+    Magazine[] threadMagazines = magazines.get();
+    Magazine magazine = threadMagazines[index];
+    if (magazine == null) {
+      magazine = new Magazine();
+      threadMagazines[index] = magazine;
+      allMagazines.add(magazine);
+    }
+    return magazine.push(memory);
+  }
+
+  private static int sizeClassIndex(int capacity) {
+    return capacity <= 1 ? 0 : 32 - numberOfLeadingZeros(capacity - 1);
+  }
+
+  private static final class SizeClass {
+
+    private final int index;
+    private final int size;
+
+    private final Queue<PooledMemory> idle = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleCount = new AtomicInteger(0);
+
+    private final LongAdder allocations = new LongAdder();
+    private final LongAdder reuses = new LongAdder();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder destroyed = new LongAdder();
+
+    private SizeClass(int index) {
+      this.index = index;
+      this.size = 1 << index;
+    }
+
+    private PooledMemory pollIdle() {
+      PooledMemory memory = idle.poll();
+      if (memory != null) {
+        idleCount.decrementAndGet();
+      }
+      return memory;
+    }
+
+    private boolean offerIdle(PooledMemory memory) {
+      if (idleCount.incrementAndGet() > MAX_IDLE) {
+        idleCount.decrementAndGet();
+        return false;
+      }
+      idle.offer(memory);
+      return true;
+    }
+
+    private boolean removeIdle(PooledMemory memory) {
+      if (idle.remove(memory)) {
+        idleCount.decrementAndGet();
+        return true;
+      }
+      return false;
+    }
+  }
+
+  /**
+   * The memory of one buffer of a size class, along with the state needed to hand it out and take it back.
+   */
+  private static final class PooledMemory {
+
+    private final SizeClass sizeClass;
+    private final ByteBuffer memory;
+    private final AtomicBoolean inUse = new AtomicBoolean(false);
+
+    /**
+     * The buffer this memory was last handed out over. Weakly referenced so that buffers which are never deallocated can still
+     * be collected along with their memory, and also referenced from {@link #idleView} while taken back so it can be reused.
+     */
+    private WeakReference<ByteBuffer> view;
+    private ByteBuffer idleView;
+    private long idleSince;
+
+    private PooledMemory(SizeClass sizeClass, ByteBuffer memory) {
+      this.sizeClass = sizeClass;
+      this.memory = memory;
+    }
+
+    private ByteBuffer lastView() {
+      if (idleView != null) {
+        return idleView;
+      }
+      return view != null ? view.get() : null;
+    }
+  }
+
+  /**
+   * Idle memory of one size class kept by a single thread. Only the owner thread adds to it, but other threads may discard its
+   * contents.
+   */
+  private final class Magazine {
+
+    private final AtomicReferenceArray<PooledMemory> slots = new AtomicReferenceArray<>(MAGAZINE_CAPACITY);
+    private final WeakReference<Thread> owner = new WeakReference<>(currentThread());
+
+    private PooledMemory pop() {
+      for (int i = MAGAZINE_CAPACITY - 1; i >= 0; --i) {
+        PooledMemory memory = slots.get(i);
+        if (memory != null && slots.compareAndSet(i, memory, null)) {
+          return memory;
+        }
+      }
+      return null;
+    }
+
+    private boolean push(PooledMemory memory) {
+      for (int i = 0; i < MAGAZINE_CAPACITY; ++i) {
+        // Only the owner fills slots, so an empty one can't be taken concurrently
+        if (slots.get(i) == null) {
+          slots.lazySet(i, memory);
+          return true;
+        }
+      }
+      return false;
+    }
+
+    /**
+     * Discards the memory idle in this magazine for at least {@code timeoutNanos} as of {@code now}.
+     *
+     * @return the amount of memory released
+     */
+    private long discardIdleSince(long now, long timeoutNanos) {
+      long discarded = 0;
+      for (int i = 0; i < MAGAZINE_CAPACITY; ++i) {
+        PooledMemory memory = slots.get(i);
+        if (memory != null && now - memory.idleSince >= timeoutNanos && slots.compareAndSet(i, memory, null)) {
+          discarded += destroy(memory);
+        }
+      }
+      return discarded;
+    }
+
+    /**
+     * Discards all the memory idle in this magazine.
+     *
+     * @return the amount of memory released
+     */
+    private long discardAll() {
+      long discarded = 0;
+      for (int i = 0; i < MAGAZINE_CAPACITY; ++i) {
+        PooledMemory memory = slots.getAndSet(i, null);
+        if (memory != null) {
+          discarded += destroy(memory);
+        }
       }
+      return discarded;
     }
 
-    private void signal(CheckedRunnable task) {
-      withLock(lock, task);
+    private boolean isAbandoned() {
+      Thread thread = owner.get();
+      return thread == null || !thread.isAlive();
     }
   }
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.transformer;
+
+import org.mule.runtime.api.metadata.DataType;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps what was resolved for each pair of source and result {@link DataType}s, until it is {@link #invalidate() invalidated}
+ * because the available transformers changed.
+ * <p>
+ * Lookups are lock free and keyed by the data types themselves, without building any intermediate key. Pairs for which nothing
+ * could be resolved are kept too, so that repeated lookups for them don't go through the available transformers again.
+ * <p>
+ * The amount of kept pairs is bounded. Once the limit is reached, further pairs are resolved each time they are looked up until
+ * the next invalidation.
+ *
+ * @param <T> the type of the resolved values
+ * @since 4.2
+ */
+public final class TransformerResolutionIndex<T> {
+
+  /**
+   * Resolves the value for a pair of data types that is not in the index.
+   *
+   * @param <T> the type of the resolved values
+   * @param <E> the type of the exception thrown when the resolution fails
+   */
+  @FunctionalInterface
+  public interface Resolution<T, E extends Exception> {
+
+    /**
+     * @return the value for the given pair, or {@code null} if there is none.
+     * @throws E if the resolution failed. Failures are not kept in the index.
+     */
+    T resolve(DataType source, DataType result) throws E;
+  }
+
+  private static final int DEFAULT_MAX_ENTRIES = 4096;
+
+  private static final Object NOT_RESOLVED = new Object();
+
+  private final int maxEntries;
+  private volatile ConcurrentMap<DataTypePair, Object> entries = new ConcurrentHashMap<>();
+
+  public TransformerResolutionIndex() {
+    this(DEFAULT_MAX_ENTRIES);
+  }
+
+  /**
+   * @param maxEntries the maximum amount of pairs to keep.
+   */
+  public TransformerResolutionIndex(int maxEntries) {
+    this.maxEntries = maxEntries;
+  }
+
+  /**
+   * Gets the value kept for the given pair, using {@code resolution} to resolve and keep it if absent.
+   * <p>
+   * {@code resolution} may be invoked concurrently for the same pair, in which case the first value kept wins. It may also
+   * look up other pairs in this same index.
+   *
+   * @param source the source data type
+   * @param result the result data type
+   * @param resolution how to resolve the value if it is not kept yet
+   * @return the value for the pair, or {@code null} if there is none.
+   * @throws E if {@code resolution} fails.
+   */
+  public <E extends Exception> T resolve(DataType source, DataType result, Resolution<T, E> resolution) throws E {
+    ConcurrentMap<DataTypePair, Object> current = entries;
+    DataTypePair key = new DataTypePair(source, result);
+
+    Object kept = current.get(key);
+    if (kept == null) {
+      T resolved = resolution.resolve(source, result);
+      if (current.size() >= maxEntries) {
+        return resolved;
+      }
+
+      kept = current.putIfAbsent(key, resolved == null ? NOT_RESOLVED : resolved);
+      if (kept == null) {
+        return resolved;
+      }
+    }
+
+    return kept == NOT_RESOLVED ? null : (T) kept;
+  }
+
+  /**
+   * Discards everything kept so far.
+   * <p>
+   * Resolutions running concurrently with this invalidation are not kept.
+   */
+  public void invalidate() {
+    entries = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * @return the amount of pairs currently kept, including those for which nothing was resolved.
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  private static final class DataTypePair {
+
+    private final DataType source;
+    private final DataType result;
+    private final int hash;
+
+    DataTypePair(DataType source, DataType result) {
+      this.source = source;
+      this.result = result;
+      this.hash = 31 * source.hashCode() + result.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof DataTypePair)) {
+        return false;
+      }
+
+      DataTypePair other = (DataTypePair) obj;
+      // Data types are mostly shared instances, so check identity before going through equals
+      return hash == other.hash
+          && (source == other.source || source.equals(other.source))
+          && (result == other.result || result.equals(other.result));
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
@@ -6,6 +6,9 @@
  */
 package org.mule.runtime.core.internal.transformer.compression;
 
+import static org.mule.runtime.core.internal.transformer.compression.ZipCodecPool.borrowDeflater;
+import static org.mule.runtime.core.internal.transformer.compression.ZipCodecPool.release;
+
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.zip.CRC32;
@@ -15,6 +18,8 @@ import java.util.zip.DeflaterInputStream;
 
 /**
  * Implements an input stream for compressing input data in the GZIP compression format.
+ * <p>
+ * The {@link Deflater} used is taken from the {@link ZipCodecPool} and returned to it when this stream is closed.
  */
 public class GZIPCompressorInputStream extends DeflaterInputStream {
 
@@ -34,6 +39,9 @@ public class GZIPCompressorInputStream extends DeflaterInputStream {
       0 // Operating system (OS)
   };
 
+  // Default size of the buffer for the compressed data.
+  private final static int DEFAULT_BUFFER_SIZE = 8192;
+
   // Trailer length in bytes.
   private final static int TRAILER_LENGTH = 8;
 
@@ -43,6 +51,9 @@ public class GZIPCompressorInputStream extends DeflaterInputStream {
   // Internal buffer for GZIP header and trailer.
   private Buffer buffer;
 
+  // If true, the deflater has already been returned to the pool.
+  private boolean closed = false;
+
   /**
    * Helper inner class containing the length and position of the internal buffer.
    */
@@ -78,10 +89,33 @@ public class GZIPCompressorInputStream extends DeflaterInputStream {
    * @param in The uncompressed {@link InputStream}.
    */
   public GZIPCompressorInputStream(InputStream in) {
-    super(new CheckedInputStream(in, new CRC32()), new Deflater(Deflater.DEFAULT_COMPRESSION, true));
+    this(in, DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Creates a new {@link GZIPCompressorInputStream} from an uncompressed {@link InputStream}.
+   *
+   * @param in The uncompressed {@link InputStream}.
+   * @param bufferSize The size of the buffer for the compressed data.
+   */
+  public GZIPCompressorInputStream(InputStream in, int bufferSize) {
+    super(new CheckedInputStream(in, new CRC32()), borrowDeflater(), bufferSize);
     buffer = new Buffer();
   }
 
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      super.close();
+    } finally {
+      release(def);
+    }
+  }
+
   public int read(byte b[], int off, int len) throws IOException {
     // Check if there are bytes left to be read from the internal buffer. This is used to provide the header
     // or trailer, and always takes precedence.
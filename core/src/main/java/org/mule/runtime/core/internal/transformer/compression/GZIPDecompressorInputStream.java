@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.transformer.compression;
+
+import static org.mule.runtime.core.internal.transformer.compression.ZipCodecPool.borrowInflater;
+import static org.mule.runtime.core.internal.transformer.compression.ZipCodecPool.release;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Implements an input stream for uncompressing data in the GZIP compression format, the counterpart of
+ * {@link GZIPCompressorInputStream}.
+ * <p>
+ * Behaves as {@link java.util.zip.GZIPInputStream}, including the support for concatenated GZIP members, but the
+ * {@link Inflater} used is taken from the {@link ZipCodecPool} and returned to it when this stream is closed.
+ */
+public class GZIPDecompressorInputStream extends InflaterInputStream {
+
+  // GZIP header magic number.
+  private final static int GZIP_MAGIC = 0x8b1f;
+
+  // Default size of the buffer for the compressed data.
+  private final static int DEFAULT_BUFFER_SIZE = 8192;
+
+  // Header flags.
+  private final static int FHCRC = 2;
+  private final static int FEXTRA = 4;
+  private final static int FNAME = 8;
+  private final static int FCOMMENT = 16;
+
+  // Trailer length in bytes.
+  private final static int TRAILER_LENGTH = 8;
+
+  // CRC-32 of the uncompressed data of the current member.
+  private final CRC32 crc = new CRC32();
+
+  // If true, the end of the last member has been reached.
+  private boolean eos = false;
+
+  // If true, the inflater has already been returned to the pool.
+  private boolean closed = false;
+
+  /**
+   * Creates a new {@link GZIPDecompressorInputStream} from a compressed {@link InputStream}.
+   *
+   * @param in The compressed {@link InputStream}.
+   * @throws IOException If the GZIP header could not be read or is not valid.
+   */
+  public GZIPDecompressorInputStream(InputStream in) throws IOException {
+    this(in, DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Creates a new {@link GZIPDecompressorInputStream} from a compressed {@link InputStream}.
+   *
+   * @param in The compressed {@link InputStream}.
+   * @param bufferSize The size of the buffer for the compressed data.
+   * @throws IOException If the GZIP header could not be read or is not valid.
+   */
+  public GZIPDecompressorInputStream(InputStream in, int bufferSize) throws IOException {
+    super(in, borrowInflater(), bufferSize);
+    try {
+      readHeader(in);
+    } catch (IOException | RuntimeException e) {
+      closed = true;
+      release(inf);
+      throw e;
+    }
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    if (closed) {
+      throw new IOException("Stream closed");
+    }
+    if (eos) {
+      return -1;
+    }
+
+    int count = super.read(b, off, len);
+    if (count == -1) {
+      if (readTrailer()) {
+        eos = true;
+      } else {
+        return read(b, off, len);
+      }
+    } else {
+      crc.update(b, off, count);
+    }
+    return count;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    eos = true;
+    try {
+      super.close();
+    } finally {
+      release(inf);
+    }
+  }
+
+  /**
+   * Reads a GZIP member header, validating it.
+   *
+   * @param in The stream to read the header from.
+   * @return The amount of bytes read.
+   * @throws IOException If the header is not valid or an I/O error is produced.
+   */
+  private int readHeader(InputStream in) throws IOException {
+    CheckedInputStream checkedIn = new CheckedInputStream(in, crc);
+    crc.reset();
+    if (readUShort(checkedIn) != GZIP_MAGIC) {
+      throw new ZipException("Not in GZIP format");
+    }
+    if (readUByte(checkedIn) != Deflater.DEFLATED) {
+      throw new ZipException("Unsupported compression method");
+    }
+    int flags = readUByte(checkedIn);
+    // Skip MTIME, XFL and OS
+    skipBytes(checkedIn, 6);
+    int count = 10;
+    if ((flags & FEXTRA) == FEXTRA) {
+      int extraLength = readUShort(checkedIn);
+      skipBytes(checkedIn, extraLength);
+      count += extraLength + 2;
+    }
+    if ((flags & FNAME) == FNAME) {
+      count += skipZeroTerminated(checkedIn);
+    }
+    if ((flags & FCOMMENT) == FCOMMENT) {
+      count += skipZeroTerminated(checkedIn);
+    }
+    if ((flags & FHCRC) == FHCRC) {
+      int headerCrc = (int) crc.getValue() & 0xffff;
+      if (readUShort(checkedIn) != headerCrc) {
+        throw new ZipException("Corrupt GZIP header");
+      }
+      count += 2;
+    }
+    crc.reset();
+    return count;
+  }
+
+  /**
+   * Reads and validates the trailer of the current member, and the header of the next one if there is any.
+   *
+   * @return {@code true} if the end of the last member has been reached.
+   * @throws IOException If the trailer is not valid or an I/O error is produced.
+   */
+  private boolean readTrailer() throws IOException {
+    InputStream trailerIn = this.in;
+    int remaining = inf.getRemaining();
+    if (remaining > 0) {
+      // Part of the trailer (and maybe of the next member) was already read into the buffer
+      trailerIn = new SequenceInputStream(new ByteArrayInputStream(buf, len - remaining, remaining),
+                                          new FilterInputStream(this.in) {
+
+                                            @Override
+                                            public void close() throws IOException {
+                                              // Closing is handled by the enclosing stream
+                                            }
+                                          });
+    }
+
+    if (readUInt(trailerIn) != crc.getValue() || readUInt(trailerIn) != (inf.getBytesWritten() & 0xffffffffL)) {
+      throw new ZipException("Corrupt GZIP trailer");
+    }
+
+    // Check for a concatenated member
+    if (this.in.available() > 0 || remaining > TRAILER_LENGTH + 10) {
+      int headerLength = TRAILER_LENGTH;
+      try {
+        headerLength += readHeader(trailerIn);
+      } catch (IOException e) {
+        // Trailing garbage, ignored as java.util.zip.GZIPInputStream does
+        return true;
+      }
+      inf.reset();
+      if (remaining > headerLength) {
+        inf.setInput(buf, len - remaining + headerLength, remaining - headerLength);
+      }
+      return false;
+    }
+    return true;
+  }
+
+  private long readUInt(InputStream in) throws IOException {
+    long low = readUShort(in);
+    return ((long) readUShort(in) << 16) | low;
+  }
+
+  private int readUShort(InputStream in) throws IOException {
+    int low = readUByte(in);
+    return (readUByte(in) << 8) | low;
+  }
+
+  private int readUByte(InputStream in) throws IOException {
+    int b = in.read();
+    if (b == -1) {
+      throw new EOFException();
+    }
+    return b;
+  }
+
+  private int skipZeroTerminated(InputStream in) throws IOException {
+    int count = 1;
+    while (readUByte(in) != 0) {
+      count++;
+    }
+    return count;
+  }
+
+  private void skipBytes(InputStream in, int n) throws IOException {
+    while (n > 0) {
+      readUByte(in);
+      n--;
+    }
+  }
+}
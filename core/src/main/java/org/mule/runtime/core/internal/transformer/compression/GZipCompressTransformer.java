@@ -6,6 +6,8 @@
  */
 package org.mule.runtime.core.internal.transformer.compression;
 
+import static org.mule.runtime.core.api.util.IOUtils.toByteArray;
+
 import org.mule.runtime.api.metadata.DataType;
 import org.mule.runtime.api.streaming.bytes.CursorStreamProvider;
 import org.mule.runtime.core.api.transformer.TransformerException;
@@ -14,8 +16,11 @@ import org.mule.runtime.core.api.util.compression.GZipCompression;
 
 import java.io.InputStream;
 import java.io.Serializable;
+import java.io.StringReader;
 import java.nio.charset.Charset;
 
+import org.apache.commons.io.input.ReaderInputStream;
+
 /**
  * <code>GZipCompressTransformer</code> is a transformer compressing objects into byte arrays.
  */
@@ -40,12 +45,16 @@ public class GZipCompressTransformer extends AbstractCompressionTransformer {
       }
       if (src instanceof InputStream) {
         return getStrategy().compressInputStream((InputStream) src);
+      } else if (src instanceof String) {
+        // Encoded as it is compressed, so the whole encoded payload is never held in memory
+        try (InputStream compressed =
+            getStrategy().compressInputStream(new ReaderInputStream(new StringReader((String) src), outputEncoding))) {
+          return toByteArray(compressed);
+        }
       } else {
         byte[] data;
         if (src instanceof byte[]) {
           data = (byte[]) src;
-        } else if (src instanceof String) {
-          data = ((String) src).getBytes(outputEncoding);
         } else {
           data = muleContext.getObjectSerializer().getExternalProtocol().serialize(src);
         }
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.transformer.compression;
+
+import static java.lang.Runtime.getRuntime;
+import static java.util.zip.Deflater.DEFAULT_COMPRESSION;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Keeps idle raw (no zlib wrapping) {@link Deflater}s and {@link Inflater}s so they can be reused across streams, avoiding the
+ * allocation of their native memory on each use and its late release through finalization.
+ * <p>
+ * Only a bounded amount of instances is kept idle; released instances that exceed that amount are {@link Deflater#end()
+ * ended} right away.
+ *
+ * @since 4.2
+ */
+public final class ZipCodecPool {
+
+  private static final int MAX_IDLE = getRuntime().availableProcessors() * 2;
+
+  private static final Queue<Deflater> deflaters = new ConcurrentLinkedQueue<>();
+  private static final AtomicInteger idleDeflaters = new AtomicInteger();
+
+  private static final Queue<Inflater> inflaters = new ConcurrentLinkedQueue<>();
+  private static final AtomicInteger idleInflaters = new AtomicInteger();
+
+  private ZipCodecPool() {}
+
+  /**
+   * @return an idle {@link Deflater} with default compression, or a new one if there is none.
+   */
+  public static Deflater borrowDeflater() {
+    Deflater deflater = deflaters.poll();
+    if (deflater == null) {
+      return new Deflater(DEFAULT_COMPRESSION, true);
+    }
+    idleDeflaters.decrementAndGet();
+    return deflater;
+  }
+
+  /**
+   * Returns a {@link Deflater} obtained through {@link #borrowDeflater()}. It must not be used by the caller afterwards.
+   */
+  public static void release(Deflater deflater) {
+    if (idleDeflaters.incrementAndGet() > MAX_IDLE) {
+      idleDeflaters.decrementAndGet();
+      deflater.end();
+      return;
+    }
+    deflater.reset();
+    deflaters.offer(deflater);
+  }
+
+  /**
+   * @return an idle {@link Inflater}, or a new one if there is none.
+   */
+  public static Inflater borrowInflater() {
+    Inflater inflater = inflaters.poll();
+    if (inflater == null) {
+      return new Inflater(true);
+    }
+    idleInflaters.decrementAndGet();
+    return inflater;
+  }
+
+  /**
+   * Returns an {@link Inflater} obtained through {@link #borrowInflater()}. It must not be used by the caller afterwards.
+   */
+  public static void release(Inflater inflater) {
+    if (idleInflaters.incrementAndGet() > MAX_IDLE) {
+      idleInflaters.decrementAndGet();
+      inflater.end();
+      return;
+    }
+    inflater.reset();
+    inflaters.offer(inflater);
+  }
+}
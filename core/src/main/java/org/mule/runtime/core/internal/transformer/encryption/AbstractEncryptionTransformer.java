@@ -19,8 +19,11 @@ import org.mule.runtime.core.api.transformer.AbstractTransformer;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.io.StringReader;
 import java.nio.charset.Charset;
 
+import org.apache.commons.io.input.ReaderInputStream;
+
 /**
  * <code>EncryptionTransformer</code> will transform an array of bytes or string into an encrypted array of bytes
  *
@@ -54,7 +57,8 @@ public abstract class AbstractEncryptionTransformer extends AbstractTransformer
   public Object doTransform(Object src, Charset outputEncoding) throws TransformerException {
     InputStream input;
     if (src instanceof String) {
-      input = new ByteArrayInputStream(src.toString().getBytes());
+      // Encoded as it is read, so the whole encoded payload is never held in memory
+      input = new ReaderInputStream(new StringReader((String) src), outputEncoding);
     } else if (src instanceof CursorStreamProvider) {
       input = ((CursorStreamProvider) src).openCursor();
     } else if (src instanceof InputStream) {
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.util;
+
+import static com.google.common.hash.BloomFilter.create;
+import static com.google.common.hash.Funnels.unencodedCharsFunnel;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.hash.BloomFilter;
+
+/**
+ * A probabilistic set of {@link String}s which may give false positives but never false negatives, and which forgets its
+ * elements once they reach a configured age.
+ * <p>
+ * Elements are added to the current <i>generation</i>, and a new generation is started every {@code maxAge / GENERATIONS}. A
+ * generation is discarded once all of its elements are older than {@code maxAge}. Each generation starts with a
+ * {@link BloomFilter} sized for the expected insertions and, once it gets full, adds filters with growing capacity and
+ * tighter false positive probability so that the probability of the whole generation stays bounded regardless of how many
+ * elements are added to it.
+ * <p>
+ * Instances of this class are thread safe.
+ *
+ * @since 4.2
+ */
+public class AgingBloomFilter {
+
+  private static final int GENERATIONS = 4;
+  private static final int GROWTH_FACTOR = 2;
+  private static final double TIGHTENING_RATIO = 0.5;
+
+  private final int expectedInsertions;
+  private final double falsePositiveProbability;
+  private final long maxAgeNanos;
+  private final long generationNanos;
+
+  // newest generation first
+  private final LinkedList<Generation> generations = new LinkedList<>();
+
+  /**
+   * Creates a new instance which never forgets its elements.
+   *
+   * @param expectedInsertions       the number of insertions the initial filter is sized for
+   * @param falsePositiveProbability the desired false positive probability of each generation
+   */
+  public AgingBloomFilter(int expectedInsertions, double falsePositiveProbability) {
+    this(expectedInsertions, falsePositiveProbability, 0, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param expectedInsertions       the number of insertions each generation is initially sized for
+   * @param falsePositiveProbability the desired false positive probability of each generation
+   * @param maxAge                   the minimum time an element is kept for. A non positive value means elements are never
+   *                                 forgotten
+   * @param maxAgeUnit               the {@link TimeUnit} of {@code maxAge}
+   */
+  public AgingBloomFilter(int expectedInsertions, double falsePositiveProbability, long maxAge, TimeUnit maxAgeUnit) {
+    checkArgument(expectedInsertions > 0, "expectedInsertions has to be greater than zero");
+    checkArgument(falsePositiveProbability > 0 && falsePositiveProbability < 1,
+                  "falsePositiveProbability has to be between 0 and 1");
+
+    this.expectedInsertions = expectedInsertions;
+    this.falsePositiveProbability = falsePositiveProbability;
+    this.maxAgeNanos = maxAgeUnit.toNanos(maxAge);
+    this.generationNanos = maxAgeNanos > 0 ? Math.max(1, maxAgeNanos / GENERATIONS) : 0;
+
+    generations.addFirst(new Generation(getCurrentNanoTime()));
+  }
+
+  /**
+   * @param element the element to test
+   * @return {@code false} if the {@code element} was definitely not added in the last {@code maxAge}, {@code true} if it
+   *         might have been
+   */
+  public synchronized boolean mightContain(String element) {
+    rotate();
+    return doMightContain(element);
+  }
+
+  /**
+   * Adds the given {@code element}, testing whether it might have been already added in a single atomic step.
+   *
+   * @param element the element to add
+   * @return {@code true} if the {@code element} was definitely not present before this call, {@code false} if it might have
+   *         been
+   */
+  public synchronized boolean add(String element) {
+    rotate();
+    boolean definitelyNew = !doMightContain(element);
+    generations.getFirst().put(element);
+    return definitelyNew;
+  }
+
+  private boolean doMightContain(String element) {
+    for (Generation generation : generations) {
+      if (generation.mightContain(element)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void rotate() {
+    if (generationNanos <= 0) {
+      return;
+    }
+
+    final long now = getCurrentNanoTime();
+    Generation current = generations.getFirst();
+    if (now - current.start >= generationNanos) {
+      current.end = now;
+      generations.addFirst(new Generation(now));
+    }
+
+    // every element of a generation was added before its end
+    Generation oldest = generations.getLast();
+    while (oldest.end >= 0 && now - oldest.end >= maxAgeNanos) {
+      generations.removeLast();
+      oldest = generations.getLast();
+    }
+  }
+
+  protected long getCurrentNanoTime() {
+    return System.nanoTime();
+  }
+
+  private class Generation {
+
+    private final long start;
+    private long end = -1;
+    private final List<Slice> slices = new ArrayList<>(4);
+
+    private Generation(long start) {
+      this.start = start;
+      slices.add(new Slice(expectedInsertions, falsePositiveProbability * (1 - TIGHTENING_RATIO)));
+    }
+
+    private boolean mightContain(String element) {
+      for (Slice slice : slices) {
+        if (slice.filter.mightContain(element)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private void put(String element) {
+      Slice slice = slices.get(slices.size() - 1);
+      if (slice.count >= slice.capacity) {
+        slice = new Slice(slice.capacity * GROWTH_FACTOR, slice.falsePositiveProbability * TIGHTENING_RATIO);
+        slices.add(slice);
+      }
+
+      slice.filter.put(element);
+      slice.count++;
+    }
+  }
+
+  private static class Slice {
+
+    private final BloomFilter<CharSequence> filter;
+    private final int capacity;
+    private final double falsePositiveProbability;
+    private int count = 0;
+
+    private Slice(int capacity, double falsePositiveProbability) {
+      this.filter = create(unencodedCharsFunnel(), capacity, falsePositiveProbability);
+      this.capacity = capacity;
+      this.falsePositiveProbability = falsePositiveProbability;
+    }
+  }
+}
@@ -9,6 +9,8 @@ package org.mule.runtime.core.internal.util;
 
 import static org.mule.runtime.api.exception.ExceptionHelper.getExceptionsAsList;
 import static org.mule.runtime.api.exception.MuleException.INFO_ALREADY_LOGGED_KEY;
+import static org.mule.runtime.api.exception.MuleException.INFO_ERROR_TYPE_KEY;
+import static org.mule.runtime.api.exception.MuleException.MISSING_DEFAULT_VALUE;
 import static org.mule.runtime.api.notification.EnrichedNotificationInfo.createInfo;
 import static org.mule.runtime.core.api.exception.Errors.CORE_NAMESPACE_NAME;
 import static org.mule.runtime.core.api.exception.Errors.Identifiers.CRITICAL_IDENTIFIER;
@@ -68,11 +70,32 @@ public class MessagingExceptionResolver {
    * @return a {@link MessagingException} with the proper {@link Error} associated to it's {@link CoreEvent}
    */
   public MessagingException resolve(final MessagingException me, MuleContext context) {
+    return resolve(me, false, context);
+  }
+
+  /**
+   * Resolves a {@link MessagingException} for a {@code cause} thrown by the component while processing {@code event}, as
+   * {@link #resolve(MessagingException, MuleContext)} does for a new {@link MessagingException} wrapping it.
+   * <p>
+   * Since that exception is not visible to anyone else, it is updated and returned when it already wraps the real cause of the
+   * problem, instead of creating another one equivalent to it.
+   *
+   * @param event the event that was being processed when the {@code cause} was thrown
+   * @param cause the cause of the error
+   * @param context the {@link MuleContext} of the component
+   * @return a {@link MessagingException} with the proper {@link Error} associated to it's {@link CoreEvent}
+   * @since 4.2
+   */
+  public MessagingException resolve(CoreEvent event, Throwable cause, MuleContext context) {
+    return resolve(new MessagingException(event, cause, component), true, context);
+  }
+
+  private MessagingException resolve(final MessagingException me, boolean reusable, MuleContext context) {
     ErrorTypeLocator locator = ((PrivilegedMuleContext) context).getErrorTypeLocator();
     Optional<Pair<Throwable, ErrorType>> rootCause = findRoot(component, me, locator);
 
     if (!rootCause.isPresent()) {
-      return updateCurrent(me, component, context);
+      return updateCurrent(me, reusable, component, context);
     }
 
     Throwable root = rootCause.get().getFirst();
@@ -86,23 +109,53 @@ public class MessagingExceptionResolver {
         .map(ErrorMapping::getTarget)
         .orElse(rootErrorType);
 
-    Error error = ErrorBuilder.builder(getMessagingExceptionCause(root)).errorType(errorType).build();
-    CoreEvent event = CoreEvent.builder(me.getEvent()).error(error).build();
-
+    Throwable errorCause = getMessagingExceptionCause(root);
     MessagingException result;
-    if (root instanceof MessagingException) {
-      ((MessagingException) root).setProcessedEvent(event);
-      result = ((MessagingException) root);
+    CoreEvent event;
+    if (isAlreadyResolved(me, root, failingComponent, errorType, errorCause)) {
+      // Propagated from an inner chain, where it was resolved to the same error
+      result = me;
+      event = me.getEvent();
     } else {
-      result = me instanceof FlowExecutionException ? new FlowExecutionException(event, root, failingComponent)
-          : new MessagingException(event, root, failingComponent);
+      event = CoreEvent.builder(me.getEvent()).error(ErrorBuilder.builder(errorCause).errorType(errorType).build()).build();
+      if (root instanceof MessagingException) {
+        ((MessagingException) root).setProcessedEvent(event);
+        result = ((MessagingException) root);
+      } else {
+        if (reusable && me.getCause() == root && me.getFailingComponent() == failingComponent) {
+          result = updateEvent(me, event);
+        } else {
+          result = me instanceof FlowExecutionException ? new FlowExecutionException(event, root, failingComponent)
+              : new MessagingException(event, root, failingComponent);
+        }
+        result.setResolved(true);
+      }
     }
-    if (me.getInfo().containsKey(INFO_ALREADY_LOGGED_KEY)) {
+    if (result != me && me.getInfo().containsKey(INFO_ALREADY_LOGGED_KEY)) {
       result.addInfo(INFO_ALREADY_LOGGED_KEY, me.getInfo().get(INFO_ALREADY_LOGGED_KEY));
     }
     return enrich(result, failingComponent, event, context);
   }
 
+  /**
+   * Whether resolving {@code me} again would result in an equivalent exception.
+   */
+  private boolean isAlreadyResolved(MessagingException me, Throwable root, Component failingComponent, ErrorType errorType,
+                                    Throwable errorCause) {
+    boolean sameException = root == me
+        || (me.isResolved() && !me.handled() && !me.inErrorHandler()
+            && me.getCause() == root && me.getFailingComponent() == failingComponent);
+    return sameException && me.getEvent().getError()
+        .map(error -> error.getCause() == errorCause && error.getErrorType().equals(errorType))
+        .orElse(false);
+  }
+
+  private MessagingException updateEvent(MessagingException me, CoreEvent event) {
+    me.setProcessedEvent(event);
+    me.addInfo(INFO_ERROR_TYPE_KEY, event.getError().map(e -> e.getErrorType().toString()).orElse(MISSING_DEFAULT_VALUE));
+    return me;
+  }
+
   private Optional<Pair<Throwable, ErrorType>> findRoot(Component obj, MessagingException me, ErrorTypeLocator locator) {
     List<Pair<Throwable, ErrorType>> errors = collectErrors(obj, me, locator);
     if (errors.isEmpty()) {
@@ -141,13 +194,18 @@ public class MessagingExceptionResolver {
     return errors;
   }
 
-  private MessagingException updateCurrent(MessagingException me, Component processor, MuleContext context) {
+  private MessagingException updateCurrent(MessagingException me, boolean reusable, Component processor,
+                                           MuleContext context) {
     CoreEvent errorEvent =
         createErrorEvent(me.getEvent(), processor, me, ((PrivilegedMuleContext) context).getErrorTypeLocator());
     Component failingProcessor = me.getFailingComponent() != null ? me.getFailingComponent() : processor;
-    MessagingException updated =
-        me instanceof FlowExecutionException ? new FlowExecutionException(errorEvent, me.getCause(), failingProcessor)
-            : new MessagingException(me.getI18nMessage(), errorEvent, me.getCause(), failingProcessor);
+    MessagingException updated;
+    if (reusable && me.getFailingComponent() == failingProcessor) {
+      updated = updateEvent(me, errorEvent);
+    } else {
+      updated = me instanceof FlowExecutionException ? new FlowExecutionException(errorEvent, me.getCause(), failingProcessor)
+          : new MessagingException(me.getI18nMessage(), errorEvent, me.getCause(), failingProcessor);
+    }
     return enrich(updated, failingProcessor, errorEvent, context);
   }
 
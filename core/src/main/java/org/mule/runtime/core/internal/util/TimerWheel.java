@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.util;
+
+import static java.lang.Integer.highestOneBit;
+import static java.lang.Long.MAX_VALUE;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * A hashed timer wheel which keeps track of a large amount of timeouts with O(1) scheduling and cancellation.
+ * <p>
+ * Timeouts are hashed into buckets by the tick in which they expire. This class does not own any thread: its owner is
+ * expected to periodically call {@link #advance(Consumer)}, ideally once every tick, from a single thread at a time. Timeouts
+ * may be scheduled and cancelled concurrently from any thread.
+ * <p>
+ * The precision is bounded by the tick duration: a timeout fires in the first call to {@link #advance(Consumer)} after its
+ * tick has elapsed.
+ *
+ * @param <T> the type of the elements whose timeouts are tracked
+ * @since 4.2
+ */
+public class TimerWheel<T> {
+
+  private final long tickNanos;
+  private final int mask;
+  private final Queue<Timeout<T>>[] buckets;
+  private final Queue<Timeout<T>> overdue = new ConcurrentLinkedQueue<>();
+  private final long startNanos;
+
+  private volatile long processedTick = -1;
+
+  /**
+   * Creates a new wheel.
+   *
+   * @param tickDuration the duration of each tick
+   * @param unit         the {@link TimeUnit} of {@code tickDuration}
+   * @param wheelSize    the amount of buckets. Rounded up to a power of two.
+   */
+  public TimerWheel(long tickDuration, TimeUnit unit, int wheelSize) {
+    checkArgument(tickDuration > 0, "tickDuration has to be greater than zero");
+    checkArgument(wheelSize > 0, "wheelSize has to be greater than zero");
+
+    int size = highestOneBit(wheelSize) == wheelSize ? wheelSize : highestOneBit(wheelSize) << 1;
+    this.tickNanos = unit.toNanos(tickDuration);
+    this.mask = size - 1;
+    this.buckets = new Queue[size];
+    for (int i = 0; i < size; ++i) {
+      buckets[i] = new ConcurrentLinkedQueue<>();
+    }
+    this.startNanos = getCurrentNanoTime();
+  }
+
+  /**
+   * Schedules a timeout for the given {@code element}.
+   *
+   * @param element the element to be handed to the expiration callback
+   * @param delay   the time after which the timeout expires. Non positive values expire on the next call to
+   *                {@link #advance(Consumer)}, while values too large to be represented in nanoseconds never expire.
+   * @param unit    the {@link TimeUnit} of {@code delay}
+   * @return a {@link Timeout} which can be used to cancel it
+   */
+  public Timeout<T> schedule(T element, long delay, TimeUnit unit) {
+    long elapsed = getCurrentNanoTime() - startNanos;
+    // toNanos saturates at Long.MAX_VALUE, which must not overflow into a deadline in the past
+    long deadline = elapsed + min(max(0, unit.toNanos(delay)), MAX_VALUE - elapsed);
+    long deadlineTick = deadline / tickNanos;
+    Timeout<T> timeout = new Timeout<>(element, deadlineTick);
+
+    buckets[(int) (deadlineTick & mask)].offer(timeout);
+    if (deadlineTick <= processedTick) {
+      // The bucket may have already been processed for this round. The timeout fires only once even if found in both places.
+      overdue.offer(timeout);
+    }
+
+    return timeout;
+  }
+
+  /**
+   * Processes all the buckets for the ticks elapsed since the previous invocation, handing the element of each expired timeout
+   * to the {@code onExpired} callback.
+   *
+   * @param onExpired the callback to invoke for each expired element
+   */
+  public void advance(Consumer<T> onExpired) {
+    final long currentTick = (getCurrentNanoTime() - startNanos) / tickNanos;
+
+    // after a full round, every bucket has been visited
+    long fromTick = max(processedTick + 1, currentTick - mask);
+    for (long tick = fromTick; tick <= currentTick; ++tick) {
+      // Published before visiting the bucket, so that a concurrent schedule either is seen by the iterator or sees this value
+      processedTick = tick;
+      Iterator<Timeout<T>> iterator = buckets[(int) (tick & mask)].iterator();
+      while (iterator.hasNext()) {
+        Timeout<T> timeout = iterator.next();
+        if (timeout.isCancelled()) {
+          iterator.remove();
+        } else if (timeout.deadlineTick <= currentTick) {
+          iterator.remove();
+          timeout.fire(onExpired);
+        }
+      }
+    }
+
+    Timeout<T> timeout;
+    while ((timeout = overdue.poll()) != null) {
+      timeout.fire(onExpired);
+    }
+  }
+
+  /**
+   * Expires all the pending timeouts regardless of their deadline, handing the element of each to the {@code onExpired}
+   * callback. Intended for the owner to release the elements once it stops advancing the wheel.
+   *
+   * @param onExpired the callback to invoke for each pending element
+   */
+  public void expireAll(Consumer<T> onExpired) {
+    Timeout<T> timeout;
+    for (Queue<Timeout<T>> bucket : buckets) {
+      while ((timeout = bucket.poll()) != null) {
+        timeout.fire(onExpired);
+      }
+    }
+    while ((timeout = overdue.poll()) != null) {
+      timeout.fire(onExpired);
+    }
+  }
+
+  protected long getCurrentNanoTime() {
+    return System.nanoTime();
+  }
+
+  /**
+   * A timeout scheduled in a {@link TimerWheel}.
+   *
+   * @param <T> the type of the element whose timeout is tracked
+   */
+  public static final class Timeout<T> {
+
+    private final T element;
+    private final long deadlineTick;
+    private final AtomicBoolean done = new AtomicBoolean(false);
+
+    private Timeout(T element, long deadlineTick) {
+      this.element = element;
+      this.deadlineTick = deadlineTick;
+    }
+
+    /**
+     * @return the element whose timeout is tracked
+     */
+    public T getElement() {
+      return element;
+    }
+
+    /**
+     * Cancels this timeout. It is removed from the wheel the next time its bucket is processed.
+     *
+     * @return {@code true} if it was cancelled, {@code false} if it had already fired or been cancelled
+     */
+    public boolean cancel() {
+      return done.compareAndSet(false, true);
+    }
+
+    private boolean isCancelled() {
+      return done.get();
+    }
+
+    private void fire(Consumer<T> onExpired) {
+      if (done.compareAndSet(false, true)) {
+        onExpired.accept(element);
+      }
+    }
+  }
+}
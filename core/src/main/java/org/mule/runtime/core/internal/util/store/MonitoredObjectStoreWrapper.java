@@ -26,22 +26,27 @@ import org.mule.runtime.core.api.config.i18n.CoreMessages;
 import org.mule.runtime.core.api.context.MuleContextAware;
 import org.mule.runtime.core.api.util.UUID;
 import org.mule.runtime.core.internal.context.MuleContextWithRegistries;
+import org.mule.runtime.core.internal.store.BulkObjectStore;
+import org.mule.runtime.core.internal.store.BulkObjectStoreUtils;
 import org.mule.runtime.core.privileged.store.DeserializationPostInitialisable;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.PriorityQueue;
+import java.util.Set;
 import java.util.concurrent.ScheduledFuture;
 
 /**
  * The MonitoredObjectStoreWrapper wraps an ObjectStore which does not support direct expiry and adds this behavior
  */
 public class MonitoredObjectStoreWrapper<T extends Serializable> extends TemplateObjectStore<T>
-    implements Runnable, MuleContextAware, Initialisable, Disposable {
+    implements BulkObjectStore<T>, Runnable, MuleContextAware, Initialisable, Disposable {
 
   private static Logger logger = LoggerFactory.getLogger(MonitoredObjectStoreWrapper.class);
 
@@ -106,6 +111,39 @@ public class MonitoredObjectStoreWrapper<T extends Serializable> extends Templat
     this.getStore().clear();
   }
 
+  @Override
+  public Set<String> storeAll(Map<String, T> entries) throws ObjectStoreException {
+    Long time = Long.valueOf(System.currentTimeMillis());
+    Map<String, StoredObject<T>> storedObjects = new LinkedHashMap<>();
+    for (Map.Entry<String, T> entry : entries.entrySet()) {
+      validateKey(entry.getKey());
+      storedObjects.put(entry.getKey(), new StoredObject<>(entry.getValue(), time, entry.getKey()));
+    }
+
+    return BulkObjectStoreUtils.storeAll(getStore(), storedObjects);
+  }
+
+  @Override
+  public Set<String> containsAll(Collection<String> keys) throws ObjectStoreException {
+    return BulkObjectStoreUtils.containsAll(getStore(), keys);
+  }
+
+  @Override
+  public Map<String, T> retrieveAll(Collection<String> keys) throws ObjectStoreException {
+    return unwrap(BulkObjectStoreUtils.retrieveAll(getStore(), keys));
+  }
+
+  @Override
+  public Map<String, T> removeAll(Collection<String> keys) throws ObjectStoreException {
+    return unwrap(BulkObjectStoreUtils.removeAll(getStore(), keys));
+  }
+
+  private Map<String, T> unwrap(Map<String, StoredObject<T>> storedObjects) {
+    Map<String, T> values = new LinkedHashMap<>();
+    storedObjects.forEach((key, storedObject) -> values.put(key, storedObject.getItem()));
+    return values;
+  }
+
   @Override
   protected T doRemove(String key) throws ObjectStoreException {
     StoredObject<T> object = getStore().remove(key);
@@ -143,6 +181,14 @@ public class MonitoredObjectStoreWrapper<T extends Serializable> extends Templat
     return baseStore;
   }
 
+  /**
+   * @return the maximum number of entries that this store keeps around, or {@code null} if it was not set.
+   * @since 4.2
+   */
+  public Integer getMaxEntries() {
+    return maxEntries;
+  }
+
   @Override
   public void setMuleContext(MuleContext context) {
     this.context = context;
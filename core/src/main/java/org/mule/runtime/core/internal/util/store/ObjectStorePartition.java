@@ -12,14 +12,19 @@ import org.mule.runtime.api.lifecycle.Disposable;
 import org.mule.runtime.api.store.ObjectStoreException;
 import org.mule.runtime.api.store.TemplateObjectStore;
 import org.mule.runtime.api.store.PartitionableObjectStore;
+import org.mule.runtime.core.internal.store.BulkObjectStore;
+import org.mule.runtime.core.internal.store.PartitionableBulkObjectStore;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.slf4j.Logger;
 
-public class ObjectStorePartition<T extends Serializable> extends TemplateObjectStore<T> implements Disposable {
+public class ObjectStorePartition<T extends Serializable> extends TemplateObjectStore<T>
+    implements BulkObjectStore<T>, Disposable {
 
   private static final Logger LOGGER = getLogger(ObjectStorePartition.class);
 
@@ -86,6 +91,38 @@ public class ObjectStorePartition<T extends Serializable> extends TemplateObject
     return partitionedObjectStore.retrieveAll(partitionName);
   }
 
+  @Override
+  public Set<String> storeAll(Map<String, T> entries) throws ObjectStoreException {
+    if (partitionedObjectStore instanceof PartitionableBulkObjectStore) {
+      return ((PartitionableBulkObjectStore<T>) partitionedObjectStore).storeAll(entries, partitionName);
+    }
+    return BulkObjectStore.super.storeAll(entries);
+  }
+
+  @Override
+  public Set<String> containsAll(Collection<String> keys) throws ObjectStoreException {
+    if (partitionedObjectStore instanceof PartitionableBulkObjectStore) {
+      return ((PartitionableBulkObjectStore<T>) partitionedObjectStore).containsAll(keys, partitionName);
+    }
+    return BulkObjectStore.super.containsAll(keys);
+  }
+
+  @Override
+  public Map<String, T> retrieveAll(Collection<String> keys) throws ObjectStoreException {
+    if (partitionedObjectStore instanceof PartitionableBulkObjectStore) {
+      return ((PartitionableBulkObjectStore<T>) partitionedObjectStore).retrieveAll(keys, partitionName);
+    }
+    return BulkObjectStore.super.retrieveAll(keys);
+  }
+
+  @Override
+  public Map<String, T> removeAll(Collection<String> keys) throws ObjectStoreException {
+    if (partitionedObjectStore instanceof PartitionableBulkObjectStore) {
+      return ((PartitionableBulkObjectStore<T>) partitionedObjectStore).removeAll(keys, partitionName);
+    }
+    return BulkObjectStore.super.removeAll(keys);
+  }
+
   public PartitionableObjectStore<T> getBaseStore() {
     return partitionedObjectStore;
   }
@@ -14,15 +14,22 @@ import org.mule.runtime.api.store.ObjectStore;
 import org.mule.runtime.api.store.ObjectStoreException;
 import org.mule.runtime.api.store.TemplateObjectStore;
 import org.mule.runtime.api.util.Pair;
+import org.mule.runtime.core.internal.store.BulkObjectStore;
+import org.mule.runtime.core.internal.store.BulkObjectStoreUtils;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.slf4j.Logger;
 
-public class PartitionedObjectStoreWrapper<T extends Serializable> extends TemplateObjectStore<T> implements Disposable {
+public class PartitionedObjectStoreWrapper<T extends Serializable> extends TemplateObjectStore<T>
+    implements BulkObjectStore<T>, Disposable {
 
   private static final Logger LOGGER = getLogger(PartitionedObjectStoreWrapper.class);
 
@@ -123,6 +130,55 @@ public class PartitionedObjectStoreWrapper<T extends Serializable> extends Templ
     return result;
   }
 
+  @Override
+  public Set<String> storeAll(Map<String, T> entries) throws ObjectStoreException {
+    Map<String, T> partitionedEntries = new LinkedHashMap<>();
+    for (Map.Entry<String, T> entry : entries.entrySet()) {
+      validateKey(entry.getKey());
+      partitionedEntries.put(partitioned(entry.getKey()), entry.getValue());
+    }
+
+    return unpartitioned(BulkObjectStoreUtils.storeAll(getStore(), partitionedEntries));
+  }
+
+  @Override
+  public Set<String> containsAll(Collection<String> keys) throws ObjectStoreException {
+    return unpartitioned(BulkObjectStoreUtils.containsAll(getStore(), partitioned(keys)));
+  }
+
+  @Override
+  public Map<String, T> retrieveAll(Collection<String> keys) throws ObjectStoreException {
+    return unpartitioned(BulkObjectStoreUtils.retrieveAll(getStore(), partitioned(keys)));
+  }
+
+  @Override
+  public Map<String, T> removeAll(Collection<String> keys) throws ObjectStoreException {
+    return unpartitioned(BulkObjectStoreUtils.removeAll(getStore(), partitioned(keys)));
+  }
+
+  private List<String> partitioned(Collection<String> keys) throws ObjectStoreException {
+    List<String> partitionedKeys = new ArrayList<>(keys.size());
+    for (String key : keys) {
+      validateKey(key);
+      partitionedKeys.add(partitioned(key));
+    }
+    return partitionedKeys;
+  }
+
+  private Set<String> unpartitioned(Set<String> partitionedKeys) {
+    Set<String> keys = new HashSet<>();
+    for (String key : partitionedKeys) {
+      keys.add(splitKey(key).getSecond());
+    }
+    return keys;
+  }
+
+  private Map<String, T> unpartitioned(Map<String, T> partitionedValues) {
+    Map<String, T> values = new LinkedHashMap<>();
+    partitionedValues.forEach((k, v) -> values.put(splitKey(k).getSecond(), v));
+    return values;
+  }
+
   private ObjectStore<T> getStore() {
     return baseStore;
   }
@@ -26,6 +26,7 @@ import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.privileged.store.DeserializationPostInitialisable;
 import org.mule.runtime.api.store.ExpirableObjectStore;
 import org.mule.runtime.core.api.util.UUID;
+import org.mule.runtime.core.internal.store.BulkObjectStore;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
@@ -42,9 +43,12 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.collections.BidiMap;
 import org.apache.commons.collections.bidimap.TreeBidiMap;
@@ -52,7 +56,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class PersistentObjectStorePartition<T extends Serializable> extends TemplateObjectStore<T>
-    implements ExpirableObjectStore<T> {
+    implements ExpirableObjectStore<T>, BulkObjectStore<T> {
 
   private static final String OBJECT_FILE_EXTENSION = ".obj";
   private static final String PARTITION_DESCRIPTOR_FILE = "partition-descriptor";
@@ -134,6 +138,88 @@ public class PersistentObjectStorePartition<T extends Serializable> extends Temp
     }
   }
 
+  @Override
+  public Set<String> storeAll(Map<String, T> entries) throws ObjectStoreException {
+    for (String key : entries.keySet()) {
+      validateKey(key);
+    }
+    assureLoaded();
+
+    Set<String> existing = new HashSet<>();
+    synchronized (realKeyToUUIDIndex) {
+      for (Map.Entry<String, T> entry : entries.entrySet()) {
+        if (realKeyToUUIDIndex.containsKey(entry.getKey())) {
+          existing.add(entry.getKey());
+          continue;
+        }
+        File newFile = createFileToStoreObject();
+        realKeyToUUIDIndex.put(entry.getKey(), newFile.getName());
+        serialize(newFile, new StoreValue<T>(entry.getKey(), entry.getValue()));
+      }
+    }
+
+    return existing;
+  }
+
+  @Override
+  public Set<String> containsAll(Collection<String> keys) throws ObjectStoreException {
+    for (String key : keys) {
+      validateKey(key);
+    }
+    assureLoaded();
+
+    Set<String> present = new HashSet<>();
+    synchronized (realKeyToUUIDIndex) {
+      for (String key : keys) {
+        if (realKeyToUUIDIndex.containsKey(key)) {
+          present.add(key);
+        }
+      }
+    }
+
+    return present;
+  }
+
+  @Override
+  public Map<String, T> retrieveAll(Collection<String> keys) throws ObjectStoreException {
+    for (String key : keys) {
+      validateKey(key);
+    }
+    assureLoaded();
+
+    Map<String, T> values = new LinkedHashMap<>();
+    synchronized (realKeyToUUIDIndex) {
+      for (String key : keys) {
+        if (realKeyToUUIDIndex.containsKey(key)) {
+          values.put(key, load(key));
+        }
+      }
+    }
+
+    return values;
+  }
+
+  @Override
+  public Map<String, T> removeAll(Collection<String> keys) throws ObjectStoreException {
+    for (String key : keys) {
+      validateKey(key);
+    }
+    assureLoaded();
+
+    Map<String, T> values = new LinkedHashMap<>();
+    synchronized (realKeyToUUIDIndex) {
+      for (String key : keys) {
+        String filename = (String) realKeyToUUIDIndex.get(key);
+        if (filename != null) {
+          values.put(key, load(key));
+          deleteStoreFile(getValueFile(filename));
+        }
+      }
+    }
+
+    return values;
+  }
+
   @Override
   public void clear() throws ObjectStoreException {
     synchronized (realKeyToUUIDIndex) {
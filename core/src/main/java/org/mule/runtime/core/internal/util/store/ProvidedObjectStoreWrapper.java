@@ -10,10 +10,14 @@ import org.mule.runtime.api.lifecycle.Disposable;
 import org.mule.runtime.api.store.ObjectStore;
 import org.mule.runtime.api.store.ObjectStoreException;
 import org.mule.runtime.api.store.TemplateObjectStore;
+import org.mule.runtime.core.internal.store.BulkObjectStore;
+import org.mule.runtime.core.internal.store.BulkObjectStoreUtils;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Supplier;
 
 /**
@@ -23,7 +27,8 @@ import java.util.function.Supplier;
  * In the case the factory is used and a fresh object store is created, its lifecycle management will be delegated by this
  * wrapper.
  */
-public class ProvidedObjectStoreWrapper<T extends Serializable> extends TemplateObjectStore<T> implements Disposable {
+public class ProvidedObjectStoreWrapper<T extends Serializable> extends TemplateObjectStore<T>
+    implements BulkObjectStore<T>, Disposable {
 
   private ObjectStore<T> wrapped;
   private final boolean provided;
@@ -64,6 +69,26 @@ public class ProvidedObjectStoreWrapper<T extends Serializable> extends Template
     return getWrapped().remove(key);
   }
 
+  @Override
+  public Set<String> storeAll(Map<String, T> entries) throws ObjectStoreException {
+    return BulkObjectStoreUtils.storeAll(getWrapped(), entries);
+  }
+
+  @Override
+  public Set<String> containsAll(Collection<String> keys) throws ObjectStoreException {
+    return BulkObjectStoreUtils.containsAll(getWrapped(), keys);
+  }
+
+  @Override
+  public Map<String, T> retrieveAll(Collection<String> keys) throws ObjectStoreException {
+    return BulkObjectStoreUtils.retrieveAll(getWrapped(), keys);
+  }
+
+  @Override
+  public Map<String, T> removeAll(Collection<String> keys) throws ObjectStoreException {
+    return BulkObjectStoreUtils.removeAll(getWrapped(), keys);
+  }
+
   @Override
   public boolean isPersistent() {
     return getWrapped().isPersistent();
@@ -9,10 +9,13 @@ package org.mule.runtime.core.internal.util.store;
 import org.mule.runtime.api.store.ObjectStoreException;
 import org.mule.runtime.core.internal.store.AbstractPartitionableObjectStore;
 import org.mule.runtime.api.store.PartitionableObjectStore;
+import org.mule.runtime.core.internal.store.PartitionableBulkObjectStore;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Supplier;
 
 /**
@@ -83,6 +86,38 @@ public class ProvidedPartitionableObjectStoreWrapper<T extends Serializable> ext
     return wrapped.remove(key, partitionName);
   }
 
+  @Override
+  public Set<String> storeAll(Map<String, T> entries, String partitionName) throws ObjectStoreException {
+    if (wrapped instanceof PartitionableBulkObjectStore) {
+      return ((PartitionableBulkObjectStore<T>) wrapped).storeAll(entries, partitionName);
+    }
+    return super.storeAll(entries, partitionName);
+  }
+
+  @Override
+  public Set<String> containsAll(Collection<String> keys, String partitionName) throws ObjectStoreException {
+    if (wrapped instanceof PartitionableBulkObjectStore) {
+      return ((PartitionableBulkObjectStore<T>) wrapped).containsAll(keys, partitionName);
+    }
+    return super.containsAll(keys, partitionName);
+  }
+
+  @Override
+  public Map<String, T> retrieveAll(Collection<String> keys, String partitionName) throws ObjectStoreException {
+    if (wrapped instanceof PartitionableBulkObjectStore) {
+      return ((PartitionableBulkObjectStore<T>) wrapped).retrieveAll(keys, partitionName);
+    }
+    return super.retrieveAll(keys, partitionName);
+  }
+
+  @Override
+  public Map<String, T> removeAll(Collection<String> keys, String partitionName) throws ObjectStoreException {
+    if (wrapped instanceof PartitionableBulkObjectStore) {
+      return ((PartitionableBulkObjectStore<T>) wrapped).removeAll(keys, partitionName);
+    }
+    return super.removeAll(keys, partitionName);
+  }
+
   @Override
   public List<String> allKeys(String partitionName) throws ObjectStoreException {
     return wrapped.allKeys(partitionName);
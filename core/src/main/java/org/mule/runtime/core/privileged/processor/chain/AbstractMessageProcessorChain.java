@@ -285,7 +285,7 @@ abstract class AbstractMessageProcessorChain extends AbstractExecutableComponent
 
   private MessagingException resolveException(Component processor, CoreEvent event, Throwable throwable) {
     MessagingExceptionResolver exceptionResolver = new MessagingExceptionResolver(processor);
-    return exceptionResolver.resolve(new MessagingException(event, throwable, processor), muleContext);
+    return exceptionResolver.resolve(event, throwable, muleContext);
   }
 
   private Function<MessagingException, MessagingException> resolveMessagingException(Processor processor) {
@@ -9,6 +9,8 @@ package org.mule.runtime.container.internal;
 import static java.lang.reflect.Proxy.getInvocationHandler;
 import static java.lang.reflect.Proxy.isProxyClass;
 import static java.util.Arrays.asList;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
 
 import java.lang.reflect.InvocationHandler;
@@ -17,17 +19,32 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import net.sf.cglib.core.CodeGenerationException;
+import net.sf.cglib.reflect.FastClass;
+import net.sf.cglib.reflect.FastMethod;
 
 /**
  * Extends {@link InvocationHandler} to provide and expose metadata about the inner object implementation.
  * <p>
  * This allows for nested object {@link Proxy}ies to work as expected.
- * 
+ * <p>
+ * Invocations on the proxied object go through a {@link FastClass} generated for its implementation, so they are direct calls
+ * instead of reflective ones. Reflection is used only for the methods the generated class cannot reach.
+ *
  * @since 4.0
  */
 public abstract class MetadataInvocationHandler<T> implements InvocationHandler {
 
   private final T innerObject;
+  // null unless the inner object is itself a proxy handled by a MetadataInvocationHandler
+  private final MetadataInvocationHandler innerHandler;
+  private volatile Method[] implementationDeclaredMethods;
+  private volatile FastClass implementationFastClass;
+  private final ConcurrentMap<Method, Optional<FastMethod>> fastMethods = new ConcurrentHashMap<>();
 
   /**
    * Creates a new proxy for the provided instance of type T.
@@ -37,23 +54,32 @@ public abstract class MetadataInvocationHandler<T> implements InvocationHandler
   protected MetadataInvocationHandler(T innerObject) {
     checkArgument(innerObject != null, "object cannot be null");
     this.innerObject = innerObject;
+    this.innerHandler = isProxyClass(innerObject.getClass())
+        && getInvocationHandler(innerObject) instanceof MetadataInvocationHandler
+            ? (MetadataInvocationHandler) getInvocationHandler(innerObject)
+            : null;
   }
 
   /**
+   * The methods are looked up only once, since the implementation of the proxied object does not change.
+   *
    * @return the methods declared in the implementation of the proxied object.
    */
   protected Method[] getImplementationDeclaredMethods() {
     if (isNestedProxy()) {
-      return ((MetadataInvocationHandler) getInvocationHandler(getProxiedObject())).getImplementationDeclaredMethods();
+      return innerHandler.getImplementationDeclaredMethods();
     } else {
-      List<Method> methods = new LinkedList<>();
-      Class<?> clazz = getProxiedObject().getClass();
-      while (clazz != Object.class) {
-        methods.addAll(asList(clazz.getDeclaredMethods()));
-        clazz = clazz.getSuperclass();
-      }
+      if (implementationDeclaredMethods == null) {
+        List<Method> methods = new LinkedList<>();
+        Class<?> clazz = getProxiedObject().getClass();
+        while (clazz != Object.class) {
+          methods.addAll(asList(clazz.getDeclaredMethods()));
+          clazz = clazz.getSuperclass();
+        }
 
-      return methods.toArray(new Method[methods.size()]);
+        implementationDeclaredMethods = methods.toArray(new Method[methods.size()]);
+      }
+      return implementationDeclaredMethods;
     }
   }
 
@@ -64,10 +90,12 @@ public abstract class MetadataInvocationHandler<T> implements InvocationHandler
    */
   protected Object doInvoke(Object proxy, Method method, Object[] args) throws Throwable {
     if (isNestedProxy()) {
-      return getInvocationHandler(getProxiedObject()).invoke(getProxiedObject(), method, args);
+      return innerHandler.invoke(getProxiedObject(), method, args);
     } else {
       try {
-        return method.invoke(getProxiedObject(), args);
+        Optional<FastMethod> fastMethod = fastMethods.computeIfAbsent(method, this::resolveFastMethod);
+        return fastMethod.isPresent() ? fastMethod.get().invoke(getProxiedObject(), args)
+            : method.invoke(getProxiedObject(), args);
       } catch (InvocationTargetException ite) {
         // Unwrap target exception to ensure InvocationTargetException (in case of unchecked exceptions) or
         // UndeclaredThrowableException (in case of checked exceptions) is not thrown by inner object instead of target exception.
@@ -76,6 +104,21 @@ public abstract class MetadataInvocationHandler<T> implements InvocationHandler
     }
   }
 
+  private Optional<FastMethod> resolveFastMethod(Method method) {
+    try {
+      if (implementationFastClass == null) {
+        implementationFastClass = FastClass.create(getProxiedObject().getClass());
+      }
+      if (implementationFastClass.getIndex(method.getName(), method.getParameterTypes()) < 0) {
+        return empty();
+      }
+      return of(implementationFastClass.getMethod(method));
+    } catch (CodeGenerationException | LinkageError e) {
+      // the implementation class is not accessible from a generated class
+      return empty();
+    }
+  }
+
   /**
    * The proxied object.
    */
@@ -84,7 +127,6 @@ public abstract class MetadataInvocationHandler<T> implements InvocationHandler
   }
 
   private boolean isNestedProxy() {
-    return isProxyClass(getProxiedObject().getClass())
-        && getInvocationHandler(getProxiedObject()) instanceof MetadataInvocationHandler;
+    return innerHandler != null;
   }
 }
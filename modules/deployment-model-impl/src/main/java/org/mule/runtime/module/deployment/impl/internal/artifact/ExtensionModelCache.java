@@ -0,0 +1,376 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.runtime.module.deployment.impl.internal.artifact;
+
+import static com.google.common.io.Files.asByteSource;
+import static java.lang.Boolean.getBoolean;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Comparator.comparing;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static org.apache.commons.io.FileUtils.deleteQuietly;
+import static org.apache.commons.io.FileUtils.forceMkdir;
+import static org.apache.commons.io.FileUtils.listFiles;
+import static org.apache.commons.io.FileUtils.readFileToByteArray;
+import static org.apache.commons.io.FileUtils.toFile;
+import static org.apache.commons.io.FileUtils.writeByteArrayToFile;
+import static org.apache.commons.io.filefilter.TrueFileFilter.TRUE;
+import static org.mule.runtime.container.api.MuleFoldersUtil.getExecutionFolder;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.core.api.config.MuleManifest;
+import org.mule.runtime.deployment.model.api.plugin.ArtifactPluginDescriptor;
+import org.mule.runtime.deployment.model.api.plugin.LoaderDescriber;
+import org.mule.runtime.module.artifact.api.descriptor.BundleDescriptor;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+
+/**
+ * Container level cache of the {@link ExtensionModel}s loaded for artifact plugins.
+ * <p>
+ * Loaded models are kept as they are for the plugin class loader they were loaded with, so that the runtime objects they
+ * reference, such as the methods implementing operations, are only reused with the classes they belong to. These entries are
+ * weakly referenced and go away along with the artifacts that use them. A model is therefore loaded once per plugin class loader
+ * rather than once per use of the plugin within an artifact.
+ * <p>
+ * Models that can be serialized are also kept in serialized form keyed by the plugin coordinates, a hash of the plugin content,
+ * the loader id and attributes, the extensions it was loaded against and the runtime version. Those are deserialized with the
+ * class loader of each artifact, so that the classes the model references are the ones of that artifact's plugin. Only these
+ * models are shared by several artifacts, or by the same artifact across redeployments.
+ * <p>
+ * The models of Java SDK extensions are not serializable, since they reference the classes and methods of the plugin. As every
+ * artifact, and every redeployment of it, creates new plugin class loaders, those models are still introspected once per
+ * artifact and per redeployment.
+ * <p>
+ * With {@link #EXTENSION_MODEL_CACHE_PERSISTENT_PROPERTY} set, entries are also stored in the execution folder so they survive
+ * container restarts.
+ *
+ * @since 4.2
+ */
+public class ExtensionModelCache {
+
+  private static final Logger LOGGER = getLogger(ExtensionModelCache.class);
+
+  /**
+   * System property to disable the cache, loading the {@link ExtensionModel} of every plugin for every artifact.
+   */
+  public static final String EXTENSION_MODEL_CACHE_DISABLED_PROPERTY = SYSTEM_PROPERTY_PREFIX + "extensionModel.cache.disabled";
+
+  /**
+   * System property to store the cached {@link ExtensionModel}s in the execution folder, so they are not loaded again after a
+   * restart.
+   */
+  public static final String EXTENSION_MODEL_CACHE_PERSISTENT_PROPERTY =
+      SYSTEM_PROPERTY_PREFIX + "extensionModel.cache.persistent";
+
+  private static final String EXTENSION_MODEL_CACHE_FOLDER = "extension-models";
+  private static final String CACHE_FILE_EXTENSION = ".model";
+
+  private static final class ContainerCacheHolder {
+
+    private static final ExtensionModelCache INSTANCE = getBoolean(EXTENSION_MODEL_CACHE_PERSISTENT_PROPERTY)
+        ? new ExtensionModelCache(new File(getExecutionFolder(), EXTENSION_MODEL_CACHE_FOLDER))
+        : new ExtensionModelCache(null);
+  }
+
+  /**
+   * @return the cache shared by all the artifacts of the container.
+   */
+  public static ExtensionModelCache getContainerExtensionModelCache() {
+    return ContainerCacheHolder.INSTANCE;
+  }
+
+  private final File directory;
+  private final boolean disabled = getBoolean(EXTENSION_MODEL_CACHE_DISABLED_PROPERTY);
+
+  private final Cache<ClassLoader, Cache<String, ExtensionModel>> loadedModels = CacheBuilder.newBuilder().weakKeys().build();
+  private final Cache<String, byte[]> serializedModels = CacheBuilder.newBuilder().softValues().build();
+  private final Set<String> notSerializable = ConcurrentHashMap.newKeySet();
+  private final Map<String, String> fileHashes = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a cache.
+   *
+   * @param directory where to store the cached models, or {@code null} to keep them in memory only.
+   */
+  ExtensionModelCache(File directory) {
+    this.directory = directory;
+  }
+
+  /**
+   * Returns the {@link ExtensionModel} of a plugin, calling {@code loader} only if it is not already cached.
+   *
+   * @param pluginDescriptor the descriptor of the plugin
+   * @param loaderDescriber the describer the plugin model is loaded with
+   * @param dependencies the extensions the plugin model is loaded against
+   * @param artifactClassLoader the class loader of the plugin in the artifact that requires the model
+   * @param loader loads the model when it is not cached
+   * @return the {@link ExtensionModel} of the plugin
+   */
+  public ExtensionModel getExtensionModel(ArtifactPluginDescriptor pluginDescriptor, LoaderDescriber loaderDescriber,
+                                          Set<ExtensionModel> dependencies, ClassLoader artifactClassLoader,
+                                          Supplier<ExtensionModel> loader) {
+    if (disabled) {
+      return loader.get();
+    }
+
+    String modelKey = modelKey(pluginDescriptor, loaderDescriber, dependencies);
+    Cache<String, ExtensionModel> classLoaderModels = loadedModels.asMap()
+        .computeIfAbsent(artifactClassLoader, classLoader -> CacheBuilder.newBuilder().weakValues().build());
+    ExtensionModel extensionModel = classLoaderModels.getIfPresent(modelKey);
+    if (extensionModel != null) {
+      LOGGER.debug("Using extension model already loaded for plugin '{}'", pluginDescriptor.getName());
+      return extensionModel;
+    }
+
+    extensionModel = notSerializable.contains(modelKey)
+        // No need to hash the plugin content
+        ? loader.get()
+        : getSerializableExtensionModel(modelKey, pluginDescriptor, artifactClassLoader, loader);
+    classLoaderModels.put(modelKey, extensionModel);
+    return extensionModel;
+  }
+
+  private ExtensionModel getSerializableExtensionModel(String modelKey, ArtifactPluginDescriptor pluginDescriptor,
+                                                       ClassLoader artifactClassLoader, Supplier<ExtensionModel> loader) {
+    Optional<String> key = cacheKey(modelKey, pluginDescriptor);
+    if (!key.isPresent()) {
+      return loader.get();
+    }
+
+    Optional<ExtensionModel> cached = lookup(key.get(), modelKey, pluginDescriptor.getName(), artifactClassLoader);
+    if (cached.isPresent()) {
+      return cached.get();
+    }
+
+    ExtensionModel extensionModel = loader.get();
+    store(key.get(), modelKey, pluginDescriptor.getName(), extensionModel);
+    return extensionModel;
+  }
+
+  private Optional<ExtensionModel> lookup(String key, String modelKey, String pluginName, ClassLoader artifactClassLoader) {
+    byte[] serialized = serializedModels.getIfPresent(key);
+    if (serialized == null && directory != null) {
+      serialized = read(key);
+      if (serialized != null) {
+        serializedModels.put(key, serialized);
+      }
+    }
+    if (serialized == null) {
+      return empty();
+    }
+
+    try {
+      ExtensionModel extensionModel = deserialize(serialized, artifactClassLoader);
+      LOGGER.debug("Using cached extension model for plugin '{}'", pluginName);
+      return of(extensionModel);
+    } catch (Exception e) {
+      LOGGER.warn(format("Could not restore the cached extension model for plugin '%s', it will be loaded again", pluginName),
+                  e);
+      discard(key, modelKey);
+      return empty();
+    }
+  }
+
+  private void store(String key, String modelKey, String pluginName, ExtensionModel extensionModel) {
+    byte[] serialized;
+    try {
+      serialized = serialize(extensionModel);
+    } catch (IOException e) {
+      LOGGER.debug(format("Extension model for plugin '%s' is not serializable, it will not be cached", pluginName), e);
+      notSerializable.add(modelKey);
+      return;
+    }
+
+    serializedModels.put(key, serialized);
+    if (directory != null) {
+      try {
+        forceMkdir(directory);
+        writeByteArrayToFile(cacheFile(key), serialized);
+      } catch (IOException e) {
+        LOGGER.warn(format("Could not store the extension model for plugin '%s'", pluginName), e);
+        deleteQuietly(cacheFile(key));
+      }
+    }
+  }
+
+  private void discard(String key, String modelKey) {
+    notSerializable.add(modelKey);
+    serializedModels.invalidate(key);
+    if (directory != null) {
+      deleteQuietly(cacheFile(key));
+    }
+  }
+
+  private byte[] read(String key) {
+    File cacheFile = cacheFile(key);
+    if (!cacheFile.exists()) {
+      return null;
+    }
+    try {
+      return readFileToByteArray(cacheFile);
+    } catch (IOException e) {
+      deleteQuietly(cacheFile);
+      return null;
+    }
+  }
+
+  private File cacheFile(String key) {
+    return new File(directory, key + CACHE_FILE_EXTENSION);
+  }
+
+  private byte[] serialize(ExtensionModel extensionModel) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(extensionModel);
+    }
+    return bytes.toByteArray();
+  }
+
+  private ExtensionModel deserialize(byte[] serialized, ClassLoader artifactClassLoader)
+      throws IOException, ClassNotFoundException {
+    try (ObjectInputStream in = new ArtifactPluginObjectInputStream(new ByteArrayInputStream(serialized), artifactClassLoader)) {
+      return (ExtensionModel) in.readObject();
+    }
+  }
+
+  /**
+   * Calculates the key of the model of a plugin for a given plugin class loader, which identifies its content.
+   */
+  String modelKey(ArtifactPluginDescriptor pluginDescriptor, LoaderDescriber loaderDescriber, Set<ExtensionModel> dependencies) {
+    StringBuilder modelKey = new StringBuilder();
+    BundleDescriptor bundleDescriptor = pluginDescriptor.getBundleDescriptor();
+    modelKey.append(bundleDescriptor != null ? bundleDescriptor.toString() : pluginDescriptor.getName())
+        .append('|').append(loaderDescriber.getId())
+        .append('|').append(new TreeMap<>(loaderDescriber.getAttributes()));
+    dependencies.stream()
+        .map(dependency -> dependency.getName() + ":" + dependency.getVersion())
+        .sorted()
+        .forEach(dependency -> modelKey.append('|').append(dependency));
+    return modelKey.toString();
+  }
+
+  /**
+   * Calculates the key of the serialized model of a plugin. The key is empty when the content of the plugin cannot be hashed, as
+   * there would be no way to tell whether it changed.
+   */
+  Optional<String> cacheKey(ArtifactPluginDescriptor pluginDescriptor, LoaderDescriber loaderDescriber,
+                            Set<ExtensionModel> dependencies) {
+    return cacheKey(modelKey(pluginDescriptor, loaderDescriber, dependencies), pluginDescriptor);
+  }
+
+  private Optional<String> cacheKey(String modelKey, ArtifactPluginDescriptor pluginDescriptor) {
+    Optional<String> contentHash = contentHash(pluginDescriptor.getClassLoaderModel().getUrls());
+    if (!contentHash.isPresent()) {
+      return empty();
+    }
+
+    Hasher hasher = Hashing.sha256().newHasher();
+    putString(hasher, String.valueOf(MuleManifest.getProductVersion()));
+    putString(hasher, modelKey);
+    putString(hasher, contentHash.get());
+    return of(hasher.hash().toString());
+  }
+
+  private Optional<String> contentHash(URL[] urls) {
+    if (urls.length == 0) {
+      return empty();
+    }
+
+    Hasher hasher = Hashing.sha256().newHasher();
+    for (URL url : urls) {
+      File file = toFile(url);
+      if (file == null || !file.exists()) {
+        return empty();
+      }
+
+      try {
+        if (file.isDirectory()) {
+          List<File> files = new ArrayList<>(listFiles(file, TRUE, TRUE));
+          files.sort(comparing(File::getPath));
+          for (File child : files) {
+            putString(hasher, file.toURI().relativize(child.toURI()).getPath());
+            putString(hasher, fileHash(child));
+          }
+        } else {
+          putString(hasher, file.getName());
+          putString(hasher, fileHash(file));
+        }
+      } catch (IOException e) {
+        LOGGER.debug(format("Could not hash '%s', extension model will not be cached", file), e);
+        return empty();
+      }
+    }
+    return of(hasher.hash().toString());
+  }
+
+  private String fileHash(File file) throws IOException {
+    // Plugins are unpacked again on each deployment, but an unchanged file doesn't need to be read again
+    String fileKey = file.getAbsolutePath() + ":" + file.length() + ":" + file.lastModified();
+    String hash = fileHashes.get(fileKey);
+    if (hash == null) {
+      hash = asByteSource(file).hash(Hashing.sha256()).toString();
+      fileHashes.put(fileKey, hash);
+    }
+    return hash;
+  }
+
+  private static void putString(Hasher hasher, String value) {
+    // Prefixed with the length, so that consecutive values cannot be confused
+    hasher.putInt(value.length()).putString(value, UTF_8);
+  }
+
+  /**
+   * Resolves classes with the class loader of the plugin in the artifact, falling back to the container for the classes of the
+   * model implementation the plugin does not have access to.
+   */
+  private static final class ArtifactPluginObjectInputStream extends ObjectInputStream {
+
+    private final ClassLoader artifactClassLoader;
+
+    ArtifactPluginObjectInputStream(InputStream in, ClassLoader artifactClassLoader) throws IOException {
+      super(in);
+      this.artifactClassLoader = artifactClassLoader;
+    }
+
+    @Override
+    protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+      try {
+        return Class.forName(desc.getName(), false, artifactClassLoader);
+      } catch (ClassNotFoundException e) {
+        return super.resolveClass(desc);
+      }
+    }
+  }
+}
@@ -11,6 +11,7 @@ import static java.lang.String.format;
 import static java.util.stream.Collectors.toSet;
 import static org.mule.runtime.api.dsl.DslResolvingContext.getDefault;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.module.deployment.impl.internal.artifact.ExtensionModelCache.getContainerExtensionModelCache;
 import org.mule.runtime.api.deployment.meta.MulePluginModel;
 import org.mule.runtime.api.meta.model.ExtensionModel;
 import org.mule.runtime.api.util.Pair;
@@ -35,6 +36,24 @@ import java.util.Set;
  */
 public class ExtensionModelDiscoverer {
 
+  private final ExtensionModelCache extensionModelCache;
+
+  /**
+   * Creates a discoverer that shares the {@link ExtensionModel}s of plugins with the rest of the container.
+   */
+  public ExtensionModelDiscoverer() {
+    this(getContainerExtensionModelCache());
+  }
+
+  /**
+   * Creates a discoverer.
+   *
+   * @param extensionModelCache cache of the {@link ExtensionModel}s of plugins. Non null.
+   */
+  public ExtensionModelDiscoverer(ExtensionModelCache extensionModelCache) {
+    this.extensionModelCache = extensionModelCache;
+  }
+
   /**
    * For each artifactPlugin discovers the {@link ExtensionModel}.
    *
@@ -54,9 +73,11 @@ public class ExtensionModelDiscoverer {
       ClassLoader artifactClassloader = artifactPlugin.getSecond().getClassLoader();
       String artifactName = artifactPluginDescriptor.getName();
       ExtensionModel extension = loaderDescriber
-          .map(describer -> discoverExtensionThroughJsonDescriber(loaderRepository, describer,
-                                                                  extensions, artifactClassloader,
-                                                                  artifactName))
+          .map(describer -> extensionModelCache
+              .getExtensionModel(artifactPluginDescriptor, describer, extensions, artifactClassloader,
+                                 () -> discoverExtensionThroughJsonDescriber(loaderRepository, describer,
+                                                                             extensions, artifactClassloader,
+                                                                             artifactName)))
           .orElse(null);
       if (extension != null) {
         descriptorsWithExtensions.add(new Pair<>(artifactPluginDescriptor, extension));
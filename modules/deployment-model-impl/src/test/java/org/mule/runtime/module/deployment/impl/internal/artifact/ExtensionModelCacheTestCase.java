@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.runtime.module.deployment.impl.internal.artifact;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singletonMap;
+import static org.apache.commons.io.FileUtils.writeStringToFile;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+import static org.mule.runtime.api.dsl.DslResolvingContext.getDefault;
+import static org.mule.runtime.core.api.config.MuleManifest.getProductVersion;
+import static org.mule.runtime.module.extension.api.loader.AbstractJavaExtensionModelLoader.TYPE_PROPERTY_NAME;
+import static org.mule.runtime.module.extension.api.loader.AbstractJavaExtensionModelLoader.VERSION;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.deployment.model.api.plugin.ArtifactPluginDescriptor;
+import org.mule.runtime.deployment.model.api.plugin.LoaderDescriber;
+import org.mule.runtime.extension.api.annotation.Extension;
+import org.mule.runtime.extension.api.annotation.Operations;
+import org.mule.runtime.module.extension.api.loader.java.DefaultJavaExtensionModelLoader;
+import org.mule.runtime.module.artifact.api.descriptor.ClassLoaderModel.ClassLoaderModelBuilder;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+@SmallTest
+public class ExtensionModelCacheTestCase extends AbstractMuleTestCase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final ExtensionModelCache cache = new ExtensionModelCache(null);
+  private final LoaderDescriber loaderDescriber = new LoaderDescriber("java");
+  private File pluginFolder;
+  private ArtifactPluginDescriptor pluginDescriptor;
+
+  @Before
+  public void setUp() throws Exception {
+    loaderDescriber.addAttributes(singletonMap("type", "org.foo.FooExtension"));
+    pluginFolder = temporaryFolder.newFolder("plugin");
+    writeStringToFile(new File(pluginFolder, "Foo.class"), "foo");
+    pluginDescriptor = pluginDescriptor(pluginFolder);
+  }
+
+  @Test
+  public void sameKeyForSameContentInOtherLocation() throws Exception {
+    File otherFolder = temporaryFolder.newFolder("otherPlugin");
+    writeStringToFile(new File(otherFolder, "Foo.class"), "foo");
+
+    assertThat(cache.cacheKey(pluginDescriptor, loaderDescriber, emptySet()),
+               equalTo(cache.cacheKey(pluginDescriptor(otherFolder), loaderDescriber, emptySet())));
+  }
+
+  @Test
+  public void keyChangesWithContent() throws Exception {
+    Optional<String> key = cache.cacheKey(pluginDescriptor, loaderDescriber, emptySet());
+    writeStringToFile(new File(pluginFolder, "Bar.class"), "bar");
+
+    assertThat(cache.cacheKey(pluginDescriptor, loaderDescriber, emptySet()), not(equalTo(key)));
+  }
+
+  @Test
+  public void keyChangesWithLoaderAttributes() throws Exception {
+    LoaderDescriber otherDescriber = new LoaderDescriber("java");
+    otherDescriber.addAttributes(singletonMap("type", "org.foo.OtherExtension"));
+
+    assertThat(cache.cacheKey(pluginDescriptor, otherDescriber, emptySet()),
+               not(equalTo(cache.cacheKey(pluginDescriptor, loaderDescriber, emptySet()))));
+  }
+
+  @Test
+  public void noKeyWithoutContent() throws Exception {
+    assertThat(cache.cacheKey(new ArtifactPluginDescriptor("plugin"), loaderDescriber, emptySet()).isPresent(), is(false));
+  }
+
+  @Test
+  public void notSerializableModelLoadedOncePerClassLoader() throws Exception {
+    AtomicInteger loads = new AtomicInteger();
+    ExtensionModel extensionModel = mock(ExtensionModel.class);
+    Supplier<ExtensionModel> loader = () -> {
+      loads.incrementAndGet();
+      return extensionModel;
+    };
+
+    for (int i = 0; i < 2; ++i) {
+      assertThat(cache.getExtensionModel(pluginDescriptor, loaderDescriber, emptySet(), getClass().getClassLoader(), loader),
+                 is(sameInstance(extensionModel)));
+    }
+    assertThat(loads.get(), is(1));
+
+    ClassLoader otherClassLoader = new URLClassLoader(new URL[0], getClass().getClassLoader());
+    cache.getExtensionModel(pluginDescriptor, loaderDescriber, emptySet(), otherClassLoader, loader);
+    assertThat(loads.get(), is(2));
+  }
+
+  @Test
+  public void javaExtensionModelCached() throws Exception {
+    AtomicInteger loads = new AtomicInteger();
+    ClassLoader classLoader = CachedExtension.class.getClassLoader();
+    Supplier<ExtensionModel> loader = () -> {
+      loads.incrementAndGet();
+      Map<String, Object> attributes = new HashMap<>();
+      attributes.put(TYPE_PROPERTY_NAME, CachedExtension.class.getName());
+      attributes.put(VERSION, getProductVersion());
+      return new DefaultJavaExtensionModelLoader().loadExtensionModel(classLoader, getDefault(emptySet()), attributes);
+    };
+
+    ExtensionModel extensionModel = cache.getExtensionModel(pluginDescriptor, loaderDescriber, emptySet(), classLoader, loader);
+    assertThat(cache.getExtensionModel(pluginDescriptor, loaderDescriber, emptySet(), classLoader, loader),
+               is(sameInstance(extensionModel)));
+    assertThat(loads.get(), is(1));
+  }
+
+  private ArtifactPluginDescriptor pluginDescriptor(File folder) throws Exception {
+    ArtifactPluginDescriptor descriptor = new ArtifactPluginDescriptor("plugin");
+    descriptor.setClassLoaderModel(new ClassLoaderModelBuilder().containing(folder.toURI().toURL()).build());
+    return descriptor;
+  }
+
+  @Extension(name = "Cached")
+  @Operations(CachedOperations.class)
+  public static class CachedExtension {
+
+  }
+
+  public static class CachedOperations {
+
+    public String echo(String value) {
+      return value;
+    }
+  }
+}
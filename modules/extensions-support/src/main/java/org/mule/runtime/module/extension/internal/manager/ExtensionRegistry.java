@@ -9,13 +9,11 @@ package org.mule.runtime.module.extension.internal.manager;
 import static java.lang.String.format;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
-import static org.mule.runtime.api.util.collection.Collectors.toImmutableList;
 import static org.mule.runtime.core.privileged.registry.LegacyRegistryUtils.registerObject;
 
 import org.mule.runtime.api.artifact.Registry;
 import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.api.meta.model.ExtensionModel;
-import org.mule.runtime.api.meta.model.config.ConfigurationModel;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.internal.registry.MuleRegistry;
 import org.mule.runtime.core.privileged.registry.RegistrationException;
@@ -23,18 +21,12 @@ import org.mule.runtime.extension.api.runtime.config.ConfigurationInstance;
 import org.mule.runtime.extension.api.runtime.config.ConfigurationProvider;
 import org.mule.runtime.extension.api.runtime.config.ExpirableConfigurationProvider;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ArrayListMultimap;
-import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Multimaps;
 
-import java.util.Collection;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -51,19 +43,6 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 final class ExtensionRegistry {
 
-  private final LoadingCache<ExtensionModel, Multimap<ConfigurationModel, ConfigurationProvider>> providersByExtension =
-      CacheBuilder.newBuilder().build(new CacheLoader<ExtensionModel, Multimap<ConfigurationModel, ConfigurationProvider>>() {
-
-        @Override
-        public Multimap<ConfigurationModel, ConfigurationProvider> load(ExtensionModel key) throws Exception {
-          List<ConfigurationProvider> providers = registry.lookupAllByType(ConfigurationProvider.class).stream()
-              .filter(provider -> provider.getExtensionModel() == key).collect(toImmutableList());
-          Multimap multimap = HashMultimap.create();
-          providers.forEach(p -> multimap.put(p.getConfigurationModel(), p));
-          return multimap;
-        }
-      });
-
   private final Map<ExtensionEntityKey, ExtensionModel> extensions = new ConcurrentHashMap<>();
   private final Registry registry;
 
@@ -110,17 +89,6 @@ final class ExtensionRegistry {
 
   }
 
-  /**
-   * Returns all the {@link ConfigurationProvider configuration providers} which serve {@link ConfigurationModel configuration
-   * models} owned by {@code extensionModel}
-   *
-   * @param extensionModel a registered {@link ExtensionModel}
-   * @return an immutable {@link List}. Might be empty but will never be {@code null}
-   */
-  Collection<ConfigurationProvider> getConfigurationProviders(ExtensionModel extensionModel) {
-    return providersByExtension.getUnchecked(extensionModel).values();
-  }
-
   /**
    * Returns the {@link ConfigurationProvider} registered under the given {@code key}
    *
@@ -150,22 +118,22 @@ final class ExtensionRegistry {
                                                                 configurationProvider.getName())),
                                      e);
     }
-
-    providersByExtension.invalidate(configurationProvider.getExtensionModel());
   }
 
   /**
    * Returns a {@link Multimap} which keys are registrations keys and the values are the {@link ConfigurationInstance} instances
    * which are expired
+   * <p>
+   * The {@link ConfigurationProvider configuration providers} are looked up every time, since those created on demand only
+   * show up once they are used.
    *
    * @return an immutable {@link Multimap}
    */
   Multimap<String, ConfigurationInstance> getExpiredConfigs() {
     ListMultimap<String, ConfigurationInstance> expired = ArrayListMultimap.create();
-    for (ExtensionModel extensionModel : extensions.values()) {
-      getConfigurationProviders(extensionModel).stream().filter(provider -> provider instanceof ExpirableConfigurationProvider)
-          .forEach(provider -> expired.putAll(provider.getName(), ((ExpirableConfigurationProvider) provider).getExpired()));
-    }
+    registry.lookupAllByType(ConfigurationProvider.class).stream()
+        .filter(provider -> provider instanceof ExpirableConfigurationProvider)
+        .forEach(provider -> expired.putAll(provider.getName(), ((ExpirableConfigurationProvider) provider).getExpired()));
 
     return Multimaps.unmodifiableListMultimap(expired);
   }
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.metadata;
+
+import static java.lang.reflect.Array.get;
+import static java.lang.reflect.Array.getLength;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Comparator.comparing;
+
+import org.mule.runtime.api.metadata.MetadataCache;
+import org.mule.runtime.extension.api.runtime.config.ConfigurationInstance;
+import org.mule.runtime.extension.api.runtime.config.ConfigurationState;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Utilities for handling {@link MetadataCache}s of extension components.
+ *
+ * @since 4.2
+ */
+public final class MetadataCacheUtils {
+
+  private MetadataCacheUtils() {}
+
+  /**
+   * How deep collections, maps and arrays are encoded. Deeper values are considered not stably encodable.
+   */
+  private static final int MAX_DEPTH = 8;
+
+  /**
+   * Calculates a fingerprint of the given configuration, which changes when its parameters or the parameters of its connection
+   * change, and is stable across restarts.
+   * <p>
+   * Only the values resolved for the parameters of the configuration and its connection provider are taken into account. Those
+   * are encoded by their textual representation when they are strings, numbers, booleans, characters or enums, and element by
+   * element when they are collections, maps or arrays of such values. Any other value, such as an object built from a nested
+   * parameter or a value provided by the runtime, has no stable representation, in which case there is no fingerprint.
+   *
+   * @param configuration the configuration to calculate the fingerprint of
+   * @return the fingerprint of the configuration, or {@code null} if any of its parameter values cannot be stably encoded.
+   */
+  public static String configurationFingerprint(ConfigurationInstance configuration) {
+    Hasher hasher = Hashing.sha256().newHasher();
+    putString(hasher, configuration.getName());
+    putString(hasher, configuration.getModel().getName());
+
+    ConfigurationState state = configuration.getState();
+    if (state != null) {
+      if (!hashParameters(hasher, state.getConfigParameters()) || !hashParameters(hasher, state.getConnectionParameters())) {
+        return null;
+      }
+    }
+
+    return hasher.hash().toString();
+  }
+
+  private static boolean hashParameters(Hasher hasher, Map<String, Object> parameters) {
+    if (parameters == null) {
+      return true;
+    }
+
+    hasher.putInt(parameters.size());
+    for (Map.Entry<String, Object> parameter : new TreeMap<>(parameters).entrySet()) {
+      putString(hasher, parameter.getKey());
+      if (!hashValue(hasher, parameter.getValue(), 0)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean hashValue(Hasher hasher, Object value, int depth) {
+    if (value == null) {
+      hasher.putInt(-1);
+    } else if (value instanceof CharSequence || value instanceof Number || value instanceof Boolean
+        || value instanceof Character) {
+      hasher.putInt(0);
+      putString(hasher, value.toString());
+    } else if (value instanceof Enum) {
+      hasher.putInt(1);
+      putString(hasher, ((Enum<?>) value).getDeclaringClass().getName());
+      putString(hasher, ((Enum<?>) value).name());
+    } else if (depth >= MAX_DEPTH) {
+      return false;
+    } else if (value instanceof Map) {
+      Map<?, ?> map = (Map<?, ?>) value;
+      hasher.putInt(2).putInt(map.size());
+      // sorted by the text of the keys, so that the iteration order of the map does not matter
+      List<Map.Entry<?, ?>> entries = new ArrayList<>(map.entrySet());
+      entries.sort(comparing(entry -> String.valueOf(entry.getKey())));
+      for (Map.Entry<?, ?> entry : entries) {
+        if (!hashValue(hasher, entry.getKey(), depth + 1) || !hashValue(hasher, entry.getValue(), depth + 1)) {
+          return false;
+        }
+      }
+    } else if (value instanceof Collection) {
+      hasher.putInt(3).putInt(((Collection<?>) value).size());
+      for (Object item : (Collection<?>) value) {
+        if (!hashValue(hasher, item, depth + 1)) {
+          return false;
+        }
+      }
+    } else if (value.getClass().isArray()) {
+      int length = getLength(value);
+      hasher.putInt(4).putInt(length);
+      for (int i = 0; i < length; ++i) {
+        if (!hashValue(hasher, get(value, i), depth + 1)) {
+          return false;
+        }
+      }
+    } else {
+      return false;
+    }
+    return true;
+  }
+
+  private static void putString(Hasher hasher, String value) {
+    // Prefixed with the length, so that consecutive values cannot be confused
+    hasher.putInt(value.length()).putString(value, UTF_8);
+  }
+}
@@ -21,6 +21,7 @@ import static org.mule.runtime.core.privileged.util.TemplateParser.createMuleSty
 import static org.mule.runtime.extension.api.util.ExtensionModelUtils.requiresConfig;
 import static org.mule.runtime.extension.api.values.ValueResolvingException.UNKNOWN;
 import static org.mule.runtime.module.extension.api.util.MuleExtensionUtils.getInitialiserEvent;
+import static org.mule.runtime.module.extension.internal.metadata.MetadataCacheUtils.configurationFingerprint;
 import static org.mule.runtime.module.extension.internal.util.MuleExtensionUtils.getClassLoader;
 import static org.mule.runtime.module.extension.internal.value.ValueProviderUtils.getValueProviderModels;
 
@@ -83,6 +84,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import javax.inject.Inject;
 
@@ -383,9 +385,10 @@ public abstract class ExtensionComponent<T extends ComponentModel> extends Abstr
 
       String cacheId = configuration.map(ConfigurationInstance::getName)
           .orElseGet(() -> extensionModel.getName() + "|" + componentModel.getName());
+      Supplier<String> configFingerprint = () -> configuration.map(config -> configurationFingerprint(config)).orElse(null);
 
-      return new DefaultMetadataContext(() -> configuration, connectionManager, metadataService.getMetadataCache(cacheId),
-                                        typeLoader);
+      return new DefaultMetadataContext(() -> configuration, connectionManager,
+                                        metadataService.getMetadataCache(cacheId, configFingerprint), typeLoader);
     } finally {
       if (fakeEvent != null) {
         ((BaseEventContext) fakeEvent.getContext()).success();
@@ -16,6 +16,7 @@ import static org.mule.runtime.core.api.util.ClassUtils.withContextClassLoader;
 import static org.mule.runtime.extension.api.metadata.NullMetadataResolver.NULL_CATEGORY_NAME;
 import static org.mule.runtime.extension.api.values.ValueResolvingException.UNKNOWN;
 import static org.mule.runtime.module.extension.api.util.MuleExtensionUtils.getInitialiserEvent;
+import static org.mule.runtime.module.extension.internal.metadata.MetadataCacheUtils.configurationFingerprint;
 import static org.mule.runtime.module.extension.internal.util.IntrospectionUtils.getConnectionProviderModel;
 import static org.mule.runtime.module.extension.internal.util.MuleExtensionUtils.getAllConnectionProviders;
 import static org.mule.runtime.module.extension.internal.util.MuleExtensionUtils.getClassLoader;
@@ -30,6 +31,7 @@ import org.mule.runtime.api.meta.model.config.ConfigurationModel;
 import org.mule.runtime.api.meta.model.connection.ConnectionProviderModel;
 import org.mule.runtime.api.meta.model.parameter.ParameterizedModel;
 import org.mule.runtime.api.meta.model.parameter.ValueProviderModel;
+import org.mule.runtime.api.metadata.MetadataCache;
 import org.mule.runtime.api.metadata.MetadataContext;
 import org.mule.runtime.api.metadata.MetadataKey;
 import org.mule.runtime.api.metadata.MetadataKeyProvider;
@@ -127,6 +129,7 @@ public final class ConfigurationProviderToolingAdapter extends StaticConfigurati
   }
 
   private MetadataContext getMetadataContext() throws MetadataResolvingException, ConnectionException {
+    MetadataCache metadataCache = metadataService.getMetadataCache(getName(), () -> configurationFingerprint(configuration));
     return new DefaultMetadataContext(() -> {
       CoreEvent fakeEvent = null;
       try {
@@ -137,7 +140,7 @@ public final class ConfigurationProviderToolingAdapter extends StaticConfigurati
           ((BaseEventContext) fakeEvent.getContext()).success();
         }
       }
-    }, connectionManager, metadataService.getMetadataCache(getName()), ExtensionsTypeLoaderFactory.getDefault()
+    }, connectionManager, metadataCache, ExtensionsTypeLoaderFactory.getDefault()
         .createTypeLoader(getClassLoader(getExtensionModel())));
   }
 
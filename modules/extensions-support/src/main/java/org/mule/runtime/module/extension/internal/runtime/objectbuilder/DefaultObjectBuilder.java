@@ -10,22 +10,27 @@ import static java.lang.String.format;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
-import static org.mule.runtime.module.extension.internal.runtime.objectbuilder.ObjectBuilderUtils.createInstance;
 import static org.mule.runtime.module.extension.internal.runtime.resolver.ResolverUtils.resolveValue;
 import static org.mule.runtime.module.extension.internal.util.IntrospectionUtils.checkInstantiable;
 import static org.mule.runtime.module.extension.internal.util.IntrospectionUtils.getField;
-import static org.mule.runtime.module.extension.internal.util.IntrospectionUtils.injectFields;
 import static org.mule.runtime.module.extension.internal.util.MuleExtensionUtils.hasAnyDynamic;
-import static org.springframework.util.ReflectionUtils.setField;
 
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.lifecycle.Initialisable;
 import org.mule.runtime.api.lifecycle.InitialisationException;
+import org.mule.runtime.api.metadata.TypedValue;
+import org.mule.runtime.api.streaming.CursorProvider;
 import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.extension.api.annotation.param.DefaultEncoding;
+import org.mule.runtime.extension.api.annotation.param.RefName;
+import org.mule.runtime.module.extension.internal.runtime.resolver.StaticValueResolver;
 import org.mule.runtime.module.extension.internal.runtime.resolver.ValueResolver;
 import org.mule.runtime.module.extension.internal.runtime.resolver.ValueResolvingContext;
+import org.mule.runtime.module.extension.internal.util.FieldSetter;
+import org.mule.runtime.module.extension.internal.util.ObjectInstantiator;
 import org.mule.runtime.module.extension.internal.util.ReflectionCache;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.HashMap;
 import java.util.Map;
@@ -39,10 +44,13 @@ import javax.inject.Inject;
  */
 public class DefaultObjectBuilder<T> implements ObjectBuilder<T>, Initialisable {
 
+  private static final Object NOT_STATIC = new Object();
+
   protected final Class<T> prototypeClass;
   protected final Map<Field, ValueResolver<Object>> resolvers = new HashMap<>();
   private String name = null;
   private String encoding = null;
+  private volatile CompiledResolvers compiledResolvers;
 
   @Inject
   private MuleContext muleContext;
@@ -60,6 +68,18 @@ public class DefaultObjectBuilder<T> implements ObjectBuilder<T>, Initialisable
     this.prototypeClass = prototypeClass;
   }
 
+  /**
+   * Creates a new instance that will build instances of {@code prototypeClass}.
+   *
+   * @param prototypeClass a {@link Class} which needs to have a public defualt constructor
+   * @param reflectionCache the cache for expensive reflection lookups
+   */
+  protected DefaultObjectBuilder(Class<T> prototypeClass, ReflectionCache reflectionCache) {
+    this.reflectionCache = reflectionCache;
+    checkInstantiable(prototypeClass, reflectionCache);
+    this.prototypeClass = prototypeClass;
+  }
+
   /**
    * Adds a property which value is to be obtained from a {@link ValueResolver}
    *
@@ -78,6 +98,7 @@ public class DefaultObjectBuilder<T> implements ObjectBuilder<T>, Initialisable
 
     field.setAccessible(true);
     resolvers.put(field, (ValueResolver<Object>) resolver);
+    compiledResolvers = null;
     return this;
   }
 
@@ -89,19 +110,81 @@ public class DefaultObjectBuilder<T> implements ObjectBuilder<T>, Initialisable
     return hasAnyDynamic(resolvers.values());
   }
 
+  /**
+   * Whether any property resolver was added to this builder.
+   */
+  protected boolean hasPropertyResolvers() {
+    return !resolvers.isEmpty();
+  }
+
   @Override
   public T build(ValueResolvingContext context) throws MuleException {
-    T object = createInstance(prototypeClass);
+    return build(context, null, null, 0);
+  }
 
-    for (Map.Entry<Field, ValueResolver<Object>> entry : resolvers.entrySet()) {
-      setField(entry.getKey(), object, resolveValue(entry.getValue(), context));
+  /**
+   * Builds a new instance, setting the values from the property resolvers and then the given {@code values}.
+   *
+   * @param context the context to resolve the property resolvers with
+   * @param fields the fields in which to set {@code values}. May be {@code null} if {@code count} is {@code 0}.
+   * @param values the values to set after the property resolvers, in the order of the {@code fields}.
+   * @param count how many of the {@code fields} to set
+   * @return a new instance
+   */
+  protected T build(ValueResolvingContext context, FieldSetter<Object, Object>[] fields, Object[] values, int count)
+      throws MuleException {
+    CompiledResolvers compiled = compile();
+    T object = compiled.instantiator.newInstance();
+
+    for (int i = 0; i < compiled.fields.length; ++i) {
+      Object value = compiled.staticValues[i];
+      if (value == NOT_STATIC) {
+        value = resolveValue(compiled.valueResolvers[i], context);
+      }
+      compiled.fields[i].set(object, value);
     }
 
-    injectFields(object, name, encoding, getReflectionCache());
+    for (int i = 0; i < count; ++i) {
+      fields[i].set(object, values[i]);
+    }
+
+    if (compiled.encodingField != null) {
+      compiled.encodingField.set(object, encoding);
+    }
+    if (compiled.nameField != null) {
+      compiled.nameField.set(object, name);
+    }
 
     return object;
   }
 
+  private CompiledResolvers compile() {
+    CompiledResolvers compiled = compiledResolvers;
+    if (compiled == null) {
+      compiled = new CompiledResolvers();
+      compiledResolvers = compiled;
+    }
+    return compiled;
+  }
+
+  /**
+   * Values of {@link StaticValueResolver}s are the same on every resolution, so they are resolved only once unless resolving
+   * them does more than returning the value.
+   */
+  private static Object staticValueOf(ValueResolver<Object> resolver) {
+    if (resolver.getClass() != StaticValueResolver.class) {
+      return NOT_STATIC;
+    }
+
+    try {
+      Object value = resolver.resolve(null);
+      return value instanceof ValueResolver || value instanceof CursorProvider || value instanceof TypedValue ? NOT_STATIC
+          : value;
+    } catch (MuleException e) {
+      return NOT_STATIC;
+    }
+  }
+
   public void setName(String name) {
     this.name = name;
   }
@@ -110,10 +193,10 @@ public class DefaultObjectBuilder<T> implements ObjectBuilder<T>, Initialisable
     this.encoding = encoding;
   }
 
-
   @Override
   public void initialise() throws InitialisationException {
     initialiseIfNeeded(resolvers.values(), muleContext);
+    compiledResolvers = null;
   }
 
   public ReflectionCache getReflectionCache() {
@@ -122,4 +205,35 @@ public class DefaultObjectBuilder<T> implements ObjectBuilder<T>, Initialisable
     }
     return reflectionCache;
   }
+
+  /**
+   * The property resolvers in flat arrays, with the values of the static ones already resolved, and the setters of the fields
+   * injected in each instance.
+   */
+  private final class CompiledResolvers {
+
+    private final ObjectInstantiator<T> instantiator = getReflectionCache().getInstantiator(prototypeClass);
+    private final FieldSetter<Object, Object>[] fields = new FieldSetter[resolvers.size()];
+    private final ValueResolver<Object>[] valueResolvers = new ValueResolver[fields.length];
+    private final Object[] staticValues = new Object[fields.length];
+    private final FieldSetter<Object, Object> encodingField;
+    private final FieldSetter<Object, Object> nameField;
+
+    private CompiledResolvers() {
+      int i = 0;
+      for (Map.Entry<Field, ValueResolver<Object>> entry : resolvers.entrySet()) {
+        fields[i] = new FieldSetter<>(entry.getKey());
+        valueResolvers[i] = entry.getValue();
+        staticValues[i] = staticValueOf(entry.getValue());
+        ++i;
+      }
+
+      encodingField = annotatedFieldSetter(DefaultEncoding.class);
+      nameField = annotatedFieldSetter(RefName.class);
+    }
+
+    private FieldSetter<Object, Object> annotatedFieldSetter(Class<? extends Annotation> annotation) {
+      return getReflectionCache().getFieldSetterForAnnotatedField(prototypeClass, annotation).orElse(null);
+    }
+  }
 }
@@ -6,7 +6,6 @@
  */
 package org.mule.runtime.module.extension.internal.runtime.objectbuilder;
 
-import static org.mule.runtime.module.extension.internal.runtime.objectbuilder.ObjectBuilderUtils.createInstance;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.module.extension.internal.runtime.resolver.ResolverSet;
 import org.mule.runtime.module.extension.internal.runtime.resolver.ValueResolvingContext;
@@ -29,7 +28,7 @@ public class DefaultResolverSetBasedObjectBuilder<T> extends ResolverSetBasedObj
 
   @Override
   protected T instantiateObject() {
-    return createInstance(prototypeClass);
+    return getReflectionCache().getInstantiator(prototypeClass).newInstance();
   }
 
 }
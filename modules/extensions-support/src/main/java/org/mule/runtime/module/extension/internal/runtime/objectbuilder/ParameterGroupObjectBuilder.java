@@ -6,20 +6,24 @@
  */
 package org.mule.runtime.module.extension.internal.runtime.objectbuilder;
 
+import static java.lang.String.format;
 import static org.mule.runtime.module.extension.api.util.MuleExtensionUtils.getInitialiserEvent;
 import static org.mule.runtime.module.extension.internal.runtime.resolver.ValueResolvingContext.from;
+import static org.mule.runtime.module.extension.internal.util.IntrospectionUtils.getField;
 
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.privileged.event.BaseEventContext;
 import org.mule.runtime.extension.api.annotation.param.ParameterGroup;
+import org.mule.runtime.module.extension.api.loader.java.type.FieldElement;
 import org.mule.runtime.module.extension.api.runtime.privileged.EventedExecutionContext;
 import org.mule.runtime.module.extension.internal.loader.ParameterGroupDescriptor;
 import org.mule.runtime.module.extension.internal.runtime.resolver.ResolverSetResult;
-import org.mule.runtime.module.extension.internal.runtime.resolver.StaticValueResolver;
 import org.mule.runtime.module.extension.internal.runtime.resolver.ValueResolvingContext;
+import org.mule.runtime.module.extension.internal.util.FieldSetter;
 import org.mule.runtime.module.extension.internal.util.ReflectionCache;
 
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -31,9 +35,8 @@ import java.util.function.Predicate;
  */
 public class ParameterGroupObjectBuilder<T> extends DefaultObjectBuilder<T> {
 
-  private final ParameterGroupDescriptor groupDescriptor;
-
-  private final ReflectionCache reflectionCache;
+  private final String[] parameterNames;
+  private final FieldSetter<Object, Object>[] parameterFields;
 
   /**
    * Create a new instance
@@ -42,18 +45,32 @@ public class ParameterGroupObjectBuilder<T> extends DefaultObjectBuilder<T> {
    * @param reflectionCache the cache for expensive reflection lookups
    */
   public ParameterGroupObjectBuilder(ParameterGroupDescriptor groupDescriptor, ReflectionCache reflectionCache) {
-    super((Class<T>) groupDescriptor.getType().getDeclaringClass().get());
-    this.groupDescriptor = groupDescriptor;
-    this.reflectionCache = reflectionCache;
+    super((Class<T>) groupDescriptor.getType().getDeclaringClass().get(), reflectionCache);
+
+    List<FieldElement> fieldElements = reflectionCache.fieldElementsFor(groupDescriptor);
+    parameterNames = new String[fieldElements.size()];
+    parameterFields = new FieldSetter[fieldElements.size()];
+    for (int i = 0; i < parameterNames.length; ++i) {
+      String name = fieldElements.get(i).getName();
+      parameterNames[i] = name;
+      parameterFields[i] = new FieldSetter<>(getField(prototypeClass, name, reflectionCache)
+          .orElseThrow(() -> new IllegalArgumentException(format("Class '%s' does not contain property '%s'",
+                                                                 prototypeClass.getName(), name))));
+    }
   }
 
   public T build(EventedExecutionContext executionContext) throws MuleException {
     return doBuild(executionContext::hasParameter, executionContext::getParameter,
-                   from(executionContext.getEvent(), executionContext.getConfiguration()));
+                   hasPropertyResolvers() ? from(executionContext.getEvent(), executionContext.getConfiguration()) : null);
   }
 
   public T build(ResolverSetResult result) throws MuleException {
     final Map<String, Object> resultMap = result.asMap();
+    if (!hasPropertyResolvers()) {
+      // Nothing to resolve, so there is no need for an event
+      return doBuild(resultMap::containsKey, resultMap::get, null);
+    }
+
     CoreEvent initialiserEvent = null;
     try {
       initialiserEvent = getInitialiserEvent();
@@ -67,13 +84,18 @@ public class ParameterGroupObjectBuilder<T> extends DefaultObjectBuilder<T> {
 
   private T doBuild(Predicate<String> hasParameter, Function<String, Object> parameters, ValueResolvingContext context)
       throws MuleException {
-    reflectionCache.fieldElementsFor(groupDescriptor).forEach(field -> {
-      String name = field.getName();
+    FieldSetter<Object, Object>[] fields = new FieldSetter[parameterNames.length];
+    Object[] values = new Object[parameterNames.length];
+    int count = 0;
+    for (int i = 0; i < parameterNames.length; ++i) {
+      String name = parameterNames[i];
       if (hasParameter.test(name)) {
-        addPropertyResolver(name, new StaticValueResolver<>(parameters.apply(name)));
+        fields[count] = parameterFields[i];
+        values[count] = parameters.apply(name);
+        ++count;
       }
-    });
+    }
 
-    return build(context);
+    return build(context, fields, values, count);
   }
 }
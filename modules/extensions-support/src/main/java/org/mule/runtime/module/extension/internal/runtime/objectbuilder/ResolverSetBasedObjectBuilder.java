@@ -27,8 +27,6 @@ import org.mule.runtime.module.extension.internal.util.ReflectionCache;
 import org.mule.runtime.module.extension.internal.util.SingleValueSetter;
 import org.mule.runtime.module.extension.internal.util.ValueSetter;
 
-import com.google.common.collect.ImmutableList;
-
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -46,8 +44,8 @@ import javax.inject.Inject;
 public abstract class ResolverSetBasedObjectBuilder<T> implements ObjectBuilder<T>, Initialisable {
 
   protected final ResolverSet resolverSet;
-  private final List<ValueSetter> singleValueSetters;
-  private final List<ValueSetter> groupValueSetters;
+  private final ValueSetter[] singleValueSetters;
+  private final ValueSetter[] groupValueSetters;
   private final ConcurrentMap<Class<?>, Optional<FieldSetter>> encodingFieldSetter = new ConcurrentHashMap<>();
 
   @Inject
@@ -62,8 +60,10 @@ public abstract class ResolverSetBasedObjectBuilder<T> implements ObjectBuilder<
 
   public ResolverSetBasedObjectBuilder(Class<?> prototypeClass, ParameterizedModel model, ResolverSet resolverSet) {
     this.resolverSet = resolverSet;
-    singleValueSetters = createSingleValueSetters(prototypeClass, resolverSet);
-    groupValueSetters = model != null ? GroupValueSetter.settersFor(model, () -> getReflectionCache()) : ImmutableList.of();
+    singleValueSetters = createSingleValueSetters(prototypeClass, resolverSet).toArray(new ValueSetter[0]);
+    groupValueSetters = model != null
+        ? GroupValueSetter.settersFor(model, () -> getReflectionCache()).toArray(new ValueSetter[0])
+        : new ValueSetter[0];
   }
 
   /**
@@ -106,7 +106,7 @@ public abstract class ResolverSetBasedObjectBuilder<T> implements ObjectBuilder<
     }).filter(Optional::isPresent).map(Optional::get).collect(toImmutableList());
   }
 
-  private void setValues(Object target, ResolverSetResult result, List<ValueSetter> setters) throws MuleException {
+  private void setValues(Object target, ResolverSetResult result, ValueSetter[] setters) throws MuleException {
     for (ValueSetter setter : setters) {
       setter.set(target, result);
     }
@@ -55,6 +55,18 @@ public class HashedResolverSetResult extends ResolverSetResult {
     public ResolverSetResult build() {
       return new HashedResolverSetResult(unmodifiableMap(values), hashCode);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ResolverSetResult build(ParameterValuesMap values) {
+      int hashCode = 1;
+      for (Object value : values.values()) {
+        hashCode = calculateValueHash(hashCode, value);
+      }
+      return new HashedResolverSetResult(values, hashCode, false);
+    }
   }
 
   public static Builder newBuilder() {
@@ -62,7 +74,11 @@ public class HashedResolverSetResult extends ResolverSetResult {
   }
 
   private HashedResolverSetResult(Map<String, Object> evaluationResult, int hashCode) {
-    super(evaluationResult);
+    this(evaluationResult, hashCode, true);
+  }
+
+  private HashedResolverSetResult(Map<String, Object> evaluationResult, int hashCode, boolean copy) {
+    super(evaluationResult, copy);
     this.hashCode = hashCode;
   }
 
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.runtime.resolver;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A {@link Map} of parameter values backed by an array, with the keys and their positions shared by all the instances created
+ * from the same {@link ResolverSet}.
+ * <p>
+ * Putting a value for a known key writes into the array. Adding new keys or removing any switches the instance to a regular
+ * {@link LinkedHashMap} copy.
+ *
+ * @since 4.2
+ */
+final class ParameterValuesMap extends AbstractMap<String, Object> {
+
+  private final String[] keys;
+  private final Map<String, Integer> positions;
+  private final Object[] values;
+  private Map<String, Object> copy;
+
+  /**
+   * Creates a new instance
+   *
+   * @param keys the keys of the map, in iteration order
+   * @param positions the position in {@code keys} of each key
+   * @param values the value for each key. This array is owned by the new instance.
+   */
+  ParameterValuesMap(String[] keys, Map<String, Integer> positions, Object[] values) {
+    this.keys = keys;
+    this.positions = positions;
+    this.values = values;
+  }
+
+  @Override
+  public int size() {
+    return copy != null ? copy.size() : keys.length;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return copy != null ? copy.containsKey(key) : positions.containsKey(key);
+  }
+
+  @Override
+  public Object get(Object key) {
+    if (copy != null) {
+      return copy.get(key);
+    }
+    Integer position = positions.get(key);
+    return position != null ? values[position] : null;
+  }
+
+  @Override
+  public Object put(String key, Object value) {
+    if (copy == null) {
+      Integer position = positions.get(key);
+      if (position != null) {
+        Object previous = values[position];
+        values[position] = value;
+        return previous;
+      }
+      copy = new LinkedHashMap<>(this);
+    }
+    return copy.put(key, value);
+  }
+
+  @Override
+  public Object remove(Object key) {
+    if (copy == null) {
+      copy = new LinkedHashMap<>(this);
+    }
+    return copy.remove(key);
+  }
+
+  @Override
+  public void clear() {
+    copy = new LinkedHashMap<>();
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    return new AbstractSet<Entry<String, Object>>() {
+
+      @Override
+      public Iterator<Entry<String, Object>> iterator() {
+        return copy != null ? copy.entrySet().iterator() : new EntryIterator();
+      }
+
+      @Override
+      public int size() {
+        return ParameterValuesMap.this.size();
+      }
+    };
+  }
+
+  private final class EntryIterator implements Iterator<Entry<String, Object>> {
+
+    private int next = 0;
+
+    @Override
+    public boolean hasNext() {
+      return next < keys.length;
+    }
+
+    @Override
+    public Entry<String, Object> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      final int position = next++;
+      return new SimpleEntry<String, Object>(keys[position], values[position]) {
+
+        @Override
+        public Object setValue(Object value) {
+          values[position] = value;
+          return super.setValue(value);
+        }
+      };
+    }
+  }
+}
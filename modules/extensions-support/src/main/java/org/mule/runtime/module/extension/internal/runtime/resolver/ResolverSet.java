@@ -13,12 +13,18 @@ import static org.mule.runtime.module.extension.internal.runtime.resolver.Resolv
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.lifecycle.Initialisable;
 import org.mule.runtime.api.lifecycle.InitialisationException;
+import org.mule.runtime.api.metadata.TypedValue;
+import org.mule.runtime.api.streaming.Cursor;
+import org.mule.runtime.api.streaming.CursorProvider;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.module.extension.internal.runtime.objectbuilder.ObjectBuilder;
 
 import com.google.common.collect.ImmutableMap;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -39,6 +45,7 @@ public class ResolverSet implements ValueResolver<ResolverSetResult>, Initialisa
   private Map<String, ValueResolver<?>> resolvers = new LinkedHashMap<>();
   private boolean dynamic = false;
   private final MuleContext muleContext;
+  private volatile Template template;
 
   public ResolverSet(MuleContext muleContext) {
     this.muleContext = muleContext;
@@ -64,6 +71,7 @@ public class ResolverSet implements ValueResolver<ResolverSetResult>, Initialisa
     if (!dynamic && resolver.isDynamic()) {
       dynamic = true;
     }
+    template = null;
     return this;
   }
 
@@ -95,6 +103,9 @@ public class ResolverSet implements ValueResolver<ResolverSetResult>, Initialisa
 
   /**
    * Evaluates all the added {@link ValueResolver}s and returns the results into a {@link ResolverSetResult}
+   * <p>
+   * Values that are the same on every evaluation are only resolved the first time, so afterwards only the remaining
+   * {@link ValueResolver}s are evaluated.
    *
    * @param context a not {@code null} {@link ValueResolvingContext}
    * @return a {@link ResolverSetResult}
@@ -102,13 +113,82 @@ public class ResolverSet implements ValueResolver<ResolverSetResult>, Initialisa
    */
   @Override
   public ResolverSetResult resolve(ValueResolvingContext context) throws MuleException {
-    ResolverSetResult.Builder builder = getResolverSetBuilder();
+    Template template = this.template;
+    if (template == null) {
+      template = new Template(resolvers, context);
+      this.template = template;
+    }
 
-    for (Map.Entry<String, ValueResolver<?>> entry : resolvers.entrySet()) {
-      builder.add(entry.getKey(), resolveValue(entry.getValue(), context));
+    Object[] values = template.staticValues.clone();
+    for (int i = 0; i < template.resolverPositions.length; ++i) {
+      values[template.resolverPositions[i]] = resolveValue(template.resolvers[i], context);
     }
 
-    return builder.build();
+    return getResolverSetBuilder().build(new ParameterValuesMap(template.keys, template.positions, values));
+  }
+
+  /**
+   * Whether the value of the given {@code resolver} can be resolved once and then shared by every evaluation.
+   */
+  private static boolean isStatic(ValueResolver<?> resolver) {
+    return resolver instanceof StaticValueResolver
+        || resolver instanceof StaticLiteralValueResolver
+        // Already caches its value when not dynamic
+        || (resolver instanceof TypeSafeValueResolverWrapper && !resolver.isDynamic());
+  }
+
+  /**
+   * Values resolved by {@link ResolverUtils#resolveValue(ValueResolver, ValueResolvingContext)} into something other than
+   * themselves, such as a new {@link Cursor}, have to be resolved on each evaluation.
+   */
+  private static boolean isShareable(Object value) {
+    return !(value instanceof ValueResolver || value instanceof CursorProvider || value instanceof TypedValue);
+  }
+
+  /**
+   * The keys of a {@link ResolverSet} in a flat array, with the values of the static {@link ValueResolver}s already resolved and
+   * the positions of the values to resolve on each evaluation.
+   */
+  private static final class Template {
+
+    private final String[] keys;
+    private final Map<String, Integer> positions;
+    private final Object[] staticValues;
+    private final int[] resolverPositions;
+    private final ValueResolver<?>[] resolvers;
+
+    private Template(Map<String, ValueResolver<?>> resolverMap, ValueResolvingContext context) throws MuleException {
+      keys = new String[resolverMap.size()];
+      positions = new HashMap<>(resolverMap.size() * 2);
+      staticValues = new Object[keys.length];
+
+      List<Integer> dynamicPositions = new ArrayList<>(keys.length);
+      List<ValueResolver<?>> dynamicResolvers = new ArrayList<>(keys.length);
+      int position = 0;
+      for (Map.Entry<String, ValueResolver<?>> entry : resolverMap.entrySet()) {
+        keys[position] = entry.getKey();
+        positions.put(entry.getKey(), position);
+
+        ValueResolver<?> resolver = entry.getValue();
+        Object value = null;
+        boolean shared = false;
+        if (isStatic(resolver)) {
+          value = resolver.resolve(context);
+          shared = isShareable(value);
+        }
+
+        if (shared) {
+          staticValues[position] = value;
+        } else {
+          dynamicPositions.add(position);
+          dynamicResolvers.add(resolver);
+        }
+        ++position;
+      }
+
+      resolverPositions = dynamicPositions.stream().mapToInt(Integer::intValue).toArray();
+      resolvers = dynamicResolvers.toArray(new ValueResolver<?>[dynamicResolvers.size()]);
+    }
   }
 
   /**
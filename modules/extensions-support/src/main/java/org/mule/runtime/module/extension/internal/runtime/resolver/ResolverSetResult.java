@@ -60,6 +60,16 @@ public class ResolverSetResult {
     public ResolverSetResult build() {
       return new ResolverSetResult(unmodifiableMap(values));
     }
+
+    /**
+     * Creates a new {@link ResolverSetResult} with the given {@code values} instead of the ones added to this builder.
+     *
+     * @param values the values of the result, which are not copied
+     * @return the build instance
+     */
+    ResolverSetResult build(ParameterValuesMap values) {
+      return new ResolverSetResult(values, false);
+    }
   }
 
   /**
@@ -74,7 +84,11 @@ public class ResolverSetResult {
   private final Map<String, Object> evaluationResult;
 
   ResolverSetResult(Map<String, Object> evaluationResult) {
-    this.evaluationResult = new HashMap<>(evaluationResult);
+    this(evaluationResult, true);
+  }
+
+  ResolverSetResult(Map<String, Object> evaluationResult, boolean copy) {
+    this.evaluationResult = copy ? new HashMap<>(evaluationResult) : evaluationResult;
   }
 
   /**
@@ -9,9 +9,11 @@ package org.mule.runtime.module.extension.internal.runtime.source.poll;
 import static java.lang.String.format;
 import static java.util.Comparator.naturalOrder;
 import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toList;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 import static org.mule.runtime.api.store.ObjectStoreSettings.unmanagedPersistent;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
+import static org.mule.runtime.core.internal.store.BulkObjectStoreUtils.storeAll;
 import static org.mule.runtime.extension.api.runtime.source.PollContext.PollItemStatus.ACCEPTED;
 import static org.mule.runtime.extension.api.runtime.source.PollContext.PollItemStatus.ALREADY_IN_PROCESS;
 import static org.mule.runtime.extension.api.runtime.source.PollContext.PollItemStatus.FILTERED_BY_WATERMARK;
@@ -25,6 +27,8 @@ import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.api.lock.LockFactory;
 import org.mule.runtime.api.scheduler.SchedulerConfig;
 import org.mule.runtime.api.scheduler.SchedulerService;
+import org.mule.runtime.api.store.ObjectAlreadyExistsException;
+import org.mule.runtime.api.store.ObjectDoesNotExistException;
 import org.mule.runtime.api.store.ObjectStore;
 import org.mule.runtime.api.store.ObjectStoreException;
 import org.mule.runtime.api.store.ObjectStoreManager;
@@ -42,7 +46,9 @@ import org.mule.runtime.extension.api.runtime.source.SourceCallbackContext;
 import org.mule.runtime.module.extension.internal.runtime.source.SourceWrapper;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -166,14 +172,23 @@ public class PollingSourceWrapper<T, A> extends SourceWrapper<T, A> {
 
     withWatermarkLock(() -> {
       DefaultPollContext pollContext = new DefaultPollContext(sourceCallback, getCurrentWatermark());
+      boolean pollCompleted = false;
       try {
         delegate.poll(pollContext);
-        pollContext.getUpdatedWatermark().ifPresent(w -> updateWatermark(w, pollContext.getWatermarkComparator()));
+        pollCompleted = true;
       } catch (Throwable t) {
         LOGGER.error(format("Found exception trying to process item on source at flow '%s'. %s",
                             flowName, t.getMessage()),
                      t);
       }
+
+      try {
+        pollContext.complete(pollCompleted);
+      } catch (Throwable t) {
+        LOGGER.error(format("Found exception trying to update the watermark status of source at flow '%s'. %s",
+                            flowName, t.getMessage()),
+                     t);
+      }
     });
   }
 
@@ -195,10 +210,15 @@ public class PollingSourceWrapper<T, A> extends SourceWrapper<T, A> {
   private class DefaultPollContext implements PollContext<T, A> {
 
     private final SourceCallback<T, A> sourceCallback;
-    private Serializable currentWatermark;
+    private final Serializable currentWatermark;
     private Serializable updatedWatermark = null;
     private Comparator<Serializable> watermarkComparator = null;
 
+    /**
+     * The ids of the items accepted during this poll, mapped to their watermark
+     */
+    private final Map<String, Serializable> acceptedIds = new LinkedHashMap<>();
+
     private DefaultPollContext(SourceCallback<T, A> sourceCallback, Serializable currentWatermark) {
       this.sourceCallback = sourceCallback;
       this.currentWatermark = currentWatermark;
@@ -213,20 +233,22 @@ public class PollingSourceWrapper<T, A> extends SourceWrapper<T, A> {
 
       pollItem.validate();
 
-      PollItemStatus status;
-      if (!acquireItem(pollItem, callbackContext)) {
-        status = ALREADY_IN_PROCESS;
-      } else if (!passesWatermark(pollItem)) {
-        status = FILTERED_BY_WATERMARK;
-      } else if (isRequestedToStop()) {
-        status = SOURCE_STOPPING;
-      } else {
-        sourceCallback.handle(pollItem.getResult(), callbackContext);
-        status = ACCEPTED;
-      }
-
-      if (status != ACCEPTED) {
-        release(pollItem.getResult(), callbackContext);
+      PollItemStatus status = null;
+      try {
+        if (!acquireItem(pollItem, callbackContext)) {
+          status = ALREADY_IN_PROCESS;
+        } else if (!passesWatermark(pollItem)) {
+          status = FILTERED_BY_WATERMARK;
+        } else if (isRequestedToStop()) {
+          status = SOURCE_STOPPING;
+        } else {
+          sourceCallback.handle(pollItem.getResult(), callbackContext);
+          status = ACCEPTED;
+        }
+      } finally {
+        if (status != ACCEPTED) {
+          release(pollItem.getResult(), callbackContext);
+        }
       }
 
       return status;
@@ -253,12 +275,44 @@ public class PollingSourceWrapper<T, A> extends SourceWrapper<T, A> {
       sourceCallback.onConnectionException(e);
     }
 
-    private Optional<Serializable> getUpdatedWatermark() {
-      return ofNullable(updatedWatermark);
+    /**
+     * Persists the outcome of this poll. The watermark is only updated if the poll completed successfully, but the ids of the
+     * accepted items which share the resulting watermark are always recorded, since those items were already dispatched.
+     *
+     * @param pollCompleted whether the delegate's poll finished without errors
+     */
+    private void complete(boolean pollCompleted) {
+      Serializable effectiveWatermark = currentWatermark;
+      if (pollCompleted && updatedWatermark != null
+          && (currentWatermark == null || compareWatermarks(currentWatermark, updatedWatermark, watermarkComparator) < 0)) {
+        updateWatermark(updatedWatermark, currentWatermark != null);
+        effectiveWatermark = updatedWatermark;
+      }
+
+      if (effectiveWatermark == null || acceptedIds.isEmpty()) {
+        return;
+      }
+
+      final Serializable watermark = effectiveWatermark;
+      recordProcessedIds(acceptedIds.entrySet().stream()
+          .filter(entry -> compareWatermarks(watermark, entry.getValue(), watermarkComparator) == 0)
+          .map(Map.Entry::getKey)
+          .collect(toList()));
     }
 
-    private Comparator<Serializable> getWatermarkComparator() {
-      return watermarkComparator;
+    private boolean wasRecentlyProcessed(String itemId) {
+      if (acceptedIds.containsKey(itemId)) {
+        return true;
+      }
+
+      try {
+        return recentlyProcessedIds.contains(itemId);
+      } catch (ObjectStoreException e) {
+        throw new MuleRuntimeException(
+                                       createStaticMessage("An error occurred while checking the watermark status for Item with ID [%s]",
+                                                           itemId),
+                                       e);
+      }
     }
 
     private boolean passesWatermark(DefaultPollItem pollItem) {
@@ -269,38 +323,22 @@ public class PollingSourceWrapper<T, A> extends SourceWrapper<T, A> {
       String itemId = pollItem.getItemId().orElse(null);
 
       boolean accept = true;
-      int compare;
-      if (currentWatermark == null && updatedWatermark == null) {
-        updatedWatermark = itemWatermark;
-      } else {
-        Serializable actingWatermark = currentWatermark != null ? currentWatermark : updatedWatermark;
-        compare = compareWatermarks(actingWatermark, itemWatermark, watermarkComparator);
-        if (compare < 0) {
-          updatedWatermark = itemWatermark;
-        } else if (compare == 0 && pollItem.getItemId().isPresent()) {
-          try {
-            accept = !recentlyProcessedIds.contains(itemId);
-          } catch (ObjectStoreException e) {
-            throw new MuleRuntimeException(
-                                           createStaticMessage("An error occurred while checking the watermark status for Item with ID [%s]",
-                                                               itemId),
-                                           e);
-          }
-        } else {
+      Serializable actingWatermark = currentWatermark != null ? currentWatermark : updatedWatermark;
+      if (actingWatermark != null) {
+        int compare = compareWatermarks(actingWatermark, itemWatermark, watermarkComparator);
+        if (compare == 0 && itemId != null) {
+          accept = !wasRecentlyProcessed(itemId);
+        } else if (compare >= 0) {
           accept = false;
         }
       }
 
       if (accept) {
-        try {
-          if (itemId != null && !recentlyProcessedIds.contains(itemId)) {
-            recentlyProcessedIds.store(itemId, itemId);
-          }
-        } catch (ObjectStoreException e) {
-          throw new MuleRuntimeException(
-                                         createStaticMessage("An error occurred while updating the watermark for Item with ID [%s]",
-                                                             itemId),
-                                         e);
+        if (updatedWatermark == null || compareWatermarks(updatedWatermark, itemWatermark, watermarkComparator) < 0) {
+          updatedWatermark = itemWatermark;
+        }
+        if (itemId != null) {
+          acceptedIds.put(itemId, itemWatermark);
         }
       } else {
         if (LOGGER.isDebugEnabled()) {
@@ -400,13 +438,17 @@ public class PollingSourceWrapper<T, A> extends SourceWrapper<T, A> {
     return lockFactory.createLock(formatKey("watermark"));
   }
 
-  private void updateWatermark(Serializable value, Comparator comparator) {
+  /**
+   * Stores the given {@code value} as the new watermark. This is only invoked while holding the watermark lock and with a value
+   * already known to be greater than the one read when the poll started, so there's no need to fetch and compare the stored
+   * value again.
+   *
+   * @param value           the new watermark
+   * @param replaceExisting whether there's a previous watermark which needs to be replaced
+   */
+  private void updateWatermark(Serializable value, boolean replaceExisting) {
     try {
-      if (watermarkObjectStore.contains(WATERMARK_OS_KEY)) {
-        Serializable currentValue = watermarkObjectStore.retrieve(WATERMARK_OS_KEY);
-        if (compareWatermarks(currentValue, value, comparator) >= 0) {
-          return;
-        }
+      if (replaceExisting) {
         watermarkObjectStore.remove(WATERMARK_OS_KEY);
         recentlyProcessedIds.clear();
       }
@@ -420,13 +462,24 @@ public class PollingSourceWrapper<T, A> extends SourceWrapper<T, A> {
     }
   }
 
+  private void recordProcessedIds(Collection<String> ids) {
+    Map<String, Serializable> entries = new LinkedHashMap<>();
+    ids.forEach(id -> entries.put(id, id));
+    try {
+      storeAll(recentlyProcessedIds, entries);
+    } catch (ObjectStoreException e) {
+      throw new MuleRuntimeException(
+                                     createStaticMessage("An error occurred while updating the watermark for Items with IDs %s",
+                                                         ids),
+                                     e);
+    }
+  }
+
   private Serializable getCurrentWatermark() {
     try {
-      if (watermarkObjectStore.contains(WATERMARK_OS_KEY)) {
-        return watermarkObjectStore.retrieve(WATERMARK_OS_KEY);
-      } else {
-        return null;
-      }
+      return watermarkObjectStore.retrieve(WATERMARK_OS_KEY);
+    } catch (ObjectDoesNotExistException e) {
+      return null;
     } catch (ObjectStoreException e) {
       throw new MuleRuntimeException(
                                      createStaticMessage(format("Failed to fetch watermark for Message source at location '%s'. %s",
@@ -451,26 +504,22 @@ public class PollingSourceWrapper<T, A> extends SourceWrapper<T, A> {
     }
 
     try {
-      if (inflightIdsObjectStore.contains(id)) {
-        if (LOGGER.isDebugEnabled()) {
-          LOGGER.debug("Source at flow '{}' polled item '{}', but skipping it since it is already being processed in another "
-              + "thread or node", flowName, id);
-        }
-        lock.unlock();
-        return false;
-      } else {
-        try {
-          inflightIdsObjectStore.store(id, id);
-          callbackContext.addVariable(ITEM_RELEASER_CTX_VAR, new ItemReleaser(id, lock));
-          return true;
-        } catch (ObjectStoreException e) {
-          lock.unlock();
-          LOGGER.error(format("Flow at source '%s' could not track item '%s' as being processed. %s",
-                              flowName, id, e.getMessage()),
-                       e);
-          return false;
-        }
+      inflightIdsObjectStore.store(id, id);
+      callbackContext.addVariable(ITEM_RELEASER_CTX_VAR, new ItemReleaser(id, lock));
+      return true;
+    } catch (ObjectAlreadyExistsException e) {
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("Source at flow '{}' polled item '{}', but skipping it since it is already being processed in another "
+            + "thread or node", flowName, id);
       }
+      lock.unlock();
+      return false;
+    } catch (ObjectStoreException e) {
+      lock.unlock();
+      LOGGER.error(format("Flow at source '%s' could not track item '%s' as being processed. %s",
+                          flowName, id, e.getMessage()),
+                   e);
+      return false;
     } catch (Exception e) {
       lock.unlock();
       LOGGER.error(format("Could not guarantee idempotency for item '%s' for source at flow '%s'. '%s",
@@ -502,9 +551,9 @@ public class PollingSourceWrapper<T, A> extends SourceWrapper<T, A> {
 
     private void release() {
       try {
-        if (inflightIdsObjectStore.contains(id)) {
-          inflightIdsObjectStore.remove(id);
-        }
+        inflightIdsObjectStore.remove(id);
+      } catch (ObjectDoesNotExistException e) {
+        // already expired, nothing to do
       } catch (ObjectStoreException e) {
         LOGGER.error(format("Could not untrack item '%s' in source at flow '%s'. %s", id, flowName, e.getMessage()), e);
       } finally {
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.util;
+
+import static java.lang.reflect.Modifier.isPublic;
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.core.api.util.ClassUtils.withContextClassLoader;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.core.internal.util.CompositeClassLoader;
+
+import net.sf.cglib.reflect.FastClass;
+import org.slf4j.Logger;
+
+/**
+ * Creates instances of a given type through its default constructor.
+ * <p>
+ * For public types, a {@link FastClass} is generated so that each instance is created by a direct constructor call. Types for
+ * which that is not possible are instantiated reflectively.
+ * <p>
+ * Instances are obtained through {@link #of(Class)}, which shares one instantiator per type so that the {@link FastClass} of a
+ * type is generated only once, no matter how many builders or caches request it.
+ *
+ * @param <T> the generic type of the instances to create
+ * @since 4.2
+ */
+public final class ObjectInstantiator<T> {
+
+  private static final Logger LOGGER = getLogger(ObjectInstantiator.class);
+  private static final Class[] NO_ARGUMENT_TYPES = new Class[0];
+  private static final Object[] NO_ARGUMENTS = new Object[0];
+
+  private static final ClassValue<ObjectInstantiator<?>> INSTANTIATORS = new ClassValue<ObjectInstantiator<?>>() {
+
+    @Override
+    protected ObjectInstantiator<?> computeValue(Class<?> type) {
+      return new ObjectInstantiator<>(type);
+    }
+  };
+
+  private final Class<T> type;
+  private final FastClass fastClass;
+  private final int constructorIndex;
+
+  /**
+   * Returns the instantiator for the given {@code type}, creating it the first time it is requested.
+   *
+   * @param type the type to instantiate, which needs to have a public default constructor
+   * @return the instantiator for {@code type}
+   */
+  public static <T> ObjectInstantiator<T> of(Class<T> type) {
+    return (ObjectInstantiator<T>) INSTANTIATORS.get(type);
+  }
+
+  private ObjectInstantiator(Class<T> type) {
+    this.type = type;
+    fastClass = createFastClass(type);
+    constructorIndex = fastClass != null ? fastClass.getIndex(NO_ARGUMENT_TYPES) : -1;
+  }
+
+  private static FastClass createFastClass(Class<?> type) {
+    if (!isAccessible(type)) {
+      return null;
+    }
+
+    try {
+      FastClass.Generator generator = new FastClass.Generator();
+      generator.setType(type);
+      if (FastClass.class.getClassLoader() != type.getClassLoader()) {
+        generator.setClassLoader(new CompositeClassLoader(ObjectInstantiator.class.getClassLoader(), type.getClassLoader()));
+        generator.setUseCache(false);
+      }
+      return generator.create();
+    } catch (Exception | LinkageError e) {
+      LOGGER.debug("Could not generate instantiator for class {}, it will be instantiated reflectively", type.getName(), e);
+      return null;
+    }
+  }
+
+  private static boolean isAccessible(Class<?> type) {
+    // The generated class may be defined by another class loader, in which case it can only access public classes
+    for (Class<?> current = type; current != null; current = current.getEnclosingClass()) {
+      if (!isPublic(current.getModifiers())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Creates a new instance, using the {@link ClassLoader} of the type as the context class loader.
+   *
+   * @return a new instance
+   */
+  public T newInstance() {
+    try {
+      return withContextClassLoader(type.getClassLoader(), () -> constructorIndex != -1
+          ? (T) fastClass.newInstance(constructorIndex, NO_ARGUMENTS)
+          : type.newInstance());
+    } catch (Exception e) {
+      throw new MuleRuntimeException(createStaticMessage("Could not create instance of " + type), e);
+    }
+  }
+
+  /**
+   * @return the type of the instances created by this instantiator
+   */
+  public Class<T> getType() {
+    return type;
+  }
+}
@@ -51,6 +51,10 @@ public class ReflectionCache {
   }
 
   public Optional<FieldSetter> getFieldSetterForAnnotatedField(Object target, Class<? extends Annotation> annotationClass) {
+    return getFieldSetterForAnnotatedField(target.getClass(), annotationClass);
+  }
+
+  public Optional<FieldSetter> getFieldSetterForAnnotatedField(Class<?> type, Class<? extends Annotation> annotationClass) {
     ConcurrentMap<Class<?>, Optional<FieldSetter>> cache = fieldSetterForAnnotatedField.get(annotationClass);
     // This pre-check is made in order to avoid the synchronized block in the implementation of ConcurrentHashMap
     // (https://bugs.openjdk.java.net/browse/JDK-8161372)
@@ -58,7 +62,6 @@ public class ReflectionCache {
       cache = fieldSetterForAnnotatedField.computeIfAbsent(annotationClass, k -> new ConcurrentHashMap<>());
     }
 
-    final Class<?> type = target.getClass();
     Optional<FieldSetter> setter = cache.get(type);
     // This pre-check is made in order to avoid the synchronized block in the implementation of ConcurrentHashMap
     // (https://bugs.openjdk.java.net/browse/JDK-8161372)
@@ -114,4 +117,11 @@ public class ReflectionCache {
     return value;
   }
 
+  /**
+   * Instantiators are shared by all the caches, since short lived caches are created for one shot object builders.
+   */
+  public <T> ObjectInstantiator<T> getInstantiator(Class<T> clazz) {
+    return ObjectInstantiator.of(clazz);
+  }
+
 }
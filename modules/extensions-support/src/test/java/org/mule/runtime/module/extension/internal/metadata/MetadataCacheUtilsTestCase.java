@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.metadata;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.module.extension.internal.metadata.MetadataCacheUtils.configurationFingerprint;
+
+import org.mule.runtime.api.meta.model.config.ConfigurationModel;
+import org.mule.runtime.extension.api.runtime.config.ConfigurationInstance;
+import org.mule.runtime.extension.api.runtime.config.ConfigurationState;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+@SmallTest
+public class MetadataCacheUtilsTestCase extends AbstractMuleTestCase {
+
+  @Test
+  public void sameParametersSameFingerprint() {
+    assertThat(fingerprint(connection("localhost", 8080)), equalTo(fingerprint(connection("localhost", 8080))));
+  }
+
+  @Test
+  public void parameterChangesFingerprint() {
+    assertThat(fingerprint(connection("localhost", 8080)), not(equalTo(fingerprint(connection("localhost", 8081)))));
+  }
+
+  @Test
+  public void nestedCollectionChangesFingerprint() {
+    assertThat(fingerprint(parameter("hosts", asList("a", "b"))),
+               not(equalTo(fingerprint(parameter("hosts", asList("a", "c"))))));
+  }
+
+  @Test
+  public void mapOrderDoesNotMatter() {
+    Map<String, Object> headers = new LinkedHashMap<>();
+    headers.put("a", "1");
+    headers.put("b", "2");
+    Map<String, Object> reversed = new LinkedHashMap<>();
+    reversed.put("b", "2");
+    reversed.put("a", "1");
+
+    assertThat(fingerprint(parameter("headers", headers)), equalTo(fingerprint(parameter("headers", reversed))));
+  }
+
+  @Test
+  public void objectValueHasNoFingerprint() {
+    assertThat(fingerprint(parameter("settings", new Object())), is(nullValue()));
+  }
+
+  @Test
+  public void nestedObjectValueHasNoFingerprint() {
+    assertThat(fingerprint(parameter("settings", asList("a", new Object()))), is(nullValue()));
+  }
+
+  @Test
+  public void selfReferencingValueHasNoFingerprint() {
+    List<Object> values = new ArrayList<>();
+    values.add(values);
+
+    assertThat(fingerprint(parameter("values", values)), is(nullValue()));
+  }
+
+  private static Map<String, Object> parameter(String name, Object value) {
+    return singletonMap(name, value);
+  }
+
+  private static Map<String, Object> connection(String host, int port) {
+    Map<String, Object> connection = new HashMap<>();
+    connection.put("host", host);
+    connection.put("port", port);
+    return connection;
+  }
+
+  private static String fingerprint(Map<String, Object> connectionParameters) {
+    ConfigurationModel model = mock(ConfigurationModel.class);
+    when(model.getName()).thenReturn("config");
+    ConfigurationState state = mock(ConfigurationState.class);
+    when(state.getConfigParameters()).thenReturn(emptyMap());
+    when(state.getConnectionParameters()).thenReturn(connectionParameters);
+
+    ConfigurationInstance configuration = mock(ConfigurationInstance.class);
+    when(configuration.getName()).thenReturn("myConfig");
+    when(configuration.getModel()).thenReturn(model);
+    when(configuration.getState()).thenReturn(state);
+    return configurationFingerprint(configuration);
+  }
+}
@@ -7,17 +7,25 @@
 package org.mule.runtime.module.extension.internal.runtime;
 
 import static java.util.Optional.empty;
+import static org.apache.commons.lang3.reflect.FieldUtils.writeField;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 import static org.mule.runtime.module.extension.internal.util.IntrospectionUtils.getField;
 
+import org.mule.runtime.api.lifecycle.Initialisable;
+import org.mule.runtime.core.api.Injector;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.internal.message.InternalMessage;
 import org.mule.runtime.module.extension.internal.runtime.objectbuilder.DefaultObjectBuilder;
+import org.mule.runtime.module.extension.internal.runtime.resolver.StaticValueResolver;
 import org.mule.runtime.module.extension.internal.runtime.resolver.ValueResolver;
 import org.mule.runtime.module.extension.internal.runtime.resolver.ValueResolvingContext;
 import org.mule.runtime.module.extension.internal.util.ReflectionCache;
@@ -76,7 +84,7 @@ public class DefaultObjectBuilderTestCase extends AbstractMuleTestCase {
   public void build() throws Exception {
     populate(false);
     PersonalInfo personalInfo = builder.build(resolvingContext);
-    verify(personalInfo);
+    assertPersonalInfo(personalInfo);
   }
 
   @Test
@@ -88,12 +96,41 @@ public class DefaultObjectBuilderTestCase extends AbstractMuleTestCase {
 
     assertThat(info1, is(not(sameInstance(info2))));
     assertThat(info1, is(not(sameInstance(info3))));
-    verify(info1);
-    verify(info2);
-    verify(info3);
+    assertPersonalInfo(info1);
+    assertPersonalInfo(info2);
+    assertPersonalInfo(info3);
   }
 
-  private void verify(PersonalInfo personalInfo) {
+  @Test
+  public void resolverAddedAfterBuild() throws Exception {
+    builder.addPropertyResolver(nameField.getName(), getResolver(NAME, false));
+    assertThat(builder.build(resolvingContext).getAge(), is(nullValue()));
+
+    builder.addPropertyResolver(ageField.getName(), getResolver(AGE, false));
+    assertPersonalInfo(builder.build(resolvingContext));
+  }
+
+  @Test
+  public void staticValueResolver() throws Exception {
+    builder.addPropertyResolver(nameField.getName(), new StaticValueResolver<>(NAME));
+    builder.addPropertyResolver(ageField.getName(), new StaticValueResolver<>(AGE));
+
+    assertPersonalInfo(builder.build(resolvingContext));
+    assertPersonalInfo(builder.build(resolvingContext));
+  }
+
+  @Test
+  public void initialiseResolvers() throws Exception {
+    ValueResolver resolver = mock(ValueResolver.class, withSettings().extraInterfaces(Initialisable.class));
+    when(muleContext.getInjector()).thenReturn(mock(Injector.class));
+    writeField(builder, "muleContext", muleContext, true);
+    builder.addPropertyResolver(nameField.getName(), resolver);
+
+    builder.initialise();
+    verify((Initialisable) resolver).initialise();
+  }
+
+  private void assertPersonalInfo(PersonalInfo personalInfo) {
     assertThat(personalInfo.getName(), is(NAME));
     assertThat(personalInfo.getAge(), is(AGE));
   }
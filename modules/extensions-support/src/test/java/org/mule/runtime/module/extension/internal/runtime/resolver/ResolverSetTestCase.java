@@ -9,6 +9,10 @@ package org.mule.runtime.module.extension.internal.runtime.resolver;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mule.test.module.extension.internal.util.ExtensionsTestUtils.getParameter;
 import org.mule.runtime.api.lifecycle.Lifecycle;
@@ -100,6 +104,48 @@ public class ResolverSetTestCase extends AbstractMuleTestCase {
     assertThat(set.isDynamic(), is(true));
   }
 
+  @Test
+  public void staticValuesResolvedOnce() throws Exception {
+    ValueResolver dynamicResolver = getResolver(NAME);
+    when(dynamicResolver.isDynamic()).thenReturn(true);
+    StaticValueResolver<Integer> staticResolver = spy(new StaticValueResolver<>(AGE));
+
+    ResolverSet set = new ResolverSet(muleContext);
+    set.add("myName", dynamicResolver);
+    set.add("age", staticResolver);
+
+    for (int i = 0; i < 3; ++i) {
+      ResolverSetResult result = set.resolve(resolvingContext);
+      assertThat(result.get("myName"), is(NAME));
+      assertThat(result.get("age"), is(AGE));
+    }
+
+    verify(staticResolver, times(1)).resolve(any(ValueResolvingContext.class));
+    verify(dynamicResolver, times(3)).resolve(resolvingContext);
+  }
+
+  @Test
+  public void resolvedValuesNotShared() throws Exception {
+    set.add("other", new StaticValueResolver<>("value"));
+    Map<String, Object> first = set.resolve(resolvingContext).asMap();
+    first.put("other", "changed");
+    first.put("new", "value");
+
+    Map<String, Object> second = set.resolve(resolvingContext).asMap();
+    assertThat(second.get("other"), is("value"));
+    assertThat(second.containsKey("new"), is(false));
+    assertThat(first.get("other"), is("changed"));
+    assertThat(first.get("myName"), is(NAME));
+  }
+
+  @Test
+  public void resolverAddedAfterResolve() throws Exception {
+    set.resolve(resolvingContext);
+    set.add("other", new StaticValueResolver<>("value"));
+
+    assertThat(set.resolve(resolvingContext).get("other"), is("value"));
+  }
+
   private void assertResult(ResolverSetResult result, Map<ParameterModel, ValueResolver> mapping) throws Exception {
     assertThat(result, is(notNullValue()));
     for (Map.Entry<ParameterModel, ValueResolver> entry : mapping.entrySet()) {
@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.runtime.source.poll;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static java.util.Optional.ofNullable;
+import static org.apache.commons.lang3.reflect.FieldUtils.writeField;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.endsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.extension.api.runtime.source.PollContext.PollItemStatus.ACCEPTED;
+import static org.mule.runtime.extension.api.runtime.source.PollContext.PollItemStatus.ALREADY_IN_PROCESS;
+import static org.mule.runtime.extension.api.runtime.source.PollContext.PollItemStatus.FILTERED_BY_WATERMARK;
+
+import org.mule.runtime.api.component.location.ComponentLocation;
+import org.mule.runtime.api.lock.LockFactory;
+import org.mule.runtime.api.scheduler.SchedulerConfig;
+import org.mule.runtime.api.scheduler.SchedulerService;
+import org.mule.runtime.api.store.ObjectStore;
+import org.mule.runtime.api.store.ObjectStoreException;
+import org.mule.runtime.api.store.ObjectStoreManager;
+import org.mule.runtime.api.store.ObjectStoreSettings;
+import org.mule.runtime.api.store.SimpleMemoryObjectStore;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.source.scheduler.Scheduler;
+import org.mule.runtime.extension.api.runtime.operation.Result;
+import org.mule.runtime.extension.api.runtime.source.PollContext;
+import org.mule.runtime.extension.api.runtime.source.PollContext.PollItemStatus;
+import org.mule.runtime.extension.api.runtime.source.PollingSource;
+import org.mule.runtime.extension.api.runtime.source.SourceCallback;
+import org.mule.runtime.extension.api.runtime.source.SourceCallbackContext;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import reactor.core.publisher.Mono;
+
+@SmallTest
+public class PollingSourceWrapperTestCase extends AbstractMuleTestCase {
+
+  private final Map<String, ReentrantLock> locks = new HashMap<>();
+  private final Map<String, SourceCallbackContext> handled = new HashMap<>();
+  private final List<String> handledIds = new ArrayList<>();
+
+  private final ObjectStore<Serializable> watermarkStore = new SimpleMemoryObjectStore<>();
+  private final ObjectStore<Serializable> inflightIds = spy(new SimpleMemoryObjectStore<>());
+  private final ObjectStore<Serializable> recentlyProcessedIds = spy(new SimpleMemoryObjectStore<>());
+
+  private final TestPollingSource source = new TestPollingSource();
+  private final Scheduler scheduler = mock(Scheduler.class);
+  private PollingSourceWrapper<String, Void> wrapper;
+  private Runnable poll;
+
+  @Before
+  public void before() throws Exception {
+    LockFactory lockFactory = mock(LockFactory.class);
+    when(lockFactory.createLock(anyString()))
+        .thenAnswer(invocation -> locks.computeIfAbsent((String) invocation.getArguments()[0], key -> new ReentrantLock()));
+
+    ObjectStoreManager objectStoreManager = mock(ObjectStoreManager.class);
+    doReturn(inflightIds).when(objectStoreManager).getOrCreateObjectStore(endsWith("inflight-ids"),
+                                                                          any(ObjectStoreSettings.class));
+    doReturn(recentlyProcessedIds).when(objectStoreManager).getOrCreateObjectStore(endsWith("recently-processed-ids"),
+                                                                                   any(ObjectStoreSettings.class));
+    doReturn(watermarkStore).when(objectStoreManager).getOrCreateObjectStore(endsWith("/watermark"),
+                                                                             any(ObjectStoreSettings.class));
+
+    SchedulerService schedulerService = mock(SchedulerService.class);
+    when(schedulerService.customScheduler(any(SchedulerConfig.class)))
+        .thenReturn(mock(org.mule.runtime.api.scheduler.Scheduler.class));
+
+    ComponentLocation location = mock(ComponentLocation.class);
+    when(location.getRootContainerName()).thenReturn("flow");
+
+    wrapper = new PollingSourceWrapper<>(source, scheduler);
+    writeField(wrapper, "lockFactory", lockFactory, true);
+    writeField(wrapper, "objectStoreManager", objectStoreManager, true);
+    writeField(wrapper, "schedulerService", schedulerService, true);
+    writeField(wrapper, "componentLocation", location, true);
+  }
+
+  @Test
+  public void watermarkTies() throws Exception {
+    start();
+
+    source.items(item("a", 1), item("b", 2), item("c", 2));
+    poll.run();
+    assertThat(source.statuses, contains(ACCEPTED, ACCEPTED, ACCEPTED));
+    assertThat(currentWatermark(), is(2));
+    assertThat(recentlyProcessedIds.allKeys(), containsInAnyOrder("b", "c"));
+
+    source.items(item("b", 2), item("c", 2), item("d", 2), item("e", 3));
+    releaseHandled();
+    poll.run();
+    assertThat(source.statuses, contains(FILTERED_BY_WATERMARK, FILTERED_BY_WATERMARK, ACCEPTED, ACCEPTED));
+    assertThat(handledIds, contains("a", "b", "c", "d", "e"));
+    assertThat(currentWatermark(), is(3));
+    assertThat(recentlyProcessedIds.allKeys(), contains("e"));
+  }
+
+  @Test
+  public void tiesCheckedPerItem() throws Exception {
+    watermarkStore.store("watermark", 1);
+    recentlyProcessedIds.store("a", "a");
+    start();
+
+    source.items(item("a", 1), item("b", 1));
+    poll.run();
+
+    assertThat(source.statuses, contains(FILTERED_BY_WATERMARK, ACCEPTED));
+    verify(recentlyProcessedIds).contains("a");
+    verify(recentlyProcessedIds).contains("b");
+    verify(recentlyProcessedIds, never()).allKeys();
+  }
+
+  @Test
+  public void samePollItemPolledAgain() throws Exception {
+    start();
+
+    source.items(item("a", null), item("a", null));
+    poll.run();
+    assertThat(source.statuses, contains(ACCEPTED, ALREADY_IN_PROCESS));
+    assertThat(source.rejected, contains("a"));
+
+    source.items(item("a", null));
+    poll.run();
+    assertThat(source.statuses, contains(ALREADY_IN_PROCESS));
+    assertThat(handledIds, contains("a"));
+    assertThat(inflightIds.contains("a"), is(true));
+  }
+
+  @Test
+  public void inflightIdReleasedOnTerminate() throws Exception {
+    start();
+
+    source.items(item("a", null));
+    poll.run();
+    assertThat(inflightIds.contains("a"), is(true));
+    assertThat(locks.get("flow/a").isLocked(), is(true));
+
+    Mono.from(wrapper.onTerminate(mock(CoreEvent.class), emptyMap(), handled.get("a"))).block();
+    assertThat(inflightIds.contains("a"), is(false));
+    assertThat(locks.get("flow/a").isLocked(), is(false));
+
+    poll.run();
+    assertThat(source.statuses, contains(ACCEPTED));
+    assertThat(handledIds, contains("a", "a"));
+  }
+
+  @Test
+  public void inflightIdReleasedOnBackPressure() throws Exception {
+    start();
+
+    source.items(item("a", null));
+    poll.run();
+
+    Mono.from(wrapper.onBackPressure(mock(CoreEvent.class), emptyMap(), handled.get("a"))).block();
+    assertThat(inflightIds.contains("a"), is(false));
+    assertThat(locks.get("flow/a").isLocked(), is(false));
+  }
+
+  @Test
+  public void inflightIdReleasedWhenFilteredByWatermark() throws Exception {
+    watermarkStore.store("watermark", 5);
+    start();
+
+    source.items(item("a", 4));
+    poll.run();
+
+    assertThat(source.statuses, contains(FILTERED_BY_WATERMARK));
+    assertThat(source.rejected, contains("a"));
+    assertThat(handledIds, is(empty()));
+    assertThat(inflightIds.contains("a"), is(false));
+    assertThat(locks.get("flow/a").isLocked(), is(false));
+  }
+
+  @Test
+  public void failingRecentlyProcessedStore() throws Exception {
+    watermarkStore.store("watermark", 1);
+    doThrow(new ObjectStoreException()).when(recentlyProcessedIds).contains(anyString());
+    start();
+
+    source.items(item("a", 1), item("b", 2));
+    poll.run();
+
+    assertThat(handledIds, is(empty()));
+    assertThat(source.rejected, contains("a"));
+    assertThat(inflightIds.contains("a"), is(false));
+    assertThat(locks.get("flow/a").isLocked(), is(false));
+    assertThat(currentWatermark(), is(1));
+  }
+
+  @Test
+  public void failingInflightStore() throws Exception {
+    doThrow(new ObjectStoreException()).when(inflightIds).store(anyString(), any(Serializable.class));
+    start();
+
+    source.items(item("a", null));
+    poll.run();
+
+    assertThat(source.statuses, contains(ALREADY_IN_PROCESS));
+    assertThat(source.rejected, contains("a"));
+    assertThat(handledIds, is(empty()));
+    assertThat(locks.get("flow/a").isLocked(), is(false));
+  }
+
+  private void start() throws Exception {
+    SourceCallback<String, Void> sourceCallback = mock(SourceCallback.class);
+    when(sourceCallback.createContext()).thenAnswer(invocation -> callbackContext());
+    doAnswer(invocation -> {
+      String id = ((Result<String, Void>) invocation.getArguments()[0]).getOutput();
+      handledIds.add(id);
+      handled.put(id, (SourceCallbackContext) invocation.getArguments()[1]);
+      return null;
+    }).when(sourceCallback).handle(any(Result.class), any(SourceCallbackContext.class));
+
+    wrapper.onStart(sourceCallback);
+
+    ArgumentCaptor<Runnable> pollCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(scheduler).schedule(any(org.mule.runtime.api.scheduler.Scheduler.class), pollCaptor.capture());
+    poll = pollCaptor.getValue();
+  }
+
+  private Integer currentWatermark() throws ObjectStoreException {
+    return (Integer) watermarkStore.retrieve("watermark");
+  }
+
+  private void releaseHandled() {
+    handled.values().forEach(context -> Mono.from(wrapper.onTerminate(mock(CoreEvent.class), emptyMap(), context)).block());
+  }
+
+  private static SourceCallbackContext callbackContext() {
+    Map<String, Object> variables = new HashMap<>();
+    SourceCallbackContext context = mock(SourceCallbackContext.class);
+    doAnswer(invocation -> variables.put((String) invocation.getArguments()[0], invocation.getArguments()[1]))
+        .when(context).addVariable(anyString(), any());
+    when(context.getVariable(anyString())).thenAnswer(invocation -> ofNullable(variables.get(invocation.getArguments()[0])));
+    return context;
+  }
+
+  private static TestItem item(String id, Integer watermark) {
+    return new TestItem(id, watermark);
+  }
+
+  private static class TestItem {
+
+    private final String id;
+    private final Integer watermark;
+
+    private TestItem(String id, Integer watermark) {
+      this.id = id;
+      this.watermark = watermark;
+    }
+  }
+
+  private static class TestPollingSource extends PollingSource<String, Void> {
+
+    private List<TestItem> items = new ArrayList<>();
+    private final List<PollItemStatus> statuses = new ArrayList<>();
+    private final List<String> rejected = new ArrayList<>();
+
+    private void items(TestItem... items) {
+      this.items = asList(items);
+      statuses.clear();
+      rejected.clear();
+    }
+
+    @Override
+    protected void doStart() {}
+
+    @Override
+    protected void doStop() {}
+
+    @Override
+    public void poll(PollContext<String, Void> pollContext) {
+      statuses.clear();
+      for (TestItem item : items) {
+        statuses.add(pollContext.accept(pollItem -> {
+          pollItem.setResult(Result.<String, Void>builder().output(item.id).build());
+          pollItem.setId(item.id);
+          if (item.watermark != null) {
+            pollItem.setWatermark(item.watermark);
+          }
+        }));
+      }
+    }
+
+    @Override
+    public void onRejectedItem(Result<String, Void> result, SourceCallbackContext context) {
+      rejected.add(result.getOutput());
+    }
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.util;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+import org.mule.test.heisenberg.extension.model.PersonalInfo;
+
+import org.junit.Test;
+
+@SmallTest
+public class ObjectInstantiatorTestCase extends AbstractMuleTestCase {
+
+  @Test
+  public void publicClass() {
+    ObjectInstantiator<PersonalInfo> instantiator = ObjectInstantiator.of(PersonalInfo.class);
+    PersonalInfo info = instantiator.newInstance();
+
+    assertThat(info, is(instanceOf(PersonalInfo.class)));
+    assertThat(instantiator.newInstance(), is(not(sameInstance(info))));
+  }
+
+  @Test
+  public void sharedPerType() {
+    assertThat(new ReflectionCache().getInstantiator(PersonalInfo.class),
+               is(sameInstance(new ReflectionCache().getInstantiator(PersonalInfo.class))));
+  }
+
+  @Test
+  public void nonPublicClass() {
+    assertThat(ObjectInstantiator.of(NonPublic.class).newInstance(), is(instanceOf(NonPublic.class)));
+  }
+
+  @Test
+  public void contextClassLoader() {
+    assertThat(ObjectInstantiator.of(ClassLoaderAware.class).newInstance().contextClassLoader,
+               is(sameInstance(ClassLoaderAware.class.getClassLoader())));
+  }
+
+  @Test(expected = MuleRuntimeException.class)
+  public void failingConstructor() {
+    ObjectInstantiator.of(Failing.class).newInstance();
+  }
+
+  static class NonPublic {
+
+    public NonPublic() {}
+  }
+
+  public static class ClassLoaderAware {
+
+    private final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+  }
+
+  public static class Failing {
+
+    public Failing() {
+      throw new IllegalStateException();
+    }
+  }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.domain.entity;
+
+import static java.lang.Math.min;
+import static java.util.Collections.emptyList;
+import static java.util.Optional.of;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+import static org.mule.runtime.api.util.Preconditions.checkNotNull;
+import org.mule.runtime.http.api.domain.entity.multipart.HttpPart;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Represents an HTTP body held in one or more {@link ByteBuffer}s, such as pooled or direct buffers, which are used as they are
+ * instead of being copied into a byte array.
+ * <p>
+ * The content is whatever remains in each buffer when the entity is created, in order. The buffers must not be modified while
+ * the entity is in use. Implementations of the HTTP service may write them through {@link #getByteBuffers()}, for instance with
+ * a gathering write, without copying them.
+ *
+ * @since 4.2
+ */
+public final class ByteBufferHttpEntity implements HttpEntity {
+
+  private final ByteBuffer[] buffers;
+  private final long length;
+
+  /**
+   * @param content the buffer with the content of the entity, from its position to its limit.
+   */
+  public ByteBufferHttpEntity(ByteBuffer content) {
+    this(new ByteBuffer[] {checkedBuffer(content)});
+  }
+
+  /**
+   * @param contents the buffers which, one after the other, make the content of the entity.
+   */
+  public ByteBufferHttpEntity(List<ByteBuffer> contents) {
+    this(toArray(contents));
+  }
+
+  private ByteBufferHttpEntity(ByteBuffer[] contents) {
+    long length = 0;
+    this.buffers = new ByteBuffer[contents.length];
+    for (int i = 0; i < contents.length; ++i) {
+      // so that the positions of the given buffers are not affected by reads of the entity
+      buffers[i] = contents[i].asReadOnlyBuffer();
+      length += buffers[i].remaining();
+    }
+    this.length = length;
+  }
+
+  private static ByteBuffer checkedBuffer(ByteBuffer content) {
+    checkNotNull(content, "HTTP entity content cannot be null.");
+    return content;
+  }
+
+  private static ByteBuffer[] toArray(List<ByteBuffer> contents) {
+    checkNotNull(contents, "HTTP entity contents cannot be null.");
+    checkArgument(!contents.contains(null), "HTTP entity contents cannot contain null buffers.");
+    return contents.toArray(new ByteBuffer[contents.size()]);
+  }
+
+  /**
+   * Provides the buffers with the content of this entity. Each invocation returns new read-only views of the buffers, with
+   * independent positions, so the content may be read several times.
+   *
+   * @return the buffers which, from their position to their limit, make the content of this entity
+   */
+  public ByteBuffer[] getByteBuffers() {
+    ByteBuffer[] views = new ByteBuffer[buffers.length];
+    for (int i = 0; i < buffers.length; ++i) {
+      views[i] = buffers[i].duplicate();
+    }
+    return views;
+  }
+
+  @Override
+  public boolean isStreaming() {
+    return false;
+  }
+
+  @Override
+  public boolean isComposed() {
+    return false;
+  }
+
+  @Override
+  public InputStream getContent() {
+    return new ByteBuffersInputStream(getByteBuffers());
+  }
+
+  @Override
+  public byte[] getBytes() {
+    checkArgument(length <= Integer.MAX_VALUE, "The buffers are too big to be held in a byte array");
+    byte[] bytes = new byte[(int) length];
+    int offset = 0;
+    for (ByteBuffer buffer : getByteBuffers()) {
+      int remaining = buffer.remaining();
+      buffer.get(bytes, offset, remaining);
+      offset += remaining;
+    }
+    return bytes;
+  }
+
+  @Override
+  public Collection<HttpPart> getParts() {
+    return emptyList();
+  }
+
+  @Override
+  public Optional<Long> getLength() {
+    return of(length);
+  }
+
+  private static final class ByteBuffersInputStream extends InputStream {
+
+    private final ByteBuffer[] buffers;
+    private int current;
+
+    private ByteBuffersInputStream(ByteBuffer[] buffers) {
+      this.buffers = buffers;
+    }
+
+    @Override
+    public int read() {
+      ByteBuffer buffer = currentBuffer();
+      return buffer == null ? -1 : buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+      if (len == 0) {
+        return 0;
+      }
+      ByteBuffer buffer = currentBuffer();
+      if (buffer == null) {
+        return -1;
+      }
+      int read = min(len, buffer.remaining());
+      buffer.get(b, off, read);
+      return read;
+    }
+
+    @Override
+    public long skip(long n) {
+      long skipped = 0;
+      ByteBuffer buffer;
+      while (skipped < n && (buffer = currentBuffer()) != null) {
+        int toSkip = (int) min(n - skipped, buffer.remaining());
+        buffer.position(buffer.position() + toSkip);
+        skipped += toSkip;
+      }
+      return skipped;
+    }
+
+    @Override
+    public int available() {
+      ByteBuffer buffer = currentBuffer();
+      return buffer == null ? 0 : buffer.remaining();
+    }
+
+    private ByteBuffer currentBuffer() {
+      while (current < buffers.length && !buffers[current].hasRemaining()) {
+        current++;
+      }
+      return current < buffers.length ? buffers[current] : null;
+    }
+  }
+
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.domain.entity;
+
+import static java.lang.Math.min;
+import static java.nio.channels.Channels.newInputStream;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.util.Collections.emptyList;
+import static java.util.Optional.of;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+import static org.mule.runtime.api.util.Preconditions.checkNotNull;
+import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.http.api.domain.entity.multipart.HttpPart;
+
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Represents an HTTP body which is a region of a file, so that it can be sent straight from the file with
+ * {@link #transferTo(WritableByteChannel)}, letting the operating system copy the content to the target without it going
+ * through the JVM heap where supported.
+ * <p>
+ * The file is opened each time the content is accessed, so it can be accessed several times. It must not be modified while the
+ * entity is in use.
+ *
+ * @since 4.2
+ */
+public final class FileRegionHttpEntity implements HttpEntity {
+
+  private final Path file;
+  private final long position;
+  private final long count;
+
+  /**
+   * @param file     the file with the content of the entity
+   * @param position the position in the file where the content starts
+   * @param count    the length of the content, in bytes
+   */
+  public FileRegionHttpEntity(Path file, long position, long count) {
+    checkNotNull(file, "HTTP entity file cannot be null.");
+    checkArgument(position >= 0, "position cannot be negative");
+    checkArgument(count >= 0, "count cannot be negative");
+    this.file = file;
+    this.position = position;
+    this.count = count;
+  }
+
+  /**
+   * @return the file with the content of this entity
+   */
+  public Path getFile() {
+    return file;
+  }
+
+  /**
+   * @return the position in the file where the content of this entity starts
+   */
+  public long getPosition() {
+    return position;
+  }
+
+  /**
+   * Transfers the content of this entity to the given {@code target} by means of {@link FileChannel#transferTo(long, long,
+   * WritableByteChannel)}.
+   *
+   * @param target the channel to write the content to
+   * @return the amount of bytes transferred, which may be less than the length of this entity if {@code target} is
+   *         non-blocking and cannot take more bytes, or if the file is shorter than expected. In that case, the transfer may be
+   *         resumed with {@link #transferTo(WritableByteChannel, long)}.
+   * @throws IOException if the content could not be read or written
+   */
+  public long transferTo(WritableByteChannel target) throws IOException {
+    return transferTo(target, 0);
+  }
+
+  /**
+   * Transfers the content of this entity, starting at {@code offset}, to the given {@code target} by means of
+   * {@link FileChannel#transferTo(long, long, WritableByteChannel)}.
+   *
+   * @param target the channel to write the content to
+   * @param offset the position within the content of this entity to start the transfer at, such as the amount of bytes
+   *        already transferred by previous invocations
+   * @return the amount of bytes transferred by this invocation, which may be less than the remaining length of this entity if
+   *         {@code target} is non-blocking and cannot take more bytes, or if the file is shorter than expected.
+   * @throws IOException if the content could not be read or written
+   */
+  public long transferTo(WritableByteChannel target, long offset) throws IOException {
+    checkArgument(offset >= 0 && offset <= count, "offset must be between zero and the length of the entity");
+    try (FileChannel channel = FileChannel.open(file, READ)) {
+      long transferred = offset;
+      while (transferred < count) {
+        long written = channel.transferTo(position + transferred, count - transferred, target);
+        if (written <= 0) {
+          break;
+        }
+        transferred += written;
+      }
+      return transferred - offset;
+    }
+  }
+
+  @Override
+  public boolean isStreaming() {
+    return false;
+  }
+
+  @Override
+  public boolean isComposed() {
+    return false;
+  }
+
+  @Override
+  public InputStream getContent() {
+    FileChannel channel;
+    try {
+      channel = FileChannel.open(file, READ);
+    } catch (IOException e) {
+      throw new MuleRuntimeException(e);
+    }
+    try {
+      channel.position(position);
+      return new RegionInputStream(newInputStream(channel), count);
+    } catch (IOException | RuntimeException e) {
+      // the channel is only closed by the returned stream, so it must not be left open if it can't be returned
+      try {
+        channel.close();
+      } catch (IOException closeException) {
+        e.addSuppressed(closeException);
+      }
+      throw e instanceof IOException ? new MuleRuntimeException(e) : (RuntimeException) e;
+    }
+  }
+
+  @Override
+  public byte[] getBytes() throws IOException {
+    checkArgument(count <= Integer.MAX_VALUE, "The file region is too big to be held in a byte array");
+    ByteBuffer bytes = ByteBuffer.allocate((int) count);
+    try (FileChannel channel = FileChannel.open(file, READ)) {
+      while (bytes.hasRemaining()) {
+        if (channel.read(bytes, position + bytes.position()) == -1) {
+          throw new EOFException("File '" + file + "' ended before the end of the region");
+        }
+      }
+    }
+    return bytes.array();
+  }
+
+  @Override
+  public Collection<HttpPart> getParts() {
+    return emptyList();
+  }
+
+  @Override
+  public Optional<Long> getLength() {
+    return of(count);
+  }
+
+  /**
+   * Limits the stream of the file to the region.
+   */
+  private static final class RegionInputStream extends FilterInputStream {
+
+    private long remaining;
+
+    private RegionInputStream(InputStream in, long count) {
+      super(in);
+      this.remaining = count;
+    }
+
+    @Override
+    public int read() throws IOException {
+      if (remaining <= 0) {
+        return -1;
+      }
+      int read = super.read();
+      if (read != -1) {
+        remaining--;
+      }
+      return read;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (remaining <= 0) {
+        return -1;
+      }
+      int read = super.read(b, off, (int) min(len, remaining));
+      if (read > 0) {
+        remaining -= read;
+      }
+      return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      long skipped = super.skip(min(n, remaining));
+      remaining -= skipped;
+      return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+      return (int) min(super.available(), remaining);
+    }
+
+    @Override
+    public boolean markSupported() {
+      return false;
+    }
+  }
+
+}
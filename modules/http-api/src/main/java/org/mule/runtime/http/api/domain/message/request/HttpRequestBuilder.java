@@ -15,6 +15,7 @@ import org.mule.runtime.http.api.HttpConstants.Method;
 import org.mule.runtime.http.api.domain.CaseInsensitiveMultiMap;
 import org.mule.runtime.http.api.domain.message.HttpMessage;
 import org.mule.runtime.http.api.domain.message.HttpMessageBuilder;
+import org.mule.runtime.http.internal.domain.FlatMultiMap;
 
 import java.net.URI;
 
@@ -30,7 +31,7 @@ public final class HttpRequestBuilder extends HttpMessageBuilder<HttpRequestBuil
   private String path;
   private URI uri;
   private String method = GET.name();
-  private MultiMap<String, String> queryParams = new MultiMap<>();
+  private MultiMap<String, String> queryParams = new FlatMultiMap();
 
   HttpRequestBuilder(boolean preserveHeadersCase) {
     headers = new CaseInsensitiveMultiMap(!preserveHeadersCase);
@@ -0,0 +1,400 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.server.routing;
+
+import static java.lang.Integer.highestOneBit;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyMap;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.http.api.HttpConstants.Method;
+import org.mule.runtime.http.internal.domain.FlatMultiMap;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * In-memory {@link RoutingTable} backed by a trie of path segments.
+ * <p>
+ * Every change to the routes compiles a new immutable trie, which is then published for the requests to be matched against, so
+ * matching never blocks. Matching walks the request path once without splitting it: literal segments are looked up in a hash
+ * table of each node by comparing regions of the path, and the values of the URI params are only decoded when first accessed.
+ * The methods of each route are kept as a bitset, so resolving the route of a node for a method is a mask check.
+ * <p>
+ * Adding or removing routes is expected to be infrequent compared to matching requests.
+ *
+ * @param <T> the type of the handlers of the routes
+ * @since 4.2
+ */
+public class PathTrieRoutingTable<T> implements RoutingTable<T> {
+
+  private static final long ALL_METHODS = -1L;
+  private static final String WILDCARD = "*";
+
+  private final List<Route<T>> routes = new ArrayList<>();
+  private volatile Trie<T> trie = new Trie<>(new ArrayList<>());
+
+  @Override
+  public Registration add(Collection<String> methods, String path, T handler) {
+    checkArgument(path != null, "path cannot be null");
+    checkArgument(handler != null, "handler cannot be null");
+
+    Route<T> route = new Route<>(methods == null ? new LinkedHashSet<>() : new LinkedHashSet<>(methods), path, handler);
+    synchronized (routes) {
+      List<Route<T>> newRoutes = new ArrayList<>(routes);
+      newRoutes.add(route);
+      // compiled before registering the route, so nothing changes if it conflicts with another one
+      trie = new Trie<>(newRoutes);
+      routes.add(route);
+    }
+    return () -> remove(route);
+  }
+
+  private void remove(Route<T> route) {
+    synchronized (routes) {
+      if (routes.remove(route)) {
+        trie = new Trie<>(routes);
+      }
+    }
+  }
+
+  @Override
+  public Optional<RouteMatch<T>> match(String method, String path) {
+    return trie.match(method, path);
+  }
+
+  @Override
+  public boolean matchesPath(String path) {
+    return trie.matchesPath(path);
+  }
+
+  /**
+   * A route as it was added.
+   */
+  private static final class Route<T> {
+
+    private final Set<String> methods;
+    private final String path;
+    private final T handler;
+
+    private Route(Set<String> methods, String path, T handler) {
+      this.methods = methods;
+      this.path = path;
+      this.handler = handler;
+    }
+  }
+
+  /**
+   * A route as it is kept in the node of the trie for its path.
+   */
+  private static final class CompiledRoute<T> {
+
+    private final long methods;
+    private final Route<T> route;
+    private final String[] paramNames;
+    private final int[] paramDepths;
+
+    private CompiledRoute(long methods, Route<T> route, List<String> paramNames, List<Integer> paramDepths) {
+      this.methods = methods;
+      this.route = route;
+      this.paramNames = paramNames.toArray(new String[paramNames.size()]);
+      this.paramDepths = paramDepths.stream().mapToInt(depth -> depth).toArray();
+    }
+
+    private boolean matches(long methodBit) {
+      return methods == ALL_METHODS || (methods & methodBit) != 0;
+    }
+  }
+
+  /**
+   * Immutable trie compiled from a list of routes.
+   */
+  private static final class Trie<T> {
+
+    private final Map<String, Long> methodBits = new HashMap<>();
+    private final Node<T> root;
+    private int maxDepth;
+
+    private Trie(List<Route<T>> routes) {
+      for (Method method : Method.values()) {
+        methodBits.put(method.name(), 1L << method.ordinal());
+      }
+
+      NodeBuilder<T> rootBuilder = new NodeBuilder<>();
+      for (Route<T> route : routes) {
+        addRoute(rootBuilder, route);
+      }
+      root = rootBuilder.build();
+    }
+
+    private void addRoute(NodeBuilder<T> rootBuilder, Route<T> route) {
+      long methods = route.methods.isEmpty() ? ALL_METHODS : 0;
+      for (String method : route.methods) {
+        methods |= methodBits.computeIfAbsent(method, m -> {
+          checkArgument(methodBits.size() < Long.SIZE, "Too many different methods in the routes");
+          return 1L << methodBits.size();
+        });
+      }
+
+      List<String> segments = segments(route.path);
+      List<String> paramNames = new ArrayList<>();
+      List<Integer> paramDepths = new ArrayList<>();
+      NodeBuilder<T> node = rootBuilder;
+      for (int depth = 0; depth < segments.size(); ++depth) {
+        String segment = segments.get(depth);
+        if (WILDCARD.equals(segment)) {
+          if (depth == segments.size() - 1) {
+            node = node.catchAll == null ? node.catchAll = new NodeBuilder<>() : node.catchAll;
+          } else {
+            node = node.wildcard == null ? node.wildcard = new NodeBuilder<>() : node.wildcard;
+          }
+        } else if (segment.length() >= 2 && segment.startsWith("{") && segment.endsWith("}")) {
+          paramNames.add(segment.substring(1, segment.length() - 1));
+          paramDepths.add(depth);
+          node = node.param == null ? node.param = new NodeBuilder<>() : node.param;
+        } else {
+          node = node.literals.computeIfAbsent(segment, s -> new NodeBuilder<>());
+        }
+      }
+      maxDepth = Math.max(maxDepth, segments.size());
+
+      for (CompiledRoute<T> existing : node.routes) {
+        if ((existing.methods & methods) != 0) {
+          throw new IllegalArgumentException(format("Route for path '%s' and methods %s conflicts with route for path '%s' "
+              + "and methods %s", route.path, route.methods, existing.route.path, existing.route.methods));
+        }
+      }
+      node.routes.add(new CompiledRoute<>(methods, route, paramNames, paramDepths));
+    }
+
+    private static List<String> segments(String path) {
+      List<String> segments = new ArrayList<>();
+      int end = trimTrailingSlashes(path);
+      int pos = firstSegmentStart(path, end);
+      while (pos <= end) {
+        int segmentEnd = segmentEnd(path, pos, end);
+        segments.add(path.substring(pos, segmentEnd));
+        pos = segmentEnd + 1;
+      }
+      return segments;
+    }
+
+    private Optional<RouteMatch<T>> match(String method, String path) {
+      Long methodBit = methodBits.get(method);
+      int[] segmentStarts = new int[maxDepth];
+      int[] segmentEnds = new int[maxDepth];
+      int end = trimTrailingSlashes(path);
+
+      CompiledRoute<T> route = match(root, path, firstSegmentStart(path, end), end, methodBit == null ? 0 : methodBit, 0,
+                                     segmentStarts, segmentEnds);
+      if (route == null) {
+        return empty();
+      }
+      return of(new RouteMatch<>(route.route.handler, route.route.path, uriParams(route, path, segmentStarts, segmentEnds)));
+    }
+
+    private boolean matchesPath(String path) {
+      int end = trimTrailingSlashes(path);
+      return match(root, path, firstSegmentStart(path, end), end, ALL_METHODS, 0, new int[maxDepth], new int[maxDepth]) != null;
+    }
+
+    /**
+     * Walks the trie from the given {@code node} for the segments of the {@code path} from {@code pos}, backtracking when a
+     * branch has no route for the method.
+     */
+    private CompiledRoute<T> match(Node<T> node, String path, int pos, int end, long methodBit, int depth,
+                                   int[] segmentStarts, int[] segmentEnds) {
+      if (pos > end) {
+        CompiledRoute<T> route = node.route(methodBit);
+        return route == null && node.catchAll != null ? node.catchAll.route(methodBit) : route;
+      }
+
+      int segmentEnd = segmentEnd(path, pos, end);
+      if (depth < segmentStarts.length) {
+        segmentStarts[depth] = pos;
+        segmentEnds[depth] = segmentEnd;
+      }
+
+      CompiledRoute<T> route = null;
+      Node<T> literal = node.literal(path, pos, segmentEnd);
+      if (literal != null) {
+        route = match(literal, path, segmentEnd + 1, end, methodBit, depth + 1, segmentStarts, segmentEnds);
+      }
+      if (route == null && node.param != null) {
+        route = match(node.param, path, segmentEnd + 1, end, methodBit, depth + 1, segmentStarts, segmentEnds);
+      }
+      if (route == null && node.wildcard != null) {
+        route = match(node.wildcard, path, segmentEnd + 1, end, methodBit, depth + 1, segmentStarts, segmentEnds);
+      }
+      if (route == null && node.catchAll != null) {
+        route = node.catchAll.route(methodBit);
+      }
+      return route;
+    }
+
+    private Map<String, String> uriParams(CompiledRoute<T> route, String path, int[] segmentStarts, int[] segmentEnds) {
+      if (route.paramNames.length == 0) {
+        return emptyMap();
+      }
+
+      String[] values = new String[route.paramNames.length];
+      for (int i = 0; i < values.length; ++i) {
+        int depth = route.paramDepths[i];
+        values[i] = path.substring(segmentStarts[depth], segmentEnds[depth]);
+      }
+      return FlatMultiMap.lazilyPopulated(true, false, uriParams -> {
+        for (int i = 0; i < values.length; ++i) {
+          uriParams.put(route.paramNames[i], decode(values[i]));
+        }
+      }).toImmutableMultiMap();
+    }
+
+    private static String decode(String value) {
+      if (value.indexOf('%') == -1 && value.indexOf('+') == -1) {
+        return value;
+      }
+      try {
+        return URLDecoder.decode(value, UTF_8.name());
+      } catch (UnsupportedEncodingException e) {
+        throw new MuleRuntimeException(e);
+      }
+    }
+
+    private static int trimTrailingSlashes(String path) {
+      int end = path.length();
+      while (end > 0 && path.charAt(end - 1) == '/') {
+        end--;
+      }
+      return end;
+    }
+
+    /**
+     * @return the start of the first segment, or a position after {@code end} if the path has no segments
+     */
+    private static int firstSegmentStart(String path, int end) {
+      int start = path.startsWith("/") ? 1 : 0;
+      return start >= end ? end + 1 : start;
+    }
+
+    private static int segmentEnd(String path, int pos, int end) {
+      int segmentEnd = path.indexOf('/', pos);
+      return segmentEnd == -1 || segmentEnd > end ? end : segmentEnd;
+    }
+  }
+
+  /**
+   * Mutable node, used while compiling a {@link Trie}.
+   */
+  private static final class NodeBuilder<T> {
+
+    private final Map<String, NodeBuilder<T>> literals = new LinkedHashMap<>();
+    private NodeBuilder<T> param;
+    private NodeBuilder<T> wildcard;
+    private NodeBuilder<T> catchAll;
+    private final List<CompiledRoute<T>> routes = new ArrayList<>();
+
+    private Node<T> build() {
+      return new Node<>(this);
+    }
+  }
+
+  /**
+   * Immutable node of a compiled {@link Trie}.
+   */
+  private static final class Node<T> {
+
+    private final String[] literalNames;
+    private final int[] literalHashes;
+    private final Node<T>[] literalNodes;
+    private final int literalsMask;
+
+    private final Node<T> param;
+    private final Node<T> wildcard;
+    private final Node<T> catchAll;
+    private final CompiledRoute<T>[] routes;
+
+    private Node(NodeBuilder<T> builder) {
+      if (builder.literals.isEmpty()) {
+        literalNames = null;
+        literalHashes = null;
+        literalNodes = null;
+        literalsMask = 0;
+      } else {
+        // open addressing table, at most half full
+        int size = highestOneBit(builder.literals.size()) << 2;
+        literalNames = new String[size];
+        literalHashes = new int[size];
+        literalNodes = new Node[size];
+        literalsMask = size - 1;
+        for (Map.Entry<String, NodeBuilder<T>> entry : builder.literals.entrySet()) {
+          int hash = entry.getKey().hashCode();
+          int index = spread(hash) & literalsMask;
+          while (literalNames[index] != null) {
+            index = (index + 1) & literalsMask;
+          }
+          literalNames[index] = entry.getKey();
+          literalHashes[index] = hash;
+          literalNodes[index] = entry.getValue().build();
+        }
+      }
+
+      param = builder.param != null ? builder.param.build() : null;
+      wildcard = builder.wildcard != null ? builder.wildcard.build() : null;
+      catchAll = builder.catchAll != null ? builder.catchAll.build() : null;
+      routes = builder.routes.toArray(new CompiledRoute[builder.routes.size()]);
+    }
+
+    /**
+     * Looks up the child for the literal segment between {@code start} and {@code end} of the {@code path}, computing its hash
+     * the same way {@link String#hashCode()} does so no substring has to be created.
+     */
+    private Node<T> literal(String path, int start, int end) {
+      if (literalNames == null) {
+        return null;
+      }
+
+      int hash = 0;
+      for (int i = start; i < end; ++i) {
+        hash = 31 * hash + path.charAt(i);
+      }
+      int length = end - start;
+      for (int index = spread(hash) & literalsMask; literalNames[index] != null; index = (index + 1) & literalsMask) {
+        if (literalHashes[index] == hash && literalNames[index].length() == length
+            && path.regionMatches(start, literalNames[index], 0, length)) {
+          return literalNodes[index];
+        }
+      }
+      return null;
+    }
+
+    private CompiledRoute<T> route(long methodBit) {
+      for (CompiledRoute<T> route : routes) {
+        if (route.matches(methodBit)) {
+          return route;
+        }
+      }
+      return null;
+    }
+
+    private static int spread(int hash) {
+      return hash ^ (hash >>> 16);
+    }
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.server.routing;
+
+import java.util.Map;
+
+/**
+ * The route of a {@link RoutingTable} that matched a request.
+ *
+ * @param <T> the type of the handlers of the routes
+ * @since 4.2
+ */
+public final class RouteMatch<T> {
+
+  private final T handler;
+  private final String path;
+  private final Map<String, String> uriParams;
+
+  RouteMatch(T handler, String path, Map<String, String> uriParams) {
+    this.handler = handler;
+    this.path = path;
+    this.uriParams = uriParams;
+  }
+
+  /**
+   * @return the handler of the matching route
+   */
+  public T getHandler() {
+    return handler;
+  }
+
+  /**
+   * @return the path of the matching route, as it was added
+   */
+  public String getPath() {
+    return path;
+  }
+
+  /**
+   * @return the decoded values of the URI params of the route, by their names
+   */
+  public Map<String, String> getUriParams() {
+    return uriParams;
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.server.routing;
+
+import org.mule.runtime.http.api.server.PathAndMethodRequestMatcher;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Resolves the handler for a request from its method and path, extracting the values of the URI params declared in the path of
+ * the matching route.
+ * <p>
+ * Paths are made of segments separated by {@code /}. Besides literal segments, a route path may contain:
+ * <ul>
+ * <li>URI params, such as {@code {id}}, which match any single segment.</li>
+ * <li>Wildcards, {@code *}, which match any single segment, or any amount of segments (including none) when used as the last
+ * segment of the path.</li>
+ * </ul>
+ * When several routes match a request, literal segments take precedence over URI params, and these over wildcards. Trailing
+ * {@code /} are ignored both in the route and the request paths.
+ * <p>
+ * Implementations must allow concurrent matching of requests while routes are added or removed.
+ *
+ * @param <T> the type of the handlers of the routes
+ * @since 4.2
+ */
+public interface RoutingTable<T> {
+
+  /**
+   * Adds a route to this table.
+   *
+   * @param methods the methods to match. If empty, all methods will be matched.
+   * @param path    the path to match
+   * @param handler the handler to resolve for matching requests
+   * @return a {@link Registration} that allows to remove the route
+   * @throws IllegalArgumentException if there already is a route for an equivalent path and any of the {@code methods}
+   */
+  Registration add(Collection<String> methods, String path, T handler);
+
+  /**
+   * Adds a route to this table for the path and methods of the given {@code matcher}.
+   *
+   * @param matcher the matcher describing the path and methods to match
+   * @param handler the handler to resolve for matching requests
+   * @return a {@link Registration} that allows to remove the route
+   * @throws IllegalArgumentException if there already is a route for an equivalent path and any of the methods of the
+   *                                  {@code matcher}
+   */
+  default Registration add(PathAndMethodRequestMatcher matcher, T handler) {
+    return add(matcher.getMethodRequestMatcher().getMethods(), matcher.getPath(), handler);
+  }
+
+  /**
+   * Resolves the route for the given request.
+   *
+   * @param method the method of the request
+   * @param path   the path of the request, without the query string
+   * @return the matching route, if any
+   */
+  Optional<RouteMatch<T>> match(String method, String path);
+
+  /**
+   * Allows to tell apart requests whose path is not found from requests whose method is not allowed.
+   *
+   * @param path the path of the request, without the query string
+   * @return whether there is a route matching the given {@code path} for any method
+   */
+  boolean matchesPath(String path);
+
+  /**
+   * A route added to a {@link RoutingTable}.
+   */
+  interface Registration {
+
+    /**
+     * Removes the route from the table it was added to.
+     */
+    void remove();
+  }
+}
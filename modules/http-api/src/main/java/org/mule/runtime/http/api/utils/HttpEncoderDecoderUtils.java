@@ -11,6 +11,7 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 
 import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.api.util.MultiMap;
+import org.mule.runtime.http.internal.domain.FlatMultiMap;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
@@ -90,27 +91,65 @@ public final class HttpEncoderDecoderUtils {
    * Converts an url-encoded body into a {@link MultiMap} with a given encoding.
    * <p>
    * This is the inverse of {@link #encodeString(String, Charset)}.
+   * <p>
+   * The {@code queryString} is only parsed and decoded when the returned map is first accessed, but its escape sequences are
+   * validated right away.
    * 
    * @param queryString the string to parse
    * @param encoding {@link URLDecoder#decode(String, String)}.
    * @return a map representation of the {@code queryString}
+   * @throws IllegalArgumentException if the {@code queryString} has illegal escape sequences, as {@link URLDecoder} does.
    */
   public static MultiMap<String, String> decodeUrlEncodedBody(String queryString, Charset encoding) {
-    MultiMap<String, String> queryParams = new MultiMap<>();
-    if (queryString != null && queryString.trim().length() > 0) {
-      String[] pairs = queryString.split("&");
-      for (String pair : pairs) {
-        int idx = pair.indexOf("=");
+    if (queryString == null || queryString.trim().length() == 0) {
+      return new FlatMultiMap();
+    }
+    validateEscapes(queryString, encoding);
+    return FlatMultiMap.lazilyPopulated(true, false, queryParams -> addUrlEncodedParams(queryParams, queryString, encoding));
+  }
+
+  /**
+   * Checks that every {@code %} is followed by two hex digits, so that decoding fails at the same point it did when it was not
+   * deferred. Separators are not hex digits, so checking the whole string is the same as checking each name and value.
+   */
+  private static void validateEscapes(String queryString, Charset encoding) {
+    int i = queryString.indexOf('%');
+    while (i != -1) {
+      if (i + 2 >= queryString.length() || !isEscapeDigits(queryString.charAt(i + 1), queryString.charAt(i + 2))) {
+        // let URLDecoder fail, with the same exception as before
+        decode(queryString, encoding);
+        return;
+      }
+      i = queryString.indexOf('%', i + 3);
+    }
+  }
 
-        if (idx != -1) {
-          addParam(queryParams, pair.substring(0, idx), pair.substring(idx + 1), encoding);
-        } else {
-          addParam(queryParams, pair, null, encoding);
+  private static boolean isEscapeDigits(char first, char second) {
+    return (first == '+' || Character.digit(first, 16) != -1) && Character.digit(second, 16) != -1;
+  }
 
-        }
+  private static void addUrlEncodedParams(MultiMap<String, String> queryParams, String queryString, Charset encoding) {
+    // trailing empty pairs are ignored, as String#split does
+    int end = queryString.length();
+    while (end > 0 && queryString.charAt(end - 1) == '&') {
+      end--;
+    }
+
+    int pairStart = 0;
+    while (pairStart < end) {
+      int pairEnd = queryString.indexOf('&', pairStart);
+      if (pairEnd == -1 || pairEnd > end) {
+        pairEnd = end;
+      }
+      int idx = queryString.indexOf('=', pairStart);
+
+      if (idx != -1 && idx < pairEnd) {
+        addParam(queryParams, queryString.substring(pairStart, idx), queryString.substring(idx + 1, pairEnd), encoding);
+      } else {
+        addParam(queryParams, queryString.substring(pairStart, pairEnd), null, encoding);
       }
+      pairStart = pairEnd + 1;
     }
-    return queryParams;
   }
 
   /**
@@ -118,25 +157,53 @@ public final class HttpEncoderDecoderUtils {
    *
    * @param pathWithUriParams path with uri param place holders
    * @param requestPath request path
-   * @return a map with the uri params present in the request path with the values decoded.
+   * @return a map with the uri params present in the request path with the values decoded. The values are only extracted and
+   *         decoded when the map is first accessed.
    */
   public static Map<String, String> decodeUriParams(String pathWithUriParams, String requestPath) {
-    MultiMap<String, String> uriParams = new MultiMap<>();
-    if (pathWithUriParams.contains("{")) {
-      final String[] requestPathParts = requestPath.split("/");
-      final String[] listenerPathParts = pathWithUriParams.split("/");
-      int longerPathSize = Math.min(requestPathParts.length, listenerPathParts.length);
-      // split will return an empty string as first path before /
-      for (int i = 1; i < longerPathSize; i++) {
-        final String listenerPart = listenerPathParts[i];
-        if (listenerPart.startsWith("{") && listenerPart.endsWith("}")) {
-          String parameterName = listenerPart.substring(1, listenerPart.length() - 1);
-          String parameterValue = requestPathParts[i];
-          uriParams.put(parameterName, decode(parameterValue, UTF_8));
-        }
+    if (pathWithUriParams.indexOf('{') == -1) {
+      return new FlatMultiMap();
+    }
+    return FlatMultiMap.lazilyPopulated(true, false, uriParams -> addUriParams(uriParams, pathWithUriParams, requestPath));
+  }
+
+  private static void addUriParams(MultiMap<String, String> uriParams, String pathWithUriParams, String requestPath) {
+    // trailing empty parts are ignored, as String#split does
+    int listenerEnd = trimTrailingSlashes(pathWithUriParams);
+    int requestEnd = trimTrailingSlashes(requestPath);
+
+    int listenerPartStart = 0;
+    int requestPartStart = 0;
+    // the first part is the empty string before the first /, so it is skipped
+    boolean first = true;
+    while (listenerPartStart <= listenerEnd && requestPartStart <= requestEnd) {
+      int listenerPartEnd = partEnd(pathWithUriParams, listenerPartStart, listenerEnd);
+      int requestPartEnd = partEnd(requestPath, requestPartStart, requestEnd);
+
+      if (!first && listenerPartEnd - listenerPartStart >= 2 && pathWithUriParams.charAt(listenerPartStart) == '{'
+          && pathWithUriParams.charAt(listenerPartEnd - 1) == '}') {
+        String parameterName = pathWithUriParams.substring(listenerPartStart + 1, listenerPartEnd - 1);
+        String parameterValue = requestPath.substring(requestPartStart, requestPartEnd);
+        uriParams.put(parameterName, decode(parameterValue, UTF_8));
       }
+
+      first = false;
+      listenerPartStart = listenerPartEnd + 1;
+      requestPartStart = requestPartEnd + 1;
+    }
+  }
+
+  private static int trimTrailingSlashes(String path) {
+    int end = path.length();
+    while (end > 0 && path.charAt(end - 1) == '/') {
+      end--;
     }
-    return uriParams;
+    return end;
+  }
+
+  private static int partEnd(String path, int partStart, int end) {
+    int partEnd = path.indexOf('/', partStart);
+    return partEnd == -1 || partEnd > end ? end : partEnd;
   }
 
   private static void addParam(MultiMap<String, String> queryParams, String name, String value, Charset encoding) {
@@ -147,6 +214,10 @@ public final class HttpEncoderDecoderUtils {
     if (text == null) {
       return null;
     }
+    if (text.indexOf('%') == -1 && text.indexOf('+') == -1) {
+      // nothing to decode
+      return text;
+    }
     try {
       return URLDecoder.decode(text, encoding.name());
     } catch (UnsupportedEncodingException e) {
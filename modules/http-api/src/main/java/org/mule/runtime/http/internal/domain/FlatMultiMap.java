@@ -0,0 +1,608 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.internal.domain;
+
+import static java.lang.Character.toLowerCase;
+import static java.lang.Character.toUpperCase;
+import static java.util.Arrays.copyOf;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableSet;
+
+import org.mule.runtime.api.util.MultiMap;
+import org.mule.runtime.http.api.domain.CaseInsensitiveMultiMap;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * {@link MultiMap} optimized for the headers and parameters of HTTP messages, which usually have few entries that are read just
+ * once or not at all.
+ * <p>
+ * Every name/value pair is kept in a slot of a single flat array, along with the hash of its name, instead of a map of lists.
+ * {@link #toImmutableMultiMap()} shares those arrays with the returned map rather than copying them, and this map only copies
+ * them if modified afterwards. Maps created through {@link #lazilyPopulated(boolean, boolean, Consumer)} are only populated when
+ * first accessed, so that parameters that are never read are never parsed nor decoded.
+ * <p>
+ * Names are looked up by scanning the slots, which is cheaper than hashing for the few entries of most messages. Once a map has
+ * more than 16 slots, an index of the slots of each name is kept along with them instead.
+ * <p>
+ * Names may be case sensitive, as for query parameters, or case insensitive, as for headers. Case insensitive names are reported
+ * in the case they were first added, unless configured to report them in lower case, as {@link CaseInsensitiveMultiMap} does
+ * when optimized.
+ * <p>
+ * Instances are not thread safe, but immutable ones may be shared between threads.
+ *
+ * @since 4.2
+ */
+public final class FlatMultiMap extends MultiMap<String, String> {
+
+  private static final long serialVersionUID = 2717513460853627592L;
+
+  private static final int DEFAULT_CAPACITY = 8;
+  private static final int INDEX_THRESHOLD = 16;
+
+  private final boolean caseSensitive;
+  private final boolean lowerCaseNames;
+  private final boolean immutable;
+
+  private String[] names;
+  private String[] values;
+  private int[] hashes;
+  private int slots;
+  private int keys;
+
+  // open addressing table with the first slot of each name plus one, and the next slot of the same name for each slot. Only
+  // kept when there are more than INDEX_THRESHOLD slots, and shared along with the arrays
+  private transient int[] index;
+  private transient int[] nextSlots;
+
+  // whether the arrays are shared with an immutable map, so they have to be copied before modifying them
+  private transient boolean shared;
+
+  private transient volatile PendingPopulation pendingPopulation;
+
+  /**
+   * Creates an empty map with case sensitive names.
+   */
+  public FlatMultiMap() {
+    this(true, false);
+  }
+
+  /**
+   * Creates an empty map.
+   *
+   * @param caseSensitive  whether the names are case sensitive.
+   * @param lowerCaseNames whether case insensitive names should be reported in lower case.
+   */
+  public FlatMultiMap(boolean caseSensitive, boolean lowerCaseNames) {
+    this(caseSensitive, lowerCaseNames, false, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates a map with the same names and values than the given one.
+   *
+   * @param caseSensitive  whether the names are case sensitive.
+   * @param lowerCaseNames whether case insensitive names should be reported in lower case.
+   * @param source         the map to copy.
+   */
+  public FlatMultiMap(boolean caseSensitive, boolean lowerCaseNames, MultiMap<String, String> source) {
+    this(caseSensitive, lowerCaseNames);
+    putAll(source);
+  }
+
+  private FlatMultiMap(boolean caseSensitive, boolean lowerCaseNames, boolean immutable, int capacity) {
+    this.caseSensitive = caseSensitive;
+    this.lowerCaseNames = !caseSensitive && lowerCaseNames;
+    this.immutable = immutable;
+    this.names = new String[capacity];
+    this.values = new String[capacity];
+    this.hashes = new int[capacity];
+    // Only used by the inherited methods that are not overridden here
+    this.paramsMap = (Map) new ParamsMapView();
+  }
+
+  /**
+   * Creates a map which is populated by the given {@code populator} the first time it is accessed.
+   * <p>
+   * This allows to defer the parsing and decoding of the parameters of an HTTP message until they are needed.
+   *
+   * @param caseSensitive  whether the names are case sensitive.
+   * @param lowerCaseNames whether case insensitive names should be reported in lower case.
+   * @param populator      the callback that puts the names and values in the map. It will be invoked at most once.
+   * @return a new map
+   */
+  public static FlatMultiMap lazilyPopulated(boolean caseSensitive, boolean lowerCaseNames, Consumer<FlatMultiMap> populator) {
+    FlatMultiMap map = new FlatMultiMap(caseSensitive, lowerCaseNames);
+    map.pendingPopulation = new PendingPopulation(caseSensitive, lowerCaseNames, populator);
+    return map;
+  }
+
+  @Override
+  public int size() {
+    populateIfNeeded();
+    return keys;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    populateIfNeeded();
+    return keys == 0;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    populateIfNeeded();
+    return key instanceof String && indexOf((String) key, hash((String) key), 0) != -1;
+  }
+
+  @Override
+  public boolean containsValue(Object value) {
+    populateIfNeeded();
+    for (int i = 0; i < slots; ++i) {
+      if (value == null ? values[i] == null : value.equals(values[i])) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public String get(Object key) {
+    populateIfNeeded();
+    if (!(key instanceof String)) {
+      return null;
+    }
+    int index = indexOf((String) key, hash((String) key), 0);
+    return index == -1 ? null : values[index];
+  }
+
+  @Override
+  public List<String> getAll(String key) {
+    populateIfNeeded();
+    int hash = hash(key);
+    int index = indexOf(key, hash, 0);
+    if (index == -1) {
+      return emptyList();
+    }
+
+    List<String> all = new ArrayList<>(2);
+    do {
+      all.add(values[index]);
+      index = indexOf(key, hash, index + 1);
+    } while (index != -1);
+    return unmodifiableList(all);
+  }
+
+  @Override
+  public String put(String key, String value) {
+    prepareForModification();
+    int hash = hash(key);
+    int index = indexOf(key, hash, 0);
+    if (index == -1) {
+      keys++;
+    }
+    append(key, value, hash);
+    return index == -1 ? null : values[index];
+  }
+
+  @Override
+  public void put(String key, Collection<String> values) {
+    prepareForModification();
+    if (values.isEmpty()) {
+      return;
+    }
+    int hash = hash(key);
+    if (indexOf(key, hash, 0) == -1) {
+      keys++;
+    }
+    for (String value : values) {
+      append(key, value, hash);
+    }
+  }
+
+  @Override
+  public void putAll(Map<? extends String, ? extends String> aMap) {
+    prepareForModification();
+    if (aMap instanceof FlatMultiMap && ((FlatMultiMap) aMap).caseSensitive == caseSensitive) {
+      FlatMultiMap source = (FlatMultiMap) aMap;
+      source.populateIfNeeded();
+      for (int i = 0; i < source.slots; ++i) {
+        if (indexOf(source.names[i], source.hashes[i], 0) == -1) {
+          keys++;
+        }
+        append(source.names[i], source.values[i], source.hashes[i]);
+      }
+    } else if (aMap instanceof MultiMap) {
+      MultiMap<String, String> source = (MultiMap<String, String>) aMap;
+      for (String key : source.keySet()) {
+        put(key, source.getAll(key));
+      }
+    } else {
+      for (Entry<? extends String, ? extends String> entry : aMap.entrySet()) {
+        put(entry.getKey(), entry.getValue());
+      }
+    }
+  }
+
+  @Override
+  public String remove(Object key) {
+    prepareForModification();
+    if (!(key instanceof String)) {
+      return null;
+    }
+    int hash = hash((String) key);
+    int index = indexOf((String) key, hash, 0);
+    if (index == -1) {
+      return null;
+    }
+
+    String removed = values[index];
+    int kept = index;
+    for (int i = index + 1; i < slots; ++i) {
+      if (hashes[i] != hash || !nameEquals(names[i], (String) key)) {
+        names[kept] = names[i];
+        values[kept] = values[i];
+        hashes[kept] = hashes[i];
+        kept++;
+      }
+    }
+    for (int i = kept; i < slots; ++i) {
+      names[i] = null;
+      values[i] = null;
+    }
+    slots = kept;
+    keys--;
+    if (index != null) {
+      reindex();
+    }
+    return removed;
+  }
+
+  @Override
+  public void clear() {
+    prepareForModification();
+    for (int i = 0; i < slots; ++i) {
+      names[i] = null;
+      values[i] = null;
+    }
+    slots = 0;
+    keys = 0;
+    index = null;
+    nextSlots = null;
+  }
+
+  @Override
+  public Set<String> keySet() {
+    populateIfNeeded();
+    Set<String> keySet = new LinkedHashSet<>();
+    for (int i = 0; i < slots; ++i) {
+      if (isFirst(i)) {
+        keySet.add(names[i]);
+      }
+    }
+    return immutable ? unmodifiableSet(keySet) : keySet;
+  }
+
+  @Override
+  public Collection<String> values() {
+    populateIfNeeded();
+    List<String> firstValues = new ArrayList<>(keys);
+    for (int i = 0; i < slots; ++i) {
+      if (isFirst(i)) {
+        firstValues.add(values[i]);
+      }
+    }
+    return unmodifiableList(firstValues);
+  }
+
+  @Override
+  public Set<Entry<String, String>> entrySet() {
+    populateIfNeeded();
+    Set<Entry<String, String>> entrySet = new LinkedHashSet<>();
+    for (int i = 0; i < slots; ++i) {
+      if (isFirst(i)) {
+        entrySet.add(new SimpleEntry<>(names[i], values[i]));
+      }
+    }
+    return unmodifiableSet(entrySet);
+  }
+
+  /**
+   * Returns an immutable view of this map. No copy is made: the returned map shares the contents of this one, which are only
+   * copied if this map is modified afterwards.
+   *
+   * @return an immutable view of this map
+   */
+  @Override
+  public FlatMultiMap toImmutableMultiMap() {
+    if (immutable) {
+      return this;
+    }
+
+    FlatMultiMap immutableMap = new FlatMultiMap(caseSensitive, lowerCaseNames, true, 0);
+    PendingPopulation pending = pendingPopulation;
+    if (pending != null) {
+      // Both maps will take the same contents once populated
+      immutableMap.pendingPopulation = pending;
+    } else {
+      immutableMap.adopt(names, values, hashes, index, nextSlots, slots, keys);
+      shared = true;
+    }
+    return immutableMap;
+  }
+
+  private void append(String name, String value, int hash) {
+    if (slots == names.length) {
+      int capacity = names.length * 2;
+      names = copyOf(names, capacity);
+      values = copyOf(values, capacity);
+      hashes = copyOf(hashes, capacity);
+      if (index != null) {
+        nextSlots = copyOf(nextSlots, capacity);
+      }
+    }
+    names[slots] = lowerCaseNames ? name.toLowerCase() : name;
+    values[slots] = value;
+    hashes[slots] = hash;
+    slots++;
+
+    if (index != null && keys * 2 <= index.length) {
+      indexSlot(slots - 1);
+    } else if (slots > INDEX_THRESHOLD) {
+      buildIndex();
+    }
+  }
+
+  private void reindex() {
+    if (slots > INDEX_THRESHOLD) {
+      buildIndex();
+    } else {
+      index = null;
+      nextSlots = null;
+    }
+  }
+
+  private void buildIndex() {
+    int size = INDEX_THRESHOLD * 2;
+    while (size < keys * 4) {
+      size <<= 1;
+    }
+    index = new int[size];
+    nextSlots = new int[names.length];
+    for (int i = 0; i < slots; ++i) {
+      indexSlot(i);
+    }
+  }
+
+  private void indexSlot(int slot) {
+    nextSlots[slot] = -1;
+    int mask = index.length - 1;
+    for (int i = spread(hashes[slot]) & mask;; i = (i + 1) & mask) {
+      int first = index[i] - 1;
+      if (first == -1) {
+        index[i] = slot + 1;
+        return;
+      }
+      if (hashes[first] == hashes[slot] && nameEquals(names[first], names[slot])) {
+        int last = first;
+        while (nextSlots[last] != -1) {
+          last = nextSlots[last];
+        }
+        nextSlots[last] = slot;
+        return;
+      }
+    }
+  }
+
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+
+  private int indexOf(String name, int hash, int from) {
+    if (index != null) {
+      int mask = index.length - 1;
+      for (int i = spread(hash) & mask;; i = (i + 1) & mask) {
+        int slot = index[i] - 1;
+        if (slot == -1) {
+          return -1;
+        }
+        if (hashes[slot] == hash && nameEquals(names[slot], name)) {
+          while (slot != -1 && slot < from) {
+            slot = nextSlots[slot];
+          }
+          return slot;
+        }
+      }
+    }
+
+    for (int i = from; i < slots; ++i) {
+      if (hashes[i] == hash && nameEquals(names[i], name)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private boolean isFirst(int index) {
+    return indexOf(names[index], hashes[index], 0) == index;
+  }
+
+  private boolean nameEquals(String name, String other) {
+    return caseSensitive ? name.equals(other) : name.equalsIgnoreCase(other);
+  }
+
+  /**
+   * Folds the case of each character the same way {@link String#equalsIgnoreCase(String)} compares them, without creating a
+   * lower case copy of the name.
+   */
+  private int hash(String name) {
+    if (caseSensitive) {
+      return name.hashCode();
+    }
+
+    int hash = 0;
+    for (int i = 0; i < name.length(); ++i) {
+      char c = name.charAt(i);
+      if (c < 128) {
+        hash = 31 * hash + (c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c);
+      } else {
+        hash = 31 * hash + toLowerCase(toUpperCase(c));
+      }
+    }
+    return hash;
+  }
+
+  private void prepareForModification() {
+    if (immutable) {
+      throw new UnsupportedOperationException("This map is immutable");
+    }
+    populateIfNeeded();
+    if (shared) {
+      names = copyOf(names, names.length);
+      values = copyOf(values, values.length);
+      hashes = copyOf(hashes, hashes.length);
+      if (index != null) {
+        index = copyOf(index, index.length);
+        nextSlots = copyOf(nextSlots, nextSlots.length);
+      }
+      shared = false;
+    }
+  }
+
+  private void populateIfNeeded() {
+    PendingPopulation pending = pendingPopulation;
+    if (pending != null) {
+      synchronized (this) {
+        if (pendingPopulation != null) {
+          FlatMultiMap populated = pending.get();
+          adopt(populated.names, populated.values, populated.hashes, populated.index, populated.nextSlots, populated.slots,
+                populated.keys);
+          // the populated arrays may be shared with other maps
+          shared = true;
+          pendingPopulation = null;
+        }
+      }
+    }
+  }
+
+  private void adopt(String[] names, String[] values, int[] hashes, int[] index, int[] nextSlots, int slots, int keys) {
+    this.names = names;
+    this.values = values;
+    this.hashes = hashes;
+    this.index = index;
+    this.nextSlots = nextSlots;
+    this.slots = slots;
+    this.keys = keys;
+  }
+
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    populateIfNeeded();
+    out.defaultWriteObject();
+  }
+
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    reindex();
+  }
+
+  /**
+   * Populates a map only once, so that it can be shared by the map and all its immutable views.
+   */
+  private static final class PendingPopulation {
+
+    private final boolean caseSensitive;
+    private final boolean lowerCaseNames;
+    private Consumer<FlatMultiMap> populator;
+    private FlatMultiMap populated;
+
+    private PendingPopulation(boolean caseSensitive, boolean lowerCaseNames, Consumer<FlatMultiMap> populator) {
+      this.caseSensitive = caseSensitive;
+      this.lowerCaseNames = lowerCaseNames;
+      this.populator = populator;
+    }
+
+    private synchronized FlatMultiMap get() {
+      if (populated == null) {
+        FlatMultiMap map = new FlatMultiMap(caseSensitive, lowerCaseNames);
+        populator.accept(map);
+        populated = map;
+        populator = null;
+      }
+      return populated;
+    }
+  }
+
+  /**
+   * View of the slots as a map of lists, for the methods of {@link MultiMap} that access its internal map directly.
+   */
+  private final class ParamsMapView extends AbstractMap<String, LinkedList<String>> implements Serializable {
+
+    private static final long serialVersionUID = -5187512425738367391L;
+
+    @Override
+    public int size() {
+      return FlatMultiMap.this.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return FlatMultiMap.this.containsKey(key);
+    }
+
+    @Override
+    public LinkedList<String> get(Object key) {
+      if (!FlatMultiMap.this.containsKey(key)) {
+        return null;
+      }
+      return new LinkedList<>(getAll((String) key));
+    }
+
+    @Override
+    public LinkedList<String> put(String key, LinkedList<String> value) {
+      LinkedList<String> previous = remove(key);
+      FlatMultiMap.this.put(key, value);
+      return previous;
+    }
+
+    @Override
+    public LinkedList<String> remove(Object key) {
+      LinkedList<String> previous = get(key);
+      if (previous != null) {
+        FlatMultiMap.this.remove(key);
+      }
+      return previous;
+    }
+
+    @Override
+    public void clear() {
+      FlatMultiMap.this.clear();
+    }
+
+    @Override
+    public Set<Entry<String, LinkedList<String>>> entrySet() {
+      populateIfNeeded();
+      Set<Entry<String, LinkedList<String>>> entrySet = new LinkedHashSet<>();
+      for (String key : keySet()) {
+        entrySet.add(new SimpleEntry<>(key, new LinkedList<>(getAll(key))));
+      }
+      return unmodifiableSet(entrySet);
+    }
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.domain.entity;
+
+import static java.nio.ByteBuffer.wrap;
+import static java.util.Arrays.asList;
+import static java.util.Collections.nCopies;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mule.test.allure.AllureConstants.HttpFeature.HTTP_SERVICE;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import sun.misc.IOUtils;
+
+@Feature(HTTP_SERVICE)
+@Story("Entities")
+public class ByteBufferHttpEntityTestCase {
+
+  private final ByteBuffer first = wrap("-Hello ".getBytes());
+  private final ByteBuffer second = ByteBuffer.allocateDirect(16).put("world!".getBytes());
+
+  private HttpEntity entity;
+
+  public ByteBufferHttpEntityTestCase() {
+    first.position(1);
+    second.flip();
+    entity = new ByteBufferHttpEntity(asList(first, second));
+  }
+
+  @Test
+  public void nonComposed() {
+    assertThat(entity.isComposed(), is(false));
+  }
+
+  @Test
+  public void nonStreaming() {
+    assertThat(entity.isStreaming(), is(false));
+  }
+
+  @Test
+  public void providesArrayRepeatedly() {
+    assertThat(entity.getBytes(), equalTo("Hello world!".getBytes()));
+    assertThat(entity.getBytes(), equalTo("Hello world!".getBytes()));
+  }
+
+  @Test
+  public void providesStreamRepeatedly() throws IOException {
+    assertThat(IOUtils.readFully(entity.getContent(), -1, true), equalTo("Hello world!".getBytes()));
+    assertThat(IOUtils.readFully(entity.getContent(), -1, true), equalTo("Hello world!".getBytes()));
+  }
+
+  @Test
+  public void doesNotAffectSourceBuffers() {
+    for (ByteBuffer buffer : ((ByteBufferHttpEntity) entity).getByteBuffers()) {
+      buffer.position(buffer.limit());
+    }
+    entity.getBytes();
+
+    assertThat(first.position(), is(1));
+    assertThat(second.position(), is(0));
+    assertThat(((ByteBufferHttpEntity) entity).getByteBuffers()[0].remaining(), is(6));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void tooBigForArray() {
+    // the views of the same buffer share its memory, so the entity is bigger than an array without using that much memory
+    ByteBuffer buffer = ByteBuffer.allocate(1024 * 1024);
+    new ByteBufferHttpEntity(nCopies(2048, buffer)).getBytes();
+  }
+
+  @Test
+  public void hasNoParts() throws IOException {
+    assertThat(entity.getParts(), is(empty()));
+  }
+
+  @Test
+  public void hasSize() {
+    assertThat(entity.getLength().get(), is(12L));
+  }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.domain.entity;
+
+import static java.lang.Math.min;
+import static java.nio.channels.Channels.newChannel;
+import static java.nio.file.Files.write;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mule.test.allure.AllureConstants.HttpFeature.HTTP_SERVICE;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import sun.misc.IOUtils;
+
+@Feature(HTTP_SERVICE)
+@Story("Entities")
+public class FileRegionHttpEntityTestCase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private Path file;
+  private HttpEntity entity;
+
+  @Before
+  public void before() throws IOException {
+    file = temporaryFolder.newFile().toPath();
+    write(file, "--Hello world!--".getBytes());
+    entity = new FileRegionHttpEntity(file, 2, 12);
+  }
+
+  @Test
+  public void nonComposed() {
+    assertThat(entity.isComposed(), is(false));
+  }
+
+  @Test
+  public void nonStreaming() {
+    assertThat(entity.isStreaming(), is(false));
+  }
+
+  @Test
+  public void providesArrayRepeatedly() throws IOException {
+    assertThat(entity.getBytes(), equalTo("Hello world!".getBytes()));
+    assertThat(entity.getBytes(), equalTo("Hello world!".getBytes()));
+  }
+
+  @Test
+  public void providesStreamRepeatedly() throws IOException {
+    assertThat(IOUtils.readFully(entity.getContent(), -1, true), equalTo("Hello world!".getBytes()));
+    assertThat(IOUtils.readFully(entity.getContent(), -1, true), equalTo("Hello world!".getBytes()));
+  }
+
+  @Test
+  public void transfersRegion() throws IOException {
+    ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+    assertThat(((FileRegionHttpEntity) entity).transferTo(newChannel(target)), is(12L));
+    assertThat(target.toByteArray(), equalTo("Hello world!".getBytes()));
+  }
+
+  @Test
+  public void resumesTransfer() throws IOException {
+    ByteArrayOutputStream target = new ByteArrayOutputStream();
+    FileRegionHttpEntity fileRegionEntity = (FileRegionHttpEntity) entity;
+
+    assertThat(fileRegionEntity.transferTo(new LimitedChannel(newChannel(target), 5), 0), is(5L));
+    assertThat(fileRegionEntity.transferTo(newChannel(target), 5), is(7L));
+    assertThat(target.toByteArray(), equalTo("Hello world!".getBytes()));
+  }
+
+  @Test(expected = EOFException.class)
+  public void regionBeyondFile() throws IOException {
+    new FileRegionHttpEntity(file, 10, 12).getBytes();
+  }
+
+  @Test
+  public void hasNoParts() throws IOException {
+    assertThat(entity.getParts(), is(empty()));
+  }
+
+  @Test
+  public void hasSize() {
+    assertThat(entity.getLength().get(), is(12L));
+  }
+
+  /**
+   * Takes up to a number of bytes, and then none, like a non-blocking channel that is full.
+   */
+  private static final class LimitedChannel implements WritableByteChannel {
+
+    private final WritableByteChannel delegate;
+    private int available;
+
+    private LimitedChannel(WritableByteChannel delegate, int available) {
+      this.delegate = delegate;
+      this.available = available;
+    }
+
+    @Override
+    public int write(ByteBuffer src) throws IOException {
+      ByteBuffer slice = src.slice();
+      slice.limit(min(slice.remaining(), available));
+      int written = delegate.write(slice);
+      src.position(src.position() + written);
+      available -= written;
+      return written;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return delegate.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+      delegate.close();
+    }
+  }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.server.routing;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mule.test.allure.AllureConstants.HttpFeature.HTTP_SERVICE;
+import static org.mule.test.allure.AllureConstants.HttpFeature.HttpStory.ROUTING;
+
+import org.mule.runtime.http.api.server.routing.RoutingTable.Registration;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature(HTTP_SERVICE)
+@Story(ROUTING)
+public class PathTrieRoutingTableTestCase {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final RoutingTable<String> routingTable = new PathTrieRoutingTable<>();
+
+  @Test
+  public void literalPath() {
+    routingTable.add(asList("GET"), "/api/users", "users");
+    routingTable.add(asList("GET"), "/api/orders", "orders");
+
+    assertThat(handlerFor("GET", "/api/users"), is("users"));
+    assertThat(handlerFor("GET", "/api/orders/"), is("orders"));
+    assertThat(routingTable.match("GET", "/api").isPresent(), is(false));
+    assertThat(routingTable.match("GET", "/api/users/1").isPresent(), is(false));
+  }
+
+  @Test
+  public void methods() {
+    routingTable.add(asList("GET"), "/api/users", "get");
+    routingTable.add(asList("POST", "PUT"), "/api/users", "post");
+    routingTable.add(emptyList(), "/api/other", "all");
+
+    assertThat(handlerFor("GET", "/api/users"), is("get"));
+    assertThat(handlerFor("PUT", "/api/users"), is("post"));
+    assertThat(routingTable.match("DELETE", "/api/users").isPresent(), is(false));
+    assertThat(routingTable.matchesPath("/api/users"), is(true));
+    assertThat(handlerFor("CUSTOM", "/api/other"), is("all"));
+  }
+
+  @Test
+  public void uriParams() {
+    routingTable.add(asList("GET"), "/api/users/{userId}/orders/{orderId}", "order");
+
+    Map<String, String> uriParams = routingTable.match("GET", "/api/users/john%20doe/orders/5").get().getUriParams();
+    assertThat(uriParams.size(), is(2));
+    assertThat(uriParams, hasEntry("userId", "john doe"));
+    assertThat(uriParams, hasEntry("orderId", "5"));
+  }
+
+  @Test
+  public void literalTakesPrecedence() {
+    routingTable.add(asList("GET"), "/api/users/{userId}", "param");
+    routingTable.add(asList("GET"), "/api/users/me", "literal");
+    routingTable.add(asList("GET"), "/api/*", "wildcard");
+
+    assertThat(handlerFor("GET", "/api/users/me"), is("literal"));
+    assertThat(handlerFor("GET", "/api/users/you"), is("param"));
+    assertThat(handlerFor("GET", "/api/users/you/more"), is("wildcard"));
+  }
+
+  @Test
+  public void backtracksWhenMethodDoesNotMatch() {
+    routingTable.add(asList("POST"), "/api/users/me", "literal");
+    routingTable.add(asList("GET"), "/api/users/{userId}", "param");
+
+    RouteMatch<String> match = routingTable.match("GET", "/api/users/me").get();
+    assertThat(match.getHandler(), is("param"));
+    assertThat(match.getUriParams(), hasEntry("userId", "me"));
+  }
+
+  @Test
+  public void wildcards() {
+    routingTable.add(asList("GET"), "/api/*/status", "single");
+    routingTable.add(asList("GET"), "/static/*", "all");
+    routingTable.add(asList("GET"), "/*", "root");
+
+    assertThat(handlerFor("GET", "/api/users/status"), is("single"));
+    assertThat(handlerFor("GET", "/static"), is("all"));
+    assertThat(handlerFor("GET", "/static/css/main.css"), is("all"));
+    assertThat(handlerFor("GET", "/api/users/other"), is("root"));
+    assertThat(handlerFor("GET", "/"), is("root"));
+  }
+
+  @Test
+  public void conflictingRoute() {
+    routingTable.add(asList("GET", "POST"), "/api/users/{userId}", "first");
+
+    expectedException.expect(IllegalArgumentException.class);
+    routingTable.add(asList("POST"), "/api/users/{id}/", "second");
+  }
+
+  @Test
+  public void conflictingRouteIsNotAdded() {
+    routingTable.add(asList("GET"), "/api/users", "first");
+    try {
+      routingTable.add(emptyList(), "/api/users", "second");
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+
+    assertThat(handlerFor("GET", "/api/users"), is("first"));
+    assertThat(routingTable.match("POST", "/api/users").isPresent(), is(false));
+  }
+
+  @Test
+  public void removedRoute() {
+    Registration registration = routingTable.add(asList("GET"), "/api/users", "users");
+    registration.remove();
+
+    assertThat(routingTable.matchesPath("/api/users"), is(false));
+    routingTable.add(asList("GET"), "/api/users", "again");
+    assertThat(handlerFor("GET", "/api/users"), is("again"));
+  }
+
+  private String handlerFor(String method, String path) {
+    Optional<RouteMatch<String>> match = routingTable.match(method, path);
+    assertThat(match.isPresent(), is(true));
+    return match.get().getHandler();
+  }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.utils;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mule.runtime.http.api.utils.HttpEncoderDecoderUtils.decodeQueryString;
+import static org.mule.runtime.http.api.utils.HttpEncoderDecoderUtils.decodeUriParams;
+import static org.mule.test.allure.AllureConstants.HttpFeature.HTTP_SERVICE;
+
+import org.mule.runtime.api.util.MultiMap;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+import io.qameta.allure.Feature;
+
+@Feature(HTTP_SERVICE)
+public class HttpEncoderDecoderUtilsTestCase {
+
+  @Test
+  public void queryString() {
+    MultiMap<String, String> params = decodeQueryString("a=1&b=x+y&a=%32&c&d=");
+
+    assertThat(params.getAll("a"), is(asList("1", "2")));
+    assertThat(params.get("b"), is("x y"));
+    assertThat(params.containsKey("c"), is(true));
+    assertThat(params.get("c"), nullValue());
+    assertThat(params.get("d"), is(""));
+  }
+
+  @Test
+  public void queryStringEmptyPairs() {
+    MultiMap<String, String> params = decodeQueryString("&a=1&&b=2&&");
+
+    assertThat(params.keySet(), contains("", "a", "b"));
+    assertThat(params.get(""), nullValue());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void queryStringIllegalEscape() {
+    decodeQueryString("a=1&b=%zz");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void queryStringIncompleteEscape() {
+    decodeQueryString("a=%4&b=2");
+  }
+
+  @Test
+  public void emptyQueryString() {
+    assertThat(decodeQueryString("  ").isEmpty(), is(true));
+  }
+
+  @Test
+  public void uriParams() {
+    Map<String, String> params = decodeUriParams("/api/{id}/items/{item}/", "/api/1/items/a%20b");
+
+    assertThat(params.keySet(), contains("id", "item"));
+    assertThat(params.get("id"), is("1"));
+    assertThat(params.get("item"), is("a b"));
+  }
+
+  @Test
+  public void uriParamsMissingInRequestPath() {
+    Map<String, String> params = decodeUriParams("/api/{id}/items/{item}", "/api/1");
+
+    assertThat(params.keySet(), contains("id"));
+  }
+
+}
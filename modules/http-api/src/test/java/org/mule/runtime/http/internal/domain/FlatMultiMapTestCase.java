@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.runtime.http.internal.domain;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mule.test.allure.AllureConstants.HttpFeature.HTTP_SERVICE;
+import static org.mule.test.allure.AllureConstants.HttpFeature.HttpStory.MULTI_MAP;
+
+import org.mule.runtime.api.util.MultiMap;
+import org.mule.runtime.api.util.MultiMapTestCase;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature(HTTP_SERVICE)
+@Story(MULTI_MAP)
+public class FlatMultiMapTestCase extends MultiMapTestCase {
+
+  @Override
+  protected MultiMap<String, String> getMultiMap() {
+    return new FlatMultiMap();
+  }
+
+  @Test
+  public void caseSensitive() {
+    multiMap.put("kEy", VALUE_1);
+
+    assertThat(multiMap.get("kEy"), is(VALUE_1));
+    assertThat(multiMap.get("KeY"), nullValue());
+  }
+
+  @Test
+  public void caseInsensitive() {
+    MultiMap<String, String> insensitiveMultiMap = new FlatMultiMap(false, false);
+    assertThat(insensitiveMultiMap.put("kEy", VALUE_1), nullValue());
+    assertThat(insensitiveMultiMap.put("KeY", VALUE_2), is(VALUE_1));
+
+    assertThat(insensitiveMultiMap.get("key"), is(VALUE_1));
+    assertThat(insensitiveMultiMap.getAll("KEY"), is(asList(VALUE_1, VALUE_2)));
+    assertThat(insensitiveMultiMap.keySet(), contains("kEy"));
+  }
+
+  @Test
+  public void caseInsensitiveLowerCaseNames() {
+    MultiMap<String, String> insensitiveMultiMap = new FlatMultiMap(false, true);
+    insensitiveMultiMap.put("kEy", VALUE_1);
+
+    assertThat(insensitiveMultiMap.get("KEY"), is(VALUE_1));
+    assertThat(insensitiveMultiMap.keySet(), contains("key"));
+  }
+
+  @Test
+  public void removeKeepsOtherKeysOrder() {
+    multiMap.put(KEY_1, VALUE_1);
+    multiMap.put(KEY_2, VALUE_1);
+    multiMap.put(KEY_1, VALUE_2);
+    multiMap.put(KEY_2, VALUE_2);
+
+    assertThat(multiMap.remove(KEY_1), is(VALUE_1));
+    assertThat(multiMap.size(), is(1));
+    assertThat(multiMap.getAll(KEY_2), is(asList(VALUE_1, VALUE_2)));
+  }
+
+  @Test
+  public void immutableIsNotAffectedByLaterModifications() {
+    multiMap.put(KEY_1, VALUE_1);
+    MultiMap<String, String> immutableMultiMap = multiMap.toImmutableMultiMap();
+
+    multiMap.put(KEY_1, VALUE_2);
+    multiMap.put(KEY_2, VALUE_1);
+
+    assertThat(immutableMultiMap.getAll(KEY_1), is(asList(VALUE_1)));
+    assertThat(immutableMultiMap.containsKey(KEY_2), is(false));
+    assertThat(multiMap.getAll(KEY_1), is(asList(VALUE_1, VALUE_2)));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void immutableCannotBeModified() {
+    multiMap.toImmutableMultiMap().put(KEY_1, VALUE_1);
+  }
+
+  @Test
+  public void lazilyPopulatedOnlyOnce() {
+    AtomicInteger populations = new AtomicInteger();
+    FlatMultiMap lazyMultiMap = FlatMultiMap.lazilyPopulated(true, false, map -> {
+      populations.incrementAndGet();
+      map.put(KEY_1, VALUE_1);
+    });
+    MultiMap<String, String> immutableMultiMap = lazyMultiMap.toImmutableMultiMap();
+    assertThat(populations.get(), is(0));
+
+    assertThat(immutableMultiMap.get(KEY_1), is(VALUE_1));
+    assertThat(lazyMultiMap.get(KEY_1), is(VALUE_1));
+    lazyMultiMap.put(KEY_2, VALUE_2);
+
+    assertThat(populations.get(), is(1));
+    assertThat(immutableMultiMap.containsKey(KEY_2), is(false));
+  }
+
+  @Test
+  public void manyNames() {
+    MultiMap<String, String> insensitiveMultiMap = new FlatMultiMap(false, false);
+    for (int i = 0; i < 100; ++i) {
+      insensitiveMultiMap.put("Name" + i, VALUE_1);
+    }
+    insensitiveMultiMap.put("NAME50", VALUE_2);
+    MultiMap<String, String> immutableMultiMap = insensitiveMultiMap.toImmutableMultiMap();
+
+    assertThat(insensitiveMultiMap.size(), is(100));
+    assertThat(insensitiveMultiMap.getAll("name50"), is(asList(VALUE_1, VALUE_2)));
+    assertThat(insensitiveMultiMap.get("name100"), nullValue());
+    assertThat(insensitiveMultiMap.keySet().size(), is(100));
+
+    for (int i = 0; i < 95; ++i) {
+      insensitiveMultiMap.remove("name" + i);
+    }
+    assertThat(insensitiveMultiMap.keySet(), contains("Name95", "Name96", "Name97", "Name98", "Name99"));
+    assertThat(insensitiveMultiMap.get("NAME99"), is(VALUE_1));
+    assertThat(immutableMultiMap.getAll("name50"), is(asList(VALUE_1, VALUE_2)));
+    assertThat(immutableMultiMap.size(), is(100));
+  }
+
+}
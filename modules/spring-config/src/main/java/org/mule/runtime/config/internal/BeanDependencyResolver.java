@@ -6,7 +6,12 @@
  */
 package org.mule.runtime.config.internal;
 
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -24,4 +29,25 @@ public interface BeanDependencyResolver {
    */
   Collection<Object> resolveBeanDependencies(Set<String> beanNames);
 
+  /**
+   * Resolves the same objects as {@link #resolveBeanDependencies(Set)} along with the objects each one depends on directly.
+   * <p>
+   * By default each object is considered to depend on the one before it, so the order is kept.
+   *
+   * @param beanNames the bean names to resolve dependencies
+   * @return the objects in the same order as {@link #resolveBeanDependencies(Set)}, each with its direct dependencies.
+   * @since 4.2
+   */
+  default Map<Object, Set<Object>> resolveBeanDependencyGraph(Set<String> beanNames) {
+    Map<Object, Set<Object>> graph = new LinkedHashMap<>();
+    Object previous = null;
+    for (Object object : resolveBeanDependencies(beanNames)) {
+      if (object != null && !graph.containsKey(object)) {
+        graph.put(object, previous == null ? emptySet() : singleton(previous));
+        previous = object;
+      }
+    }
+    return graph;
+  }
+
 }
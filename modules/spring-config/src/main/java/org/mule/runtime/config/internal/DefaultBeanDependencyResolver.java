@@ -16,6 +16,8 @@ import com.google.common.collect.TreeTraverser;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -50,6 +52,37 @@ public class DefaultBeanDependencyResolver implements BeanDependencyResolver {
   }
 
   public Collection<Object> resolveBeanDependencies(Set<String> beanNames) {
+    List<Object> orderedObjects = new LinkedList<>();
+    for (DependencyNode node : resolveOrderedNodes(beanNames)) {
+      orderedObjects.add(node.getValue());
+    }
+    return orderedObjects;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * An object reached through several paths is kept in its first position, with the dependencies found on all of them.
+   */
+  @Override
+  public Map<Object, Set<Object>> resolveBeanDependencyGraph(Set<String> beanNames) {
+    Map<Object, Set<Object>> graph = new LinkedHashMap<>();
+    for (DependencyNode node : resolveOrderedNodes(beanNames)) {
+      if (node.getValue() == null) {
+        continue;
+      }
+
+      Set<Object> dependencies = graph.computeIfAbsent(node.getValue(), value -> new LinkedHashSet<>());
+      for (DependencyNode child : node.getChildren()) {
+        if (child.getValue() != null && child.getValue() != node.getValue()) {
+          dependencies.add(child.getValue());
+        }
+      }
+    }
+    return graph;
+  }
+
+  private List<DependencyNode> resolveOrderedNodes(Set<String> beanNames) {
     final DependencyNode root = new DependencyNode(null);
 
     for (String beanName : beanNames) {
@@ -64,15 +97,15 @@ public class DefaultBeanDependencyResolver implements BeanDependencyResolver {
       }
     }.postOrderTraversal(root);
 
-    List<Object> orderedObjects = new LinkedList<>();
+    List<DependencyNode> nodes = new LinkedList<>();
     for (DependencyNode node : orderedNodes) {
       if (node == root) {
         break;
       }
 
-      orderedObjects.add(node.getValue());
+      nodes.add(node);
     }
-    return orderedObjects;
+    return nodes;
   }
 
   private void addDependency(DependencyNode parent, String key, Object object) {
@@ -115,7 +148,8 @@ public class DefaultBeanDependencyResolver implements BeanDependencyResolver {
                                             DependencyNode node) {
     Collection<String> dependencies = configurationDependencyResolver.resolveComponentDependencies(key);
     for (String dependency : dependencies) {
-      if (springRegistry.isSingleton(dependency)) {
+      // Components created on demand are left out until something requests them
+      if (springRegistry.isSingleton(dependency) && !springRegistry.isPendingOnDemand(dependency)) {
         addDependency(node, dependency, springRegistry.get(dependency), processedKeys);
       }
     }
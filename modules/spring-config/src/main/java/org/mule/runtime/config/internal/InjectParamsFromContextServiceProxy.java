@@ -28,6 +28,8 @@ import java.lang.reflect.Parameter;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -45,6 +47,9 @@ public class InjectParamsFromContextServiceProxy extends MetadataInvocationHandl
       "No object found in the registry for parameter '%s' of method '%s' in service '%s'";
 
   private final Registry registry;
+  // Finding the methods that may be invoked instead requires scanning all the methods of the implementation, so it is done only
+  // once per method. Whether their parameters can be injected depends on the registry contents, so that is checked on every call.
+  private final ConcurrentMap<Method, List<Method>> injectableCandidates = new ConcurrentHashMap<>();
 
   /**
    * Creates a new proxy for the provided service instance.
@@ -60,24 +65,37 @@ public class InjectParamsFromContextServiceProxy extends MetadataInvocationHandl
 
   @Override
   public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-    Method injectable = resolveInjectableMethod(method);
+    Method injectable = null;
+    Collection<?>[] injectableLookups = null;
+    for (Method candidate : injectableCandidates.computeIfAbsent(method, this::resolveInjectableCandidates)) {
+      Collection<?>[] lookups = lookupInjectableParams(method, candidate);
+      if (lookups != null) {
+        if (injectable != null) {
+          throw new IllegalDependencyInjectionException(format(MANY_CANDIDATES_ERROR_MSG_TEMPLATE, method.getName(),
+                                                               getProxiedObject().getName()));
+        }
+        injectable = candidate;
+        injectableLookups = lookups;
+      }
+    }
 
     if (injectable == null) {
       return doInvoke(proxy, method, args);
     } else {
       final List<Object> augmentedArgs = args == null ? new ArrayList<>() : new ArrayList<>(asList(args));
 
-      for (int i = method.getParameters().length; i < injectable.getParameters().length; ++i) {
-        final Parameter parameter = injectable.getParameters()[i];
+      final Parameter[] injectableParameters = injectable.getParameters();
+      for (int i = method.getParameterCount(); i < injectableParameters.length; ++i) {
+        final Parameter parameter = injectableParameters[i];
+        final Method injectableMethod = injectable;
         Object arg;
         if (parameter.isAnnotationPresent(Named.class)) {
           arg = registry.lookupByName(parameter.getAnnotation(Named.class).value())
               .orElseThrow(() -> new IllegalDependencyInjectionException(format(NO_OBJECT_FOUND_FOR_PARAM,
-                                                                                parameter.getName(), injectable.getName(),
+                                                                                parameter.getName(), injectableMethod.getName(),
                                                                                 getProxiedObject().getName())));
         } else {
-          final Collection<?> lookupObjects = registry.lookupAllByType(parameter.getType());
-          arg = new PreferredObjectSelector().select(lookupObjects.iterator());
+          arg = new PreferredObjectSelector().select(injectableLookups[i].iterator());
         }
         augmentedArgs.add(arg);
       }
@@ -86,27 +104,32 @@ public class InjectParamsFromContextServiceProxy extends MetadataInvocationHandl
     }
   }
 
-  private Method resolveInjectableMethod(Method method) {
-    Method candidate = null;
+  /**
+   * @return the public {@link Inject} annotated methods of the implementation that have the same name and leading parameters as
+   *         {@code method}, one per signature.
+   */
+  private List<Method> resolveInjectableCandidates(Method method) {
+    List<Method> candidates = new ArrayList<>();
 
     for (Method serviceImplMethod : getImplementationDeclaredMethods()) {
       if (isPublic(serviceImplMethod.getModifiers())
           && serviceImplMethod.getName().equals(method.getName())
           && serviceImplMethod.getAnnotationsByType(Inject.class).length > 0
-          && equivalentParams(method.getParameters(), serviceImplMethod.getParameters())) {
-        if (candidate != null
-            && !(candidate.getName().equals(serviceImplMethod.getName())
-                && deepEquals(candidate.getParameterTypes(), serviceImplMethod.getParameterTypes()))) {
-          throw new IllegalDependencyInjectionException(format(MANY_CANDIDATES_ERROR_MSG_TEMPLATE, method.getName(),
-                                                               getProxiedObject().getName()));
-        }
-        candidate = serviceImplMethod;
+          && equivalentParams(method.getParameters(), serviceImplMethod.getParameters())
+          // methods overridden in a subclass are found again in the superclass
+          && candidates.stream().noneMatch(candidate -> deepEquals(candidate.getParameterTypes(),
+                                                                   serviceImplMethod.getParameterTypes()))) {
+        candidates.add(serviceImplMethod);
       }
     }
-    return candidate;
+    return candidates;
   }
 
   private boolean equivalentParams(Parameter[] invocationParams, Parameter[] serviceImplParams) {
+    if (serviceImplParams.length < invocationParams.length) {
+      return false;
+    }
+
     int i = 0;
     for (Parameter invocationParam : invocationParams) {
       if (!serviceImplParams[i].getType().equals(invocationParam.getType())) {
@@ -114,16 +137,27 @@ public class InjectParamsFromContextServiceProxy extends MetadataInvocationHandl
       }
       ++i;
     }
+    return true;
+  }
 
-    // Check that the remaining parameters are injectable
-    for (int j = i; j < serviceImplParams.length; ++j) {
-      if (!serviceImplParams[j].isAnnotationPresent(Named.class)
-          && registry.lookupAllByType(serviceImplParams[j].getType()).isEmpty()) {
-        return false;
+  /**
+   * Checks that the parameters of {@code candidate} not present in {@code method} can be injected.
+   *
+   * @return the objects found in the registry for each parameter to be injected by type, or {@code null} if any of them can't be
+   *         injected.
+   */
+  private Collection<?>[] lookupInjectableParams(Method method, Method candidate) {
+    final Parameter[] candidateParams = candidate.getParameters();
+    final Collection<?>[] lookups = new Collection<?>[candidateParams.length];
+    for (int i = method.getParameterCount(); i < candidateParams.length; ++i) {
+      if (!candidateParams[i].isAnnotationPresent(Named.class)) {
+        lookups[i] = registry.lookupAllByType(candidateParams[i].getType());
+        if (lookups[i].isEmpty()) {
+          return null;
+        }
       }
     }
-
-    return true;
+    return lookups;
   }
 
   /**
@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.config.internal;
 
+import static java.lang.Boolean.parseBoolean;
 import static java.lang.String.format;
 import static java.lang.Thread.currentThread;
 import static java.util.Arrays.asList;
@@ -30,6 +31,8 @@ import static org.mule.runtime.config.internal.dsl.spring.BeanDefinitionFactory.
 import static org.mule.runtime.config.internal.dsl.spring.ComponentModelHelper.updateAnnotationValue;
 import static org.mule.runtime.config.internal.parsers.generic.AutoIdUtils.uniqueValue;
 import static org.mule.runtime.config.internal.util.ComponentBuildingDefinitionUtils.registerComponentBuildingDefinitions;
+import static org.mule.runtime.core.api.config.MuleDeploymentProperties.MULE_LAZY_INIT_DEPLOYMENT_PROPERTY;
+import static org.mule.runtime.core.api.config.MuleDeploymentProperties.MULE_ON_DEMAND_INIT_DEPLOYMENT_PROPERTY;
 import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_MULE_CONFIGURATION;
 import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_MULE_CONTEXT;
 import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_REGISTRY;
@@ -63,6 +66,7 @@ import org.mule.runtime.config.api.dsl.processor.xml.XmlApplicationParser;
 import org.mule.runtime.config.api.dsl.processor.xml.XmlApplicationServiceRegistry;
 import org.mule.runtime.config.internal.dsl.model.ClassLoaderResourceProvider;
 import org.mule.runtime.config.internal.dsl.model.ConfigurationDependencyResolver;
+import org.mule.runtime.config.internal.dsl.model.OnDemandComponentsResolver;
 import org.mule.runtime.config.internal.dsl.model.SpringComponentModel;
 import org.mule.runtime.config.internal.dsl.model.config.DefaultConfigurationPropertiesResolver;
 import org.mule.runtime.config.internal.dsl.model.config.EnvironmentPropertiesConfigurationProvider;
@@ -425,6 +429,7 @@ public class MuleArtifactContext extends AbstractRefreshableConfigApplicationCon
   @Override
   public void close() {
     if (isRunning()) {
+      reportPendingOnDemandComponents();
       super.close();
     }
     beanDefinitionFactory.destroy();
@@ -450,6 +455,73 @@ public class MuleArtifactContext extends AbstractRefreshableConfigApplicationCon
   @Override
   protected void loadBeanDefinitions(DefaultListableBeanFactory beanFactory) throws IOException {
     createApplicationComponents(beanFactory, applicationModel, true);
+
+    if (isOnDemandInitialization() && beanFactory instanceof ObjectProviderAwareBeanFactory) {
+      setOnDemandComponents((ObjectProviderAwareBeanFactory) beanFactory);
+    }
+  }
+
+  private boolean isOnDemandInitialization() {
+    return parseBoolean(artifactProperties.get(MULE_ON_DEMAND_INIT_DEPLOYMENT_PROPERTY))
+        && !parseBoolean(artifactProperties.get(MULE_LAZY_INIT_DEPLOYMENT_PROPERTY));
+  }
+
+  /**
+   * Flows not needed by any message source, and the configurations only they use, are created the first time they are looked up
+   * instead of when the artifact starts.
+   */
+  private void setOnDemandComponents(ObjectProviderAwareBeanFactory beanFactory) {
+    Set<String> onDemandComponents =
+        new OnDemandComponentsResolver(applicationModel, dependencyResolver).resolveOnDemandComponents();
+    for (String componentName : onDemandComponents) {
+      if (beanFactory.containsBeanDefinition(componentName) && beanFactory.getBeanDefinition(componentName).isSingleton()) {
+        beanFactory.setOnDemand(componentName);
+      }
+    }
+    componentLocator.setOnDemandComponentsCreators(this::createOnDemand,
+                                                   identifier -> beanFactory.getPendingOnDemandBeanNames().stream()
+                                                       .filter(componentName -> applicationModel
+                                                           .findTopLevelNamedComponent(componentName)
+                                                           .map(componentModel -> contains(componentModel, identifier))
+                                                           .orElse(false))
+                                                       .forEach(this::createOnDemand));
+
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(format("Components to be created on demand for %s: %s", this, onDemandComponents));
+    }
+  }
+
+  /**
+   * @param name the name of a component
+   * @return whether the component is to be created on demand and was not created yet.
+   * @since 4.2
+   */
+  public boolean isPendingOnDemand(String name) {
+    return getBeanFactory() instanceof ObjectProviderAwareBeanFactory
+        && ((ObjectProviderAwareBeanFactory) getBeanFactory()).isPendingOnDemand(name);
+  }
+
+  /**
+   * Creates the component through the registry, so the lifecycle phases the artifact already went through are applied to it.
+   */
+  private void createOnDemand(String name) {
+    if (name != null && isPendingOnDemand(name)) {
+      muleContext.getRegistry().lookupObject(name);
+    }
+  }
+
+  private boolean contains(ComponentModel componentModel, ComponentIdentifier identifier) {
+    return identifier.equals(componentModel.getIdentifier())
+        || componentModel.getInnerComponents().stream().anyMatch(innerComponent -> contains(innerComponent, identifier));
+  }
+
+  private void reportPendingOnDemandComponents() {
+    if (getBeanFactory() instanceof ObjectProviderAwareBeanFactory) {
+      List<String> pending = ((ObjectProviderAwareBeanFactory) getBeanFactory()).getPendingOnDemandBeanNames();
+      if (!pending.isEmpty()) {
+        LOGGER.info(format("Components never created on demand for %s: %s", this, pending));
+      }
+    }
   }
 
   @Override
@@ -6,10 +6,12 @@
  */
 package org.mule.runtime.config.internal;
 
+import static java.util.Arrays.stream;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableMap;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
+import static java.util.stream.Collectors.toList;
 import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.api.ioc.ConfigurableObjectProvider;
 import org.mule.runtime.api.ioc.ObjectProvider;
@@ -24,17 +26,23 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
  * {@link org.springframework.beans.factory.ListableBeanFactory} implementation that will resolve beans using a list of
  * {@link ObjectProvider}s if it was not able to find a bean on itself.
+ * <p/>
+ * Beans may be {@link #setOnDemand(String) marked} to be created on demand. Until they are requested by name, those are not
+ * created and are left out of the lookups by type.
  * 
  * @since 4.0
  */
 public class ObjectProviderAwareBeanFactory extends DefaultListableBeanFactory {
 
   private List<ConfigurableObjectProvider> objectProviders = emptyList();
+  private final Set<String> onDemandBeanNames = ConcurrentHashMap.newKeySet();
 
   public ObjectProviderAwareBeanFactory(BeanFactory parentBeanFactory) {
     super(parentBeanFactory);
@@ -116,6 +124,43 @@ public class ObjectProviderAwareBeanFactory extends DefaultListableBeanFactory {
     return unmodifiableMap(beans);
   }
 
+  @Override
+  public String[] getBeanNamesForType(Class<?> type, boolean includeNonSingletons, boolean allowEagerInit) {
+    String[] beanNames = super.getBeanNamesForType(type, includeNonSingletons, allowEagerInit);
+    if (onDemandBeanNames.isEmpty()) {
+      return beanNames;
+    }
+    return stream(beanNames).filter(beanName -> !isPendingOnDemand(beanName)).toArray(String[]::new);
+  }
+
+  /**
+   * Marks the singleton bean with the given name to be created the first time it is requested by name.
+   *
+   * @param beanName the name of a registered bean definition
+   * @since 4.2
+   */
+  public void setOnDemand(String beanName) {
+    getBeanDefinition(beanName).setLazyInit(true);
+    onDemandBeanNames.add(beanName);
+  }
+
+  /**
+   * @param beanName the name of a bean
+   * @return whether the bean is to be created on demand and was not created yet.
+   * @since 4.2
+   */
+  public boolean isPendingOnDemand(String beanName) {
+    return onDemandBeanNames.contains(beanName) && !containsSingleton(beanName);
+  }
+
+  /**
+   * @return the names of the beans to be created on demand that were not created yet.
+   * @since 4.2
+   */
+  public List<String> getPendingOnDemandBeanNames() {
+    return onDemandBeanNames.stream().filter(this::isPendingOnDemand).sorted().collect(toList());
+  }
+
   public <T> Map<String, T> getBeansOfTypeWithObjectProviderObjects(Class<T> type, boolean includeNonSingletons,
                                                                     boolean allowEagerInit)
       throws BeansException {
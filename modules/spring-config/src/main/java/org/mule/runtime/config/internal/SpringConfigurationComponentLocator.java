@@ -26,6 +26,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -38,6 +39,10 @@ public class SpringConfigurationComponentLocator implements ConfigurationCompone
   private final Function<String, Boolean> isTemplateLocationFunction;
   private final Map<String, Component> componentsMap = new HashMap<>();
   private final Set<ComponentLocation> componentLocations = new HashSet<>();
+  private Consumer<String> onDemandNamedComponentCreator = name -> {
+  };
+  private Consumer<ComponentIdentifier> onDemandIdentifiedComponentsCreator = identifier -> {
+  };
 
   public SpringConfigurationComponentLocator(Function<String, Boolean> isTemplateComponentFunction) {
     this.isTemplateLocationFunction = memoize(isTemplateComponentFunction, new ConcurrentHashMap<>());
@@ -64,6 +69,21 @@ public class SpringConfigurationComponentLocator implements ConfigurationCompone
     this.componentLocations.add(location);
   }
 
+  /**
+   * Sets the callbacks that create the components that are to be created on demand, so they are available to this locator before
+   * being searched for.
+   *
+   * @param namedComponentCreator creates the top level component with the given name, if it is pending to be created on demand
+   * @param identifiedComponentsCreator creates the top level components pending to be created on demand that contain a component
+   *        with the given identifier
+   * @since 4.2
+   */
+  public void setOnDemandComponentsCreators(Consumer<String> namedComponentCreator,
+                                            Consumer<ComponentIdentifier> identifiedComponentsCreator) {
+    this.onDemandNamedComponentCreator = namedComponentCreator;
+    this.onDemandIdentifiedComponentsCreator = identifiedComponentsCreator;
+  }
+
   /**
    * Removes a component from the locator
    *
@@ -81,6 +101,7 @@ public class SpringConfigurationComponentLocator implements ConfigurationCompone
     if (isTemplateLocationFunction.apply(location.getGlobalName())) {
       return empty();
     }
+    onDemandNamedComponentCreator.accept(location.getGlobalName());
     return ofNullable(componentsMap.get(location.toString()));
   }
 
@@ -89,6 +110,7 @@ public class SpringConfigurationComponentLocator implements ConfigurationCompone
    */
   @Override
   public List<Component> find(ComponentIdentifier componentIdentifier) {
+    onDemandIdentifiedComponentsCreator.accept(componentIdentifier);
     return componentsMap.values().stream()
         .filter(component -> component.getLocation().getComponentIdentifier().getIdentifier().equals(componentIdentifier))
         .collect(toList());
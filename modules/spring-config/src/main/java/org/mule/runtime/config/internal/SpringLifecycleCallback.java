@@ -6,6 +6,8 @@
  */
 package org.mule.runtime.config.internal;
 
+import static java.util.Optional.of;
+
 import org.mule.runtime.api.lifecycle.Lifecycle;
 import org.mule.runtime.core.api.lifecycle.LifecycleObject;
 import org.mule.runtime.core.internal.lifecycle.RegistryLifecycleCallback;
@@ -13,6 +15,7 @@ import org.mule.runtime.core.internal.lifecycle.RegistryLifecycleManager;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * A {@link RegistryLifecycleCallback} to be used with instances of {@link SpringRegistry}. For each object in which a
@@ -40,6 +43,12 @@ class SpringLifecycleCallback extends RegistryLifecycleCallback<SpringRegistry>
     return springRegistry.getBeanDependencyResolver().resolveBeanDependencies(objects.keySet());
   }
 
+  @Override
+  protected Optional<Map<Object, ? extends Collection<?>>> lookupDependencyGraphForLifecycle(LifecycleObject lo) {
+    Map<String, Object> objects = getSpringRegistry().lookupEntriesForLifecycle(lo.getType());
+    return of(springRegistry.getBeanDependencyResolver().resolveBeanDependencyGraph(objects.keySet()));
+  }
+
   private SpringRegistry getSpringRegistry() {
     return (SpringRegistry) registryLifecycleManager.getLifecycleObject();
   }
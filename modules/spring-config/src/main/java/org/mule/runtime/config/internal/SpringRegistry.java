@@ -7,14 +7,19 @@
 package org.mule.runtime.config.internal;
 
 import static java.lang.String.format;
+import static java.util.Collections.newSetFromMap;
+import static java.util.Collections.synchronizedSet;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 import static org.springframework.beans.factory.support.BeanDefinitionBuilder.genericBeanDefinition;
 import org.mule.runtime.api.exception.DefaultMuleException;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.api.lifecycle.Initialisable;
 import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.api.lifecycle.LifecycleException;
+import org.mule.runtime.api.lifecycle.Startable;
+import org.mule.runtime.api.util.Reference;
 import org.mule.runtime.config.internal.dsl.model.ConfigurationDependencyResolver;
 import org.mule.runtime.config.internal.factories.ConstantFactoryBean;
 import org.mule.runtime.core.api.Injector;
@@ -22,6 +27,7 @@ import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.lifecycle.LifecycleManager;
 import org.mule.runtime.core.api.util.StringUtils;
 import org.mule.runtime.core.api.util.func.CheckedRunnable;
+import org.mule.runtime.core.internal.context.MuleContextWithRegistries;
 import org.mule.runtime.core.internal.lifecycle.LifecycleInterceptor;
 import org.mule.runtime.core.internal.lifecycle.phases.NotInLifecyclePhase;
 import org.mule.runtime.core.internal.registry.AbstractRegistry;
@@ -44,7 +50,10 @@ import org.springframework.context.support.AbstractApplicationContext;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 public class SpringRegistry extends AbstractRegistry implements LifecycleRegistry, Injector {
@@ -70,6 +79,9 @@ public class SpringRegistry extends AbstractRegistry implements LifecycleRegistr
   // Registered objects before the spring registry has been initialised.
   private final Map<String, BeanDefinition> registeredBeanDefinitionsBeforeInitialization = new HashMap<>();
 
+  // Components created on demand and started while the start phase is being applied, so that phase skips them.
+  private final Set<Object> startedOnDemand = synchronizedSet(newSetFromMap(new IdentityHashMap<>()));
+
   public SpringRegistry(ApplicationContext applicationContext, MuleContext muleContext,
                         ConfigurationDependencyResolver dependencyResolver,
                         LifecycleInterceptor lifecycleInterceptor) {
@@ -138,6 +150,19 @@ public class SpringRegistry extends AbstractRegistry implements LifecycleRegistr
     this.springContextInitialised.set(false);
   }
 
+  @Override
+  public void fireLifecycle(String phase) throws LifecycleException {
+    // those started after the start phase went through this registry are handled by the following phases as any other
+    if (!Startable.PHASE_NAME.equals(phase)) {
+      startedOnDemand.clear();
+    }
+    try {
+      super.fireLifecycle(phase);
+    } finally {
+      startedOnDemand.clear();
+    }
+  }
+
   @Override
   protected LifecycleManager createLifecycleManager(LifecycleInterceptor lifecycleInterceptor) {
     return new SpringRegistryLifecycleManager(getRegistryId(), this, muleContext, lifecycleInterceptor);
@@ -180,7 +205,11 @@ public class SpringRegistry extends AbstractRegistry implements LifecycleRegistr
     } else {
       Object object;
       try {
-        object = applicationContext.getBean(key);
+        if (applyLifecycle && isPendingOnDemand(key)) {
+          object = createOnDemand(key);
+        } else {
+          object = applicationContext.getBean(key);
+        }
       } catch (NoSuchBeanDefinitionException e) {
         if (logger.isDebugEnabled()) {
           logger.debug(e.getMessage(), e);
@@ -192,6 +221,61 @@ public class SpringRegistry extends AbstractRegistry implements LifecycleRegistr
     }
   }
 
+  /**
+   * @param key the name of a bean
+   * @return whether the bean is to be created on demand and was not created yet.
+   * @since 4.2
+   */
+  public boolean isPendingOnDemand(String key) {
+    if (readOnly || applicationContext == null || !((ConfigurableApplicationContext) applicationContext).isActive()) {
+      return false;
+    }
+
+    ConfigurableListableBeanFactory beanFactory = ((ConfigurableApplicationContext) applicationContext).getBeanFactory();
+    return beanFactory instanceof ObjectProviderAwareBeanFactory
+        && ((ObjectProviderAwareBeanFactory) beanFactory).isPendingOnDemand(key);
+  }
+
+  /**
+   * Creates a bean that was to be created on demand, applying to it the lifecycle phases the artifact already went through.
+   * <p>
+   * This is done holding the lifecycle lock, so concurrent requests for the same bean wait for the first one to finish instead of
+   * creating it again. The components the bean uses that are created on demand too are created as the bean looks them up while
+   * being initialised.
+   * <p>
+   * A bean created while the artifact is starting is started right away, since the start phase may already be past its type. It
+   * is left out of the objects that phase looks up afterwards so it is not started twice.
+   */
+  private Object createOnDemand(String key) {
+    Reference<Object> created = new Reference<>();
+    muleContext.withLifecycleLock(() -> {
+      boolean pending = isPendingOnDemand(key);
+      Object object = applicationContext.getBean(key);
+      if (pending) {
+        if (logger.isDebugEnabled()) {
+          logger.debug(format("Creating component '%s' on demand", key));
+        }
+
+        try {
+          if (muleContext.isInitialised()) {
+            ((MuleContextWithRegistries) muleContext).getRegistry().applyLifecycle(object, Initialisable.PHASE_NAME);
+          }
+          if (muleContext.isStarted() || muleContext.isStarting()) {
+            ((MuleContextWithRegistries) muleContext).getRegistry().applyLifecycle(object, Initialisable.PHASE_NAME,
+                                                                                   Startable.PHASE_NAME);
+            if (!muleContext.isStarted()) {
+              startedOnDemand.add(object);
+            }
+          }
+        } catch (MuleException e) {
+          throw new MuleRuntimeException(createStaticMessage(format("Could not create component '%s' on demand", key)), e);
+        }
+      }
+      created.set(object);
+    });
+    return created.get();
+  }
+
   private void applyLifecycleIfPrototype(Object object, String key, boolean applyLifecycle) {
     if (applyLifecycle && !isSingleton(key)) {
       try {
@@ -222,6 +306,7 @@ public class SpringRegistry extends AbstractRegistry implements LifecycleRegistr
 
   @Override
   public <T> Map<String, T> lookupByType(Class<T> type) {
+    // Components to be created on demand are left out until something looks them up by name
     return internalLookupByType(type, true, true);
   }
 
@@ -345,7 +430,14 @@ public class SpringRegistry extends AbstractRegistry implements LifecycleRegistr
 
   // TODO(pablo.kraan): MULE-12609 - making public to be able to use it from a different package
   public <T> Map<String, T> lookupEntriesForLifecycle(Class<T> type) {
-    return internalLookupByTypeWithoutAncestorsAndObjectProviders(type, false, false);
+    Map<String, T> entries = internalLookupByTypeWithoutAncestorsAndObjectProviders(type, false, false);
+    if (startedOnDemand.isEmpty()) {
+      return entries;
+    }
+
+    Map<String, T> pendingEntries = new LinkedHashMap<>(entries);
+    pendingEntries.values().removeIf(startedOnDemand::contains);
+    return pendingEntries;
   }
 
   // TODO(pablo.kraan): MULE-12609 - making public to be able to use it from a different package
@@ -196,6 +196,25 @@ public class ConfigurationDependencyResolver implements BeanDependencyResolver {
     }
   }
 
+  /**
+   * @param componentName the name attribute value of the component
+   * @return the top level components referenced by the component with component name {@code #componentName} or by its inner
+   *         components, without following the dependencies of those. An empty collection if there is no component with such
+   *         name.
+   * @since 4.2
+   */
+  public Collection<String> resolveDirectComponentDependencies(String componentName) {
+    try {
+      return resolveComponentDependencies(findRequiredComponentModel(componentName))
+          .stream()
+          .filter(dependencyNode -> dependencyNode.isTopLevel())
+          .map(dependencyNode -> dependencyNode.getComponentName())
+          .collect(toList());
+    } catch (NoSuchComponentModelException e) {
+      return emptyList();
+    }
+  }
+
   public ApplicationModel getApplicationModel() {
     return applicationModel;
   }
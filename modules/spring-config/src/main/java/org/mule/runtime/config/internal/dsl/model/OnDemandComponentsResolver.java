@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.config.internal.dsl.model;
+
+import static org.mule.runtime.config.api.dsl.CoreDslConstants.FLOW_IDENTIFIER;
+import static org.mule.runtime.config.api.dsl.CoreDslConstants.SUBFLOW_IDENTIFIER;
+import static org.mule.runtime.config.internal.dsl.spring.ComponentModelHelper.isConfigurationProvider;
+import static org.mule.runtime.config.internal.dsl.spring.ComponentModelHelper.isMessageSource;
+import org.mule.runtime.config.internal.model.ApplicationModel;
+import org.mule.runtime.config.internal.model.ComponentModel;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Determines which top level components of an application may be created on demand, the first time they are used, instead of
+ * when the application starts.
+ * <p/>
+ * Flows with a message source are always created when the application starts, along with every component they depend on. Flows
+ * without a message source are created on demand, unless a component created when the application starts other than a flow
+ * references them. Flows referenced through a flow-ref are not considered dependencies of the referencing flow for this purpose.
+ * <p/>
+ * Configurations referenced only by components created on demand are created on demand too. Configurations not referenced by
+ * any component are always created when the application starts, since they may be used implicitly.
+ *
+ * @since 4.2
+ */
+public class OnDemandComponentsResolver {
+
+  private final ApplicationModel applicationModel;
+  private final ConfigurationDependencyResolver dependencyResolver;
+
+  /**
+   * Creates a new instance associated to a complete {@link ApplicationModel}.
+   *
+   * @param applicationModel the artifact {@link ApplicationModel}.
+   * @param dependencyResolver the resolver for the dependencies between the components of the {@code applicationModel}.
+   */
+  public OnDemandComponentsResolver(ApplicationModel applicationModel, ConfigurationDependencyResolver dependencyResolver) {
+    this.applicationModel = applicationModel;
+    this.dependencyResolver = dependencyResolver;
+  }
+
+  /**
+   * @return the names of the top level components that may be created on demand.
+   */
+  public Set<String> resolveOnDemandComponents() {
+    Set<String> flows = new LinkedHashSet<>();
+    Set<String> configurations = new LinkedHashSet<>();
+    Set<String> subFlows = new HashSet<>();
+    Set<String> startupComponents = new HashSet<>();
+    Set<String> routes = new HashSet<>();
+
+    applicationModel.executeOnEveryRootElement(componentModel -> {
+      String name = componentModel.getNameAttribute();
+      if (name == null) {
+        return;
+      }
+
+      if (FLOW_IDENTIFIER.equals(componentModel.getIdentifier())) {
+        routes.add(name);
+        if (hasMessageSource(componentModel)) {
+          startupComponents.add(name);
+        } else {
+          flows.add(name);
+        }
+      } else if (SUBFLOW_IDENTIFIER.equals(componentModel.getIdentifier())) {
+        routes.add(name);
+        subFlows.add(name);
+      } else if (isConfigurationProvider(componentModel)) {
+        configurations.add(name);
+      } else {
+        startupComponents.add(name);
+      }
+    });
+
+    Set<String> referenced = new HashSet<>();
+    Deque<String> pending = new ArrayDeque<>(startupComponents);
+    while (!pending.isEmpty()) {
+      String component = pending.pop();
+      // flow-refs don't make the referenced flow required at startup
+      boolean followRoutes = !routes.contains(component);
+      for (String dependency : dependencyResolver.resolveDirectComponentDependencies(component)) {
+        referenced.add(dependency);
+        if ((followRoutes || !routes.contains(dependency)) && startupComponents.add(dependency)) {
+          pending.push(dependency);
+        }
+      }
+    }
+
+    for (String onDemandComponent : flows) {
+      referenced.addAll(dependencyResolver.resolveDirectComponentDependencies(onDemandComponent));
+    }
+    for (String onDemandComponent : subFlows) {
+      referenced.addAll(dependencyResolver.resolveDirectComponentDependencies(onDemandComponent));
+    }
+
+    Set<String> onDemandComponents = new LinkedHashSet<>();
+    for (String flow : flows) {
+      if (!startupComponents.contains(flow)) {
+        onDemandComponents.add(flow);
+      }
+    }
+    for (String configuration : configurations) {
+      if (referenced.contains(configuration) && !startupComponents.contains(configuration)) {
+        onDemandComponents.add(configuration);
+      }
+    }
+    return onDemandComponents;
+  }
+
+  private boolean hasMessageSource(ComponentModel flowModel) {
+    return flowModel.getInnerComponents().stream().anyMatch(innerComponent -> isMessageSource(innerComponent));
+  }
+}
@@ -30,6 +30,7 @@ import org.mule.runtime.core.internal.exception.ErrorHandler;
 import org.mule.runtime.core.privileged.exception.TemplateOnErrorHandler;
 import org.mule.runtime.core.internal.routing.AbstractSelectiveRouter;
 import org.mule.runtime.core.privileged.processor.Router;
+import org.mule.runtime.extension.api.runtime.config.ConfigurationProvider;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -75,6 +76,10 @@ public class ComponentModelHelper {
         || componentModel.getComponentType().map(type -> type.equals(SOURCE)).orElse(false);
   }
 
+  public static boolean isConfigurationProvider(ComponentModel componentModel) {
+    return isOfType(componentModel, ConfigurationProvider.class);
+  }
+
   public static boolean isErrorHandler(ComponentModel componentModel) {
     return isOfType(componentModel, ErrorHandler.class)
         || componentModel.getComponentType().map(type -> type.equals(ERROR_HANDLER)).orElse(false);
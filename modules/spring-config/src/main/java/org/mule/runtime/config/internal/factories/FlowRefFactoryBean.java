@@ -19,6 +19,7 @@ import static org.slf4j.LoggerFactory.getLogger;
 import static reactor.core.publisher.Flux.error;
 import static reactor.core.publisher.Flux.from;
 import static reactor.core.publisher.Flux.just;
+import static reactor.core.scheduler.Schedulers.fromExecutorService;
 
 import org.mule.runtime.api.component.AbstractComponent;
 import org.mule.runtime.api.component.Component;
@@ -28,6 +29,7 @@ import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.api.lifecycle.Disposable;
 import org.mule.runtime.api.lifecycle.Stoppable;
+import org.mule.runtime.api.scheduler.Scheduler;
 import org.mule.runtime.config.internal.MuleArtifactContext;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.construct.Flow;
@@ -151,6 +153,9 @@ public class FlowRefFactoryBean extends AbstractComponentFactory<Processor> impl
       try {
         if (muleArtifactContext.getBeanFactory().getBeanDefinition(name).isPrototype()) {
           muleArtifactContext.getPrototypeBeanWithRootContainer(name, getRootContainerLocation().toString());
+        } else if (muleArtifactContext.isPendingOnDemand(name)) {
+          // Look it up through the registry so that it is created along with its lifecycle
+          return (Component) muleArtifactContext.getMuleContext().getRegistry().lookupObject(name);
         }
       } catch (NoSuchBeanDefinitionException e) {
         // Null is handled by the caller method
@@ -179,6 +184,7 @@ public class FlowRefFactoryBean extends AbstractComponentFactory<Processor> impl
 
     private LoadingCache<String, Processor> cache;
     private boolean isExpression;
+    private Scheduler onDemandScheduler;
 
     public FlowRefMessageProcessor() {
       this.cache = CacheBuilder.newBuilder()
@@ -202,34 +208,54 @@ public class FlowRefFactoryBean extends AbstractComponentFactory<Processor> impl
     @Override
     public Publisher<CoreEvent> apply(Publisher<CoreEvent> publisher) {
       return from(publisher).flatMap(event -> {
+        String flowName = resolveFlowName(event);
         Processor referencedProcessor;
         try {
-          referencedProcessor = resolveReferencedProcessor(event);
+          if (isPendingOnDemand(flowName)) {
+            // Creating the flow initialises and starts it holding the lifecycle lock, so keep that out of the event threads
+            return Mono.fromCallable(() -> resolveReferencedProcessor(flowName))
+                .subscribeOn(fromExecutorService(getOnDemandScheduler()))
+                .flatMapMany(processor -> processReferenced(event, processor));
+          }
+          referencedProcessor = resolveReferencedProcessor(flowName);
         } catch (MuleException e) {
           return error(e);
         }
 
-        Flux<CoreEvent> flux;
-        if (referencedProcessor instanceof Flow) {
-          flux = from(processWithChildContext(event, referencedProcessor,
-                                              ofNullable(FlowRefFactoryBean.this.getLocation()),
-                                              ((Flow) referencedProcessor).getExceptionListener()));
-        } else {
-          flux = from(processWithChildContext(event, referencedProcessor,
-                                              ofNullable(FlowRefFactoryBean.this.getLocation())));
-        }
-        return flux.map(outputToTarget(event, target, targetValue, expressionManager));
+        return processReferenced(event, referencedProcessor);
       });
     }
 
-    protected Processor resolveReferencedProcessor(CoreEvent event) throws MuleException {
-      String flowName;
-      if (isExpression) {
-        flowName = expressionManager.parse(refName, event, getLocation());
+    private Flux<CoreEvent> processReferenced(CoreEvent event, Processor referencedProcessor) {
+      Flux<CoreEvent> flux;
+      if (referencedProcessor instanceof Flow) {
+        flux = from(processWithChildContext(event, referencedProcessor,
+                                            ofNullable(FlowRefFactoryBean.this.getLocation()),
+                                            ((Flow) referencedProcessor).getExceptionListener()));
       } else {
-        flowName = refName;
+        flux = from(processWithChildContext(event, referencedProcessor,
+                                            ofNullable(FlowRefFactoryBean.this.getLocation())));
       }
+      return flux.map(outputToTarget(event, target, targetValue, expressionManager));
+    }
+
+    private String resolveFlowName(CoreEvent event) {
+      return isExpression ? expressionManager.parse(refName, event, getLocation()) : refName;
+    }
+
+    private boolean isPendingOnDemand(String flowName) {
+      return flowName != null && cache.getIfPresent(flowName) == null && applicationContext instanceof MuleArtifactContext
+          && ((MuleArtifactContext) applicationContext).isPendingOnDemand(flowName);
+    }
 
+    private synchronized Scheduler getOnDemandScheduler() {
+      if (onDemandScheduler == null) {
+        onDemandScheduler = muleContext.getSchedulerService().ioScheduler(muleContext.getSchedulerBaseConfig());
+      }
+      return onDemandScheduler;
+    }
+
+    private Processor resolveReferencedProcessor(String flowName) throws MuleException {
       try {
         return cache.getUnchecked(flowName);
 
@@ -267,6 +293,13 @@ public class FlowRefFactoryBean extends AbstractComponentFactory<Processor> impl
       }
       cache.invalidateAll();
       cache.cleanUp();
+
+      synchronized (this) {
+        if (onDemandScheduler != null) {
+          onDemandScheduler.stop();
+          onDemandScheduler = null;
+        }
+      }
     }
 
   }
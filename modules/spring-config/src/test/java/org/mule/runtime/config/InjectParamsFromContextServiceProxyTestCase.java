@@ -74,6 +74,19 @@ public class InjectParamsFromContextServiceProxyTestCase extends AbstractMuleCon
     assertThat(augmentedParam, sameInstance(muleContext));
   }
 
+  @Test
+  public void repeatedAugmentedInvocation() throws Exception {
+    BaseService service = new AugmentedMethodService();
+
+    final BaseService serviceProxy = (BaseService) createInjectProviderParamsServiceProxy(service, registry);
+
+    serviceProxy.augmented();
+    augmentedParam = null;
+    serviceProxy.augmented();
+
+    assertThat(augmentedParam, sameInstance(muleContext));
+  }
+
   @Test
   public void augmentedSubclassInvocation() throws Exception {
     BaseService service = new AugmentedSubclassMethodService();
@@ -111,6 +124,21 @@ public class InjectParamsFromContextServiceProxyTestCase extends AbstractMuleCon
     assertThat(augmentedParam, sameInstance(preferredBean));
   }
 
+  @Test
+  public void augmentedOnceInjectableInvocation() throws Exception {
+    BaseService service = new AugmentedWithPreferredMethodService();
+
+    final BaseService serviceProxy = (BaseService) createInjectProviderParamsServiceProxy(service, registry);
+
+    serviceProxy.augmented();
+    assertThat(augmentedParam, nullValue());
+
+    final MyBean bean = new MyBean();
+    registerObject(muleContext, "myBean", bean);
+    serviceProxy.augmented();
+    assertThat(augmentedParam, sameInstance(bean));
+  }
+
   @Test
   public void namedAugmentedInvocation() throws Exception {
     BaseService service = new NamedAugmentedMethodService();
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.config.internal;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.arrayContainingInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.springframework.beans.factory.support.BeanDefinitionBuilder.genericBeanDefinition;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.ArrayList;
+
+import org.junit.Before;
+import org.junit.Test;
+
+@SmallTest
+public class ObjectProviderAwareBeanFactoryTestCase extends AbstractMuleTestCase {
+
+  private ObjectProviderAwareBeanFactory beanFactory;
+
+  @Before
+  public void before() {
+    beanFactory = new ObjectProviderAwareBeanFactory(null);
+    beanFactory.registerBeanDefinition("startup", genericBeanDefinition(ArrayList.class).getBeanDefinition());
+    beanFactory.registerBeanDefinition("onDemand", genericBeanDefinition(ArrayList.class).getBeanDefinition());
+    beanFactory.registerBeanDefinition("neverUsed", genericBeanDefinition(ArrayList.class).getBeanDefinition());
+    beanFactory.setOnDemand("onDemand");
+    beanFactory.setOnDemand("neverUsed");
+  }
+
+  @Test
+  public void onDemandNotCreatedOnStartup() {
+    beanFactory.preInstantiateSingletons();
+
+    assertThat(beanFactory.containsSingleton("startup"), is(true));
+    assertThat(beanFactory.isPendingOnDemand("onDemand"), is(true));
+    assertThat(beanFactory.getPendingOnDemandBeanNames(), is(asList("neverUsed", "onDemand")));
+  }
+
+  @Test
+  public void pendingOnDemandLeftOutOfLookupsByType() {
+    assertThat(beanFactory.getBeanNamesForType(ArrayList.class, false, false), arrayContaining("startup"));
+    assertThat(beanFactory.getBeansOfType(ArrayList.class, false, false).keySet().toArray(), arrayContaining("startup"));
+  }
+
+  @Test
+  public void createdWhenRequestedByName() {
+    beanFactory.getBean("onDemand");
+
+    assertThat(beanFactory.isPendingOnDemand("onDemand"), is(false));
+    assertThat(beanFactory.getBeanNamesForType(ArrayList.class, false, false), arrayContainingInAnyOrder("startup", "onDemand"));
+    assertThat(beanFactory.getPendingOnDemandBeanNames(), is(asList("neverUsed")));
+  }
+
+  @Test
+  public void notOnDemand() {
+    assertThat(beanFactory.isPendingOnDemand("startup"), is(false));
+
+    ObjectProviderAwareBeanFactory withoutOnDemand = new ObjectProviderAwareBeanFactory(null);
+    assertThat(withoutOnDemand.getPendingOnDemandBeanNames(), is(emptyList()));
+  }
+}
@@ -6,6 +6,10 @@
  */
 package org.mule.runtime.config.internal;
 
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.doAnswer;
@@ -24,6 +28,7 @@ import org.mule.tck.size.SmallTest;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -91,6 +96,35 @@ public class SpringLifecycleCallbackTestCase extends AbstractMuleTestCase {
     verifyInitialisation(inOrder, objects, "2", "3", "1", "5", "4");
   }
 
+  @Test
+  public void dependencyGraphKeepsOrder() throws Exception {
+    Map<String, Initialisable> objects = new LinkedHashMap<>();
+    for (int i = 1; i <= 4; i++) {
+      final String key = String.valueOf(i);
+      Initialisable object = newInitialisable();
+      objects.put(key, object);
+      when(springRegistry.get(key)).thenReturn(object);
+    }
+
+    Map<String, Object> childsOf1 = new LinkedHashMap<>();
+    childsOf1.put("2", objects.get("2"));
+    childsOf1.put("3", objects.get("3"));
+
+    Map<String, Object> childsOf4 = new LinkedHashMap<>();
+    childsOf4.put("3", objects.get("3"));
+
+    when(springRegistry.getDependencies("1")).thenReturn(childsOf1);
+    when(springRegistry.getDependencies("4")).thenReturn(childsOf4);
+    Map<Object, Set<Object>> graph =
+        new DefaultBeanDependencyResolver(mock(ConfigurationDependencyResolver.class, RETURNS_DEEP_STUBS), springRegistry)
+            .resolveBeanDependencyGraph(objects.keySet());
+
+    assertThat(graph.keySet(), contains(objects.get("2"), objects.get("3"), objects.get("1"), objects.get("4")));
+    assertThat(graph.get(objects.get("1")), contains(objects.get("2"), objects.get("3")));
+    assertThat(graph.get(objects.get("2")), is(empty()));
+    assertThat(graph.get(objects.get("4")), contains(objects.get("3")));
+  }
+
   private void verifyInitialisation(InOrder inOrder, Map<String, Initialisable> objects, String... keys)
       throws InitialisationException {
     for (String key : keys) {
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.config.internal;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mule.tck.util.MuleContextUtils.mockMuleContext;
+import static org.springframework.beans.factory.support.BeanDefinitionBuilder.genericBeanDefinition;
+import org.mule.runtime.api.lifecycle.Initialisable;
+import org.mule.runtime.api.lifecycle.Startable;
+import org.mule.runtime.config.internal.dsl.model.ConfigurationDependencyResolver;
+import org.mule.runtime.core.internal.context.MuleContextWithRegistries;
+import org.mule.runtime.core.internal.lifecycle.MuleLifecycleInterceptor;
+import org.mule.runtime.core.internal.registry.MuleRegistry;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.support.GenericApplicationContext;
+
+@SmallTest
+public class SpringRegistryOnDemandTestCase extends AbstractMuleTestCase {
+
+  private MuleContextWithRegistries muleContext = mockMuleContext();
+  private MuleRegistry muleRegistry;
+  private GenericApplicationContext applicationContext;
+  private SpringRegistry registry;
+
+  @Before
+  public void before() {
+    doAnswer(invocation -> {
+      ((Runnable) invocation.getArguments()[0]).run();
+      return null;
+    }).when(muleContext).withLifecycleLock(any());
+    muleRegistry = muleContext.getRegistry();
+
+    ObjectProviderAwareBeanFactory beanFactory = new ObjectProviderAwareBeanFactory(null);
+    beanFactory.registerBeanDefinition("startup", genericBeanDefinition(ArrayList.class).getBeanDefinition());
+    beanFactory.registerBeanDefinition("onDemand", genericBeanDefinition(ArrayList.class).getBeanDefinition());
+    beanFactory.registerBeanDefinition("otherOnDemand", genericBeanDefinition(LinkedList.class).getBeanDefinition());
+    beanFactory.setOnDemand("onDemand");
+    beanFactory.setOnDemand("otherOnDemand");
+
+    applicationContext = new GenericApplicationContext(beanFactory);
+    applicationContext.refresh();
+    registry = new SpringRegistry(applicationContext, muleContext, mock(ConfigurationDependencyResolver.class),
+                                  new MuleLifecycleInterceptor());
+  }
+
+  @After
+  public void after() {
+    applicationContext.close();
+  }
+
+  @Test
+  public void createdOnLookupByName() throws Exception {
+    when(muleContext.isInitialised()).thenReturn(true);
+    when(muleContext.isStarted()).thenReturn(true);
+
+    Object onDemand = registry.lookupObject("onDemand");
+
+    assertThat(registry.isPendingOnDemand("onDemand"), is(false));
+    verify(muleRegistry).applyLifecycle(onDemand, Initialisable.PHASE_NAME);
+    verify(muleRegistry).applyLifecycle(onDemand, Initialisable.PHASE_NAME, Startable.PHASE_NAME);
+    assertThat(registry.lookupObject("onDemand"), is(sameInstance(onDemand)));
+  }
+
+  @Test
+  public void onlyInitialisedBeforeStarting() throws Exception {
+    when(muleContext.isInitialised()).thenReturn(true);
+
+    Object onDemand = registry.lookupObject("onDemand");
+
+    verify(muleRegistry).applyLifecycle(onDemand, Initialisable.PHASE_NAME);
+    verify(muleRegistry, never()).applyLifecycle(onDemand, Initialisable.PHASE_NAME, Startable.PHASE_NAME);
+  }
+
+  @Test
+  public void startedWhenCreatedWhileStarting() throws Exception {
+    when(muleContext.isInitialised()).thenReturn(true);
+    when(muleContext.isStarting()).thenReturn(true);
+
+    Object onDemand = registry.lookupObject("onDemand");
+
+    verify(muleRegistry).applyLifecycle(onDemand, Initialisable.PHASE_NAME, Startable.PHASE_NAME);
+    assertThat(registry.lookupEntriesForLifecycle(ArrayList.class).keySet(), contains("startup"));
+  }
+
+  @Test
+  public void notCreatedOnLookupByType() throws Exception {
+    when(muleContext.isInitialised()).thenReturn(true);
+    when(muleContext.isStarted()).thenReturn(true);
+
+    assertThat(registry.lookupByType(ArrayList.class).keySet(), contains("startup"));
+    assertThat(registry.isPendingOnDemand("onDemand"), is(true));
+
+    Object onDemand = registry.lookupObject("onDemand");
+    assertThat(registry.lookupByType(ArrayList.class).keySet(), containsInAnyOrder("startup", "onDemand"));
+    assertThat(registry.isPendingOnDemand("otherOnDemand"), is(true));
+    verify(muleRegistry).applyLifecycle(onDemand, Initialisable.PHASE_NAME, Startable.PHASE_NAME);
+  }
+
+  @Test
+  public void notCreatedOnLookupForLifecycle() {
+    assertThat(registry.lookupEntriesForLifecycle(ArrayList.class).keySet(), contains("startup"));
+    assertThat(registry.isPendingOnDemand("onDemand"), is(true));
+  }
+}
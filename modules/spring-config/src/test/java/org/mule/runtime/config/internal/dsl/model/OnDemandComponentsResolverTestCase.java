@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.config.internal.dsl.model;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.api.component.ComponentIdentifier.builder;
+import static org.mule.runtime.config.api.dsl.CoreDslConstants.FLOW_IDENTIFIER;
+import static org.mule.runtime.config.api.dsl.CoreDslConstants.SUBFLOW_IDENTIFIER;
+import static org.mule.runtime.config.internal.model.ApplicationModel.NAME_ATTRIBUTE;
+import static org.mule.runtime.internal.dsl.DslConstants.CORE_PREFIX;
+import org.mule.runtime.api.component.ComponentIdentifier;
+import org.mule.runtime.config.internal.model.ApplicationModel;
+import org.mule.runtime.config.internal.model.ComponentModel;
+import org.mule.runtime.core.api.source.MessageSource;
+import org.mule.runtime.core.internal.processor.LoggerMessageProcessor;
+import org.mule.runtime.extension.api.runtime.config.ConfigurationProvider;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.Before;
+import org.junit.Test;
+
+@SmallTest
+public class OnDemandComponentsResolverTestCase extends AbstractMuleTestCase {
+
+  private static final ComponentIdentifier CONFIG_IDENTIFIER = builder().namespace("test").name("config").build();
+  private static final ComponentIdentifier SOURCE_IDENTIFIER = builder().namespace("test").name("listener").build();
+  private static final ComponentIdentifier LOGGER_IDENTIFIER = builder().namespace(CORE_PREFIX).name("logger").build();
+
+  private final List<ComponentModel> rootComponents = new ArrayList<>();
+  private ApplicationModel applicationModel = mock(ApplicationModel.class);
+  private ConfigurationDependencyResolver dependencyResolver = mock(ConfigurationDependencyResolver.class);
+
+  @Before
+  public void before() {
+    doAnswer(invocation -> {
+      rootComponents.forEach((Consumer<ComponentModel>) invocation.getArguments()[0]);
+      return null;
+    }).when(applicationModel).executeOnEveryRootElement(any());
+    when(dependencyResolver.resolveDirectComponentDependencies(anyString())).thenReturn(emptyList());
+  }
+
+  @Test
+  public void flowWithSourceCreatedOnStartup() {
+    flow("withSource", true);
+    flow("withoutSource", false);
+
+    assertThat(resolve(), containsInAnyOrder("withoutSource"));
+  }
+
+  @Test
+  public void flowReferencedThroughFlowRefCreatedOnDemand() {
+    flow("withSource", true);
+    flow("referenced", false);
+    dependsOn("withSource", "referenced");
+
+    assertThat(resolve(), containsInAnyOrder("referenced"));
+  }
+
+  @Test
+  public void flowReferencedByOtherComponentCreatedOnStartup() {
+    flow("referenced", false);
+    root("scheduler", LOGGER_IDENTIFIER, LoggerMessageProcessor.class);
+    dependsOn("scheduler", "referenced");
+
+    assertThat(resolve(), empty());
+  }
+
+  @Test
+  public void configOfOnDemandFlowCreatedOnDemand() {
+    flow("withSource", true);
+    flow("withoutSource", false);
+    root("sharedConfig", CONFIG_IDENTIFIER, ConfigurationProvider.class);
+    root("onDemandConfig", CONFIG_IDENTIFIER, ConfigurationProvider.class);
+    dependsOn("withSource", "sharedConfig");
+    dependsOn("withoutSource", "sharedConfig", "onDemandConfig");
+
+    assertThat(resolve(), containsInAnyOrder("withoutSource", "onDemandConfig"));
+  }
+
+  @Test
+  public void configOfSubFlowCreatedOnDemand() {
+    root("subFlow", SUBFLOW_IDENTIFIER, null);
+    root("subFlowConfig", CONFIG_IDENTIFIER, ConfigurationProvider.class);
+    dependsOn("subFlow", "subFlowConfig");
+
+    assertThat(resolve(), containsInAnyOrder("subFlowConfig"));
+  }
+
+  @Test
+  public void unreferencedConfigCreatedOnStartup() {
+    root("unreferenced", CONFIG_IDENTIFIER, ConfigurationProvider.class);
+
+    assertThat(resolve(), empty());
+  }
+
+  private Object resolve() {
+    return new OnDemandComponentsResolver(applicationModel, dependencyResolver).resolveOnDemandComponents();
+  }
+
+  private void flow(String name, boolean withSource) {
+    ComponentModel.Builder builder = new ComponentModel.Builder()
+        .setIdentifier(FLOW_IDENTIFIER)
+        .addParameter(NAME_ATTRIBUTE, name, false);
+    if (withSource) {
+      ComponentModel source = new ComponentModel.Builder().setIdentifier(SOURCE_IDENTIFIER).build();
+      source.setType(MessageSource.class);
+      builder.addChildComponentModel(source);
+    }
+    rootComponents.add(builder.build());
+  }
+
+  private void root(String name, ComponentIdentifier identifier, Class<?> type) {
+    ComponentModel componentModel = new ComponentModel.Builder()
+        .setIdentifier(identifier)
+        .addParameter(NAME_ATTRIBUTE, name, false)
+        .build();
+    componentModel.setType(type);
+    rootComponents.add(componentModel);
+  }
+
+  private void dependsOn(String component, String... dependencies) {
+    when(dependencyResolver.resolveDirectComponentDependencies(component)).thenReturn(asList(dependencies));
+  }
+}
@@ -6,8 +6,14 @@
  */
 package org.mule.runtime.module.tls.internal;
 
+import static java.lang.Long.getLong;
+import static java.lang.String.format;
+import static java.lang.System.nanoTime;
 import static java.util.Arrays.copyOf;
+import static java.util.Collections.list;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 
 import org.mule.runtime.api.component.AbstractComponent;
 import org.mule.runtime.api.lifecycle.CreateException;
@@ -17,6 +23,7 @@ import org.mule.runtime.api.tls.TlsContextFactory;
 import org.mule.runtime.api.tls.TlsContextKeyStoreConfiguration;
 import org.mule.runtime.api.tls.TlsContextTrustStoreConfiguration;
 import org.mule.runtime.core.api.util.FileUtils;
+import org.mule.runtime.core.api.util.IOUtils;
 import org.mule.runtime.core.api.util.StringUtils;
 import org.mule.runtime.core.internal.secutiry.tls.RestrictedSSLServerSocketFactory;
 import org.mule.runtime.core.internal.secutiry.tls.RestrictedSSLSocketFactory;
@@ -26,16 +33,26 @@ import org.mule.runtime.core.privileged.security.tls.TlsConfiguration;
 
 import com.google.common.base.Joiner;
 
+import java.io.File;
 import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLServerSocketFactory;
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSessionContext;
 import javax.net.ssl.SSLSocketFactory;
 import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.X509ExtendedKeyManager;
+import javax.net.ssl.X509ExtendedTrustManager;
 import javax.net.ssl.X509TrustManager;
 import javax.xml.namespace.QName;
 
@@ -45,12 +62,22 @@ import org.slf4j.LoggerFactory;
 /**
  * Default implementation of the {@code TlsContextFactory} interface, which delegates all its operations to a
  * {@code TlsConfiguration} object. Only enabled cipher suites and protocols will not delegate to it if configured.
+ * <p>
+ * Once initialised, the {@link SSLContext} is created only once and shared by all the socket factories and clients of this
+ * factory, so they also share its TLS session caches. Key stores and trust stores loaded from files are checked for
+ * modifications during handshakes and reloaded into the shared context when changed.
  */
 public class DefaultTlsContextFactory extends AbstractComponent implements TlsContextFactory, Initialisable {
 
   private static final Logger logger = LoggerFactory.getLogger(DefaultTlsContextFactory.class);
   private static final String DEFAULT = "default";
 
+  /**
+   * System property with the minimum time, in milliseconds, between two checks for modifications of the key store and trust
+   * store files.
+   */
+  private static final String STORES_CHECK_INTERVAL_PROPERTY = SYSTEM_PROPERTY_PREFIX + "tls.storesCheckInterval";
+
   private String name;
 
   private final TlsConfiguration tlsConfiguration;
@@ -59,6 +86,20 @@ public class DefaultTlsContextFactory extends AbstractComponent implements TlsCo
   private boolean trustStoreInsecure = false;
   private String[] enabledProtocols;
   private String[] enabledCipherSuites;
+  private Integer sessionCacheSize;
+  private Integer sessionTimeout;
+
+  private volatile boolean storesLoaded = false;
+  private volatile SSLContext sslContext;
+
+  private ReloadableKeyManager reloadableKeyManager;
+  private File keyStoreFile;
+  private long keyStoreLastModified;
+  private ReloadableTrustManager reloadableTrustManager;
+  private File trustStoreFile;
+  private long trustStoreLastModified;
+  private volatile long nextStoresCheck;
+  private final long storesCheckInterval = MILLISECONDS.toNanos(getLong(STORES_CHECK_INTERVAL_PROPERTY, 10000L));
 
   public DefaultTlsContextFactory(Map<QName, Object> annotations) {
     tlsConfiguration = new TlsConfiguration(null);
@@ -77,6 +118,7 @@ public class DefaultTlsContextFactory extends AbstractComponent implements TlsCo
       throw new InitialisationException(createStaticMessage("Unable to initialise TLS configuration"), e,
                                         this);
     }
+    storesLoaded = true;
 
     if (!isUseDefaults(enabledProtocols)) {
       String[] globalEnabledProtocols = tlsConfiguration.getEnabledProtocols();
@@ -218,15 +260,188 @@ public class DefaultTlsContextFactory extends AbstractComponent implements TlsCo
     tlsConfiguration.setRevocationCheck(revocationCheck);
   }
 
+  public Integer getSessionCacheSize() {
+    return sessionCacheSize;
+  }
+
+  /**
+   * @param sessionCacheSize the maximum amount of TLS sessions to keep for resumption, both client and server side. {@code 0}
+   *        means no limit. If not set, the JDK default is used.
+   */
+  public void setSessionCacheSize(Integer sessionCacheSize) {
+    this.sessionCacheSize = sessionCacheSize;
+  }
+
+  public Integer getSessionTimeout() {
+    return sessionTimeout;
+  }
+
+  /**
+   * @param sessionTimeout the time, in seconds, that TLS sessions are kept for resumption, both client and server side.
+   *        {@code 0} means no limit. If not set, the JDK default is used.
+   */
+  public void setSessionTimeout(Integer sessionTimeout) {
+    this.sessionTimeout = sessionTimeout;
+  }
+
   @Override
   public SSLContext createSslContext() throws KeyManagementException, NoSuchAlgorithmException {
-    SSLContext sslContext;
+    if (!storesLoaded) {
+      // Nothing to share yet, the stores will be loaded on initialise
+      return configureSessions(createUnsharedSslContext());
+    }
+
+    SSLContext context = sslContext;
+    if (context == null) {
+      synchronized (this) {
+        context = sslContext;
+        if (context == null) {
+          context = SSLContext.getInstance(tlsConfiguration.getSslType());
+          context.init(createKeyManagers(), createTrustManagers(), null);
+          sslContext = configureSessions(context);
+        }
+      }
+    }
+    return context;
+  }
+
+  private SSLContext createUnsharedSslContext() throws KeyManagementException, NoSuchAlgorithmException {
     if (trustStoreInsecure) {
-      sslContext = tlsConfiguration.getSslContext(new TrustManager[] {new InsecureTrustManager()});
+      return tlsConfiguration.getSslContext(new TrustManager[] {new InsecureTrustManager()});
     } else {
-      sslContext = tlsConfiguration.getSslContext();
+      return tlsConfiguration.getSslContext();
+    }
+  }
+
+  private SSLContext configureSessions(SSLContext context) {
+    configureSessions(context.getClientSessionContext());
+    configureSessions(context.getServerSessionContext());
+    return context;
+  }
+
+  private void configureSessions(SSLSessionContext sessionContext) {
+    if (sessionCacheSize != null) {
+      sessionContext.setSessionCacheSize(sessionCacheSize);
+    }
+    if (sessionTimeout != null) {
+      sessionContext.setSessionTimeout(sessionTimeout);
+    }
+  }
+
+  private KeyManager[] createKeyManagers() {
+    KeyManagerFactory keyManagerFactory = tlsConfiguration.getKeyManagerFactory();
+    if (keyManagerFactory == null) {
+      return null;
+    }
+
+    KeyManager[] keyManagers = keyManagerFactory.getKeyManagers();
+    keyStoreFile = resolveStoreFile(getKeyStorePath());
+    if (keyStoreFile != null && keyManagers.length == 1 && keyManagers[0] instanceof X509ExtendedKeyManager) {
+      keyStoreLastModified = keyStoreFile.lastModified();
+      nextStoresCheck = nanoTime() + storesCheckInterval;
+      reloadableKeyManager = new ReloadableKeyManager((X509ExtendedKeyManager) keyManagers[0], this::reloadStoresIfModified);
+      return new KeyManager[] {reloadableKeyManager};
+    }
+    return keyManagers;
+  }
+
+  private TrustManager[] createTrustManagers() {
+    if (trustStoreInsecure) {
+      return new TrustManager[] {new InsecureTrustManager()};
+    }
+
+    TrustManagerFactory trustManagerFactory = tlsConfiguration.getTrustManagerFactory();
+    if (trustManagerFactory == null) {
+      return null;
+    }
+
+    TrustManager[] trustManagers = trustManagerFactory.getTrustManagers();
+    trustStoreFile = resolveStoreFile(getTrustStorePath());
+    if (trustStoreFile != null && trustManagers.length == 1 && trustManagers[0] instanceof X509ExtendedTrustManager) {
+      trustStoreLastModified = trustStoreFile.lastModified();
+      nextStoresCheck = nanoTime() + storesCheckInterval;
+      reloadableTrustManager =
+          new ReloadableTrustManager((X509ExtendedTrustManager) trustManagers[0], this::reloadStoresIfModified);
+      return new TrustManager[] {reloadableTrustManager};
+    }
+    return trustManagers;
+  }
+
+  /**
+   * @return the file a store is loaded from, or {@code null} if it is not loaded from a file (i.e.: packaged in a jar) and
+   *         therefore cannot change.
+   */
+  private File resolveStoreFile(String storePath) {
+    if (storePath == null) {
+      return null;
+    }
+
+    URL storeUrl = IOUtils.getResourceAsUrl(storePath, getClass());
+    if (storeUrl == null || !"file".equals(storeUrl.getProtocol())) {
+      return null;
+    }
+    try {
+      return new File(storeUrl.toURI());
+    } catch (URISyntaxException e) {
+      return null;
+    }
+  }
+
+  private void reloadStoresIfModified() {
+    if (nanoTime() - nextStoresCheck < 0) {
+      return;
+    }
+
+    synchronized (this) {
+      long now = nanoTime();
+      if (now - nextStoresCheck < 0) {
+        return;
+      }
+      nextStoresCheck = now + storesCheckInterval;
+
+      long keyStoreModified = reloadableKeyManager != null ? keyStoreFile.lastModified() : keyStoreLastModified;
+      long trustStoreModified = reloadableTrustManager != null ? trustStoreFile.lastModified() : trustStoreLastModified;
+      if (keyStoreModified == keyStoreLastModified && trustStoreModified == trustStoreLastModified) {
+        return;
+      }
+
+      try {
+        tlsConfiguration.initialise(null == getKeyStorePath(), null);
+      } catch (CreateException e) {
+        logger.warn(format("Could not reload the stores of TLS context %s, the previously loaded ones will still be used",
+                           name == null ? StringUtils.EMPTY : name),
+                    e);
+        return;
+      }
+
+      if (reloadableKeyManager != null) {
+        KeyManager keyManager = tlsConfiguration.getKeyManagerFactory().getKeyManagers()[0];
+        if (keyManager instanceof X509ExtendedKeyManager) {
+          reloadableKeyManager.setDelegate((X509ExtendedKeyManager) keyManager);
+        }
+      }
+      if (reloadableTrustManager != null) {
+        TrustManager trustManager = tlsConfiguration.getTrustManagerFactory().getTrustManagers()[0];
+        if (trustManager instanceof X509ExtendedTrustManager) {
+          reloadableTrustManager.setDelegate((X509ExtendedTrustManager) trustManager);
+        }
+      }
+      keyStoreLastModified = keyStoreModified;
+      trustStoreLastModified = trustStoreModified;
+
+      // Sessions negotiated with the previous stores must not be resumed
+      invalidateSessions(sslContext.getClientSessionContext());
+      invalidateSessions(sslContext.getServerSessionContext());
+    }
+  }
+
+  private void invalidateSessions(SSLSessionContext sessionContext) {
+    for (byte[] sessionId : list(sessionContext.getIds())) {
+      SSLSession session = sessionContext.getSession(sessionId);
+      if (session != null) {
+        session.invalidate();
+      }
     }
-    return sslContext;
   }
 
   @Override
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.tls.internal;
+
+import java.net.Socket;
+import java.security.Principal;
+import java.security.PrivateKey;
+import java.security.cert.X509Certificate;
+
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.X509ExtendedKeyManager;
+
+/**
+ * {@link X509ExtendedKeyManager} that delegates to a key manager that may be replaced when its key store is reloaded, so that
+ * an already created {@link javax.net.ssl.SSLContext} picks up the new keys on the following handshakes.
+ *
+ * @since 4.2
+ */
+class ReloadableKeyManager extends X509ExtendedKeyManager {
+
+  private final Runnable reloadCheck;
+  private volatile X509ExtendedKeyManager delegate;
+
+  /**
+   * @param delegate the key manager to use until it is replaced.
+   * @param reloadCheck called at the start of each handshake to give the owner the chance to replace the delegate.
+   */
+  ReloadableKeyManager(X509ExtendedKeyManager delegate, Runnable reloadCheck) {
+    this.delegate = delegate;
+    this.reloadCheck = reloadCheck;
+  }
+
+  void setDelegate(X509ExtendedKeyManager delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public String[] getClientAliases(String keyType, Principal[] issuers) {
+    return delegate.getClientAliases(keyType, issuers);
+  }
+
+  @Override
+  public String chooseClientAlias(String[] keyType, Principal[] issuers, Socket socket) {
+    reloadCheck.run();
+    return delegate.chooseClientAlias(keyType, issuers, socket);
+  }
+
+  @Override
+  public String chooseEngineClientAlias(String[] keyType, Principal[] issuers, SSLEngine engine) {
+    reloadCheck.run();
+    return delegate.chooseEngineClientAlias(keyType, issuers, engine);
+  }
+
+  @Override
+  public String[] getServerAliases(String keyType, Principal[] issuers) {
+    return delegate.getServerAliases(keyType, issuers);
+  }
+
+  @Override
+  public String chooseServerAlias(String keyType, Principal[] issuers, Socket socket) {
+    reloadCheck.run();
+    return delegate.chooseServerAlias(keyType, issuers, socket);
+  }
+
+  @Override
+  public String chooseEngineServerAlias(String keyType, Principal[] issuers, SSLEngine engine) {
+    reloadCheck.run();
+    return delegate.chooseEngineServerAlias(keyType, issuers, engine);
+  }
+
+  @Override
+  public X509Certificate[] getCertificateChain(String alias) {
+    return delegate.getCertificateChain(alias);
+  }
+
+  @Override
+  public PrivateKey getPrivateKey(String alias) {
+    return delegate.getPrivateKey(alias);
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.tls.internal;
+
+import java.net.Socket;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.X509ExtendedTrustManager;
+
+/**
+ * {@link X509ExtendedTrustManager} that delegates to a trust manager that may be replaced when its trust store is reloaded, so
+ * that an already created {@link javax.net.ssl.SSLContext} validates the following handshakes against the new certificates.
+ *
+ * @since 4.2
+ */
+class ReloadableTrustManager extends X509ExtendedTrustManager {
+
+  private final Runnable reloadCheck;
+  private volatile X509ExtendedTrustManager delegate;
+
+  /**
+   * @param delegate the trust manager to use until it is replaced.
+   * @param reloadCheck called before each validation to give the owner the chance to replace the delegate.
+   */
+  ReloadableTrustManager(X509ExtendedTrustManager delegate, Runnable reloadCheck) {
+    this.delegate = delegate;
+    this.reloadCheck = reloadCheck;
+  }
+
+  void setDelegate(X509ExtendedTrustManager delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public void checkClientTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+    reloadCheck.run();
+    delegate.checkClientTrusted(chain, authType);
+  }
+
+  @Override
+  public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket) throws CertificateException {
+    reloadCheck.run();
+    delegate.checkClientTrusted(chain, authType, socket);
+  }
+
+  @Override
+  public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine) throws CertificateException {
+    reloadCheck.run();
+    delegate.checkClientTrusted(chain, authType, engine);
+  }
+
+  @Override
+  public void checkServerTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+    reloadCheck.run();
+    delegate.checkServerTrusted(chain, authType);
+  }
+
+  @Override
+  public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket) throws CertificateException {
+    reloadCheck.run();
+    delegate.checkServerTrusted(chain, authType, socket);
+  }
+
+  @Override
+  public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine) throws CertificateException {
+    reloadCheck.run();
+    delegate.checkServerTrusted(chain, authType, engine);
+  }
+
+  @Override
+  public X509Certificate[] getAcceptedIssuers() {
+    return delegate.getAcceptedIssuers();
+  }
+}
@@ -83,6 +83,7 @@ public class TlsComponentBuildingDefinitionProvider implements ComponentBuilding
     componentBuildingDefinitions
         .add(baseDefinition.withIdentifier(TLS_CRL_FILE_ELEMENT_IDENTIFIER).withTypeDefinition(fromType(CrlFile.class))
             .withSetterParameterDefinition("path", fromSimpleParameter("path").build())
+            .withSetterParameterDefinition("refreshInterval", fromSimpleParameter("refreshInterval").build())
             .build());
 
     componentBuildingDefinitions
@@ -92,6 +93,8 @@ public class TlsComponentBuildingDefinitionProvider implements ComponentBuilding
             .withSetterParameterDefinition("name", fromSimpleParameter("name").build())
             .withSetterParameterDefinition("enabledProtocols", fromSimpleParameter("enabledProtocols").build())
             .withSetterParameterDefinition("enabledCipherSuites", fromSimpleParameter("enabledCipherSuites").build())
+            .withSetterParameterDefinition("sessionCacheSize", fromSimpleParameter("sessionCacheSize").build())
+            .withSetterParameterDefinition("sessionTimeout", fromSimpleParameter("sessionTimeout").build())
             .withSetterParameterDefinition("keyStore", fromChildConfiguration(KeyStoreConfig.class).build())
             .withSetterParameterDefinition("trustStore", fromChildConfiguration(TrustStoreConfig.class).build())
             .withSetterParameterDefinition("revocationCheck", fromChildConfiguration(RevocationCheck.class)
@@ -6,13 +6,20 @@
  */
 package org.mule.runtime.module.tls.internal.revocation;
 
+import static java.lang.System.nanoTime;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableCollection;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
 
 import org.mule.runtime.core.api.util.IOUtils;
 import org.mule.runtime.core.privileged.security.RevocationCheck;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
 import java.security.GeneralSecurityException;
 import java.security.KeyStore;
 import java.security.cert.CRL;
@@ -25,14 +32,19 @@ import java.security.cert.PKIXBuilderParameters;
 import java.security.cert.TrustAnchor;
 import java.security.cert.X509CertSelector;
 import java.security.cert.X509Certificate;
+import java.util.AbstractCollection;
 import java.util.Collection;
 import java.util.Enumeration;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Set;
 
 import javax.net.ssl.CertPathTrustManagerParameters;
 import javax.net.ssl.ManagerFactoryParameters;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 /**
  * Local file based certificate revocation checker, which requires a CRL file to be accessible and ignores
  * extension points (additional tags for CRLDP and OCSP) in the certificate.
@@ -40,16 +52,37 @@ import javax.net.ssl.ManagerFactoryParameters;
  * Note that the signer of the CRL must be the client certificate's CA, in case that's not possible consider
  * using {@link CustomOcspResponder}.
  *
+ * The CRL file is parsed once and shared by all the trust managers created from this check. If a refresh interval is set, the
+ * file is checked for modifications at most once per interval and parsed again if changed.
+ *
  * @since 4.1
  */
 public class CrlFile implements RevocationCheck {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(CrlFile.class);
+
   private String path;
+  private long refreshInterval = 0;
+
+  private final Collection<CRL> crls = new RefreshingCrls();
+  private volatile Collection<CRL> loadedCrls;
+  private File crlFile;
+  private long crlFileLastModified;
+  private volatile long nextRefresh;
 
   public void setPath(String path) {
     this.path = path;
   }
 
+  /**
+   * @param refreshInterval the minimum time, in milliseconds, between two checks for modifications of the CRL file. {@code 0}
+   *        (the default) means that the file is never parsed again after it is first loaded.
+   */
+  public void setRefreshInterval(long refreshInterval) {
+    checkArgument(refreshInterval >= 0, "tls:crl-file 'refreshInterval' cannot be negative");
+    this.refreshInterval = refreshInterval;
+  }
+
   @Override
   public ManagerFactoryParameters configFor(KeyStore trustStore, Set<TrustAnchor> defaultTrustAnchors) {
     checkArgument(path != null, "tls:crl-file requires the 'path' attribute");
@@ -62,8 +95,8 @@ public class CrlFile implements RevocationCheck {
       // Make sure revocation checking is enabled (com.sun.net.ssl.checkRevocation)
       pbParams.setRevocationEnabled(true);
 
-      Collection<? extends CRL> crls = loadCRL(path);
-      if (crls != null && !crls.isEmpty()) {
+      if (loadCrlsIfNeeded()) {
+        // The cert store does not copy the collection, so refreshed CRLs are seen by the trust managers already created
         pbParams.addCertStore(CertStore.getInstance("Collection", new CollectionCertStoreParameters(crls)));
       }
 
@@ -73,6 +106,61 @@ public class CrlFile implements RevocationCheck {
     }
   }
 
+  /**
+   * @return whether there are CRLs to check against.
+   */
+  private synchronized boolean loadCrlsIfNeeded() throws CertificateException, IOException, CRLException {
+    if (loadedCrls == null) {
+      Collection<? extends CRL> initialCrls = loadCRL(path);
+      loadedCrls = initialCrls != null ? unmodifiableCollection(initialCrls) : emptyList();
+      crlFile = resolveCrlFile();
+      if (crlFile != null) {
+        crlFileLastModified = crlFile.lastModified();
+      }
+      nextRefresh = nanoTime() + MILLISECONDS.toNanos(refreshInterval);
+    }
+
+    return !loadedCrls.isEmpty() || (refreshInterval > 0 && crlFile != null);
+  }
+
+  private void refreshIfNeeded() {
+    if (refreshInterval == 0 || crlFile == null || nanoTime() - nextRefresh < 0) {
+      return;
+    }
+
+    synchronized (this) {
+      long now = nanoTime();
+      if (now - nextRefresh < 0) {
+        return;
+      }
+      nextRefresh = now + MILLISECONDS.toNanos(refreshInterval);
+
+      long lastModified = crlFile.lastModified();
+      if (lastModified == crlFileLastModified) {
+        return;
+      }
+      try {
+        Collection<? extends CRL> refreshedCrls = loadCRL(path);
+        loadedCrls = refreshedCrls != null ? unmodifiableCollection(refreshedCrls) : emptyList();
+        crlFileLastModified = lastModified;
+      } catch (IOException | GeneralSecurityException e) {
+        LOGGER.warn("Could not refresh CRL file " + path + ", the previously loaded CRLs will still be used", e);
+      }
+    }
+  }
+
+  private File resolveCrlFile() {
+    URL crlUrl = IOUtils.getResourceAsUrl(path, getClass());
+    if (crlUrl == null || !"file".equals(crlUrl.getProtocol())) {
+      return null;
+    }
+    try {
+      return new File(crlUrl.toURI());
+    } catch (URISyntaxException e) {
+      return null;
+    }
+  }
+
   private Collection<? extends CRL> loadCRL(String crlPath) throws CertificateException, IOException, CRLException {
     Collection<? extends CRL> crlList = null;
 
@@ -104,6 +192,23 @@ public class CrlFile implements RevocationCheck {
     return trustAnchors;
   }
 
+  /**
+   * Live view of the loaded CRLs, refreshed from the file when iterated if the refresh interval elapsed.
+   */
+  private class RefreshingCrls extends AbstractCollection<CRL> {
+
+    @Override
+    public Iterator<CRL> iterator() {
+      refreshIfNeeded();
+      return loadedCrls.iterator();
+    }
+
+    @Override
+    public int size() {
+      return loadedCrls.size();
+    }
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
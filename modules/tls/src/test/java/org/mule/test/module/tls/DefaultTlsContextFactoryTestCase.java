@@ -12,6 +12,7 @@ import static org.hamcrest.Matchers.arrayContainingInAnyOrder;
 import static org.hamcrest.Matchers.arrayWithSize;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
 import static org.mule.runtime.core.privileged.security.tls.TlsConfiguration.DEFAULT_SECURITY_MODEL;
@@ -152,4 +153,32 @@ public class DefaultTlsContextFactoryTestCase extends AbstractMuleTestCase {
     assertThat(defaultFactory.getDefaultCipherSuites(), arrayContainingInAnyOrder(tls12Factory.getDefaultCipherSuites()));
   }
 
+  @Test
+  public void sslContextShared() throws Exception {
+    DefaultTlsContextFactory tlsContextFactory = new DefaultTlsContextFactory(emptyMap());
+    tlsContextFactory.setTrustStorePath("trustStore");
+    tlsContextFactory.setTrustStorePassword("mulepassword");
+    tlsContextFactory.setKeyStorePath("serverKeystore");
+    tlsContextFactory.setKeyStorePassword("mulepassword");
+    tlsContextFactory.setKeyPassword("mulepassword");
+    tlsContextFactory.initialise();
+
+    SSLContext sslContext = tlsContextFactory.createSslContext();
+    assertThat(tlsContextFactory.createSslContext(), is(sameInstance(sslContext)));
+  }
+
+  @Test
+  public void sessionCacheSettings() throws Exception {
+    DefaultTlsContextFactory tlsContextFactory = new DefaultTlsContextFactory(emptyMap());
+    tlsContextFactory.setSessionCacheSize(42);
+    tlsContextFactory.setSessionTimeout(300);
+    tlsContextFactory.initialise();
+
+    SSLContext sslContext = tlsContextFactory.createSslContext();
+    assertThat(sslContext.getClientSessionContext().getSessionCacheSize(), is(42));
+    assertThat(sslContext.getClientSessionContext().getSessionTimeout(), is(300));
+    assertThat(sslContext.getServerSessionContext().getSessionCacheSize(), is(42));
+    assertThat(sslContext.getServerSessionContext().getSessionTimeout(), is(300));
+  }
+
 }
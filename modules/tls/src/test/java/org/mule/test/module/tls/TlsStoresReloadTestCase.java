@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.test.module.tls;
+
+import static java.nio.file.Files.copy;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static java.util.concurrent.Executors.newSingleThreadExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+import static org.mule.tck.probe.PollingProber.probe;
+
+import org.mule.runtime.module.tls.internal.DefaultTlsContextFactory;
+import org.mule.runtime.module.tls.internal.revocation.CrlFile;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.junit4.rule.SystemProperty;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.security.KeyStore;
+import java.security.cert.CRL;
+import java.security.cert.CertStore;
+import java.security.cert.Certificate;
+import java.security.cert.PKIXBuilderParameters;
+import java.security.cert.X509CRL;
+import java.security.cert.X509CRLEntry;
+import java.security.cert.X509CRLSelector;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import javax.net.ssl.CertPathTrustManagerParameters;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLHandshakeException;
+import javax.net.ssl.SSLServerSocket;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.TrustManagerFactory;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TlsStoresReloadTestCase extends AbstractMuleTestCase {
+
+  private static final String PASSWORD = "mulepassword";
+  private static final long TIMEOUT = 5000;
+
+  @Rule
+  public SystemProperty storesCheckInterval = new SystemProperty(SYSTEM_PROPERTY_PREFIX + "tls.storesCheckInterval", "0");
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final ExecutorService serverExecutor = newSingleThreadExecutor();
+
+  @After
+  public void after() {
+    serverExecutor.shutdownNow();
+  }
+
+  @Test
+  public void keyStoreReloaded() throws Exception {
+    File keyStore = copyResource("reloadKeystoreA");
+    DefaultTlsContextFactory tlsContextFactory = new DefaultTlsContextFactory(emptyMap());
+    tlsContextFactory.setKeyStorePath(keyStore.getAbsolutePath());
+    tlsContextFactory.setKeyStorePassword(PASSWORD);
+    tlsContextFactory.setKeyPassword(PASSWORD);
+    tlsContextFactory.initialise();
+
+    try (SSLServerSocket serverSocket =
+        (SSLServerSocket) tlsContextFactory.createServerSocketFactory().createServerSocket(0)) {
+      assertThat(handshake(serverSocket, clientContext("reloadTrustStoreA").getSocketFactory()),
+                 is(certificate("reloadKeystoreA", "reloadA")));
+
+      replace(keyStore, "reloadKeystoreB");
+
+      assertThat(handshake(serverSocket, clientContext("reloadTrustStoreB").getSocketFactory()),
+                 is(certificate("reloadKeystoreB", "reloadB")));
+    }
+  }
+
+  @Test
+  public void trustStoreReloaded() throws Exception {
+    File trustStore = copyResource("reloadTrustStoreB");
+    DefaultTlsContextFactory tlsContextFactory = new DefaultTlsContextFactory(emptyMap());
+    tlsContextFactory.setTrustStorePath(trustStore.getAbsolutePath());
+    tlsContextFactory.setTrustStorePassword(PASSWORD);
+    tlsContextFactory.initialise();
+
+    try (SSLServerSocket serverSocket =
+        (SSLServerSocket) serverContext("reloadKeystoreA").getServerSocketFactory().createServerSocket(0)) {
+      try {
+        handshake(serverSocket, tlsContextFactory.createSocketFactory());
+        fail("The server certificate should not be trusted");
+      } catch (SSLHandshakeException e) {
+        // expected
+      }
+
+      replace(trustStore, "reloadTrustStoreA");
+
+      assertThat(handshake(serverSocket, tlsContextFactory.createSocketFactory()),
+                 is(certificate("reloadKeystoreA", "reloadA")));
+    }
+  }
+
+  @Test
+  public void crlReloadedAfterRefreshInterval() throws Exception {
+    File crl = copyResource("reloadEmptyCrl.crl");
+    CrlFile crlFile = new CrlFile();
+    crlFile.setPath(crl.getAbsolutePath());
+    crlFile.setRefreshInterval(2000);
+
+    CertPathTrustManagerParameters parameters =
+        (CertPathTrustManagerParameters) crlFile.configFor(loadKeyStore("reloadTrustStoreA"), emptySet());
+    CertStore certStore = ((PKIXBuilderParameters) parameters.getParameters()).getCertStores().get(0);
+    assertThat(revokedSerials(certStore), is(empty()));
+
+    replace(crl, "reloadRevokedCrl.crl");
+
+    // not parsed again until the refresh interval elapses
+    assertThat(revokedSerials(certStore), is(empty()));
+    probe(TIMEOUT, 100, () -> revokedSerials(certStore).equals(singleton(BigInteger.valueOf(4242))));
+  }
+
+  private Certificate handshake(SSLServerSocket serverSocket, SSLSocketFactory clientSocketFactory) throws Exception {
+    Future<?> server = serverExecutor.submit(() -> {
+      try (SSLSocket socket = (SSLSocket) serverSocket.accept()) {
+        socket.startHandshake();
+      } catch (IOException e) {
+        // the outcome is checked on the client side
+      }
+      return null;
+    });
+
+    try (SSLSocket socket = (SSLSocket) clientSocketFactory.createSocket("localhost", serverSocket.getLocalPort())) {
+      socket.startHandshake();
+      return socket.getSession().getPeerCertificates()[0];
+    } finally {
+      server.get(TIMEOUT, MILLISECONDS);
+    }
+  }
+
+  private SSLContext clientContext(String trustStore) throws Exception {
+    TrustManagerFactory trustManagerFactory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+    trustManagerFactory.init(loadKeyStore(trustStore));
+    SSLContext context = SSLContext.getInstance("TLS");
+    context.init(null, trustManagerFactory.getTrustManagers(), null);
+    return context;
+  }
+
+  private SSLContext serverContext(String keyStore) throws Exception {
+    KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+    keyManagerFactory.init(loadKeyStore(keyStore), PASSWORD.toCharArray());
+    SSLContext context = SSLContext.getInstance("TLS");
+    context.init(keyManagerFactory.getKeyManagers(), null, null);
+    return context;
+  }
+
+  private Certificate certificate(String keyStore, String alias) throws Exception {
+    return loadKeyStore(keyStore).getCertificate(alias);
+  }
+
+  private KeyStore loadKeyStore(String resource) throws Exception {
+    KeyStore keyStore = KeyStore.getInstance("JKS");
+    try (InputStream content = getClass().getClassLoader().getResourceAsStream(resource)) {
+      keyStore.load(content, PASSWORD.toCharArray());
+    }
+    return keyStore;
+  }
+
+  private static Set<BigInteger> revokedSerials(CertStore certStore) throws Exception {
+    Set<BigInteger> serials = new HashSet<>();
+    for (CRL crl : certStore.getCRLs(new X509CRLSelector())) {
+      Set<? extends X509CRLEntry> revoked = ((X509CRL) crl).getRevokedCertificates();
+      if (revoked != null) {
+        revoked.forEach(entry -> serials.add(entry.getSerialNumber()));
+      }
+    }
+    return serials;
+  }
+
+  private File copyResource(String resource) throws Exception {
+    File file = temporaryFolder.newFile();
+    try (InputStream content = getClass().getClassLoader().getResourceAsStream(resource)) {
+      copy(content, file.toPath(), REPLACE_EXISTING);
+    }
+    return file;
+  }
+
+  /**
+   * Replaces the content of {@code file} with that of {@code resource}, making sure its modification time changes even if the
+   * file system has a coarse resolution.
+   */
+  private void replace(File file, String resource) throws Exception {
+    long lastModified = file.lastModified();
+    try (InputStream content = getClass().getClassLoader().getResourceAsStream(resource)) {
+      copy(content, file.toPath(), REPLACE_EXISTING);
+    }
+    file.setLastModified(lastModified + 10000);
+  }
+}
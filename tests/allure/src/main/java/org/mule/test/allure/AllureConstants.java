@@ -206,6 +206,7 @@ public interface AllureConstants {
       String PROXY_CONFIG_BUILDER = "Proxy Config Builder";
       String REQUEST_BUILDER = "Request Builder";
       String REQUEST_URL = "Request URL";
+      String ROUTING = "Routing";
       String RESPONSE_BUILDER = "Response Builder";
       String STREAMING = "Streaming";
       String TCP_BUILDER = "TCP Builders";
@@ -272,7 +273,9 @@ public interface AllureConstants {
 
       String COLLECT_LIST = "Collect List";
       String COLLECT_MAP = "Collect Map";
+      String COLLECT_ITERATOR = "Collect Iterator";
       String JOIN_ONLY = "Join Only";
+      String JOIN_LAST = "Join Last";
     }
 
   }
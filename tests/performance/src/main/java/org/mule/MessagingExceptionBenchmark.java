@@ -7,15 +7,54 @@
 package org.mule;
 
 import static org.mule.runtime.core.api.config.i18n.CoreMessages.versionNotSet;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
+import static org.mule.runtime.core.internal.exception.MessagingException.STACKLESS_MESSAGING_EXCEPTIONS_PROPERTY;
+import static org.mule.runtime.core.privileged.registry.LegacyRegistryUtils.lookupObject;
+import static org.mule.runtime.core.privileged.registry.LegacyRegistryUtils.registerObject;
 
+import org.mule.runtime.api.connection.ConnectionException;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.exception.DefaultMuleException;
+import org.mule.runtime.api.scheduler.SchedulerService;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.construct.Flow;
+import org.mule.runtime.core.api.construct.FlowConstruct;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.internal.exception.MessagingException;
+import org.mule.runtime.core.internal.util.MessagingExceptionResolver;
 
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Threads;
 
 public class MessagingExceptionBenchmark extends AbstractBenchmark {
 
+  private MuleContext muleContext;
+  private Flow flow;
+  private CoreEvent event;
+  private MessagingExceptionResolver resolver;
+  private MessagingException resolvedException;
+  private final ConnectionException cause = new ConnectionException("connection problem");
+
+  @Setup
+  public void setup() throws Exception {
+    muleContext = createMuleContextWithServices();
+    muleContext.start();
+    flow = createFlow(muleContext);
+    registerObject(muleContext, FLOW_NAME, flow, FlowConstruct.class);
+    event = createEvent(flow);
+    resolver = new MessagingExceptionResolver(flow);
+    resolvedException = resolver.resolve(event, cause, muleContext);
+  }
+
+  @TearDown
+  public void teardown() throws MuleException {
+    stopIfNeeded(lookupObject(muleContext, SchedulerService.class));
+    muleContext.dispose();
+  }
+
   @Benchmark
   @Threads(1)
   public MuleException stringSingleThread() {
@@ -40,4 +79,36 @@ public class MessagingExceptionBenchmark extends AbstractBenchmark {
     return new DefaultMuleException("customMessage");
   }
 
+  @Benchmark
+  @Threads(1)
+  public MuleException messagingException() {
+    return new MessagingException(event, cause, flow);
+  }
+
+  @Benchmark
+  @Threads(1)
+  @Fork(jvmArgsAppend = "-D" + STACKLESS_MESSAGING_EXCEPTIONS_PROPERTY + "=true")
+  public MuleException stacklessMessagingException() {
+    return new MessagingException(event, cause, flow);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public MuleException resolveCause() {
+    return resolver.resolve(event, cause, muleContext);
+  }
+
+  @Benchmark
+  @Threads(1)
+  @Fork(jvmArgsAppend = "-D" + STACKLESS_MESSAGING_EXCEPTIONS_PROPERTY + "=true")
+  public MuleException resolveCauseStackless() {
+    return resolver.resolve(event, cause, muleContext);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public MuleException resolvePropagated() {
+    return resolver.resolve(resolvedException, muleContext);
+  }
+
 }
@@ -7,15 +7,23 @@
 package org.mule;
 
 import static java.util.Arrays.asList;
+import static org.mule.runtime.http.api.utils.HttpEncoderDecoderUtils.decodeQueryString;
 
 import org.mule.runtime.api.util.MultiMap;
+import org.mule.runtime.http.api.domain.CaseInsensitiveMultiMap;
+import org.mule.runtime.http.internal.domain.FlatMultiMap;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Setup;
 
 public class MultiMapBenchmark extends AbstractBenchmark {
 
+  private static final String QUERY_STRING = "q=mule%20runtime&page=2&size=50&sort=name&sort=date&filter=a%2Cb";
+
   private MultiMap<String, String> multiMap;
+  private MultiMap<String, String> flatMultiMap;
+  private MultiMap<String, String> caseInsensitiveHeaders;
+  private MultiMap<String, String> flatHeaders;
 
   @Setup
   public void setup() throws Exception {
@@ -23,6 +31,19 @@ public class MultiMapBenchmark extends AbstractBenchmark {
     multiMap.put("key1", "value");
     multiMap.put("key10",
                  asList("value1", "value2", "value3", "value4", "value5", "value6", "value7", "value8", "value9", "value10"));
+    flatMultiMap = new FlatMultiMap(true, false, multiMap);
+
+    caseInsensitiveHeaders = new CaseInsensitiveMultiMap();
+    flatHeaders = new FlatMultiMap(false, true);
+    for (MultiMap<String, String> headers : asList(caseInsensitiveHeaders, flatHeaders)) {
+      headers.put("Host", "localhost:8081");
+      headers.put("User-Agent", "benchmark");
+      headers.put("Accept", "*/*");
+      headers.put("Accept-Encoding", "gzip, deflate");
+      headers.put("Connection", "keep-alive");
+      headers.put("Content-Type", "application/json");
+      headers.put("Content-Length", "1024");
+    }
   }
 
   @Benchmark
@@ -34,4 +55,43 @@ public class MultiMapBenchmark extends AbstractBenchmark {
     return targetMap;
   }
 
+  @Benchmark
+  public MultiMap<String, String> flatIteration() {
+    MultiMap<String, String> targetMap = new FlatMultiMap();
+
+    targetMap.putAll(flatMultiMap);
+
+    return targetMap;
+  }
+
+  @Benchmark
+  public String caseInsensitiveGet() {
+    return caseInsensitiveHeaders.get("content-type");
+  }
+
+  @Benchmark
+  public String flatCaseInsensitiveGet() {
+    return flatHeaders.get("content-type");
+  }
+
+  @Benchmark
+  public MultiMap<String, String> caseInsensitiveToImmutable() {
+    return caseInsensitiveHeaders.toImmutableMultiMap();
+  }
+
+  @Benchmark
+  public MultiMap<String, String> flatToImmutable() {
+    return flatHeaders.toImmutableMultiMap();
+  }
+
+  @Benchmark
+  public MultiMap<String, String> decodeQueryStringNotAccessed() {
+    return decodeQueryString(QUERY_STRING);
+  }
+
+  @Benchmark
+  public String decodeQueryStringAccessed() {
+    return decodeQueryString(QUERY_STRING).get("q");
+  }
+
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule;
+
+import static java.util.Arrays.asList;
+import static org.mule.runtime.http.api.utils.HttpEncoderDecoderUtils.decodeUriParams;
+
+import org.mule.runtime.http.api.server.routing.PathTrieRoutingTable;
+import org.mule.runtime.http.api.server.routing.RouteMatch;
+import org.mule.runtime.http.api.server.routing.RoutingTable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+public class RoutingTableBenchmark extends AbstractBenchmark {
+
+  private static final int RESOURCES = 200;
+  private static final String REQUEST_PATH = "/api/resource" + (RESOURCES - 1) + "/42/items/7";
+
+  private RoutingTable<String> routingTable;
+  private List<String> paths;
+
+  @Setup
+  public void setup() {
+    routingTable = new PathTrieRoutingTable<>();
+    paths = new ArrayList<>();
+    for (int i = 0; i < RESOURCES; ++i) {
+      String path = "/api/resource" + i + "/{id}/items/{itemId}";
+      routingTable.add(asList("GET", "POST"), path, path);
+      paths.add(path);
+    }
+  }
+
+  @Benchmark
+  public Map<String, String> trie() {
+    Optional<RouteMatch<String>> match = routingTable.match("GET", REQUEST_PATH);
+    return match.get().getUriParams();
+  }
+
+  @Benchmark
+  public Map<String, String> trieUriParamAccessed() {
+    Map<String, String> uriParams = routingTable.match("GET", REQUEST_PATH).get().getUriParams();
+    uriParams.get("id");
+    return uriParams;
+  }
+
+  /**
+   * Matches the paths one by one, splitting them for each request, as a baseline.
+   */
+  @Benchmark
+  public Map<String, String> linear() {
+    String[] requestParts = REQUEST_PATH.split("/");
+    for (String path : paths) {
+      String[] parts = path.split("/");
+      if (parts.length == requestParts.length && matches(parts, requestParts)) {
+        return decodeUriParams(path, REQUEST_PATH);
+      }
+    }
+    return null;
+  }
+
+  private boolean matches(String[] parts, String[] requestParts) {
+    for (int i = 0; i < parts.length; ++i) {
+      if (!parts[i].startsWith("{") && !parts[i].equals(requestParts[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+}